@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package css;
+
+import java.util.List;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.RadioButton;
+import javafx.scene.control.TextField;
+import javafx.scene.control.ToggleButton;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+
+/**
+ * Measures how long it takes to style a tree of controls with modena.css.
+ * The tree has about 10k nodes once the skins have been created. Every
+ * iteration toggles a style-class on the root, so that the styles of every
+ * node are looked up again, and then times a CSS pass over the whole tree.
+ * <p>
+ * The number of rows and iterations can be passed as arguments, for example
+ * {@code java css.StyleMatchingBench 250 200}.
+ */
+public class StyleMatchingBench extends Application {
+
+    private static final int WARMUP = 20;
+
+    private int rows = 250;
+    private int iterations = 100;
+
+    private Parent createContent() {
+        VBox root = new VBox();
+        for (int r = 0; r < rows; r++) {
+            HBox row = new HBox(
+                    new Label("Row " + r),
+                    new Button("Button"),
+                    new ToggleButton("Toggle"),
+                    new CheckBox("Check"),
+                    new RadioButton("Radio"),
+                    new TextField("Text"));
+            row.getStyleClass().add(r % 2 == 0 ? "even" : "odd");
+            root.getChildren().add(row);
+        }
+        return root;
+    }
+
+    @Override
+    public void start(Stage stage) {
+        final List<String> args = getParameters().getUnnamed();
+        if (args.size() > 0) {
+            rows = Integer.parseInt(args.get(0));
+        }
+        if (args.size() > 1) {
+            iterations = Integer.parseInt(args.get(1));
+        }
+
+        Parent root = createContent();
+        Scene scene = new Scene(root);
+        stage.setScene(scene);
+        // create the skins
+        root.applyCss();
+        System.out.println("Nodes: " + count(root));
+
+        long total = 0;
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < WARMUP + iterations; i++) {
+            // a change in style-class makes every node find its styles again
+            if (i % 2 == 0) {
+                root.getStyleClass().add("bench");
+            } else {
+                root.getStyleClass().remove("bench");
+            }
+            long start = System.nanoTime();
+            root.applyCss();
+            long time = System.nanoTime() - start;
+            if (i >= WARMUP) {
+                total += time;
+                best = Math.min(best, time);
+            }
+        }
+        System.out.printf("CSS pass: mean %.3f ms, best %.3f ms over %d iterations%n",
+                total / 1e6 / iterations, best / 1e6, iterations);
+        Platform.exit();
+    }
+
+    private static int count(Parent parent) {
+        int n = 1;
+        for (Node child : parent.getChildrenUnmodifiable()) {
+            n += child instanceof Parent ? count((Parent) child) : 1;
+        }
+        return n;
+    }
+
+    /**
+     * Java main for when running without JavaFX launcher
+     */
+    public static void main(String[] args) {
+        launch(args);
+    }
+}
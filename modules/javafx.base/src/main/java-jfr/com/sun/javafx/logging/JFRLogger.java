@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -39,13 +39,16 @@ class JFRLogger extends Logger {
     private final Producer producer;
     private final EventToken pulseEventToken;
     private final EventToken inputEventToken;
+    private final EventToken statsEventToken;
     private final ThreadLocal<JFRPulseEvent> curPhaseEvent;
     private final ThreadLocal<JFRInputEvent> curInputEvent;
+    private final PulseStatsLogger statsLogger;
 
     private JFRLogger() throws Exception {
         producer = new Producer("JavaFX producer", "JavaFX producer.", PRODUCER_URI);
         pulseEventToken = producer.addEvent(JFRPulseEvent.class);
         inputEventToken = producer.addEvent(JFRInputEvent.class);
+        statsEventToken = producer.addEvent(JFRPulseStatsEvent.class);
         producer.register();
         curPhaseEvent = new ThreadLocal() {
             @Override
@@ -59,6 +62,16 @@ class JFRLogger extends Logger {
                 return new JFRInputEvent(inputEventToken);
             }
         };
+        statsLogger = new PulseStatsLogger() {
+            @Override
+            protected void pulseCompleted(PulseStats stats) {
+                if (statsEventToken.isEnabled()) {
+                    JFRPulseStatsEvent event = new JFRPulseStatsEvent(statsEventToken);
+                    event.setStats(stats);
+                    event.commit();
+                }
+            }
+        };
     }
 
     public static JFRLogger getInstance() {
@@ -94,32 +107,55 @@ class JFRLogger extends Logger {
         if (fxThread == null) {
             fxThread = Thread.currentThread();
         }
+        statsLogger.pulseStart();
         newPhase("Pulse start");
     }
 
     @Override
     public void pulseEnd() {
         newPhase(null);
+        statsLogger.pulseEnd();
         fxPulseNumber = 0;
     }
 
     @Override
     public void renderStart() {
         renderPulseNumber = fxPulseNumber;
+        statsLogger.renderStart();
     }
 
     @Override
     public void renderEnd() {
         newPhase(null);
+        statsLogger.renderEnd();
         renderPulseNumber = 0;
     }
 
+    /**
+     * Counts towards the statistics of the current pulse, which are
+     * committed as a {@code JFRPulseStatsEvent} when the pulse ends.
+     */
+    @Override
+    public void incrementCounter(String counter) {
+        statsLogger.incrementCounter(counter);
+    }
+
+    /**
+     * Counts towards the statistics of the current pulse, which are
+     * committed as a {@code JFRPulseStatsEvent} when the pulse ends.
+     */
+    @Override
+    public void incrementCounter(String counter, long amount) {
+        statsLogger.incrementCounter(counter, amount);
+    }
+
     /**
      * Finishes the current phase and starts a new one if phaseName is not null.
      * @param phaseName The name for the new phase.
      */
     @Override
     public void newPhase(String phaseName) {
+        statsLogger.newPhase(phaseName);
         if (pulseEventToken == null) {
             return;
         }
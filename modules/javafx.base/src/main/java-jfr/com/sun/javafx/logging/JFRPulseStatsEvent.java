@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.logging;
+
+import com.oracle.jrockit.jfr.ContentType;
+import com.oracle.jrockit.jfr.EventDefinition;
+import com.oracle.jrockit.jfr.EventToken;
+import com.oracle.jrockit.jfr.InstantEvent;
+import com.oracle.jrockit.jfr.ValueDefinition;
+
+@EventDefinition(path="javafx/pulse/stats", name = "JavaFX Pulse Statistics", description="Per-phase timings and counters of a JavaFX pulse", stacktrace=false, thread=false)
+public class JFRPulseStatsEvent extends InstantEvent {
+
+    @ValueDefinition(name="pulseID", description="Pulse number", contentType=ContentType.None, relationKey="http://www.oracle.com/javafx/pulse/id")
+    private int pulseNumber;
+
+    @ValueDefinition(name="pulseTime", description="Time from the start of the pulse until it was rendered", contentType=ContentType.Nanos)
+    private long pulseTime;
+
+    @ValueDefinition(name="animationTime", description="Time spent running animations", contentType=ContentType.Nanos)
+    private long animationTime;
+
+    @ValueDefinition(name="cssTime", description="Time spent in the CSS pass", contentType=ContentType.Nanos)
+    private long cssTime;
+
+    @ValueDefinition(name="layoutTime", description="Time spent in the layout pass", contentType=ContentType.Nanos)
+    private long layoutTime;
+
+    @ValueDefinition(name="syncTime", description="Time spent synchronizing with the render graph", contentType=ContentType.Nanos)
+    private long syncTime;
+
+    @ValueDefinition(name="renderTime", description="Time spent rendering", contentType=ContentType.Nanos)
+    private long renderTime;
+
+    @ValueDefinition(name="nodesRendered", description="Number of nodes rendered", contentType=ContentType.None)
+    private long nodesRendered;
+
+    @ValueDefinition(name="nodesSynchronized", description="Number of nodes synchronized", contentType=ContentType.None)
+    private long nodesSynchronized;
+
+    @ValueDefinition(name="dirtyArea", description="Area of the dirty regions in pixels", contentType=ContentType.None)
+    private long dirtyArea;
+
+    @ValueDefinition(name="texturePoolUsage", description="Texture pool usage", contentType=ContentType.Bytes)
+    private long texturePoolUsage;
+
+    @ValueDefinition(name="glyphCacheMisses", description="Number of glyphs rasterized into the glyph cache", contentType=ContentType.None)
+    private long glyphCacheMisses;
+
+    @ValueDefinition(name="shapeCacheHits", description="Number of region shapes rendered from the cache", contentType=ContentType.None)
+    private long shapeCacheHits;
+
+    public JFRPulseStatsEvent(EventToken eventToken) {
+        super(eventToken);
+    }
+
+    public void setStats(PulseStats stats) {
+        pulseNumber = stats.getPulseNumber();
+        pulseTime = stats.getDuration();
+        animationTime = stats.getAnimationTime();
+        cssTime = stats.getCssTime();
+        layoutTime = stats.getLayoutTime();
+        syncTime = stats.getSyncTime();
+        renderTime = stats.getRenderTime();
+        nodesRendered = stats.getNodesRendered();
+        nodesSynchronized = stats.getNodesSynchronized();
+        dirtyArea = stats.getDirtyArea();
+        texturePoolUsage = stats.getTexturePoolUsage();
+        glyphCacheMisses = stats.getGlyphCacheMisses();
+        shapeCacheHits = stats.getShapeCacheHits();
+    }
+
+    public int getPulseNumber() {
+        return pulseNumber;
+    }
+
+    public long getPulseTime() {
+        return pulseTime;
+    }
+
+    public long getAnimationTime() {
+        return animationTime;
+    }
+
+    public long getCssTime() {
+        return cssTime;
+    }
+
+    public long getLayoutTime() {
+        return layoutTime;
+    }
+
+    public long getSyncTime() {
+        return syncTime;
+    }
+
+    public long getRenderTime() {
+        return renderTime;
+    }
+
+    public long getNodesRendered() {
+        return nodesRendered;
+    }
+
+    public long getNodesSynchronized() {
+        return nodesSynchronized;
+    }
+
+    public long getDirtyArea() {
+        return dirtyArea;
+    }
+
+    public long getTexturePoolUsage() {
+        return texturePoolUsage;
+    }
+
+    public long getGlyphCacheMisses() {
+        return glyphCacheMisses;
+    }
+
+    public long getShapeCacheHits() {
+        return shapeCacheHits;
+    }
+}
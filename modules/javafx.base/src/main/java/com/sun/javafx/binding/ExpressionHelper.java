@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -29,7 +29,11 @@ import javafx.beans.InvalidationListener;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * A convenience class for creating implementations of {@link javafx.beans.value.ObservableValue}.
@@ -51,36 +55,184 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
             throw new NullPointerException();
         }
         observable.getValue(); // validate observable
-        return (helper == null)? new SingleInvalidation<T>(observable, listener) : helper.addListener(listener);
+        return replaced(helper, (helper == null)? new SingleInvalidation<T>(observable, listener) : helper.addListener(listener));
     }
 
     public static <T> ExpressionHelper<T> removeListener(ExpressionHelper<T> helper, InvalidationListener listener) {
         if (listener == null) {
             throw new NullPointerException();
         }
-        return (helper == null)? null : helper.removeListener(listener);
+        return replaced(helper, (helper == null)? null : helper.removeListener(listener));
     }
 
     public static <T> ExpressionHelper<T> addListener(ExpressionHelper<T> helper, ObservableValue<T> observable, ChangeListener<? super T> listener) {
         if ((observable == null) || (listener == null)) {
             throw new NullPointerException();
         }
-        return (helper == null)? new SingleChange<T>(observable, listener) : helper.addListener(listener);
+        return replaced(helper, (helper == null)? new SingleChange<T>(observable, listener) : helper.addListener(listener));
     }
 
     public static <T> ExpressionHelper<T> removeListener(ExpressionHelper<T> helper, ChangeListener<? super T> listener) {
         if (listener == null) {
             throw new NullPointerException();
         }
-        return (helper == null)? null : helper.removeListener(listener);
+        return replaced(helper, (helper == null)? null : helper.removeListener(listener));
     }
 
     public static <T> void fireValueChangedEvent(ExpressionHelper<T> helper) {
         if (helper != null) {
+            if ((coalescingThreads != 0) && Coalescer.defer(helper)) {
+                return;
+            }
             helper.fireValueChangedEvent();
         }
     }
 
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Coalesced notification
+
+    /**
+     * Number of threads currently inside a coalescing block, so that the
+     * common case does not pay for the thread local lookup.
+     */
+    private static volatile int coalescingThreads;
+
+    private static final ThreadLocal<Coalescer> coalescer = new ThreadLocal<>();
+
+    /**
+     * Starts deferring the notifications fired on the current thread, until
+     * the matching call to {@link #endCoalescing()}. Calls may be nested,
+     * only the outermost end delivers the notifications.
+     */
+    public static void beginCoalescing() {
+        Coalescer c = coalescer.get();
+        if (c == null) {
+            c = new Coalescer();
+            coalescer.set(c);
+            synchronized (ExpressionHelper.class) {
+                coalescingThreads++;
+            }
+        }
+        c.depth++;
+    }
+
+    /**
+     * Ends a block started by {@link #beginCoalescing()}. When the outermost
+     * block ends, every observable that fired during the block notifies its
+     * change listeners once, with the value it has at that point.
+     */
+    public static void endCoalescing() {
+        final Coalescer c = coalescer.get();
+        if (c == null) {
+            throw new IllegalStateException("endCoalescing called without beginCoalescing");
+        }
+        if (c.depth > 1) {
+            c.depth--;
+            return;
+        }
+        try {
+            c.flush();
+        } finally {
+            coalescer.remove();
+            synchronized (ExpressionHelper.class) {
+                coalescingThreads--;
+            }
+        }
+    }
+
+    private static <T> ExpressionHelper<T> replaced(ExpressionHelper<T> oldHelper, ExpressionHelper<T> newHelper) {
+        if ((coalescingThreads != 0) && (oldHelper != null) && (oldHelper != newHelper)) {
+            final Coalescer c = coalescer.get();
+            if ((c != null) && c.replace(oldHelper, newHelper) && (newHelper != null)) {
+                // the pending notification has to report the value from
+                // before the block, not the one the new helper started with
+                final T currentValue;
+                if (oldHelper instanceof SingleChange) {
+                    currentValue = ((SingleChange<T>) oldHelper).currentValue;
+                } else if ((oldHelper instanceof Generic) && (((Generic<T>) oldHelper).changeSize > 0)) {
+                    currentValue = ((Generic<T>) oldHelper).currentValue;
+                } else {
+                    return newHelper;
+                }
+                if (newHelper instanceof SingleChange) {
+                    ((SingleChange<T>) newHelper).currentValue = currentValue;
+                } else if (newHelper instanceof Generic) {
+                    ((Generic<T>) newHelper).currentValue = currentValue;
+                }
+            }
+        }
+        return newHelper;
+    }
+
+    private static final class Pending {
+        private ExpressionHelper<?> helper;
+        private int position;
+
+        private Pending(ExpressionHelper<?> helper) {
+            this.helper = helper;
+        }
+    }
+
+    /**
+     * Defers the change notifications fired on one thread. Invalidation
+     * listeners are still notified immediately, so dependent bindings are
+     * marked invalid right away and never return a stale value. As nothing
+     * asks for the new value until the block ends, a property that is set
+     * several times stays invalid and is invalidated only once, and a
+     * binding that depends on it through several paths is evaluated once,
+     * after all its dependencies have been updated.
+     */
+    private static final class Coalescer {
+        private final List<Pending> queue = new ArrayList<>();
+        private final Map<ObservableValue<?>, Pending> pending = new IdentityHashMap<>();
+        private int depth;
+        // queue entries from this position on have not been notified yet
+        private int unprocessed;
+
+        private static boolean defer(ExpressionHelper<?> helper) {
+            if (helper instanceof SingleInvalidation) {
+                return false;
+            }
+            final Coalescer c = coalescer.get();
+            if (c == null) {
+                return false;
+            }
+            helper.fireInvalidationEvent();
+            Pending p = c.pending.get(helper.observable);
+            if (p == null) {
+                p = new Pending(helper);
+                c.pending.put(helper.observable, p);
+            } else if (p.position >= c.unprocessed) {
+                p.helper = helper;
+                return true;
+            }
+            p.helper = helper;
+            p.position = c.queue.size();
+            c.queue.add(p);
+            return true;
+        }
+
+        private boolean replace(ExpressionHelper<?> oldHelper, ExpressionHelper<?> newHelper) {
+            final Pending p = pending.get(oldHelper.observable);
+            if ((p != null) && (p.helper == oldHelper)) {
+                p.helper = newHelper;
+                return p.position >= unprocessed;
+            }
+            return false;
+        }
+
+        private void flush() {
+            // change listeners may fire new changes, which are appended
+            for (int i = 0; i < queue.size(); i++) {
+                unprocessed = i + 1;
+                final ExpressionHelper<?> helper = queue.get(i).helper;
+                if (helper != null) {
+                    helper.fireChangeEvent();
+                }
+            }
+        }
+    }
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Common implementations
 
@@ -96,7 +248,13 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
     protected abstract ExpressionHelper<T> addListener(ChangeListener<? super T> listener);
     protected abstract ExpressionHelper<T> removeListener(ChangeListener<? super T> listener);
 
-    protected abstract void fireValueChangedEvent();
+    protected abstract void fireInvalidationEvent();
+    protected abstract void fireChangeEvent();
+
+    protected void fireValueChangedEvent() {
+        fireInvalidationEvent();
+        fireChangeEvent();
+    }
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Implementations
@@ -131,13 +289,17 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
         }
 
         @Override
-        protected void fireValueChangedEvent() {
+        protected void fireInvalidationEvent() {
             try {
                 listener.invalidated(observable);
             } catch (Exception e) {
                 Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
             }
         }
+
+        @Override
+        protected void fireChangeEvent() {
+        }
     }
 
     private static class SingleChange<T> extends ExpressionHelper<T> {
@@ -172,7 +334,11 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
         }
 
         @Override
-        protected void fireValueChangedEvent() {
+        protected void fireInvalidationEvent() {
+        }
+
+        @Override
+        protected void fireChangeEvent() {
             final T oldValue = currentValue;
             currentValue = observable.getValue();
             final boolean changed = (currentValue == null)? (oldValue != null) : !currentValue.equals(oldValue);
@@ -350,22 +516,57 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
                         Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
                     }
                 }
-                if (curChangeSize > 0) {
-                    final T oldValue = currentValue;
-                    currentValue = observable.getValue();
-                    final boolean changed = (currentValue == null)? (oldValue != null) : !currentValue.equals(oldValue);
-                    if (changed) {
-                        for (int i = 0; i < curChangeSize; i++) {
-                            try {
-                                curChangeList[i].changed(observable, oldValue, currentValue);
-                            } catch (Exception e) {
-                                Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
-                            }
-                        }
+                fireChangeEvent(curChangeList, curChangeSize);
+            } finally {
+                locked = false;
+            }
+        }
+
+        @Override
+        protected void fireInvalidationEvent() {
+            final InvalidationListener[] curInvalidationList = invalidationListeners;
+            final int curInvalidationSize = invalidationSize;
+            final boolean wasLocked = locked;
+
+            try {
+                locked = true;
+                for (int i = 0; i < curInvalidationSize; i++) {
+                    try {
+                        curInvalidationList[i].invalidated(observable);
+                    } catch (Exception e) {
+                        Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
                     }
                 }
             } finally {
-                locked = false;
+                locked = wasLocked;
+            }
+        }
+
+        @Override
+        protected void fireChangeEvent() {
+            final boolean wasLocked = locked;
+            try {
+                locked = true;
+                fireChangeEvent(changeListeners, changeSize);
+            } finally {
+                locked = wasLocked;
+            }
+        }
+
+        private void fireChangeEvent(ChangeListener<? super T>[] curChangeList, int curChangeSize) {
+            if (curChangeSize > 0) {
+                final T oldValue = currentValue;
+                currentValue = observable.getValue();
+                final boolean changed = (currentValue == null)? (oldValue != null) : !currentValue.equals(oldValue);
+                if (changed) {
+                    for (int i = 0; i < curChangeSize; i++) {
+                        try {
+                            curChangeList[i].changed(observable, oldValue, currentValue);
+                        } catch (Exception e) {
+                            Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+                        }
+                    }
+                }
             }
         }
     }
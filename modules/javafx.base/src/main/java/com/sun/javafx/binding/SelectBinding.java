@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -468,10 +468,8 @@ public class SelectBinding {
                 final Object obj = properties[i].getValue();
                 try {
                     if ((propRefs[i] == null)
-                            || (!obj.getClass().equals(
-                            propRefs[i].getContainingClass()))) {
-                        propRefs[i] = new PropertyReference<Object>(obj.getClass(),
-                                propertyNames[i]);
+                            || (obj.getClass() != propRefs[i].getContainingClass())) {
+                        propRefs[i] = PropertyReference.of(obj.getClass(), propertyNames[i]);
                     }
                     if (propRefs[i].hasProperty()) {
                         properties[i + 1] = propRefs[i].getProperty(obj);
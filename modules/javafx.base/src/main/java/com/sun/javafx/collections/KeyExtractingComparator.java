@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.collections;
+
+import java.util.Comparator;
+
+/**
+ * A comparator whose ordering is defined by a key derived from each element.
+ * Sorting code that knows about this interface, like
+ * {@link javafx.collections.transformation.SortedList}, extracts the key of
+ * every element once and compares the keys, instead of deriving them again
+ * for every comparison.
+ * <p>
+ * Keys are extracted and compared on the thread that owns the list, unless
+ * the comparator opts into {@link #isParallelSortable() parallel sorting}.
+ *
+ * @param <E> the type of the compared elements
+ * @param <K> the type of the extracted keys
+ */
+public interface KeyExtractingComparator<E, K> extends Comparator<E> {
+
+    /**
+     * Derives the sort key of an element.
+     * @param element the element
+     * @return the key that orders the element
+     */
+    public K extractKey(E element);
+
+    /**
+     * Compares two keys produced by {@link #extractKey}.
+     * @param key1 the first key
+     * @param key2 the second key
+     * @return a negative integer, zero, or a positive integer as the first
+     * key orders before, equal to, or after the second
+     */
+    public int compareKeys(K key1, K key2);
+
+    /**
+     * Tells whether a large sort may spread its calls to {@link #compareKeys}
+     * over several threads while the thread that owns the list waits for the
+     * sort to finish. Only return true when comparing keys neither modifies
+     * any state nor runs application code.
+     * @return true if keys may be compared concurrently, false by default
+     */
+    public default boolean isParallelSortable() {
+        return false;
+    }
+
+    @Override
+    public default int compare(E o1, E o2) {
+        return compareKeys(extractKey(o1), extractKey(o2));
+    }
+}
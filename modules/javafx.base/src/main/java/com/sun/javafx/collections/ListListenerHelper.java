@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -313,6 +313,8 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
             final int curInvalidationSize = invalidationSize;
             final ListChangeListener<? super E>[] curChangeList = changeListeners;
             final int curChangeSize = changeSize;
+            // a nested notification must not release the lock the outer one holds
+            final boolean wasLocked = locked;
 
             try {
                 locked = true;
@@ -332,7 +334,7 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
                     }
                 }
             } finally {
-                locked = false;
+                locked = wasLocked;
             }
         }
     }
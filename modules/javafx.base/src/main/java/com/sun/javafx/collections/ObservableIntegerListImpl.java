@@ -0,0 +1,435 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.javafx.collections;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import javafx.collections.ModifiableObservableListBase;
+import javafx.collections.ObservableIntegerList;
+
+/**
+ * ObservableIntegerList default implementation. Elements are kept in a
+ * {@code int[]}, boxed values are only created when elements are read
+ * through the {@code List} interface or reported as removed to listeners.
+ */
+public final class ObservableIntegerListImpl extends ModifiableObservableListBase<Integer> implements ObservableIntegerList, RandomAccess {
+
+    private static final int[] INITIAL = new int[0];
+
+    private int[] array = INITIAL;
+    private int size = 0;
+
+    /**
+     * Creates empty observable integer list
+     */
+    public ObservableIntegerListImpl() {
+    }
+
+    /**
+     * Creates observable integer list with a copy of initial elements
+     * @param elements initial elements to copy to the observable list
+     */
+    public ObservableIntegerListImpl(int... elements) {
+        array = Arrays.copyOf(elements, elements.length);
+        size = elements.length;
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    @Override
+    public int getInt(int index) {
+        elementCheck(index);
+        return array[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    protected void doAdd(int index, Integer element) {
+        final int value = element;
+        positionCheck(index);
+        growCapacity(1);
+        System.arraycopy(array, index, array, index + 1, size - index);
+        array[index] = value;
+        size++;
+    }
+
+    @Override
+    protected Integer doSet(int index, Integer element) {
+        final int value = element;
+        elementCheck(index);
+        int old = array[index];
+        array[index] = value;
+        return old;
+    }
+
+    @Override
+    protected Integer doRemove(int index) {
+        elementCheck(index);
+        int old = array[index];
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        size--;
+        return old;
+    }
+
+    @Override
+    public int setInt(int index, int value) {
+        elementCheck(index);
+        int old = array[index];
+        array[index] = value;
+        beginChange();
+        nextSet(index, old);
+        endChange();
+        return old;
+    }
+
+    @Override
+    public void addInt(int value) {
+        growCapacity(1);
+        array[size++] = value;
+        beginChange();
+        nextAdd(size - 1, size);
+        ++modCount;
+        endChange();
+    }
+
+    @Override
+    public void addAll(int[] src, int srcIndex, int length) {
+        addAll(size, src, srcIndex, length);
+    }
+
+    @Override
+    public void addAll(int index, int[] src, int srcIndex, int length) {
+        rangeCheck(src, srcIndex, length);
+        positionCheck(index);
+        insert(index, src, srcIndex, length);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Integer> c) {
+        return addAll(size, c);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends Integer> c) {
+        positionCheck(index);
+        int[] values = toPrimitive(c);
+        insert(index, values, 0, values.length);
+        return values.length != 0;
+    }
+
+    private void insert(int index, int[] src, int srcIndex, int length) {
+        if (length == 0) {
+            return;
+        }
+        growCapacity(length);
+        System.arraycopy(array, index, array, index + length, size - index);
+        System.arraycopy(src, srcIndex, array, index, length);
+        size += length;
+        beginChange();
+        nextAdd(index, index + length);
+        ++modCount;
+        endChange();
+    }
+
+    @Override
+    public void setAll(int[] src, int srcIndex, int length) {
+        rangeCheck(src, srcIndex, length);
+        replaceAll(src, srcIndex, length);
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends Integer> col) {
+        int[] values = toPrimitive(col);
+        replaceAll(values, 0, values.length);
+        return true;
+    }
+
+    private void replaceAll(int[] src, int srcIndex, int length) {
+        final int[] old = array;
+        final int oldSize = size;
+        if (oldSize == 0 && length == 0) {
+            return;
+        }
+        if (!hasListeners()) {
+            // nobody can observe the removed elements, reuse the array
+            if (array.length < length) {
+                array = new int[length];
+            }
+            System.arraycopy(src, srcIndex, array, 0, length);
+            size = length;
+            ++modCount;
+            return;
+        }
+        // a fresh array keeps the old one intact to report the removed elements
+        array = length == 0 ? INITIAL : Arrays.copyOfRange(src, srcIndex, srcIndex + length);
+        size = length;
+        beginChange();
+        if (oldSize != 0) {
+            nextRemove(0, new IntegerArrayView(old, oldSize));
+        }
+        if (length != 0) {
+            nextAdd(0, length);
+        }
+        ++modCount;
+        endChange();
+    }
+
+    @Override
+    public void set(int destIndex, int[] src, int srcIndex, int length) {
+        rangeCheck(src, srcIndex, length);
+        if (destIndex < 0 || destIndex + length > size) {
+            throw new IndexOutOfBoundsException("Range: [" + destIndex + ", " + (destIndex + length) + "), Size: " + size);
+        }
+        if (length == 0) {
+            return;
+        }
+        int[] removed = Arrays.copyOfRange(array, destIndex, destIndex + length);
+        System.arraycopy(src, srcIndex, array, destIndex, length);
+        beginChange();
+        nextReplace(destIndex, destIndex + length, new IntegerArrayView(removed, length));
+        endChange();
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Range: [" + fromIndex + ", " + toIndex + "), Size: " + size);
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        int[] removed = Arrays.copyOfRange(array, fromIndex, toIndex);
+        System.arraycopy(array, toIndex, array, fromIndex, size - toIndex);
+        size -= toIndex - fromIndex;
+        beginChange();
+        nextRemove(fromIndex, new IntegerArrayView(removed, removed.length));
+        ++modCount;
+        endChange();
+    }
+
+    @Override
+    public void clear() {
+        removeRange(0, size);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        return batchRemove(c, false);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        return batchRemove(c, true);
+    }
+
+    private boolean batchRemove(Collection<?> c, boolean retain) {
+        if (c == null) throw new NullPointerException();
+        int r = 0, w = 0;
+        beginChange();
+        try {
+            for (; r < size; r++) {
+                int value = array[r];
+                if (c.contains(value) == retain) {
+                    array[w++] = value;
+                } else {
+                    nextRemove(w, value);
+                }
+            }
+        } finally {
+            // keep the tail if contains() threw part way through
+            if (r != size) {
+                System.arraycopy(array, r, array, w, size - r);
+                w += size - r;
+            }
+            if (w != size) {
+                size = w;
+                ++modCount;
+            }
+            endChange();
+        }
+        return r != w;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (o instanceof Integer) {
+            int value = (Integer) o;
+            for (int i = 0; i < size; i++) {
+                if (array[i] == value) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        if (o instanceof Integer) {
+            int value = (Integer) o;
+            for (int i = size - 1; i >= 0; i--) {
+                if (array[i] == value) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public void copyTo(int srcIndex, int[] dest, int destIndex, int length) {
+        if (srcIndex < 0 || length < 0 || srcIndex + length > size) {
+            throw new ArrayIndexOutOfBoundsException(size);
+        }
+        System.arraycopy(array, srcIndex, dest, destIndex, length);
+    }
+
+    @Override
+    public int[] toArray(int[] dest) {
+        if ((dest == null) || (size > dest.length)) {
+            dest = new int[size];
+        }
+        System.arraycopy(array, 0, dest, 0, size);
+        return dest;
+    }
+
+    @Override
+    public void ensureCapacity(int capacity) {
+        if (array.length < capacity) {
+            array = Arrays.copyOf(array, capacity);
+        }
+    }
+
+    @Override
+    public void trimToSize() {
+        if (array.length != size) {
+            array = size == 0 ? INITIAL : Arrays.copyOf(array, size);
+        }
+    }
+
+    /**
+     * The maximum size of array to allocate.
+     * Some VMs reserve some header words in an array.
+     * Attempts to allocate larger arrays may result in
+     * OutOfMemoryError: Requested array size exceeds VM limit
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private void growCapacity(int length) {
+        int minCapacity = size + length;
+        int oldCapacity = array.length;
+        if (minCapacity > array.length) {
+            int newCapacity = oldCapacity + (oldCapacity >> 1);
+            if (newCapacity < minCapacity) newCapacity = minCapacity;
+            if (newCapacity > MAX_ARRAY_SIZE) newCapacity = hugeCapacity(minCapacity);
+            ensureCapacity(newCapacity);
+        } else if (length > 0 && minCapacity < 0) {
+            throw new OutOfMemoryError(); // overflow
+        }
+    }
+
+    private static int hugeCapacity(int minCapacity) {
+        if (minCapacity < 0) // overflow
+            throw new OutOfMemoryError();
+        return (minCapacity > MAX_ARRAY_SIZE) ?
+            Integer.MAX_VALUE :
+            MAX_ARRAY_SIZE;
+    }
+
+    private static int[] toPrimitive(Collection<? extends Integer> c) {
+        if (c instanceof ObservableIntegerList) {
+            return ((ObservableIntegerList) c).toArray((int[]) null);
+        }
+        int[] values = new int[c.size()];
+        int i = 0;
+        for (Integer value : c) {
+            values[i++] = value;
+        }
+        return values;
+    }
+
+    private void elementCheck(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void positionCheck(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private static void rangeCheck(int[] src, int srcIndex, int length) {
+        if (src == null) throw new NullPointerException();
+        if (srcIndex < 0 || srcIndex + length > src.length) {
+            throw new ArrayIndexOutOfBoundsException(src.length);
+        }
+        if (length < 0) throw new ArrayIndexOutOfBoundsException(-1);
+    }
+
+    /**
+     * Read-only view of a detached array, used to report removed elements
+     * without boxing them up front.
+     */
+    private static final class IntegerArrayView extends AbstractList<Integer> implements RandomAccess {
+
+        private final int[] values;
+        private final int size;
+
+        IntegerArrayView(int[] values, int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        @Override
+        public Integer get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -35,6 +35,7 @@ public class Logger {
     public void renderEnd() {}
     public void addMessage(String message) {}
     public void incrementCounter(String counter) {}
+    public void incrementCounter(String counter, long amount) {}
     public void newPhase(String name) {}
     public void newInput(String name) {}
 }
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.logging;
+
+import java.lang.management.ManagementFactory;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Collections;
+import java.util.Map;
+import javax.management.ObjectName;
+import sun.util.logging.PlatformLogger;
+
+/**
+ * Exposes the pulse statistics through the {@link PulseStatsMXBean}, so that
+ * they can be monitored in production without printing the pulse log.
+ * It is enabled with the {@code javafx.pulseStats} system property, and
+ * needs the {@code java.management} module to be resolved, for instance
+ * with {@code --add-modules java.management}.
+ */
+class MXBeanLogger extends PulseStatsLogger implements PulseStatsMXBean {
+
+    private static final String OBJECT_NAME = "javafx:type=Pulse";
+
+    private static MXBeanLogger mxBeanLogger;
+
+    private static final long THRESHOLD = (long)
+            AccessController.doPrivileged((PrivilegedAction<Integer>) () -> Integer.getInteger("javafx.pulseLogger.threshold", 17));
+
+    private static final double NANOS_PER_MILLI = 1000000.0;
+
+    private volatile PulseStats last;
+    private long pulseCount;
+    private long slowPulseCount;
+    private long maxPulseTime;
+
+    MXBeanLogger() {
+    }
+
+    public static Logger getInstance() {
+        if (mxBeanLogger == null) {
+            boolean enabled = AccessController.doPrivileged((PrivilegedAction<Boolean>) () -> Boolean.getBoolean("javafx.pulseStats"));
+            if (enabled) {
+                MXBeanLogger logger = new MXBeanLogger();
+                /* Guards against the absence of a platform MBean server, or of
+                 * the java.management module, which is only an optional
+                 * dependency of this module */
+                try {
+                    AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+                        try {
+                            ManagementFactory.getPlatformMBeanServer()
+                                    .registerMBean(logger, new ObjectName(OBJECT_NAME));
+                        } catch (Exception e) {
+                            throw new IllegalStateException(e);
+                        }
+                        return null;
+                    });
+                    mxBeanLogger = logger;
+                } catch (RuntimeException | LinkageError e) {
+                    PlatformLogger.getLogger("javafx.pulseLogger")
+                            .warning("Unable to register the pulse statistics MXBean", e);
+                }
+            }
+        }
+        return mxBeanLogger;
+    }
+
+    @Override
+    protected synchronized void pulseCompleted(PulseStats stats) {
+        long duration = stats.getDuration();
+        ++pulseCount;
+        if (duration > THRESHOLD * 1000000L) {
+            ++slowPulseCount;
+        }
+        maxPulseTime = Math.max(maxPulseTime, duration);
+        last = stats;
+    }
+
+    @Override
+    public synchronized long getPulseCount() {
+        return pulseCount;
+    }
+
+    @Override
+    public synchronized long getSlowPulseCount() {
+        return slowPulseCount;
+    }
+
+    @Override
+    public long getSlowPulseThreshold() {
+        return THRESHOLD;
+    }
+
+    @Override
+    public synchronized double getMaxPulseTime() {
+        return maxPulseTime / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public synchronized void reset() {
+        pulseCount = 0;
+        slowPulseCount = 0;
+        maxPulseTime = 0;
+    }
+
+    @Override
+    public int getLastPulseNumber() {
+        PulseStats stats = last;
+        return stats == null ? 0 : stats.getPulseNumber();
+    }
+
+    @Override
+    public double getLastPulseTime() {
+        PulseStats stats = last;
+        return stats == null ? 0 : stats.getDuration() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getLastAnimationTime() {
+        PulseStats stats = last;
+        return stats == null ? 0 : stats.getAnimationTime() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getLastCssTime() {
+        PulseStats stats = last;
+        return stats == null ? 0 : stats.getCssTime() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getLastLayoutTime() {
+        PulseStats stats = last;
+        return stats == null ? 0 : stats.getLayoutTime() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getLastSyncTime() {
+        PulseStats stats = last;
+        return stats == null ? 0 : stats.getSyncTime() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getLastRenderTime() {
+        PulseStats stats = last;
+        return stats == null ? 0 : stats.getRenderTime() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public long getLastNodesRendered() {
+        PulseStats stats = last;
+        return stats == null ? 0 : stats.getNodesRendered();
+    }
+
+    @Override
+    public long getLastNodesVisited() {
+        PulseStats stats = last;
+        return stats == null ? 0 : stats.getNodesVisited();
+    }
+
+    @Override
+    public long getLastNodesSynchronized() {
+        PulseStats stats = last;
+        return stats == null ? 0 : stats.getNodesSynchronized();
+    }
+
+    @Override
+    public long getLastDirtyArea() {
+        PulseStats stats = last;
+        return stats == null ? 0 : stats.getDirtyArea();
+    }
+
+    @Override
+    public long getLastTexturePoolUsage() {
+        PulseStats stats = last;
+        return stats == null ? 0 : stats.getTexturePoolUsage();
+    }
+
+    @Override
+    public long getLastGlyphCacheMisses() {
+        PulseStats stats = last;
+        return stats == null ? 0 : stats.getGlyphCacheMisses();
+    }
+
+    @Override
+    public long getLastShapeCacheHits() {
+        PulseStats stats = last;
+        return stats == null ? 0 : stats.getShapeCacheHits();
+    }
+
+    @Override
+    public Map<String,Long> getLastCounters() {
+        PulseStats stats = last;
+        return stats == null ? Collections.emptyMap() : stats.getCounters();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -42,6 +42,10 @@ public class PulseLogger {
         if (logger != null) {
             list.add(logger);
         }
+        logger = MXBeanLogger.getInstance();
+        if (logger != null) {
+            list.add(logger);
+        }
         try {
             Class klass = Class.forName("com.sun.javafx.logging.JFRLogger");
             if (klass != null) {
@@ -96,6 +100,12 @@ public class PulseLogger {
         }
     }
 
+    public static void incrementCounter(String counter, long amount) {
+        for (Logger logger: loggers) {
+            logger.incrementCounter(counter, amount);
+        }
+    }
+
     public static void newPhase(String name) {
         for (Logger logger: loggers) {
             logger.newPhase(name);
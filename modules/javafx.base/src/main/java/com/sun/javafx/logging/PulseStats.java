@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.logging;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The statistics gathered for a single pulse by a {@link PulseStatsLogger}.
+ * Times are in nanoseconds. The FX thread part of the pulse is broken down
+ * into animation, CSS, layout and synchronization, while everything that
+ * happens on the render thread for the pulse is accounted as rendering.
+ * Both threads update the statistics of a pulse while it is rendered, so
+ * the times and counters are updated atomically.
+ */
+public final class PulseStats {
+
+    /**
+     * The names of the counters reported by the runtime which are exposed
+     * through dedicated accessors.
+     */
+    public static final String NODES_RENDERED = "Nodes rendered";
+    public static final String NODES_VISITED = "Nodes visited during render";
+    public static final String NODES_SYNCHRONIZED = "Nodes synchronized";
+    public static final String DIRTY_AREA = "Dirty region area";
+    public static final String TEXTURE_POOL_USAGE = "Texture pool bytes used";
+    public static final String GLYPH_CACHE_MISSES = "Font Glyph Cache misses";
+    public static final String SHAPE_CACHE_HITS = "Cached region shape image used";
+
+    static final int ANIMATION = 0;
+    static final int CSS = 1;
+    static final int LAYOUT = 2;
+    static final int SYNC = 3;
+    static final int RENDER = 4;
+    static final int OTHER = 5;
+
+    private final int pulseNumber;
+    private final long startTime;
+    private long endTime;
+    private final AtomicLongArray phaseTimes = new AtomicLongArray(OTHER + 1);
+    private final Map<String,LongAdder> counters = new ConcurrentHashMap<>();
+    boolean pushedRender;
+
+    PulseStats(int pulseNumber, long startTime) {
+        this.pulseNumber = pulseNumber;
+        this.startTime = startTime;
+    }
+
+    void addPhaseTime(int phase, long time) {
+        phaseTimes.addAndGet(phase, time);
+    }
+
+    void incrementCounter(String counter, long amount) {
+        counters.computeIfAbsent(counter, c -> new LongAdder()).add(amount);
+    }
+
+    void finish(long endTime) {
+        this.endTime = endTime;
+    }
+
+    public int getPulseNumber() {
+        return pulseNumber;
+    }
+
+    /**
+     * Returns the time from the start of the pulse until rendering of the
+     * pulse completed, or until the end of the pulse if it didn't render.
+     */
+    public long getDuration() {
+        return endTime - startTime;
+    }
+
+    public boolean isRendered() {
+        return pushedRender;
+    }
+
+    public long getAnimationTime() {
+        return phaseTimes.get(ANIMATION);
+    }
+
+    public long getCssTime() {
+        return phaseTimes.get(CSS);
+    }
+
+    public long getLayoutTime() {
+        return phaseTimes.get(LAYOUT);
+    }
+
+    /**
+     * Returns the time spent updating bounds, waiting for the previous
+     * pulse to finish rendering and copying state to the render graph.
+     */
+    public long getSyncTime() {
+        return phaseTimes.get(SYNC);
+    }
+
+    public long getRenderTime() {
+        return phaseTimes.get(RENDER);
+    }
+
+    public long getCounter(String counter) {
+        LongAdder cval = counters.get(counter);
+        return cval == null ? 0 : cval.sum();
+    }
+
+    /**
+     * Returns a sorted snapshot of all the counters of the pulse.
+     */
+    public Map<String,Long> getCounters() {
+        if (counters.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String,Long> result = new TreeMap<>();
+        for (Map.Entry<String,LongAdder> entry : counters.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().sum());
+        }
+        return result;
+    }
+
+    public long getNodesRendered() {
+        return getCounter(NODES_RENDERED);
+    }
+
+    public long getNodesVisited() {
+        return getCounter(NODES_VISITED);
+    }
+
+    public long getNodesSynchronized() {
+        return getCounter(NODES_SYNCHRONIZED);
+    }
+
+    /**
+     * Returns the sum of the areas of the dirty regions painted, in pixels.
+     */
+    public long getDirtyArea() {
+        return getCounter(DIRTY_AREA);
+    }
+
+    /**
+     * Returns the number of bytes used in the texture pool once the
+     * pulse has been rendered.
+     */
+    public long getTexturePoolUsage() {
+        return getCounter(TEXTURE_POOL_USAGE);
+    }
+
+    public long getGlyphCacheMisses() {
+        return getCounter(GLYPH_CACHE_MISSES);
+    }
+
+    public long getShapeCacheHits() {
+        return getCounter(SHAPE_CACHE_HITS);
+    }
+}
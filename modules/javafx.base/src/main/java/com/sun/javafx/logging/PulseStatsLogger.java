@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.logging;
+
+/**
+ * A logger which breaks every pulse down into {@link PulseStats} and hands
+ * them over to {@link #pulseCompleted} once the pulse is fully processed,
+ * that is when its rendering has finished or, if it didn't render, when
+ * the pulse ends.
+ * <p>
+ * Like the {@code PrintLogger}, this relies on {@code renderStart()} being
+ * called on the FX thread after all previous render jobs have finished and
+ * before any new render job is pushed, so that there is at most one pulse
+ * being processed on each of the FX and render threads.
+ */
+abstract class PulseStatsLogger extends Logger {
+
+    private Thread fxThread;
+    private int pulseCount;
+
+    /**
+     * The statistics of the pulse currently processed on the FX thread and
+     * of the pulse currently processed on the render thread.
+     */
+    private volatile PulseStats fxStats, renderStats;
+
+    private static class ThreadLocalData {
+        PulseStats stats;
+        int phase;
+        long phaseStart;
+    }
+
+    private final ThreadLocal<ThreadLocalData> phaseData =
+            ThreadLocal.withInitial(ThreadLocalData::new);
+
+    /**
+     * Called once all the statistics for the pulse have been gathered.
+     * This may be called on either the FX or the render thread.
+     */
+    protected abstract void pulseCompleted(PulseStats stats);
+
+    @Override
+    public void pulseStart() {
+        if (fxThread == null) {
+            fxThread = Thread.currentThread();
+        }
+        newPhase(null);
+        fxStats = new PulseStats(++pulseCount, System.nanoTime());
+    }
+
+    @Override
+    public void pulseEnd() {
+        newPhase(null);
+        PulseStats stats = fxStats;
+        fxStats = null;
+        if (stats != null && !stats.pushedRender) {
+            stats.finish(System.nanoTime());
+            pulseCompleted(stats);
+        }
+    }
+
+    @Override
+    public void renderStart() {
+        newPhase(null); // finish the current phase on the FX thread
+        PulseStats stats = fxStats;
+        if (stats != null) {
+            stats.pushedRender = true;
+            renderStats = stats;
+        }
+    }
+
+    @Override
+    public void renderEnd() {
+        newPhase(null); // finish the current phase on the render thread
+        PulseStats stats = renderStats;
+        renderStats = null;
+        if (stats != null) {
+            stats.finish(System.nanoTime());
+            pulseCompleted(stats);
+        }
+    }
+
+    @Override
+    public void incrementCounter(String counter) {
+        incrementCounter(counter, 1);
+    }
+
+    @Override
+    public void incrementCounter(String counter, long amount) {
+        PulseStats stats = currentStats();
+        if (stats != null) {
+            stats.incrementCounter(counter, amount);
+        }
+    }
+
+    @Override
+    public void newPhase(String name) {
+        long curTime = System.nanoTime();
+
+        ThreadLocalData curPhase = phaseData.get();
+        if (curPhase.stats != null) {
+            curPhase.stats.addPhaseTime(curPhase.phase, curTime - curPhase.phaseStart);
+        }
+        curPhase.stats = name == null ? null : currentStats();
+        curPhase.phase = phaseOf(name);
+        curPhase.phaseStart = curTime;
+    }
+
+    private PulseStats currentStats() {
+        return Thread.currentThread() == fxThread ? fxStats : renderStats;
+    }
+
+    private int phaseOf(String name) {
+        if (Thread.currentThread() != fxThread) {
+            return PulseStats.RENDER;
+        }
+        if (name == null) {
+            return PulseStats.OTHER;
+        }
+        switch (name) {
+            case "Animation":
+                return PulseStats.ANIMATION;
+            case "CSS Pass":
+                return PulseStats.CSS;
+            case "Layout Pass":
+                return PulseStats.LAYOUT;
+            case "Update bounds":
+            case "Waiting for previous rendering":
+            case "Copy state to render graph":
+            case "Synchronize with null peer":
+                return PulseStats.SYNC;
+            default:
+                return PulseStats.OTHER;
+        }
+    }
+}
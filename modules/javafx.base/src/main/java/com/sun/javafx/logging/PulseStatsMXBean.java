@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.logging;
+
+import java.util.Map;
+
+/**
+ * Management interface for the statistics of the JavaFX pulses. It is
+ * registered with the platform MBean server as {@code javafx:type=Pulse}
+ * when the {@code javafx.pulseStats} system property is set to true.
+ * <p>
+ * Unless stated otherwise, the attributes describe the last pulse that
+ * completed. Times are in milliseconds.
+ */
+public interface PulseStatsMXBean {
+
+    /**
+     * Returns the number of pulses completed since the last reset.
+     */
+    long getPulseCount();
+
+    /**
+     * Returns the number of pulses completed since the last reset which
+     * took longer than the slow pulse threshold.
+     */
+    long getSlowPulseCount();
+
+    /**
+     * Returns the slow pulse threshold, as given by the
+     * {@code javafx.pulseLogger.threshold} system property.
+     */
+    long getSlowPulseThreshold();
+
+    /**
+     * Returns the longest pulse time since the last reset.
+     */
+    double getMaxPulseTime();
+
+    int getLastPulseNumber();
+
+    double getLastPulseTime();
+
+    double getLastAnimationTime();
+
+    double getLastCssTime();
+
+    double getLastLayoutTime();
+
+    double getLastSyncTime();
+
+    double getLastRenderTime();
+
+    long getLastNodesRendered();
+
+    long getLastNodesVisited();
+
+    long getLastNodesSynchronized();
+
+    long getLastDirtyArea();
+
+    long getLastTexturePoolUsage();
+
+    long getLastGlyphCacheMisses();
+
+    long getLastShapeCacheHits();
+
+    /**
+     * Returns all the counters reported during the last pulse.
+     */
+    Map<String,Long> getLastCounters();
+
+    /**
+     * Resets the pulse counts and the maximum pulse time.
+     */
+    void reset();
+}
@@ -27,9 +27,14 @@ package com.sun.javafx.property;
 
 import static java.security.AccessController.doPrivileged;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.security.PrivilegedAction;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javafx.beans.property.ReadOnlyProperty;
 
@@ -43,10 +48,61 @@ public final class PropertyReference<T> {
     private Method getter;
     private Method setter;
     private Method propertyGetter;
+    private MethodHandle getterHandle;
+    private MethodHandle propertyGetterHandle;
     private Class<?> clazz;
     private Class<?> type;
     private boolean reflected = false;
 
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<Map<String, PropertyReference<?>>> CACHE =
+            new ClassValue<Map<String, PropertyReference<?>>>() {
+        @Override
+        protected Map<String, PropertyReference<?>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Returns a shared {@code PropertyReference} for a property of a bean.
+     * The methods of the property are looked up only the first time a
+     * property of a class is requested, which makes this method much
+     * cheaper than creating a new {@code PropertyReference} every time
+     * the class of a bean changes.
+     *
+     * @param <T> the type of the property
+     * @param clazz
+     *            The class of the {@link Bean} that contains the property
+     * @param name
+     *            The name of the property
+     * @return the shared {@code PropertyReference}
+     * @throws NullPointerException
+     *             if {@code clazz} or {@code name} are null
+     * @throws IllegalArgumentException
+     *             if {@code name} is an empty {@code String}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PropertyReference<T> of(Class<?> clazz, String name) {
+        if (name == null)
+            throw new NullPointerException("Name must be specified");
+        if (clazz == null)
+            throw new NullPointerException("Class must be specified");
+        ReflectUtil.checkPackageAccess(clazz);
+        final Map<String, PropertyReference<?>> references = CACHE.get(clazz);
+        PropertyReference<?> reference = references.get(name);
+        if (reference == null) {
+            reference = new PropertyReference<T>(clazz, name);
+            // reflect before the reference is shared with other threads
+            reference.reflect();
+            final PropertyReference<?> other = references.putIfAbsent(name, reference);
+            if (other != null) {
+                reference = other;
+            }
+        }
+        return (PropertyReference<T>) reference;
+    }
+
     // uses reflection to implement the get / set methods
     /**
      * Creates a new {@code PropertyReference} for a property of a bean.
@@ -170,6 +226,15 @@ public final class PropertyReference<T> {
             throw new IllegalStateException(
                     "Cannot read from unreadable property " + name);
         assert getter != null;
+        if (getterHandle != null) {
+            try {
+                return (T)(Object)getterHandle.invokeExact(bean);
+            } catch (RuntimeException ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new RuntimeException(ex);
+            }
+        }
         try {
             return (T)MethodHelper.invoke(getter, bean, (Object[])null);
         } catch (Exception ex) {
@@ -193,6 +258,15 @@ public final class PropertyReference<T> {
         if (!hasProperty())
             throw new IllegalStateException("Cannot get property " + name);
         assert propertyGetter != null;
+        if (propertyGetterHandle != null) {
+            try {
+                return (ReadOnlyProperty<T>)(Object)propertyGetterHandle.invokeExact(bean);
+            } catch (RuntimeException ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new RuntimeException(ex);
+            }
+        }
         try {
             return (ReadOnlyProperty<T>)MethodHelper.invoke(propertyGetter, bean, (Object[])null);
         } catch (Exception ex) {
@@ -295,12 +369,44 @@ public final class PropertyReference<T> {
                 } catch (NoSuchMethodException ex) {
                     // This is a legitimate error
                 }
+
+                getterHandle = unreflect(getter);
+                propertyGetterHandle = unreflect(propertyGetter);
             } catch (RuntimeException e) {
                 System.err.println("Failed to introspect property " + name);
             }
         }
     }
 
+    /**
+     * Returns a method handle that calls {@code m} directly, or null if the
+     * call has to go through {@link MethodHelper}. This is only possible if
+     * the method is accessible to everybody, because the handle is then
+     * created without any privileges, and if it is not declared by the JDK,
+     * which is where the caller sensitive methods the trampoline protects
+     * against are.
+     */
+    private static MethodHandle unreflect(Method m) {
+        if (m == null) {
+            return null;
+        }
+        final Class<?> declaringClass = m.getDeclaringClass();
+        final String packageName = declaringClass.getPackageName();
+        if (!Modifier.isPublic(declaringClass.getModifiers())
+                || !declaringClass.getModule().isExported(packageName)
+                || packageName.startsWith("java.")
+                || packageName.startsWith("javax.")
+                || packageName.startsWith("jdk.")
+                || packageName.startsWith("sun.")) {
+            return null;
+        }
+        try {
+            return MethodHandles.publicLookup().unreflect(m).asType(ACCESSOR_TYPE);
+        } catch (IllegalAccessException ex) {
+            return null;
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -53,6 +53,7 @@ import com.sun.javafx.binding.BidirectionalBinding;
 import com.sun.javafx.binding.BidirectionalContentBinding;
 import com.sun.javafx.binding.ContentBinding;
 import com.sun.javafx.binding.DoubleConstant;
+import com.sun.javafx.binding.ExpressionHelper;
 import com.sun.javafx.binding.FloatConstant;
 import com.sun.javafx.binding.IntegerConstant;
 import com.sun.javafx.binding.Logging;
@@ -418,6 +419,41 @@ public final class Bindings {
         };
     }
 
+    /**
+     * Runs the given {@code Runnable} and delivers the change notifications
+     * it causes only when it completes.
+     * <p>
+     * Invalidation listeners are notified immediately, so bindings that
+     * depend on a modified value are invalid right away and always return
+     * the current value when asked. Change listeners, which have to compute
+     * the new value, are notified once per {@code ObservableValue} after
+     * {@code runnable} returns, in the order in which the values first
+     * changed. An {@code ObservableValue} that is modified several times,
+     * or a binding that depends on several modified values, is therefore
+     * evaluated only once, and a change listener is not notified at all if
+     * the value ends up equal to the value it had before.
+     * <p>
+     * Calls may be nested, in which case the notifications are delivered
+     * when the outermost call completes. Only notifications fired on the
+     * calling thread are deferred. Listeners of observable collections are
+     * not affected.
+     *
+     * @param runnable the code to run
+     * @throws NullPointerException if {@code runnable} is {@code null}
+     * @since 10
+     */
+    public static void runCoalesced(Runnable runnable) {
+        if (runnable == null) {
+            throw new NullPointerException("Runnable cannot be null.");
+        }
+        ExpressionHelper.beginCoalescing();
+        try {
+            runnable.run();
+        } finally {
+            ExpressionHelper.endCoalescing();
+        }
+    }
+
 
     // =================================================================================================================
     // Select Bindings
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -45,6 +45,15 @@ final class ListChangeBuilder<E> {
     private List<SubChange<E>> updateChanges;
     private SubChange<E> permutationChange;
 
+    // The common case of a single add, remove or set is kept in these fields
+    // instead of SubChange objects, so it can be fired without building any
+    // intermediate lists. Any other change first inflates it into a SubChange.
+    private static final int NO_PENDING = -1;
+    private int pendingFrom = NO_PENDING;
+    private int pendingTo;
+    private E pendingRemoved;
+    private boolean pendingHasRemoved;
+
     private void checkAddRemoveList() {
         if (addRemoveChanges == null) {
             addRemoveChanges = new ArrayList<SubChange<E>>();
@@ -57,6 +66,31 @@ final class ListChangeBuilder<E> {
         }
     }
 
+    private boolean isEmpty() {
+        return pendingFrom == NO_PENDING
+                && (addRemoveChanges == null || addRemoveChanges.isEmpty())
+                && (updateChanges == null || updateChanges.isEmpty())
+                && permutationChange == null;
+    }
+
+    private void inflatePending() {
+        if (pendingFrom != NO_PENDING) {
+            checkAddRemoveList();
+            ArrayList<E> removed = new ArrayList<E>();
+            if (pendingHasRemoved) {
+                removed.add(pendingRemoved);
+            }
+            addRemoveChanges.add(new SubChange<E>(pendingFrom, pendingTo, removed, EMPTY_PERM, false));
+            clearPending();
+        }
+    }
+
+    private void clearPending() {
+        pendingFrom = NO_PENDING;
+        pendingRemoved = null;
+        pendingHasRemoved = false;
+    }
+
     private int findSubChange(int idx, final List<SubChange<E>> list) {
         int from = 0;
         int to = list.size() - 1;
@@ -195,6 +229,13 @@ final class ListChangeBuilder<E> {
 
     public void nextRemove(int idx, E removed) {
         checkState();
+        if (isEmpty()) {
+            pendingFrom = pendingTo = idx;
+            pendingRemoved = removed;
+            pendingHasRemoved = true;
+            return;
+        }
+        inflatePending();
         checkAddRemoveList();
 
         final SubChange<E> last = addRemoveChanges.isEmpty() ? null
@@ -241,6 +282,15 @@ final class ListChangeBuilder<E> {
 
     public void nextAdd(int from, int to) {
         checkState();
+        if (pendingFrom != NO_PENDING && pendingTo == from) {
+            pendingTo = to;
+            return;
+        } else if (isEmpty()) {
+            pendingFrom = from;
+            pendingTo = to;
+            return;
+        }
+        inflatePending();
         checkAddRemoveList();
         final SubChange<E> last = addRemoveChanges.isEmpty() ? null :
                 addRemoveChanges.get(addRemoveChanges.size() - 1);
@@ -275,6 +325,7 @@ final class ListChangeBuilder<E> {
 
     public void nextPermutation(int from, int to, int[] perm) {
         checkState();
+        inflatePending();
 
         int prePermFrom = from;
         int prePermTo = to;
@@ -457,6 +508,7 @@ final class ListChangeBuilder<E> {
 
     public void nextUpdate(int idx) {
         checkState();
+        inflatePending();
         if (updateChanges == null) {
             updateChanges = new ArrayList<SubChange<E>>();
         }
@@ -469,6 +521,13 @@ final class ListChangeBuilder<E> {
     }
 
     private void commit() {
+        if (changeLock == 0 && pendingFrom != NO_PENDING) {
+            final Change<E> change = new SingleAddRemoveChange<E>(pendingFrom, pendingTo,
+                    pendingRemoved, pendingHasRemoved, list);
+            clearPending();
+            list.fireChange(change);
+            return;
+        }
         final boolean addRemoveNotEmpty = addRemoveChanges != null && !addRemoveChanges.isEmpty();
         final boolean updateNotEmpty = updateChanges != null && !updateChanges.isEmpty();
         if (changeLock == 0
@@ -635,6 +694,88 @@ final class ListChangeBuilder<E> {
     }
 
 
+    private static class SingleAddRemoveChange<E> extends Change<E> {
+        private final int from;
+        private final int to;
+        private final E removedElement;
+        private final boolean hasRemoved;
+        private List<E> removed;
+        private boolean onChange;
+
+        public SingleAddRemoveChange(int from, int to, E removedElement, boolean hasRemoved, ObservableListBase<E> list) {
+            super(list);
+            this.from = from;
+            this.to = to;
+            this.removedElement = removedElement;
+            this.hasRemoved = hasRemoved;
+        }
+
+        @Override
+        public boolean next() {
+            if (onChange) {
+                return false;
+            }
+            onChange = true;
+            return true;
+        }
+
+        @Override
+        public void reset() {
+            onChange = false;
+        }
+
+        @Override
+        public int getFrom() {
+            checkState();
+            return from;
+        }
+
+        @Override
+        public int getTo() {
+            checkState();
+            return to;
+        }
+
+        @Override
+        public List<E> getRemoved() {
+            checkState();
+            if (removed == null) {
+                removed = hasRemoved ? Collections.singletonList(removedElement) : Collections.<E>emptyList();
+            }
+            return removed;
+        }
+
+        @Override
+        public boolean wasRemoved() {
+            checkState();
+            return hasRemoved;
+        }
+
+        @Override
+        protected int[] getPermutation() {
+            checkState();
+            return EMPTY_PERM;
+        }
+
+        @Override
+        public boolean wasUpdated() {
+            checkState();
+            return false;
+        }
+
+        private void checkState() {
+            if (!onChange) {
+                throw new IllegalStateException("Invalid Change state: next() must be called before inspecting the Change.");
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "{ " + ChangeHelper.addRemoveChangeToString(from, to, getList(),
+                    hasRemoved ? Collections.singletonList(removedElement) : Collections.<E>emptyList()) + " }";
+        }
+    }
+
     private static class IterableChange<E> extends Change<E> {
 
         private SubChange[] changes;
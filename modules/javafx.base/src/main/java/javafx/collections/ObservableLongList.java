@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package javafx.collections;
+
+/**
+ * {@code ObservableLongList} is an {@link ObservableList} of {@code long}
+ * values that stores its elements in a primitive array instead of boxing
+ * each of them. Elements are still accessible through the {@code List}
+ * interface, but the primitive accessors and bulk operations defined here
+ * avoid the boxing altogether and report each bulk operation to listeners
+ * as a single range change.
+ * <p>
+ * {@code null} elements are not permitted; adding or setting one throws
+ * a {@code NullPointerException}.
+ *
+ * @see ListChangeListener
+ * @see FXCollections#observableLongList()
+ * @since 10
+ */
+public interface ObservableLongList extends ObservableList<Long> {
+
+    /**
+     * Gets a single element of this list without boxing it.
+     * @param index index of element to get
+     * @return value at the given index
+     * @throws IndexOutOfBoundsException if {@code index} is outside
+     * list bounds
+     */
+    public long getLong(int index);
+
+    /**
+     * Replaces a single element of this list.
+     * @param index index of element to replace
+     * @param value new value for the given index
+     * @return the value previously at the given index
+     * @throws IndexOutOfBoundsException if {@code index} is outside
+     * list bounds
+     */
+    public long setLong(int index, long value);
+
+    /**
+     * Appends a single element to the end of this list.
+     * @param value value to append
+     */
+    public void addLong(long value);
+
+    /**
+     * Appends a portion of the given array to the end of this list.
+     * Capacity is increased if necessary to match the new size of the data.
+     * Listeners are notified with a single added range.
+     * @param src source array
+     * @param srcIndex starting position in source array
+     * @param length length of portion to append
+     * @throws ArrayIndexOutOfBoundsException if the portion lies outside
+     * the bounds of {@code src}
+     */
+    public void addAll(long[] src, int srcIndex, int length);
+
+    /**
+     * Inserts a portion of the given array at the specified position of this
+     * list. Listeners are notified with a single added range.
+     * @param index position at which to insert the elements
+     * @param src source array
+     * @param srcIndex starting position in source array
+     * @param length length of portion to insert
+     * @throws IndexOutOfBoundsException if {@code index} is outside
+     * list bounds
+     * @throws ArrayIndexOutOfBoundsException if the portion lies outside
+     * the bounds of {@code src}
+     */
+    public void addAll(int index, long[] src, int srcIndex, int length);
+
+    /**
+     * Replaces the content of this list with a portion of the given array.
+     * Listeners are notified with a single replaced range.
+     * @param src source array
+     * @param srcIndex starting position in source array
+     * @param length length of portion to copy
+     * @throws ArrayIndexOutOfBoundsException if the portion lies outside
+     * the bounds of {@code src}
+     */
+    public void setAll(long[] src, int srcIndex, int length);
+
+    /**
+     * Copies a portion of the given array into this list, overwriting the
+     * elements starting at {@code destIndex}. The size of the list does not
+     * change. Listeners are notified with a single replaced range.
+     * @param destIndex the starting destination position in this list
+     * @param src source array
+     * @param srcIndex starting position in source array
+     * @param length length of portion to copy
+     * @throws IndexOutOfBoundsException if the destination range is outside
+     * list bounds
+     * @throws ArrayIndexOutOfBoundsException if the portion lies outside
+     * the bounds of {@code src}
+     */
+    public void set(int destIndex, long[] src, int srcIndex, int length);
+
+    /**
+     * Copies a portion of this list into the {@code dest} array. Throws
+     * the same exceptions as {@link System#arraycopy(java.lang.Object,
+     * int, java.lang.Object, int, int) System.arraycopy()} method.
+     * @param srcIndex starting position in this list
+     * @param dest destination array
+     * @param destIndex starting position in destination array
+     * @param length length of portion to copy
+     */
+    public void copyTo(int srcIndex, long[] dest, int destIndex, int length);
+
+    /**
+     * Returns an array containing copy of this list. If the list fits in the
+     * specified array, it is copied therein. Otherwise, a new array is
+     * allocated with the size of this list and copy of this list is
+     * copied therein.
+     * @param dest the array into which the elements of this list are to be
+     * stored, if it is big enough; otherwise, a new array is allocated.
+     * @return a {@code long} array containing a copy of this list
+     */
+    public long[] toArray(long[] dest);
+
+    /**
+     * Grows the capacity of the backing array, if necessary, so that it
+     * can hold at least {@code capacity} elements without reallocating.
+     * @param capacity the minimum desired capacity
+     */
+    public void ensureCapacity(int capacity);
+
+    /**
+     * Shrinks the capacity of the backing array to the current size of
+     * this list.
+     */
+    public void trimToSize();
+}
@@ -25,17 +25,16 @@
 
 package javafx.collections.transformation;
 
-import com.sun.javafx.collections.NonIterableChange.GenericAddRemoveChange;
 import com.sun.javafx.collections.SortHelper;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Iterator;
-import java.util.List;
 import java.util.ListIterator;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 import javafx.beans.NamedArg;
+import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ObjectPropertyBase;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.collections.ListChangeListener.Change;
 import javafx.collections.ObservableList;
 
@@ -55,6 +54,18 @@ public final class FilteredList<E> extends TransformationList<E, E>{
     private SortHelper helper;
     private static final Predicate ALWAYS_TRUE = t -> true;
 
+    /**
+     * Minimum number of elements to test before a parallel evaluation is
+     * worth the overhead of splitting the work.
+     */
+    private static final int PARALLEL_THRESHOLD = 8192;
+
+    /**
+     * Set while {@link #refinePredicate} changes the predicate, so that only
+     * the elements that currently pass are tested again.
+     */
+    private boolean refining;
+
     /**
      * Constructs a new FilteredList wrapper around the source list.
      * The provided predicate will match the elements in the source list that will be visible.
@@ -125,6 +136,54 @@ public final class FilteredList<E> extends TransformationList<E, E>{
         predicateProperty().set(predicate);
     }
 
+    /**
+     * Replaces the predicate with one that matches a subset of the elements
+     * matched by the current predicate, for example when a search prefix is
+     * extended. Only the elements currently in this list are tested against
+     * the new predicate, instead of every element of the source list.
+     * <p>
+     * If the new predicate does match elements that the current one rejects,
+     * those elements are not added; call {@link #setPredicate} instead.
+     * A {@code null} predicate matches all elements and causes a full
+     * evaluation.
+     * @param predicate the narrower predicate
+     * @since 10
+     */
+    public final void refinePredicate(Predicate<? super E> predicate) {
+        refining = predicate != null;
+        try {
+            setPredicate(predicate);
+        } finally {
+            refining = false;
+        }
+    }
+
+    /**
+     * Whether the predicate may be evaluated by several threads at once when
+     * it has to be tested against a large number of elements after the
+     * predicate changed. The predicate must then be safe to call
+     * concurrently and must not modify the source list or its elements.
+     * Changes of the source list are always evaluated on the calling thread.
+     * @defaultValue false
+     * @since 10
+     */
+    private BooleanProperty parallel;
+
+    public final BooleanProperty parallelProperty() {
+        if (parallel == null) {
+            parallel = new SimpleBooleanProperty(this, "parallel");
+        }
+        return parallel;
+    }
+
+    public final boolean isParallel() {
+        return parallel != null && parallel.get();
+    }
+
+    public final void setParallel(boolean value) {
+        parallelProperty().set(value);
+    }
+
     private Predicate<? super E> getPredicateImpl() {
         if (getPredicate() != null) {
             return getPredicate();
@@ -317,26 +376,77 @@ public final class FilteredList<E> extends TransformationList<E, E>{
         }
     }
 
-    @SuppressWarnings("unchecked")
     private void refilter() {
+        final boolean refine = refining;
         ensureSize(getSource().size());
-        List<E> removed = null;
-        if (hasListeners()) {
-            removed = new ArrayList<>(this);
-        }
+        final int[] old = Arrays.copyOf(filtered, size);
+        final int count = refine ? old.length : getSource().size();
+        final boolean[] accepted = evaluate(refine ? old : null, count);
         size = 0;
-        int i = 0;
-        Predicate<? super E> pred = getPredicateImpl();
-        for (Iterator<? extends E> it = getSource().iterator();it.hasNext(); ) {
-            final E next = it.next();
-            if (pred.test(next)) {
-                filtered[size++] = i;
+        for (int i = 0; i < count; ++i) {
+            if (accepted[i]) {
+                filtered[size++] = refine ? old[i] : i;
             }
-            ++i;
         }
         if (hasListeners()) {
-            fireChange(new GenericAddRemoveChange<>(0, size, removed, this));
+            fireDifference(old);
+        }
+    }
+
+    /**
+     * Tests the predicate against the source elements at the given indices,
+     * or against the first {@code count} source elements if {@code indices}
+     * is null.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean[] evaluate(int[] indices, int count) {
+        final Predicate<? super E> pred = getPredicateImpl();
+        final boolean[] accepted = new boolean[count];
+        if (isParallel() && count >= PARALLEL_THRESHOLD) {
+            // the worker threads only see a snapshot, never the source list
+            final Object[] elements = getSource().toArray();
+            IntStream.range(0, count).parallel().forEach(i ->
+                    accepted[i] = pred.test((E) elements[indices == null ? i : indices[i]]));
+        } else if (indices == null) {
+            int i = 0;
+            for (E e : getSource()) {
+                accepted[i++] = pred.test(e);
+            }
+        } else {
+            for (int i = 0; i < count; ++i) {
+                accepted[i] = pred.test(getSource().get(indices[i]));
+            }
         }
+        return accepted;
+    }
+
+    /**
+     * Reports the difference between the previous content, given as
+     * ascending source indices, and the current content. The source list
+     * itself has not changed, so removed elements are still found in it.
+     */
+    private void fireDifference(int[] old) {
+        beginChange();
+        int pos = 0;
+        int i = 0;
+        int j = 0;
+        while (i < old.length || j < size) {
+            final int oldIndex = i < old.length ? old[i] : Integer.MAX_VALUE;
+            final int newIndex = j < size ? filtered[j] : Integer.MAX_VALUE;
+            if (oldIndex == newIndex) {
+                ++i;
+                ++j;
+                ++pos;
+            } else if (oldIndex < newIndex) {
+                nextRemove(pos, getSource().get(oldIndex));
+                ++i;
+            } else {
+                nextAdd(pos, pos + 1);
+                ++j;
+                ++pos;
+            }
+        }
+        endChange();
     }
 
 }
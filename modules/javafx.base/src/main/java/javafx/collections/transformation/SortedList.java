@@ -25,6 +25,7 @@
 
 package javafx.collections.transformation;
 
+import com.sun.javafx.collections.KeyExtractingComparator;
 import com.sun.javafx.collections.NonIterableChange.SimplePermutationChange;
 import com.sun.javafx.collections.SortHelper;
 import com.sun.javafx.collections.SourceAdapterChange;
@@ -53,7 +54,7 @@ import javafx.collections.ObservableList;
  */
 public final class SortedList<E> extends TransformationList<E, E>{
 
-    private Comparator<Element<E>> elementComparator;
+    private ElementComparator<E> elementComparator;
     private Element<E>[] sorted;
     private int[] perm;
     private int size;
@@ -128,7 +129,12 @@ public final class SortedList<E> extends TransformationList<E, E>{
                 @Override
                 protected void invalidated() {
                     Comparator<? super E> current = get();
-                    elementComparator = current != null ? new ElementComparator<>(current) : null;
+                    if (current instanceof KeyExtractingComparator) {
+                        elementComparator = new KeyedElementComparator<>(
+                                (KeyExtractingComparator<? super E, ?>) current);
+                    } else {
+                        elementComparator = current != null ? new ElementComparator<>(current) : null;
+                    }
                     doSortWithPermutationChange();
                 }
 
@@ -182,11 +188,10 @@ public final class SortedList<E> extends TransformationList<E, E>{
 
     private void doSortWithPermutationChange() {
         if (elementComparator != null) {
-            int[] perm = helper.sort(sorted, 0, size, elementComparator);
             for (int i = 0; i < size; i++) {
-                this.perm[sorted[i].index] = i;
+                elementComparator.extractKey(sorted[i]);
             }
-            fireChange(new SimplePermutationChange<>(0, size, perm, this));
+            fireChange(new SimplePermutationChange<>(0, size, sortAll(), this));
         } else {
             int[] perm = new int[size];
             int[] rperm = new int[size];
@@ -274,6 +279,35 @@ public final class SortedList<E> extends TransformationList<E, E>{
         }
     }
 
+    /**
+     * Sorts all elements and updates the source to view mapping.
+     * @return the permutation from the old to the new view positions
+     */
+    private int[] sortAll() {
+        final int[] permutation;
+        if (elementComparator != null && elementComparator.isParallelSortable()) {
+            Arrays.parallelSort(sorted, 0, size, elementComparator);
+            permutation = new int[size];
+            for (int i = 0; i < size; i++) {
+                permutation[perm[sorted[i].index]] = i;
+            }
+        } else {
+            permutation = helper.sort(sorted, 0, size, elementComparator);
+        }
+        for (int i = 0; i < size; i++) {
+            perm[sorted[i].index] = i;
+        }
+        return permutation;
+    }
+
+    private Element<E> newElement(E e, int index) {
+        Element<E> element = new Element<>(e, index);
+        if (elementComparator != null) {
+            elementComparator.extractKey(element);
+        }
+        return element;
+    }
+
     private static class Element<E> {
 
         public Element(E e, int index) {
@@ -283,6 +317,7 @@ public final class SortedList<E> extends TransformationList<E, E>{
 
         private E e;
         private int index;
+        private Object key;
     }
 
     private static class ElementComparator<E> implements Comparator<Element<E>> {
@@ -299,6 +334,38 @@ public final class SortedList<E> extends TransformationList<E, E>{
             return comparator.compare(o1.e, o2.e);
         }
 
+        void extractKey(Element<E> element) {
+        }
+
+        boolean isParallelSortable() {
+            return false;
+        }
+    }
+
+    private static class KeyedElementComparator<E, K> extends ElementComparator<E> {
+
+        private final KeyExtractingComparator<? super E, K> comparator;
+
+        public KeyedElementComparator(KeyExtractingComparator<? super E, K> comparator) {
+            super(comparator);
+            this.comparator = comparator;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public int compare(Element<E> o1, Element<E> o2) {
+            return comparator.compareKeys((K) o1.key, (K) o2.key);
+        }
+
+        @Override
+        void extractKey(Element<E> element) {
+            element.key = comparator.extractKey(element.e);
+        }
+
+        @Override
+        boolean isParallelSortable() {
+            return comparator.isParallelSortable();
+        }
     }
 
     private void ensureSize(int size) {
@@ -328,7 +395,9 @@ public final class SortedList<E> extends TransformationList<E, E>{
             return 0;
         }
         tempElement.e = e;
+        elementComparator.extractKey(tempElement);
         int pos = Arrays.binarySearch(sorted, 0, size, tempElement, elementComparator);
+        tempElement.key = null;
         return pos;
     }
 
@@ -340,7 +409,7 @@ public final class SortedList<E> extends TransformationList<E, E>{
         ensureSize(size + 1);
         updateIndices(idx, pos, 1);
         System.arraycopy(sorted, pos, sorted, pos + 1, size - pos);
-        sorted[pos] = new Element<>(e, idx);
+        sorted[pos] = newElement(e, idx);
         System.arraycopy(perm, idx, perm, idx + 1, size - idx);
         perm[idx] = pos;
         ++size;
@@ -352,13 +421,69 @@ public final class SortedList<E> extends TransformationList<E, E>{
         ensureSize(to);
         size = to;
         for (int i = 0; i < to; ++i) {
-            sorted[i] = new Element<E>(list.get(i), i);
+            sorted[i] = newElement(list.get(i), i);
+            perm[i] = i;
         }
-        int[] perm = helper.sort(sorted, 0, size, elementComparator);
-        System.arraycopy(perm, 0, this.perm, 0, size);
+        sortAll();
         nextAdd(0, size);
     }
 
+    /**
+     * Inserts several source elements at once: the new elements are sorted
+     * among themselves and then merged into the sorted array from its end,
+     * so the existing elements are moved once for the whole batch.
+     */
+    private void insertRangeToMapping(List<? extends E> list, int from, int to) {
+        final int count = to - from;
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        final Element<E>[] added = (Element<E>[]) new Element[count];
+        for (int i = 0; i < count; ++i) {
+            added[i] = newElement(list.get(from + i), from + i);
+        }
+        Arrays.sort(added, elementComparator);
+
+        ensureSize(size + count);
+        for (int i = 0; i < size; ++i) {
+            if (sorted[i].index >= from) {
+                sorted[i].index += count;
+            }
+        }
+        final int[] positions = new int[count];
+        int end = size;
+        for (int j = count - 1; j >= 0; --j) {
+            final int pos = upperBound(added[j], end);
+            System.arraycopy(sorted, pos, sorted, pos + j + 1, end - pos);
+            sorted[pos + j] = added[j];
+            positions[j] = pos + j;
+            end = pos;
+        }
+        size += count;
+        for (int i = 0; i < size; ++i) {
+            perm[sorted[i].index] = i;
+        }
+        for (int j = 0; j < count; ++j) {
+            nextAdd(positions[j], positions[j] + 1);
+        }
+    }
+
+    /**
+     * Finds the first position in {@code sorted[0, end)} whose element
+     * orders after the given one.
+     */
+    private int upperBound(Element<E> element, int end) {
+        int low = 0;
+        int high = end;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (elementComparator.compare(sorted[mid], element) > 0) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
     private void removeFromMapping(int idx, E e) {
         int pos = perm[idx];
         System.arraycopy(sorted, pos + 1, sorted, pos, size - pos - 1);
@@ -370,6 +495,35 @@ public final class SortedList<E> extends TransformationList<E, E>{
         nextRemove(pos, e);
     }
 
+    /**
+     * Removes a contiguous range of source elements with a single pass over
+     * the sorted array.
+     */
+    private void removeRangeFromMapping(int from, List<? extends E> removed) {
+        final int count = removed.size();
+        final int to = from + count;
+        int w = 0;
+        for (int r = 0; r < size; ++r) {
+            final Element<E> element = sorted[r];
+            final int idx = element.index;
+            if (idx >= from && idx < to) {
+                nextRemove(w, removed.get(idx - from));
+            } else {
+                if (idx >= to) {
+                    element.index = idx - count;
+                }
+                sorted[w++] = element;
+            }
+        }
+        for (int i = w; i < size; ++i) {
+            sorted[i] = null;
+        }
+        size = w;
+        for (int i = 0; i < size; ++i) {
+            perm[sorted[i].index] = i;
+        }
+    }
+
     private void removeAllFromMapping() {
         List<E> removed = new ArrayList(this);
         for (int i = 0; i < size; ++i) {
@@ -380,11 +534,10 @@ public final class SortedList<E> extends TransformationList<E, E>{
     }
 
     private void update(Change<? extends E> c) {
-        int[] perm = helper.sort(sorted, 0, size, elementComparator);
-        for (int i = 0; i < size; i++) {
-            this.perm[sorted[i].index] = i;
+        for (int i = c.getFrom(), to = c.getTo(); i < to; ++i) {
+            elementComparator.extractKey(sorted[this.perm[i]]);
         }
-        nextPermutation(0, size, perm);
+        nextPermutation(0, size, sortAll());
         for (int i = c.getFrom(), to = c.getTo(); i < to; ++i) {
             nextUpdate(this.perm[i]);
         }
@@ -393,18 +546,18 @@ public final class SortedList<E> extends TransformationList<E, E>{
     private void addRemove(Change<? extends E> c) {
         if (c.getFrom() == 0 && c.getRemovedSize() == size) {
             removeAllFromMapping();
-        } else {
-            for (int i = 0, sz = c.getRemovedSize(); i < sz; ++i) {
-                removeFromMapping(c.getFrom(), c.getRemoved().get(i));
-            }
+        } else if (c.getRemovedSize() == 1) {
+            removeFromMapping(c.getFrom(), c.getRemoved().get(0));
+        } else if (c.getRemovedSize() > 1) {
+            removeRangeFromMapping(c.getFrom(), c.getRemoved());
         }
         if (size == 0) {
             setAllToMapping(c.getList(), c.getTo()); // This is basically equivalent to getAddedSubList
                                                      // as size is 0, only valid "from" is also 0
-        } else {
-            for (int i = c.getFrom(), to = c.getTo(); i < to; ++i) {
-                insertToMapping(c.getList().get(i), i);
-            }
+        } else if (c.getTo() - c.getFrom() == 1) {
+            insertToMapping(c.getList().get(c.getFrom()), c.getFrom());
+        } else if (c.getTo() - c.getFrom() > 1) {
+            insertRangeToMapping(c.getList(), c.getFrom(), c.getTo());
         }
     }
 
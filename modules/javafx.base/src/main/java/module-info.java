@@ -32,6 +32,7 @@
  */
 module javafx.base {
     requires java.desktop;
+    requires static java.management;
 
     exports javafx.beans;
     exports javafx.beans.binding;
@@ -65,6 +66,7 @@ module javafx.base {
         javafx.controls,
         javafx.graphics;
     exports com.sun.javafx.logging to
+        java.management,
         javafx.graphics;
     exports com.sun.javafx.property to
         javafx.controls;
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.logging;
+
+import com.sun.javafx.logging.PulseStats;
+import com.sun.javafx.logging.PulseStatsLoggerShim;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class PulseStatsLoggerTest {
+
+    private final PulseStatsLoggerShim logger = new PulseStatsLoggerShim();
+
+    private static void spin(long nanos) {
+        long end = System.nanoTime() + nanos;
+        while (System.nanoTime() < end) {
+            // busy wait, so that the phase takes a measurable time
+        }
+    }
+
+    @Test
+    public void testPulseWithoutRenderingCompletesAtPulseEnd() {
+        logger.pulseStart();
+        logger.newPhase("CSS Pass");
+        spin(1000000);
+        logger.newPhase("Layout Pass");
+        spin(1000000);
+        logger.incrementCounter(PulseStats.NODES_SYNCHRONIZED, 5);
+        logger.incrementCounter("Other counter");
+        assertTrue(logger.completed.isEmpty());
+        logger.pulseEnd();
+
+        assertEquals(1, logger.completed.size());
+        PulseStats stats = logger.completed.get(0);
+        assertEquals(1, stats.getPulseNumber());
+        assertFalse(stats.isRendered());
+        assertTrue(stats.getCssTime() >= 1000000);
+        assertTrue(stats.getLayoutTime() >= 1000000);
+        assertEquals(0, stats.getRenderTime());
+        assertTrue(stats.getDuration() >= stats.getCssTime() + stats.getLayoutTime());
+        assertEquals(5, stats.getNodesSynchronized());
+        assertEquals(1, stats.getCounter("Other counter"));
+        assertEquals(2, stats.getCounters().size());
+    }
+
+    @Test
+    public void testRenderedPulseCompletesAtRenderEnd() throws Exception {
+        logger.pulseStart();
+        logger.newPhase("Animation");
+        spin(1000000);
+        logger.newPhase("Copy state to render graph");
+        logger.incrementCounter(PulseStats.NODES_SYNCHRONIZED, 3);
+        logger.renderStart();
+        logger.pulseEnd();
+        assertTrue(logger.completed.isEmpty());
+
+        Thread renderThread = new Thread(() -> {
+            logger.newPhase("Painting");
+            spin(1000000);
+            logger.incrementCounter(PulseStats.NODES_RENDERED);
+            logger.incrementCounter(PulseStats.NODES_RENDERED);
+            logger.incrementCounter(PulseStats.DIRTY_AREA, 100 * 100);
+            logger.renderEnd();
+        });
+        renderThread.start();
+        renderThread.join();
+
+        assertEquals(1, logger.completed.size());
+        PulseStats stats = logger.completed.get(0);
+        assertTrue(stats.isRendered());
+        assertTrue(stats.getAnimationTime() >= 1000000);
+        assertTrue(stats.getRenderTime() >= 1000000);
+        assertEquals(3, stats.getNodesSynchronized());
+        assertEquals(2, stats.getNodesRendered());
+        assertEquals(10000, stats.getDirtyArea());
+    }
+
+    @Test
+    public void testCountersAreUpdatedFromBothThreads() throws Exception {
+        final int count = 100000;
+        logger.pulseStart();
+        logger.renderStart();
+
+        Thread renderThread = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                logger.incrementCounter(PulseStats.NODES_RENDERED);
+            }
+        });
+        renderThread.start();
+        for (int i = 0; i < count; i++) {
+            logger.incrementCounter(PulseStats.NODES_RENDERED);
+        }
+        renderThread.join();
+        logger.pulseEnd();
+
+        renderThread = new Thread(logger::renderEnd);
+        renderThread.start();
+        renderThread.join();
+
+        assertEquals(1, logger.completed.size());
+        assertEquals(2 * count, logger.completed.get(0).getNodesRendered());
+    }
+
+    @Test
+    public void testCountersArePerPulse() {
+        logger.pulseStart();
+        logger.incrementCounter(PulseStats.GLYPH_CACHE_MISSES);
+        logger.pulseEnd();
+        logger.pulseStart();
+        logger.pulseEnd();
+
+        assertEquals(2, logger.completed.size());
+        assertEquals(1, logger.completed.get(0).getGlyphCacheMisses());
+        assertEquals(0, logger.completed.get(1).getGlyphCacheMisses());
+        assertEquals(2, logger.completed.get(1).getPulseNumber());
+    }
+}
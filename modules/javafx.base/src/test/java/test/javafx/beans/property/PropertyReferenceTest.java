@@ -118,4 +118,47 @@ public class PropertyReferenceTest {
         Person.NO_READ_WRITE.set(person, 1);
     }
 
+    @Test
+    public void testShared() {
+        final PropertyReference<Integer> property = PropertyReference.of(Person.class, "age");
+        assertSame(property, PropertyReference.of(Person.class, "age"));
+        assertNotSame(property, PropertyReference.of(Person.class, "name"));
+        assertNotSame(property, PropertyReference.of(Employee.class, "age"));
+        assertEquals(Employee.class, PropertyReference.of(Employee.class, "age").getContainingClass());
+    }
+
+    @Test
+    public void testSharedAccess() {
+        final PropertyReference<Integer> property = PropertyReference.of(Person.class, "age");
+        assertTrue(property.isReadable());
+        assertTrue(property.hasProperty());
+        assertEquals(person.ageProperty(), property.getProperty(person));
+
+        person.setAge(7);
+        assertEquals(Integer.valueOf(7), property.get(person));
+
+        final Employee employee = new Employee();
+        employee.setAge(12);
+        assertEquals(Integer.valueOf(12), property.get(employee));
+        assertEquals(employee.ageProperty(), property.getProperty(employee));
+    }
+
+    @Test(expected=IllegalStateException.class)
+    public void testShared_IllegalRead() {
+        PropertyReference.of(Person.class, "noRead").get(person);
+    }
+
+    @Test(expected=NullPointerException.class)
+    public void testShared_NullClass() {
+        PropertyReference.of(null, "age");
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void testShared_EmptyName() {
+        PropertyReference.of(Person.class, " ");
+    }
+
+    public static class Employee extends Person {
+    }
+
 }
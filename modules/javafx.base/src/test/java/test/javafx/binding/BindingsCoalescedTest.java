@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.javafx.binding;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javafx.beans.InvalidationListener;
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.IntegerBinding;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class BindingsCoalescedTest {
+
+    private IntegerProperty a;
+    private IntegerProperty b;
+    private AtomicInteger evaluations;
+    private List<String> changes;
+
+    @Before
+    public void setUp() {
+        a = new SimpleIntegerProperty(1);
+        b = new SimpleIntegerProperty(2);
+        evaluations = new AtomicInteger();
+        changes = new ArrayList<>();
+    }
+
+    private IntegerBinding sum(IntegerProperty x, IntegerProperty y) {
+        return Bindings.createIntegerBinding(() -> {
+            evaluations.incrementAndGet();
+            return x.get() + y.get();
+        }, x, y);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullRunnable() {
+        Bindings.runCoalesced(null);
+    }
+
+    @Test
+    public void testChangeListenerNotifiedOnce() {
+        a.addListener((o, oldValue, newValue) -> changes.add(oldValue + "->" + newValue));
+        Bindings.runCoalesced(() -> {
+            a.set(3);
+            a.set(4);
+            a.set(5);
+            assertTrue(changes.isEmpty());
+        });
+        assertEquals(List.of("1->5"), changes);
+    }
+
+    @Test
+    public void testNoChangeWhenValueRestored() {
+        a.addListener((o, oldValue, newValue) -> changes.add(oldValue + "->" + newValue));
+        Bindings.runCoalesced(() -> {
+            a.set(3);
+            a.set(1);
+        });
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void testInvalidationPropagatesImmediately() {
+        final IntegerBinding sum = sum(a, b);
+        sum.addListener((o, oldValue, newValue) -> changes.add(oldValue + "->" + newValue));
+        assertEquals(1, evaluations.get());
+        Bindings.runCoalesced(() -> {
+            a.set(10);
+            assertFalse(sum.isValid());
+            assertEquals(12, sum.get());
+            b.set(20);
+            assertFalse(sum.isValid());
+        });
+        assertEquals(List.of("3->30"), changes);
+        assertEquals(3, evaluations.get());
+    }
+
+    @Test
+    public void testDiamondEvaluatedOnce() {
+        final IntegerBinding left = Bindings.createIntegerBinding(() -> a.get() * 2, a);
+        final IntegerBinding right = Bindings.createIntegerBinding(() -> a.get() * 3, a);
+        final IntegerBinding bottom = Bindings.createIntegerBinding(() -> {
+            evaluations.incrementAndGet();
+            return left.get() + right.get();
+        }, left, right);
+        bottom.addListener((o, oldValue, newValue) -> changes.add(oldValue + "->" + newValue));
+        evaluations.set(0);
+
+        Bindings.runCoalesced(() -> {
+            a.set(2);
+            a.set(3);
+            b.set(4);
+        });
+        assertEquals(List.of("5->15"), changes);
+        assertEquals(1, evaluations.get());
+    }
+
+    @Test
+    public void testNestedCallsDeliverAtOutermost() {
+        a.addListener((o, oldValue, newValue) -> changes.add("a:" + oldValue + "->" + newValue));
+        b.addListener((o, oldValue, newValue) -> changes.add("b:" + oldValue + "->" + newValue));
+        Bindings.runCoalesced(() -> {
+            b.set(7);
+            Bindings.runCoalesced(() -> a.set(8));
+            assertTrue(changes.isEmpty());
+        });
+        assertEquals(List.of("b:2->7", "a:1->8"), changes);
+    }
+
+    @Test
+    public void testChangesFromListenersAreDelivered() {
+        a.addListener((o, oldValue, newValue) -> {
+            changes.add("a:" + oldValue + "->" + newValue);
+            b.set(newValue.intValue() * 10);
+        });
+        b.addListener((o, oldValue, newValue) -> changes.add("b:" + oldValue + "->" + newValue));
+        Bindings.runCoalesced(() -> {
+            b.set(5);
+            a.set(3);
+        });
+        assertEquals(List.of("b:2->5", "a:1->3", "b:5->30"), changes);
+    }
+
+    @Test
+    public void testListenerAddedDuringBlock() {
+        a.addListener((o, oldValue, newValue) -> changes.add("first:" + oldValue + "->" + newValue));
+        Bindings.runCoalesced(() -> {
+            a.set(3);
+            a.addListener((o, oldValue, newValue) -> changes.add("second:" + oldValue + "->" + newValue));
+            a.set(4);
+        });
+        assertEquals(List.of("first:1->4", "second:1->4"), changes);
+    }
+
+    @Test
+    public void testListenerRemovedDuringBlock() {
+        a.addListener((o, oldValue, newValue) -> changes.add("first:" + newValue));
+        final AtomicInteger invalidations = new AtomicInteger();
+        final InvalidationListener listener = o -> invalidations.incrementAndGet();
+        a.addListener(listener);
+        Bindings.runCoalesced(() -> {
+            a.set(3);
+            a.removeListener(listener);
+        });
+        assertEquals(List.of("first:3"), changes);
+        assertEquals(1, invalidations.get());
+    }
+
+    @Test
+    public void testDeliveredWhenRunnableThrows() {
+        a.addListener((o, oldValue, newValue) -> changes.add(oldValue + "->" + newValue));
+        try {
+            Bindings.runCoalesced(() -> {
+                a.set(3);
+                throw new IllegalStateException();
+            });
+            fail();
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        assertEquals(List.of("1->3"), changes);
+        a.set(4);
+        assertEquals(List.of("1->3", "3->4"), changes);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,6 +26,7 @@
 package test.javafx.collections;
 
 import com.sun.javafx.collections.ObservableListWrapper;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -135,7 +136,8 @@ public class FilteredListTest {
         assertEquals(Arrays.asList("a", "d"), filteredList);
         mlo.check0();
         pProperty.set((String s) -> !s.equals("d"));
-        mlo.check1AddRemove(filteredList, Arrays.asList("a", "d"), 0, 3);
+        assertEquals(Arrays.asList("a", "c", "c"), filteredList);
+        mlo.check1AddRemove(filteredList, Arrays.asList("d"), 1, 3);
         compareIndices();
     }
 
@@ -277,7 +279,9 @@ public class FilteredListTest {
         filteredList.setPredicate(null);
         assertEquals(list.size(), filteredList.size());
         assertEquals(list, filteredList);
-        mlo.check1AddRemove(filteredList, Arrays.asList("a", "d"), 0, 4);
+        assertEquals(2, mlo.calls.size());
+        mlo.checkAddRemove(0, filteredList, null, 1, 2);
+        mlo.checkAddRemove(1, filteredList, null, 3, 4);
         compareIndices();
     }
 
@@ -288,4 +292,50 @@ public class FilteredListTest {
         assertEquals(list, filteredList);
         compareIndices();
     }
+
+    @Test
+    public void testRefinePredicate() {
+        final List<String> tested = new ArrayList<>();
+        filteredList.refinePredicate(e -> {
+            tested.add(e);
+            return !e.equals("d");
+        });
+        assertEquals(Arrays.asList("a", "d"), tested);
+        assertEquals(Arrays.asList("a"), filteredList);
+        mlo.check1AddRemove(filteredList, Arrays.asList("d"), 1, 1);
+        compareIndices();
+
+        // widening again needs a full evaluation
+        mlo.clear();
+        filteredList.refinePredicate(null);
+        assertEquals(list, filteredList);
+        compareIndices();
+    }
+
+    @Test
+    public void testParallelEvaluation() {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            values.add(i);
+        }
+        ObservableList<Integer> source = FXCollections.observableArrayList(values);
+        FilteredList<Integer> filtered = new FilteredList<>(source);
+        filtered.setParallel(true);
+        MockListObserver<Integer> observer = new MockListObserver<>();
+        filtered.addListener(observer);
+
+        filtered.setPredicate(i -> i % 3 == 0);
+        assertEquals(6667, filtered.size());
+        for (int i = 0; i < filtered.size(); i++) {
+            assertEquals(Integer.valueOf(i * 3), filtered.get(i));
+        }
+        compareIndices(filtered);
+
+        filtered.refinePredicate(i -> i % 6 == 0);
+        assertEquals(3334, filtered.size());
+        for (int i = 0; i < filtered.size(); i++) {
+            assertEquals(Integer.valueOf(i * 6), filtered.get(i));
+        }
+        compareIndices(filtered);
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -536,4 +536,64 @@ public class ListChangeBuilderTest {
         builder.endChange();
     }
 
+    @Test
+    public void testSingleSet() {
+        list.set(1, "bb");
+        builder.beginChange();
+        builder.nextSet(1, "b");
+        builder.endChange();
+
+        observer.check1AddRemove(observableList, Arrays.asList("b"), 1, 2);
+    }
+
+    @Test
+    public void testSingleRemoveFollowedByUpdate() {
+        builder.beginChange();
+        list.remove(0);
+        builder.nextRemove(0, "a");
+        builder.nextUpdate(1);
+        builder.endChange();
+
+        assertEquals(2, observer.calls.size());
+        observer.checkAddRemove(0, observableList, Arrays.asList("a"), 0, 0);
+        observer.checkUpdate(1, observableList, 1, 2);
+    }
+
+    @Test
+    public void testSingleAddMergedWithFollowingRemove() {
+        builder.beginChange();
+        list.add(1, "aa");
+        builder.nextAdd(1, 2);
+        list.remove(3);
+        builder.nextRemove(3, "c");
+        builder.endChange();
+
+        assertEquals(list, Arrays.asList("a", "aa", "b", "d"));
+        assertEquals(2, observer.calls.size());
+        observer.checkAddRemove(0, observableList, Collections.EMPTY_LIST, 1, 2);
+        observer.checkAddRemove(1, observableList, Arrays.asList("c"), 3, 3);
+    }
+
+    @Test
+    public void testListenerRemovedAfterNestedChange() {
+        observableList.removeListener(observer);
+        final int[] calls = new int[2];
+        final ListChangeListener<String> second = c -> calls[0]++;
+        observableList.addListener((ListChangeListener.Change<? extends String> change) -> {
+            if (observableList.size() == 3) {
+                observableList.add("e");
+                observableList.removeListener(second);
+            }
+        });
+        observableList.addListener(second);
+        observableList.addListener((ListChangeListener.Change<? extends String> change) -> calls[1]++);
+
+        observableList.remove(0);
+
+        assertEquals(Arrays.asList("b", "c", "d", "e"), observableList);
+        // the second listener was still registered when "a" was removed,
+        // removing it after the nested change must not skip it
+        assertEquals(2, calls[0]);
+        assertEquals(2, calls[1]);
+    }
 }
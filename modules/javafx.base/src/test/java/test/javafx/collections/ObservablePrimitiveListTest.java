@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.collections;
+
+import java.util.Arrays;
+import java.util.Collections;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableDoubleList;
+import javafx.collections.ObservableIntegerList;
+import javafx.collections.ObservableLongList;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the primitive observable lists.
+ */
+public class ObservablePrimitiveListTest {
+
+    private ObservableDoubleList list;
+    private MockListObserver<Double> observer;
+
+    @Before
+    public void setUp() {
+        list = FXCollections.observableDoubleList(1, 2, 3, 4);
+        observer = new MockListObserver<>();
+        list.addListener(observer);
+    }
+
+    @Test
+    public void testPrimitiveAccess() {
+        assertEquals(4, list.size());
+        assertEquals(3.0, list.getDouble(2), 0);
+        assertEquals(Double.valueOf(3), list.get(2));
+        assertEquals(Arrays.asList(1.0, 2.0, 3.0, 4.0), list);
+        assertArrayEquals(new double[] {1, 2, 3, 4}, list.toArray((double[]) null), 0);
+        observer.check0();
+    }
+
+    @Test
+    public void testSetDouble() {
+        assertEquals(2.0, list.setDouble(1, 5), 0);
+        observer.check1AddRemove(list, Collections.singletonList(2.0), 1, 2);
+        assertEquals(Arrays.asList(1.0, 5.0, 3.0, 4.0), list);
+    }
+
+    @Test
+    public void testAddDouble() {
+        list.addDouble(5);
+        observer.check1AddRemove(list, null, 4, 5);
+        assertEquals(5.0, list.getDouble(4), 0);
+    }
+
+    @Test
+    public void testAddAllFromArrayIsOneRange() {
+        list.addAll(new double[] {9, 5, 6, 7, 9}, 1, 3);
+        observer.check1AddRemove(list, null, 4, 7);
+        assertEquals(Arrays.asList(1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0), list);
+    }
+
+    @Test
+    public void testInsertFromArray() {
+        list.addAll(1, new double[] {8, 9}, 0, 2);
+        observer.check1AddRemove(list, null, 1, 3);
+        assertEquals(Arrays.asList(1.0, 8.0, 9.0, 2.0, 3.0, 4.0), list);
+    }
+
+    @Test
+    public void testAddAllCollection() {
+        list.addAll(Arrays.asList(5.0, 6.0));
+        observer.check1AddRemove(list, null, 4, 6);
+        observer.clear();
+        list.addAll(0, FXCollections.observableDoubleList(-1, 0));
+        observer.check1AddRemove(list, null, 0, 2);
+        assertEquals(Arrays.asList(-1.0, 0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0), list);
+    }
+
+    @Test
+    public void testSetAllFromArray() {
+        list.setAll(new double[] {7, 8, 9}, 0, 3);
+        observer.check1AddRemove(list, Arrays.asList(1.0, 2.0, 3.0, 4.0), 0, 3);
+        assertEquals(Arrays.asList(7.0, 8.0, 9.0), list);
+    }
+
+    @Test
+    public void testSetAllWithoutListeners() {
+        list.removeListener(observer);
+        list.setAll(new double[] {7, 8}, 0, 2);
+        assertEquals(Arrays.asList(7.0, 8.0), list);
+        list.setAll(new double[0], 0, 0);
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void testSetRangeFromArray() {
+        list.set(1, new double[] {8, 9}, 0, 2);
+        observer.check1AddRemove(list, Arrays.asList(2.0, 3.0), 1, 3);
+        assertEquals(Arrays.asList(1.0, 8.0, 9.0, 4.0), list);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testSetRangeOutOfBounds() {
+        list.set(3, new double[] {8, 9}, 0, 2);
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testAddAllSourceOutOfBounds() {
+        list.addAll(new double[] {8, 9}, 1, 2);
+    }
+
+    @Test
+    public void testRemoveRange() {
+        list.remove(1, 3);
+        observer.check1AddRemove(list, Arrays.asList(2.0, 3.0), 1, 1);
+        assertEquals(Arrays.asList(1.0, 4.0), list);
+    }
+
+    @Test
+    public void testClear() {
+        list.clear();
+        observer.check1AddRemove(list, Arrays.asList(1.0, 2.0, 3.0, 4.0), 0, 0);
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void testRemoveAll() {
+        assertTrue(list.removeAll(2.0, 3.0));
+        observer.check1AddRemove(list, Arrays.asList(2.0, 3.0), 1, 1);
+        assertEquals(Arrays.asList(1.0, 4.0), list);
+        assertFalse(list.removeAll(7.0));
+    }
+
+    @Test
+    public void testRetainAll() {
+        assertTrue(list.retainAll(1.0, 4.0));
+        observer.check1AddRemove(list, Arrays.asList(2.0, 3.0), 1, 1);
+        assertEquals(Arrays.asList(1.0, 4.0), list);
+    }
+
+    @Test
+    public void testBoxedMutators() {
+        list.add(5.0);
+        observer.check1AddRemove(list, null, 4, 5);
+        observer.clear();
+        list.remove(0);
+        observer.check1AddRemove(list, Collections.singletonList(1.0), 0, 0);
+        observer.clear();
+        list.set(0, 7.0);
+        observer.check1AddRemove(list, Collections.singletonList(2.0), 0, 1);
+        assertEquals(Arrays.asList(7.0, 3.0, 4.0, 5.0), list);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullIsRejected() {
+        list.add(null);
+    }
+
+    @Test
+    public void testIndexOf() {
+        list.addDouble(Double.NaN);
+        assertEquals(2, list.indexOf(3.0));
+        assertEquals(4, list.indexOf(Double.NaN));
+        assertEquals(-1, list.indexOf(3));
+        assertTrue(list.contains(4.0));
+    }
+
+    @Test
+    public void testCopyTo() {
+        double[] dest = new double[3];
+        list.copyTo(1, dest, 1, 2);
+        assertArrayEquals(new double[] {0, 2, 3}, dest, 0);
+    }
+
+    @Test
+    public void testCapacity() {
+        list.ensureCapacity(100);
+        list.trimToSize();
+        assertEquals(Arrays.asList(1.0, 2.0, 3.0, 4.0), list);
+    }
+
+    @Test
+    public void testSubListClear() {
+        list.subList(0, 2).clear();
+        observer.check1AddRemove(list, Arrays.asList(1.0, 2.0), 0, 0);
+        assertEquals(Arrays.asList(3.0, 4.0), list);
+    }
+
+    @Test
+    public void testIntegerList() {
+        ObservableIntegerList ints = FXCollections.observableIntegerList(1, 2, 3);
+        MockListObserver<Integer> o = new MockListObserver<>();
+        ints.addListener(o);
+        ints.addAll(new int[] {4, 5}, 0, 2);
+        o.check1AddRemove(ints, null, 3, 5);
+        assertEquals(4, ints.getInt(3));
+        assertEquals(3, ints.indexOf(4));
+        assertEquals(-1, ints.indexOf(4L));
+        assertArrayEquals(new int[] {1, 2, 3, 4, 5}, ints.toArray(new int[5]));
+    }
+
+    @Test
+    public void testLongList() {
+        ObservableLongList longs = FXCollections.observableLongList();
+        MockListObserver<Long> o = new MockListObserver<>();
+        longs.addListener(o);
+        longs.setAll(new long[] {1, 2, 3}, 0, 3);
+        o.check1AddRemove(longs, null, 0, 3);
+        assertEquals(2L, longs.getLong(1));
+        assertEquals(1, longs.indexOf(2L));
+        assertEquals(Arrays.asList(1L, 2L, 3L), longs);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,15 +25,19 @@
 
 package test.javafx.collections;
 
+import com.sun.javafx.collections.KeyExtractingComparator;
 import com.sun.javafx.collections.NonIterableChange.SimplePermutationChange;
 import com.sun.javafx.collections.ObservableListWrapper;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Collections;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Map;
+import java.util.Random;
+import java.util.Set;
 
 import javafx.beans.Observable;
 import javafx.beans.property.SimpleObjectProperty;
@@ -595,4 +599,154 @@ public class SortedListTest {
         mockListObserver.check1Permutation(sortedList, new int[] {0, 3, 2, 1});
         compareIndices();
     }
+
+    @Test
+    public void testAddRange() {
+        list.addAll(1, Arrays.asList("e", "b", "a"));
+        assertEquals(Arrays.asList("a", "a", "b", "c", "c", "d", "e"), sortedList);
+        assertEquals(2, mockListObserver.calls.size());
+        mockListObserver.checkAddRemove(0, sortedList, Collections.<String>emptyList(), 1, 3);
+        mockListObserver.checkAddRemove(1, sortedList, Collections.<String>emptyList(), 6, 7);
+        compareIndices();
+    }
+
+    @Test
+    public void testRemoveRange() {
+        list.add("b");
+        mockListObserver.clear();
+        list.remove(1, 3);
+        assertEquals(Arrays.asList("a", "b", "c"), sortedList);
+        assertEquals(2, mockListObserver.calls.size());
+        mockListObserver.checkAddRemove(0, sortedList, Arrays.asList("c"), 2, 2);
+        mockListObserver.checkAddRemove(1, sortedList, Arrays.asList("d"), 3, 3);
+        compareIndices();
+    }
+
+    @Test
+    public void testKeyExtractingComparator() {
+        final int[] extracted = new int[1];
+        KeyExtractingComparator<String, String> comparator = new KeyExtractingComparator<String, String>() {
+            @Override
+            public String extractKey(String element) {
+                extracted[0]++;
+                return element.toUpperCase();
+            }
+
+            @Override
+            public int compareKeys(String key1, String key2) {
+                return key2.compareTo(key1);
+            }
+        };
+        sortedList.setComparator(comparator);
+        assertEquals(Arrays.asList("d", "c", "c", "a"), sortedList);
+        assertEquals(4, extracted[0]);
+        compareIndices();
+
+        extracted[0] = 0;
+        list.addAll("b", "e");
+        assertEquals(Arrays.asList("e", "d", "c", "c", "b", "a"), sortedList);
+        assertEquals(2, extracted[0]);
+        compareIndices();
+    }
+
+    @Test
+    public void testKeyExtractingComparatorSortsOnOwnerThread() {
+        checkLargeSort(false, Collections.singleton(Thread.currentThread()));
+    }
+
+    @Test
+    public void testParallelSortableComparator() {
+        checkLargeSort(true, null);
+    }
+
+    private void checkLargeSort(boolean parallel, Set<Thread> expectedThreads) {
+        final Set<Thread> threads = Collections.synchronizedSet(new HashSet<>());
+        KeyExtractingComparator<Integer, Integer> comparator = new KeyExtractingComparator<Integer, Integer>() {
+            @Override
+            public Integer extractKey(Integer element) {
+                return -element;
+            }
+
+            @Override
+            public int compareKeys(Integer key1, Integer key2) {
+                threads.add(Thread.currentThread());
+                return key1.compareTo(key2);
+            }
+
+            @Override
+            public boolean isParallelSortable() {
+                return parallel;
+            }
+        };
+        Random random = new Random(7);
+        List<Integer> content = new ArrayList<>();
+        for (int i = 0; i < 50000; i++) {
+            content.add(random.nextInt(1000000));
+        }
+        SortedList<Integer> sorted = new SortedList<>(FXCollections.observableArrayList(content), comparator);
+        content.sort(Comparator.reverseOrder());
+        assertEquals(content, sorted);
+        for (int i = 0; i < content.size(); i++) {
+            assertEquals(i, sorted.getViewIndex(sorted.getSourceIndex(i)));
+        }
+        if (expectedThreads != null) {
+            assertEquals(expectedThreads, threads);
+        }
+    }
+
+    @Test
+    public void testRandomBulkChanges() {
+        checkRandomBulkChanges(Comparator.<Integer>naturalOrder());
+        checkRandomBulkChanges(new KeyExtractingComparator<Integer, Integer>() {
+            @Override
+            public Integer extractKey(Integer element) {
+                return element / 2;
+            }
+
+            @Override
+            public int compareKeys(Integer key1, Integer key2) {
+                return key1.compareTo(key2);
+            }
+        });
+    }
+
+    private void checkRandomBulkChanges(Comparator<Integer> comparator) {
+        Random random = new Random(4);
+        ObservableList<Integer> source = FXCollections.observableArrayList();
+        SortedList<Integer> sorted = new SortedList<>(source, comparator);
+        // replays every change on a copy of the sorted content
+        List<Integer> mirror = new ArrayList<>();
+        sorted.addListener((ListChangeListener.Change<? extends Integer> c) -> {
+            while (c.next()) {
+                if (c.wasPermutated()) {
+                    List<Integer> copy = new ArrayList<>(mirror);
+                    for (int i = c.getFrom(); i < c.getTo(); i++) {
+                        mirror.set(c.getPermutation(i), copy.get(i));
+                    }
+                } else {
+                    mirror.subList(c.getFrom(), c.getFrom() + c.getRemovedSize()).clear();
+                    mirror.addAll(c.getFrom(), c.getAddedSubList());
+                }
+            }
+        });
+        for (int round = 0; round < 200; round++) {
+            if (source.size() > 2 && random.nextBoolean()) {
+                int from = random.nextInt(source.size() - 1);
+                source.remove(from, from + 1 + random.nextInt(Math.min(20, source.size() - from - 1)));
+            } else {
+                List<Integer> added = new ArrayList<>();
+                for (int i = random.nextInt(30); i >= 0; i--) {
+                    added.add(random.nextInt(100));
+                }
+                source.addAll(random.nextInt(source.size() + 1), added);
+            }
+            List<Integer> expected = new ArrayList<>(source);
+            expected.sort(comparator);
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(0, comparator.compare(expected.get(i), sorted.get(i)));
+            }
+            assertEquals(sorted, mirror);
+            compareIndices(sorted);
+        }
+    }
 }
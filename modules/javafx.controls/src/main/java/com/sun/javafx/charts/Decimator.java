@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.charts;
+
+/**
+ * Reduces values sorted by x to the points needed to draw them as a line at
+ * the resolution of the display. Values are mapped to display coordinates
+ * with a linear transform, and only the values in the visible x range (plus
+ * one value on each side so the line enters and leaves the plot) are read.
+ * The resulting points are kept by the decimator until the next call.
+ */
+public final class Decimator {
+
+    private double[] points = new double[256];
+    private int size;
+
+    /**
+     * Keeps for every pixel column the first, lowest, highest and last
+     * values that fall into it, in their original order. A line through
+     * the resulting points covers exactly the same pixels as a line through
+     * all the values. Values whose x or y is NaN are skipped.
+     *
+     * @param xValues the x values, in non-decreasing order from index {@code from}
+     * @param yValues the y values
+     * @param from the index of the first value
+     * @param to the index after the last value
+     * @param xOffset the display position of x value 0
+     * @param xScale the display distance of one x unit
+     * @param yOffset the display position of y value 0
+     * @param yScale the display distance of one y unit
+     * @param width the display width of the visible range
+     */
+    public void minMax(double[] xValues, double[] yValues, int from, int to,
+                       double xOffset, double xScale, double yOffset, double yScale,
+                       double width) {
+        size = 0;
+        if (xScale == 0) return;
+        int start = getVisibleStart(xValues, from, to, xOffset, xScale, width);
+        int end = getVisibleEnd(xValues, from, to, xOffset, xScale, width);
+        long column = Long.MIN_VALUE;
+        int first = -1, min = -1, max = -1, last = -1;
+        double minY = 0, maxY = 0;
+        for (int i = start; i < end; i++) {
+            double x = xOffset + xValues[i] * xScale;
+            double y = yOffset + yValues[i] * yScale;
+            if (Double.isNaN(x) || Double.isNaN(y)) continue;
+            long c = (long) Math.floor(x);
+            if (c != column) {
+                if (first != -1) {
+                    addColumn(xValues, yValues, first, min, max, last, xOffset, xScale, yOffset, yScale);
+                }
+                column = c;
+                first = min = max = last = i;
+                minY = maxY = y;
+            } else {
+                last = i;
+                if (y < minY) {
+                    minY = y;
+                    min = i;
+                } else if (y > maxY) {
+                    maxY = y;
+                    max = i;
+                }
+            }
+        }
+        if (first != -1) {
+            addColumn(xValues, yValues, first, min, max, last, xOffset, xScale, yOffset, yScale);
+        }
+    }
+
+    /**
+     * Keeps about {@code threshold} values that best preserve the visual
+     * shape of the line, using the largest triangle three buckets algorithm:
+     * the visible values are split into buckets, and for every bucket the
+     * value forming the largest triangle with the value kept for the previous
+     * bucket and the average of the next bucket is kept. As in
+     * {@link #minMax}, values whose x or y is NaN are skipped.
+     *
+     * @param xValues the x values, in non-decreasing order from index {@code from}
+     * @param yValues the y values
+     * @param from the index of the first value
+     * @param to the index after the last value
+     * @param xOffset the display position of x value 0
+     * @param xScale the display distance of one x unit
+     * @param yOffset the display position of y value 0
+     * @param yScale the display distance of one y unit
+     * @param width the display width of the visible range
+     * @param threshold the number of values to keep
+     */
+    public void largestTriangleThreeBuckets(double[] xValues, double[] yValues, int from, int to,
+                                            double xOffset, double xScale, double yOffset, double yScale,
+                                            double width, int threshold) {
+        size = 0;
+        if (xScale == 0) return;
+        int start = getVisibleStart(xValues, from, to, xOffset, xScale, width);
+        int end = getVisibleEnd(xValues, from, to, xOffset, xScale, width);
+        while (start < end && isNaN(xValues, yValues, start)) start++;
+        while (end > start && isNaN(xValues, yValues, end - 1)) end--;
+        int count = end - start;
+        if (threshold < 3 || count <= threshold) {
+            for (int i = start; i < end; i++) {
+                if (isNaN(xValues, yValues, i)) continue;
+                add(xOffset + xValues[i] * xScale, yOffset + yValues[i] * yScale);
+            }
+            return;
+        }
+
+        // the first and last values are always kept, the others are split
+        // into threshold - 2 buckets
+        double bucketSize = (double) (count - 2) / (threshold - 2);
+        int a = start;
+        double ax = xOffset + xValues[a] * xScale;
+        double ay = yOffset + yValues[a] * yScale;
+        add(ax, ay);
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            int bucketStart = start + (int) (bucket * bucketSize) + 1;
+            int bucketEnd = start + (int) ((bucket + 1) * bucketSize) + 1;
+            int nextEnd = Math.min(start + (int) ((bucket + 2) * bucketSize) + 1, end);
+
+            double averageX = 0;
+            double averageY = 0;
+            int nextCount = 0;
+            for (int i = bucketEnd; i < nextEnd; i++) {
+                if (isNaN(xValues, yValues, i)) continue;
+                averageX += xValues[i];
+                averageY += yValues[i];
+                nextCount++;
+            }
+            if (nextCount == 0) {
+                // the last value is never NaN
+                averageX = xValues[end - 1];
+                averageY = yValues[end - 1];
+                nextCount = 1;
+            }
+            averageX = xOffset + averageX / nextCount * xScale;
+            averageY = yOffset + averageY / nextCount * yScale;
+
+            int selected = -1;
+            double maxArea = -1;
+            for (int i = bucketStart; i < bucketEnd; i++) {
+                if (isNaN(xValues, yValues, i)) continue;
+                double x = xOffset + xValues[i] * xScale;
+                double y = yOffset + yValues[i] * yScale;
+                // twice the area, which orders the same
+                double area = Math.abs((ax - averageX) * (y - ay) - (ax - x) * (averageY - ay));
+                if (area > maxArea) {
+                    maxArea = area;
+                    selected = i;
+                }
+            }
+            // a bucket of NaN values keeps nothing
+            if (selected == -1) continue;
+            a = selected;
+            ax = xOffset + xValues[a] * xScale;
+            ay = yOffset + yValues[a] * yScale;
+            add(ax, ay);
+        }
+        add(xOffset + xValues[end - 1] * xScale, yOffset + yValues[end - 1] * yScale);
+    }
+
+    /**
+     * @return the number of points kept by the last decimation
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index the index of the point
+     * @return the display x position of the point
+     */
+    public double getX(int index) {
+        return points[index * 2];
+    }
+
+    /**
+     * @param index the index of the point
+     * @return the display y position of the point
+     */
+    public double getY(int index) {
+        return points[index * 2 + 1];
+    }
+
+    private void addColumn(double[] xValues, double[] yValues, int first, int min, int max, int last,
+                           double xOffset, double xScale, double yOffset, double yScale) {
+        int low = Math.min(min, max);
+        int high = Math.max(min, max);
+        addValue(xValues, yValues, first, xOffset, xScale, yOffset, yScale);
+        if (low != first) addValue(xValues, yValues, low, xOffset, xScale, yOffset, yScale);
+        if (high != low) addValue(xValues, yValues, high, xOffset, xScale, yOffset, yScale);
+        if (last != high) addValue(xValues, yValues, last, xOffset, xScale, yOffset, yScale);
+    }
+
+    private void addValue(double[] xValues, double[] yValues, int index,
+                          double xOffset, double xScale, double yOffset, double yScale) {
+        add(xOffset + xValues[index] * xScale, yOffset + yValues[index] * yScale);
+    }
+
+    private void add(double x, double y) {
+        if (size * 2 == points.length) {
+            double[] newPoints = new double[points.length * 2];
+            System.arraycopy(points, 0, newPoints, 0, points.length);
+            points = newPoints;
+        }
+        points[size * 2] = x;
+        points[size * 2 + 1] = y;
+        size++;
+    }
+
+    private static boolean isNaN(double[] xValues, double[] yValues, int index) {
+        return Double.isNaN(xValues[index]) || Double.isNaN(yValues[index]);
+    }
+
+    // the index of the last value before the visible range, or from
+    private static int getVisibleStart(double[] xValues, int from, int to,
+                                       double xOffset, double xScale, double width) {
+        double low = (xScale > 0 ? -xOffset : width - xOffset) / xScale;
+        return Math.max(from, lowerBound(xValues, from, to, low) - 1);
+    }
+
+    // the index after the first value past the visible range, or to
+    private static int getVisibleEnd(double[] xValues, int from, int to,
+                                     double xOffset, double xScale, double width) {
+        double high = (xScale > 0 ? width - xOffset : -xOffset) / xScale;
+        return Math.min(to, upperBound(xValues, from, to, high) + 1);
+    }
+
+    // the index of the first value not less than x
+    private static int lowerBound(double[] values, int from, int to, double x) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // the index of the first value greater than x
+    private static int upperBound(double[] values, int from, int to, double x) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] <= x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
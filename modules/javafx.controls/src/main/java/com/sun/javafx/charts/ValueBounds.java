@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.charts;
+
+/**
+ * The running minimum and maximum of a changing set of values. Adding a value
+ * updates the bounds in constant time. Removing a value only invalidates them
+ * when it was on one of the bounds, in which case the owner recomputes them
+ * from all its values the next time they are needed. NaN values are counted
+ * but do not affect the bounds.
+ */
+public final class ValueBounds {
+
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private int count;
+    private boolean valid = true;
+
+    /**
+     * Adds a value to the set.
+     *
+     * @param value the value
+     */
+    public void add(double value) {
+        count++;
+        if (value < min) min = value;
+        if (value > max) max = value;
+    }
+
+    /**
+     * Removes a value from the set.
+     *
+     * @param value the value, which must have been added before
+     */
+    public void remove(double value) {
+        count--;
+        if (value <= min || value >= max) {
+            valid = false;
+        }
+    }
+
+    /**
+     * Removes all values, after which the bounds are valid again.
+     */
+    public void clear() {
+        min = Double.POSITIVE_INFINITY;
+        max = Double.NEGATIVE_INFINITY;
+        count = 0;
+        valid = true;
+    }
+
+    /**
+     * Marks the bounds as needing to be recomputed, for example when a value
+     * changed in a way that can't be tracked.
+     */
+    public void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * @return false if the bounds must be recomputed with {@link #clear()}
+     *      and {@link #add(double)} before they are used
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * @return true if there are no values other than NaN
+     */
+    public boolean isEmpty() {
+        return min > max;
+    }
+
+    /**
+     * @return the number of values, including NaN values
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @return the smallest value, or positive infinity if empty
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * @return the largest value, or negative infinity if empty
+     */
+    public double getMax() {
+        return max;
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.scene.control;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntConsumer;
+import javafx.application.Platform;
+import sun.util.logging.PlatformLogger;
+
+/**
+ * Prepares the content of the cells of a VirtualFlow on background threads
+ * and keeps the prepared content of the cells around the viewport.
+ * <p>
+ * All methods must be called on the JavaFX Application Thread. The prepared
+ * content is handed back on that thread, and is dropped if the loader has
+ * been cleared, or the index has been invalidated, in the meantime.
+ */
+public final class CellContentLoader {
+
+    private static final class DefaultExecutor {
+        private static final ExecutorService INSTANCE = Executors.newFixedThreadPool(
+                Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1)), r -> {
+                    Thread th = new Thread(r, "Cell Content Loader");
+                    th.setDaemon(true);
+                    return th;
+                });
+    }
+
+    /**
+     * Prepares the content for an item, on a background thread.
+     */
+    @FunctionalInterface
+    public interface Preparer {
+        Object prepare(int index, Object item);
+    }
+
+    private final Preparer prepare;
+    private final Executor executor;
+    private final IntConsumer onReady;
+
+    private final Map<Integer, Object> contents = new HashMap<>();
+
+    // the request being prepared for each index; a request that is no
+    // longer in this map has become stale
+    private final Map<Integer, Request> pending = new HashMap<>();
+
+    // the indexes whose content is still wanted, read by the background
+    // threads to skip work for cells that have scrolled far away
+    private volatile int windowStart = 0;
+    private volatile int windowEnd = Integer.MAX_VALUE;
+
+    /**
+     * Creates a loader.
+     *
+     * @param prepare prepares the content for an item, on a background thread
+     * @param executor the executor to prepare the content on, or null to use
+     *        a shared pool of daemon threads
+     * @param onReady called with the index of the content that has just been
+     *        prepared
+     */
+    public CellContentLoader(Preparer prepare, Executor executor, IntConsumer onReady) {
+        this.prepare = prepare;
+        this.executor = executor != null ? executor : DefaultExecutor.INSTANCE;
+        this.onReady = onReady;
+    }
+
+    /**
+     * Returns true if the content for the given index has been prepared.
+     */
+    public boolean isReady(int index) {
+        return contents.containsKey(index);
+    }
+
+    /**
+     * Returns the content prepared for the given index, or null if it has not
+     * been prepared.
+     */
+    public Object get(int index) {
+        return contents.get(index);
+    }
+
+    /**
+     * Returns true if the content for the given index has been prepared or
+     * is being prepared.
+     */
+    public boolean isRequested(int index) {
+        return contents.containsKey(index) || pending.containsKey(index);
+    }
+
+    /**
+     * Starts preparing the content for the item at the given index, unless it
+     * has already been prepared or is being prepared. With an executor that
+     * runs tasks immediately, the content is ready when this method returns.
+     */
+    public void request(int index, Object item) {
+        request(index, item, false);
+    }
+
+    /**
+     * Starts preparing the content for an item that is likely to be
+     * requested soon. Unlike {@link #request(int, Object)}, the content is
+     * not prepared if the index is no longer retained by the time a thread
+     * is available to prepare it.
+     */
+    public void prefetch(int index, Object item) {
+        request(index, item, true);
+    }
+
+    private void request(int index, Object item, boolean prefetch) {
+        if (index < 0 || contents.containsKey(index)) {
+            return;
+        }
+        final Request pendingRequest = pending.get(index);
+        if (pendingRequest != null) {
+            pendingRequest.prefetch &= prefetch;
+            return;
+        }
+        final Request request = new Request(prefetch);
+        pending.put(index, request);
+        executor.execute(() -> {
+            if (request.prefetch && !isRetained(index)) {
+                Platform.runLater(() -> done(request, index, false, null));
+                return;
+            }
+            Object content;
+            try {
+                content = prepare.prepare(index, item);
+            } catch (Throwable t) {
+                Platform.runLater(() -> {
+                    done(request, index, false, null);
+                    final PlatformLogger logger = Logging.getControlsLogger();
+                    logger.warning("Exception while preparing the content of cell " + index, t);
+                });
+                return;
+            }
+            final Object result = content;
+            Platform.runLater(() -> done(request, index, true, result));
+        });
+    }
+
+    private void done(Request request, int index, boolean prepared, Object content) {
+        if (!pending.remove(index, request)) {
+            return;
+        }
+        if (prepared && (!request.prefetch || isRetained(index))) {
+            contents.put(index, content);
+            onReady.accept(index);
+        }
+    }
+
+    private boolean isRetained(int index) {
+        return index >= windowStart && index < windowEnd;
+    }
+
+    /**
+     * Keeps only the content for the indexes between from (inclusive) and to
+     * (exclusive), and stops prefetching content outside of that range.
+     */
+    public void retain(int from, int to) {
+        windowStart = from;
+        windowEnd = to;
+        for (Iterator<Integer> it = contents.keySet().iterator(); it.hasNext();) {
+            final int index = it.next();
+            if (index < from || index >= to) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Forgets the content for the given index, so that it is prepared again
+     * the next time it is requested.
+     */
+    public void invalidate(int index) {
+        contents.remove(index);
+        pending.remove(index);
+    }
+
+    /**
+     * Forgets the content for the indexes between from (inclusive) and to
+     * (exclusive), so that it is prepared again the next time it is
+     * requested.
+     */
+    public void invalidate(int from, int to) {
+        contents.keySet().removeIf(index -> index >= from && index < to);
+        pending.keySet().removeIf(index -> index >= from && index < to);
+    }
+
+    /**
+     * Forgets the content for the indexes between from (inclusive) and to
+     * (exclusive), and moves the content for the following indexes back
+     * along with the items they show.
+     */
+    public void remove(int from, int to) {
+        shift(from, to, from - to);
+    }
+
+    /**
+     * Moves the content for the given index and the following ones forward
+     * by the given count, along with the items they show.
+     */
+    public void insert(int index, int count) {
+        shift(index, index, count);
+    }
+
+    // Forgets the content from the given index (inclusive) to the other
+    // (exclusive) and moves the content after it by the given delta. The
+    // content being prepared for the moved indexes is ignored, as it is
+    // handed back with the index it was requested for.
+    private void shift(int from, int to, int delta) {
+        pending.keySet().removeIf(index -> index >= from);
+        if (delta == 0) {
+            contents.keySet().removeIf(index -> index >= from && index < to);
+            return;
+        }
+        final Map<Integer, Object> moved = new HashMap<>();
+        for (Iterator<Map.Entry<Integer, Object>> it = contents.entrySet().iterator(); it.hasNext();) {
+            final Map.Entry<Integer, Object> entry = it.next();
+            final int index = entry.getKey();
+            if (index >= from) {
+                it.remove();
+                if (index >= to) {
+                    moved.put(index + delta, entry.getValue());
+                }
+            }
+        }
+        contents.putAll(moved);
+    }
+
+    /**
+     * Forgets all prepared content and ignores the content being prepared.
+     */
+    public void clear() {
+        windowStart = 0;
+        windowEnd = Integer.MAX_VALUE;
+        contents.clear();
+        pending.clear();
+    }
+
+    private static final class Request {
+        volatile boolean prefetch;
+
+        Request(boolean prefetch) {
+            this.prefetch = prefetch;
+        }
+    }
+}
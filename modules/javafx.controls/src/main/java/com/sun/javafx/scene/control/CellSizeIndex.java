@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.javafx.scene.control;
+
+/**
+ * Keeps the lengths of the cells of a VirtualFlow, so that the offset of any
+ * cell, the total length of the content and the cell at any offset can be
+ * found in O(log n) time. Cells that have not been measured yet are assumed
+ * to have the average length of the measured cells.
+ * <p>
+ * The measured lengths and the number of measured cells are stored in two
+ * {@link FenwickTree}s, which keep the prefix sums up to date when a single
+ * length changes. Inserting or removing cells keeps the lengths measured
+ * for the other cells.
+ */
+public final class CellSizeIndex {
+
+    private final double defaultLength;
+
+    // the measured length of each cell, zero if it has not been measured
+    private final FenwickTree lengths = new FenwickTree();
+
+    // one for each measured cell, zero for the others
+    private final FenwickTree measured = new FenwickTree();
+
+    /**
+     * Creates an index for the given number of cells.
+     *
+     * @param size the number of cells
+     * @param defaultLength the length assumed for all cells as long as none
+     *        has been measured
+     */
+    public CellSizeIndex(int size, double defaultLength) {
+        if (defaultLength <= 0) {
+            throw new IllegalArgumentException("defaultLength must be positive: " + defaultLength);
+        }
+        this.defaultLength = defaultLength;
+        setSize(size);
+    }
+
+    /**
+     * Returns the number of cells.
+     */
+    public int size() {
+        return lengths.size();
+    }
+
+    /**
+     * Changes the number of cells, by adding unmeasured cells at the end or
+     * by removing the last cells. The other cells keep their lengths.
+     */
+    public void setSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size must not be negative: " + size);
+        }
+        lengths.setSize(size);
+        measured.setSize(size);
+    }
+
+    /**
+     * Inserts the given number of unmeasured cells before the given one.
+     */
+    public void insert(int index, int count) {
+        checkRange(index, index);
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative: " + count);
+        }
+        lengths.insert(index, count);
+        measured.insert(index, count);
+    }
+
+    /**
+     * Removes the cells in the given range.
+     */
+    public void remove(int from, int to) {
+        checkRange(from, to);
+        lengths.remove(from, to);
+        measured.remove(from, to);
+    }
+
+    /**
+     * Forgets all measured lengths.
+     */
+    public void clear() {
+        clear(0, size());
+    }
+
+    /**
+     * Forgets the measured lengths of the cells in the given range.
+     */
+    public void clear(int from, int to) {
+        checkRange(from, to);
+        if (from < to) {
+            lengths.fill(from, to, 0);
+            measured.fill(from, to, 0);
+        }
+    }
+
+    /**
+     * Returns true if the length of the given cell has been measured.
+     */
+    public boolean isMeasured(int index) {
+        return measured.get(index) != 0;
+    }
+
+    /**
+     * Returns the measured length of the given cell, or the estimate if it
+     * has not been measured.
+     */
+    public double get(int index) {
+        return isMeasured(index) ? lengths.get(index) : getEstimate();
+    }
+
+    /**
+     * Stores the measured length of the given cell.
+     */
+    public void set(int index, double length) {
+        if (!(length >= 0)) {
+            throw new IllegalArgumentException("Invalid length: " + length);
+        }
+        lengths.set(index, length);
+        measured.set(index, 1);
+    }
+
+    /**
+     * Returns the length assumed for cells that have not been measured.
+     */
+    public double getEstimate() {
+        final double count = measured.getTotal();
+        return count == 0 ? defaultLength : lengths.getTotal() / count;
+    }
+
+    /**
+     * Returns the total length of all cells.
+     */
+    public double getTotalLength() {
+        return lengths.getTotal() + (size() - measured.getTotal()) * getEstimate();
+    }
+
+    /**
+     * Returns the offset of the start of the given cell, that is the sum of
+     * the lengths of all cells before it. An index equal to the number of
+     * cells returns the total length.
+     */
+    public double getOffset(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        return lengths.getPrefix(index) + (index - measured.getPrefix(index)) * getEstimate();
+    }
+
+    /**
+     * Returns the index of the cell containing the given offset. Offsets
+     * before the first cell return 0, and offsets at or past the end of the
+     * last cell return the number of cells.
+     */
+    public int getIndex(double offset) {
+        final int size = size();
+        if (offset < 0 || size == 0) {
+            return 0;
+        }
+        if (offset >= getTotalLength()) {
+            return size;
+        }
+        final double estimate = getEstimate();
+        int pos = 0;
+        double start = 0;
+        for (int step = Integer.highestOneBit(size); step > 0; step >>= 1) {
+            final int next = pos + step;
+            if (next <= size) {
+                // the node covers the step cells after pos
+                final double end = start + lengths.getNode(next)
+                        + (step - measured.getNode(next)) * estimate;
+                if (end <= offset) {
+                    pos = next;
+                    start = end;
+                }
+            }
+        }
+        return pos;
+    }
+
+    private void checkRange(int from, int to) {
+        if (from < 0 || from > to || to > size()) {
+            throw new IndexOutOfBoundsException("Range: " + from + "-" + to + ", Size: " + size());
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.scene.control;
+
+import java.util.Arrays;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * A Fenwick tree (binary indexed tree) over a sequence of values, which
+ * keeps the sum of the values before any entry in O(log n) time while single
+ * values change. Entries can also be inserted and removed, which rebuilds
+ * the tree after the first changed entry in linear time.
+ * <p>
+ * This is the storage shared by {@link RowCountIndex} and
+ * {@link CellSizeIndex}.
+ */
+final class FenwickTree {
+
+    private int size;
+
+    private double[] values = new double[0];
+
+    // 1-based, node i holds the sum of the values in (i - (i & -i), i]
+    private double[] tree = new double[1];
+
+    private double total;
+
+    /**
+     * Returns the number of entries.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the value of the given entry.
+     */
+    double get(int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    /**
+     * Returns the sum of all values.
+     */
+    double getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the sum held by the given 1-based node, for searches that
+     * combine several trees.
+     */
+    double getNode(int node) {
+        return tree[node];
+    }
+
+    /**
+     * Changes the value of the given entry.
+     */
+    void set(int index, double value) {
+        checkIndex(index);
+        final double delta = value - values[index];
+        if (delta == 0) {
+            return;
+        }
+        values[index] = value;
+        total += delta;
+        for (int i = index + 1; i <= size; i += (i & -i)) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Returns the sum of the values of the entries before the given one.
+     */
+    double getPrefix(int index) {
+        double sum = 0;
+        for (int i = index; i > 0; i -= (i & -i)) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the number of leading entries whose values add up to at most
+     * the given sum, that is the entry containing that offset when the
+     * values are non-negative lengths.
+     */
+    int find(double offset) {
+        int pos = 0;
+        double remaining = offset;
+        for (int step = Integer.highestOneBit(size); step > 0; step >>= 1) {
+            final int next = pos + step;
+            if (next <= size && tree[next] <= remaining) {
+                pos = next;
+                remaining -= tree[next];
+            }
+        }
+        return pos;
+    }
+
+    /**
+     * Replaces all entries with the given number of values.
+     */
+    void setAll(int length, IntToDoubleFunction value) {
+        if (values.length < length) {
+            values = new double[length];
+            tree = new double[length + 1];
+        }
+        size = length;
+        for (int i = 0; i < length; i++) {
+            values[i] = value.applyAsDouble(i);
+        }
+        rebuild(0);
+    }
+
+    /**
+     * Changes the number of entries, keeping the values of the entries that
+     * remain. New entries are zero.
+     */
+    void setSize(int newSize) {
+        if (newSize > size) {
+            insert(size, newSize - size);
+        } else if (newSize < size) {
+            remove(newSize, size);
+        }
+    }
+
+    /**
+     * Sets the given range of entries to the same value.
+     */
+    void fill(int from, int to, double value) {
+        Arrays.fill(values, from, to, value);
+        rebuild(from);
+    }
+
+    /**
+     * Inserts the given number of entries with a value of zero.
+     */
+    void insert(int index, int count) {
+        if (values.length < size + count) {
+            final int capacity = (size + count) * 3 / 2 + 1;
+            values = Arrays.copyOf(values, capacity);
+            tree = Arrays.copyOf(tree, capacity + 1);
+        }
+        System.arraycopy(values, index, values, index + count, size - index);
+        Arrays.fill(values, index, index + count, 0);
+        size += count;
+        rebuild(index);
+    }
+
+    /**
+     * Removes the entries in the given range.
+     */
+    void remove(int from, int to) {
+        System.arraycopy(values, to, values, from, size - to);
+        size -= to - from;
+        rebuild(from);
+    }
+
+    /*
+     * The arrays can be larger than the number of entries, so the indexes are
+     * checked against the size rather than left to the array bounds.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /*
+     * Recomputes the nodes after the given entry from the values. The nodes
+     * up to it only cover earlier entries and are still valid. Of those, the
+     * nodes whose parent lies after the entry are exactly the ones that sum
+     * up the prefix before it, so only they are pushed into their parents
+     * before the remaining nodes are built in linear time.
+     */
+    private void rebuild(int index) {
+        for (int i = index + 1; i <= size; i++) {
+            tree[i] = values[i - 1];
+        }
+        for (int i = index; i > 0; i -= (i & -i)) {
+            final int parent = i + (i & -i);
+            if (parent <= size) {
+                tree[parent] += tree[i];
+            }
+        }
+        for (int i = index + 1; i <= size; i++) {
+            final int parent = i + (i & -i);
+            if (parent <= size) {
+                tree[parent] += tree[i];
+            }
+        }
+        total = getPrefix(size);
+    }
+}
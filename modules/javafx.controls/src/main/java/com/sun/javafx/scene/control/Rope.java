@@ -0,0 +1,421 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.scene.control;
+
+/**
+ * An immutable sequence of characters kept in a balanced tree of string
+ * chunks, so that text can be inserted, deleted and read in O(log n) time.
+ * Every node also counts the line breaks ('\n') it holds, so that lines can
+ * be found in O(log n) time as well. Edits return a new rope that shares
+ * most of its nodes with the old one, which stays unchanged; this lets
+ * listeners read the text from before an edit without it being copied.
+ * The string of the whole rope is only built when {@link #toString()} is
+ * called, and then kept.
+ * <p>
+ * The tree is an AVL tree, with the text in its leaves.
+ */
+public final class Rope implements CharSequence {
+
+    // Longer leaves are split, and adjacent leaves are merged when their
+    // text fits in one
+    private static final int MAX_LEAF_LENGTH = 1024;
+
+    /**
+     * The empty rope.
+     */
+    public static final Rope EMPTY = new Rope(Leaf.EMPTY);
+
+    private final Node root;
+
+    private String string;
+
+    private Rope(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns a rope holding the given text.
+     */
+    public static Rope of(CharSequence text) {
+        return text.length() == 0 ? EMPTY : new Rope(build(text, 0, text.length()));
+    }
+
+    @Override public int length() {
+        return root.length;
+    }
+
+    @Override public char charAt(int index) {
+        checkIndex(index, length() - 1);
+        Node node = root;
+        while (node instanceof Branch) {
+            Branch branch = (Branch) node;
+            if (index < branch.left.length) {
+                node = branch.left;
+            } else {
+                index -= branch.left.length;
+                node = branch.right;
+            }
+        }
+        return ((Leaf) node).text.charAt(index);
+    }
+
+    @Override public CharSequence subSequence(int start, int end) {
+        return substring(start, end);
+    }
+
+    /**
+     * Returns the characters from start (inclusive) to end (exclusive).
+     */
+    public String substring(int start, int end) {
+        checkRange(start, end);
+        if (start == 0 && end == length()) {
+            return toString();
+        }
+        StringBuilder builder = new StringBuilder(end - start);
+        root.appendTo(builder, start, end);
+        return builder.toString();
+    }
+
+    /**
+     * Returns a rope with the given text inserted at the given index.
+     */
+    public Rope insert(int index, CharSequence text) {
+        checkIndex(index, length());
+        if (text.length() == 0) {
+            return this;
+        }
+        if (text.length() > MAX_LEAF_LENGTH) {
+            Node[] parts = split(root, index);
+            return new Rope(concat(concat(parts[0], build(text, 0, text.length())), parts[1]));
+        }
+        return new Rope(insert(root, index, text));
+    }
+
+    /**
+     * Returns a rope without the characters from start (inclusive) to end
+     * (exclusive).
+     */
+    public Rope delete(int start, int end) {
+        checkRange(start, end);
+        if (start == end) {
+            return this;
+        }
+        return new Rope(delete(root, start, end));
+    }
+
+    /**
+     * Returns the number of lines, that is the number of line breaks plus one.
+     */
+    public int getLineCount() {
+        return root.lineBreaks + 1;
+    }
+
+    /**
+     * Returns the index of the line holding the character at the given
+     * index, or ending at it.
+     */
+    public int getLineIndex(int index) {
+        checkIndex(index, length());
+        return root.countLineBreaks(index);
+    }
+
+    /**
+     * Returns the index of the first character of the given line.
+     */
+    public int getLineStart(int line) {
+        checkIndex(line, root.lineBreaks);
+        return line == 0 ? 0 : root.indexOfLineBreak(line - 1) + 1;
+    }
+
+    /**
+     * Returns the index of the line break ending the given line, or the
+     * length of the rope for the last line.
+     */
+    public int getLineEnd(int line) {
+        checkIndex(line, root.lineBreaks);
+        return line == root.lineBreaks ? length() : root.indexOfLineBreak(line);
+    }
+
+    /**
+     * Returns the index of the first line break at or after the given index,
+     * or the length of the rope if there is none. This only reads the text
+     * from the given index on, so walking the lines one after the other
+     * reads each character once.
+     */
+    public int getLineEndFrom(int index) {
+        checkIndex(index, length());
+        final int lineBreak = root.findLineBreak(index);
+        return lineBreak < 0 ? length() : lineBreak;
+    }
+
+    @Override public String toString() {
+        if (string == null) {
+            StringBuilder builder = new StringBuilder(length());
+            root.appendTo(builder, 0, length());
+            string = builder.toString();
+        }
+        return string;
+    }
+
+    private static Node build(CharSequence text, int start, int end) {
+        int length = end - start;
+        if (length <= MAX_LEAF_LENGTH) {
+            return new Leaf(text.subSequence(start, end).toString());
+        }
+        // split on a leaf boundary, so that all leaves but the last are full
+        int leafCount = (length + MAX_LEAF_LENGTH - 1) / MAX_LEAF_LENGTH;
+        int middle = start + (leafCount / 2) * MAX_LEAF_LENGTH;
+        return new Branch(build(text, start, middle), build(text, middle, end));
+    }
+
+    private static Node insert(Node node, int index, CharSequence text) {
+        if (node instanceof Leaf) {
+            String leafText = ((Leaf) node).text;
+            StringBuilder builder = new StringBuilder(leafText.length() + text.length());
+            builder.append(leafText, 0, index).append(text).append(leafText, index, leafText.length());
+            return build(builder, 0, builder.length());
+        }
+        Branch branch = (Branch) node;
+        if (index <= branch.left.length) {
+            return concat(insert(branch.left, index, text), branch.right);
+        }
+        return concat(branch.left, insert(branch.right, index - branch.left.length, text));
+    }
+
+    private static Node delete(Node node, int start, int end) {
+        if (start == 0 && end == node.length) {
+            return Leaf.EMPTY;
+        }
+        if (node instanceof Leaf) {
+            String leafText = ((Leaf) node).text;
+            return new Leaf(leafText.substring(0, start).concat(leafText.substring(end)));
+        }
+        Branch branch = (Branch) node;
+        int split = branch.left.length;
+        Node left = start < split ? delete(branch.left, start, Math.min(end, split)) : branch.left;
+        Node right = end > split ? delete(branch.right, Math.max(start - split, 0), end - split) : branch.right;
+        return concat(left, right);
+    }
+
+    private static Node[] split(Node node, int index) {
+        if (index == 0) {
+            return new Node[] { Leaf.EMPTY, node };
+        }
+        if (index == node.length) {
+            return new Node[] { node, Leaf.EMPTY };
+        }
+        if (node instanceof Leaf) {
+            String leafText = ((Leaf) node).text;
+            return new Node[] { new Leaf(leafText.substring(0, index)), new Leaf(leafText.substring(index)) };
+        }
+        Branch branch = (Branch) node;
+        if (index <= branch.left.length) {
+            Node[] parts = split(branch.left, index);
+            parts[1] = concat(parts[1], branch.right);
+            return parts;
+        }
+        Node[] parts = split(branch.right, index - branch.left.length);
+        parts[0] = concat(branch.left, parts[0]);
+        return parts;
+    }
+
+    /*
+     * Joins two trees of any heights. The result is as high as the higher
+     * one, or one level higher.
+     */
+    private static Node concat(Node left, Node right) {
+        if (left.length == 0) {
+            return right;
+        }
+        if (right.length == 0) {
+            return left;
+        }
+        if (left instanceof Leaf && right instanceof Leaf
+                && left.length + right.length <= MAX_LEAF_LENGTH) {
+            return new Leaf(((Leaf) left).text.concat(((Leaf) right).text));
+        }
+        if (left.height > right.height + 1) {
+            Branch branch = (Branch) left;
+            return balance(branch.left, concat(branch.right, right));
+        }
+        if (right.height > left.height + 1) {
+            Branch branch = (Branch) right;
+            return balance(concat(left, branch.left), branch.right);
+        }
+        return new Branch(left, right);
+    }
+
+    /*
+     * Creates a branch, rotating it when the heights of its children differ
+     * by two.
+     */
+    private static Node balance(Node left, Node right) {
+        if (left.height > right.height + 1) {
+            Branch l = (Branch) left;
+            if (l.left.height >= l.right.height) {
+                return new Branch(l.left, new Branch(l.right, right));
+            }
+            Branch lr = (Branch) l.right;
+            return new Branch(new Branch(l.left, lr.left), new Branch(lr.right, right));
+        }
+        if (right.height > left.height + 1) {
+            Branch r = (Branch) right;
+            if (r.right.height >= r.left.height) {
+                return new Branch(new Branch(left, r.left), r.right);
+            }
+            Branch rl = (Branch) r.left;
+            return new Branch(new Branch(left, rl.left), new Branch(rl.right, r.right));
+        }
+        return new Branch(left, right);
+    }
+
+    private static void checkIndex(int index, int max) {
+        if (index < 0 || index > max) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
+
+    private void checkRange(int start, int end) {
+        if (start < 0 || end > length() || start > end) {
+            throw new IndexOutOfBoundsException("Start: " + start + ", end: " + end + ", length: " + length());
+        }
+    }
+
+    private static abstract class Node {
+        final int length;
+        final int lineBreaks;
+        final int height;
+
+        Node(int length, int lineBreaks, int height) {
+            this.length = length;
+            this.lineBreaks = lineBreaks;
+            this.height = height;
+        }
+
+        abstract void appendTo(StringBuilder builder, int start, int end);
+
+        // the number of line breaks before the given index
+        abstract int countLineBreaks(int end);
+
+        // the index of the given line break, counting from zero
+        abstract int indexOfLineBreak(int lineBreak);
+
+        // the index of the first line break at or after the given index, or
+        // -1 if there is none
+        abstract int findLineBreak(int from);
+    }
+
+    private static final class Leaf extends Node {
+        static final Leaf EMPTY = new Leaf("");
+
+        final String text;
+
+        Leaf(String text) {
+            super(text.length(), countLineBreaks(text, text.length()), 0);
+            this.text = text;
+        }
+
+        @Override void appendTo(StringBuilder builder, int start, int end) {
+            builder.append(text, start, end);
+        }
+
+        @Override int countLineBreaks(int end) {
+            return countLineBreaks(text, end);
+        }
+
+        @Override int indexOfLineBreak(int lineBreak) {
+            int index = text.indexOf('\n');
+            for (int i = 0; i < lineBreak; i++) {
+                index = text.indexOf('\n', index + 1);
+            }
+            return index;
+        }
+
+        @Override int findLineBreak(int from) {
+            return text.indexOf('\n', from);
+        }
+
+        private static int countLineBreaks(String text, int end) {
+            int count = 0;
+            for (int i = 0; i < end; i++) {
+                if (text.charAt(i) == '\n') {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    private static final class Branch extends Node {
+        final Node left;
+        final Node right;
+
+        Branch(Node left, Node right) {
+            super(left.length + right.length, left.lineBreaks + right.lineBreaks,
+                    Math.max(left.height, right.height) + 1);
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override void appendTo(StringBuilder builder, int start, int end) {
+            int split = left.length;
+            if (start < split) {
+                left.appendTo(builder, start, Math.min(end, split));
+            }
+            if (end > split) {
+                right.appendTo(builder, Math.max(start - split, 0), end - split);
+            }
+        }
+
+        @Override int countLineBreaks(int end) {
+            if (end <= left.length) {
+                return left.countLineBreaks(end);
+            }
+            return left.lineBreaks + right.countLineBreaks(end - left.length);
+        }
+
+        @Override int indexOfLineBreak(int lineBreak) {
+            if (lineBreak < left.lineBreaks) {
+                return left.indexOfLineBreak(lineBreak);
+            }
+            return left.length + right.indexOfLineBreak(lineBreak - left.lineBreaks);
+        }
+
+        @Override int findLineBreak(int from) {
+            if (from < left.length && left.lineBreaks > 0) {
+                final int lineBreak = left.findLineBreak(from);
+                if (lineBreak >= 0) {
+                    return lineBreak;
+                }
+            }
+            if (right.lineBreaks == 0) {
+                return -1;
+            }
+            final int lineBreak = right.findLineBreak(Math.max(from - left.length, 0));
+            return lineBreak < 0 ? -1 : left.length + lineBreak;
+        }
+    }
+}
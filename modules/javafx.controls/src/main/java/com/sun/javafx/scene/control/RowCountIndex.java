@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.scene.control;
+
+/**
+ * A sequence of non-negative counts that can find the sum of the counts
+ * before any entry, and the entry containing any offset, in O(log n) time.
+ * TreeItem uses it to keep the number of rows shown by each of its children,
+ * so that rows can be looked up without scanning the siblings.
+ * <p>
+ * The counts are stored in a {@link FenwickTree}.
+ */
+public final class RowCountIndex {
+
+    private final FenwickTree counts = new FenwickTree();
+
+    /**
+     * Returns the number of entries.
+     */
+    public int size() {
+        return counts.size();
+    }
+
+    /**
+     * Replaces all entries with the given counts.
+     */
+    public void setAll(int[] values, int length) {
+        for (int i = 0; i < length; i++) {
+            checkCount(values[i]);
+        }
+        counts.setAll(length, i -> values[i]);
+    }
+
+    /**
+     * Returns the count of the given entry.
+     */
+    public int get(int index) {
+        checkIndex(index, size() - 1);
+        return (int) counts.get(index);
+    }
+
+    /**
+     * Changes the count of the given entry.
+     */
+    public void set(int index, int count) {
+        checkIndex(index, size() - 1);
+        checkCount(count);
+        counts.set(index, count);
+    }
+
+    /**
+     * Inserts the given number of entries with a count of zero before the
+     * given index, shifting the following entries.
+     */
+    public void insert(int index, int count) {
+        checkIndex(index, size());
+        if (count < 0) {
+            throw new IllegalArgumentException("Invalid count: " + count);
+        }
+        counts.insert(index, count);
+    }
+
+    /**
+     * Removes the entries from the given index (inclusive) to the other
+     * (exclusive), shifting the following entries.
+     */
+    public void remove(int from, int to) {
+        checkIndex(from, size());
+        checkIndex(to, size());
+        if (from > to) {
+            throw new IndexOutOfBoundsException("From: " + from + ", To: " + to);
+        }
+        counts.remove(from, to);
+    }
+
+    /**
+     * Returns the sum of all counts.
+     */
+    public int getTotal() {
+        return (int) counts.getTotal();
+    }
+
+    /**
+     * Returns the sum of the counts of the entries before the given one. An
+     * index equal to the number of entries returns the total.
+     */
+    public int getOffset(int index) {
+        checkIndex(index, size());
+        return (int) counts.getPrefix(index);
+    }
+
+    /**
+     * Returns the index of the entry containing the given offset, that is the
+     * entry with a count greater than zero whose offset is at most the given
+     * one, and whose offset plus count is greater. Offsets at or past the
+     * total return the number of entries.
+     */
+    public int getIndex(int offset) {
+        if (offset < 0) {
+            throw new IndexOutOfBoundsException("Offset: " + offset);
+        }
+        if (offset >= getTotal()) {
+            return size();
+        }
+        return counts.find(offset);
+    }
+
+    private void checkIndex(int index, int max) {
+        if (index < 0 || index > max) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+    }
+
+    private static void checkCount(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Invalid count: " + count);
+        }
+    }
+}
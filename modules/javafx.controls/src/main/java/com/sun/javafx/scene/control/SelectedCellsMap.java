@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -24,6 +24,7 @@
  */
 package com.sun.javafx.scene.control;
 
+import com.sun.javafx.collections.NonIterableChange;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
@@ -31,6 +32,7 @@ import javafx.collections.transformation.SortedList;
 import javafx.scene.control.TablePositionBase;
 
 import java.util.*;
+import java.util.function.IntFunction;
 
 /**
  * Implementation code used by the TableSelectionModel implementations. In short
@@ -45,6 +47,14 @@ import java.util.*;
  * row is selected.
  *
  * Refer to RT-33442 for more information on this issue.
+ *
+ * When a row position factory is provided, selecting every row while cell
+ * selection is disabled (i.e. the common select all case) is stored as a single
+ * range of whole rows rather than as one position per row. Positions are then
+ * created on demand as they are requested, and change notifications report the
+ * range using {@link SelectedRowRange} lists so that listeners such as
+ * {@code ControlUtils.updateSelectedIndices} can update their state in bulk.
+ * Any other modification expands the range back into the regular storage.
  */
 // T == TablePosition<S,?>
 public abstract class SelectedCellsMap<T extends TablePositionBase> {
@@ -53,31 +63,143 @@ public abstract class SelectedCellsMap<T extends TablePositionBase> {
 
     private final Map<Integer, BitSet> selectedCellBitSetMap;
 
+    private final ListChangeListener<T> listener;
+    private final IntFunction<T> rowPositionFactory;
+
+    // The list reported by the changes fired while in whole row range mode
+    private final ObservableList<T> rowRangeList;
+
+    // When not -1, all rows in [0, selectedRowCount) are selected and neither
+    // selectedCells nor selectedCellBitSetMap contain anything
+    private int selectedRowCount = -1;
+
+    private boolean quiet = false;
+
     public SelectedCellsMap(final ListChangeListener<T> listener) {
+        this(listener, null);
+    }
+
+    /**
+     * @param listener notified of all changes to the sorted selected cells
+     * @param rowPositionFactory creates the position representing the given
+     *      whole row, or null if {@link #selectAllRows(int)} is not used
+     */
+    public SelectedCellsMap(final ListChangeListener<T> listener, final IntFunction<T> rowPositionFactory) {
+        this.listener = listener;
+        this.rowPositionFactory = rowPositionFactory;
+
         selectedCells = FXCollections.<T>observableArrayList();
         sortedSelectedCells = new SortedList<>(selectedCells, (T o1, T o2) -> {
             int result = o1.getRow() - o2.getRow();
             return result == 0 ? (o1.getColumn() - o2.getColumn()) : result;
         });
-        sortedSelectedCells.addListener(listener);
+        sortedSelectedCells.addListener((ListChangeListener<T>) c -> {
+            if (! quiet) {
+                listener.onChanged(c);
+            }
+        });
 
         selectedCellBitSetMap = new TreeMap<>((o1, o2) -> o1.compareTo(o2));
+
+        rowRangeList = new ReadOnlyUnbackedObservableList<T>() {
+            @Override public T get(int i) {
+                return SelectedCellsMap.this.get(i);
+            }
+
+            @Override public int size() {
+                return SelectedCellsMap.this.size();
+            }
+
+            @Override public List<T> subList(int fromIndex, int toIndex) {
+                if (isRowRange() && fromIndex >= 0 && fromIndex <= toIndex && toIndex <= selectedRowCount) {
+                    return new SelectedRowRange<>(fromIndex, toIndex, rowPositionFactory);
+                }
+                return super.subList(fromIndex, toIndex);
+            }
+        };
     }
 
     public abstract boolean isCellSelectionEnabled();
 
     public int size() {
-        return selectedCells.size();
+        return isRowRange() ? selectedRowCount : selectedCells.size();
     }
 
     public T get(int i) {
         if (i < 0) {
             return null;
         }
+        if (isRowRange()) {
+            if (i >= selectedRowCount) {
+                throw new IndexOutOfBoundsException(i + " >= " + selectedRowCount);
+            }
+            return rowPositionFactory.apply(i);
+        }
         return sortedSelectedCells.get(i);
     }
 
+    /**
+     * Selects every row in [0, rowCount) as a whole row, replacing the current
+     * selection. A single replace change is fired for the new selection.
+     */
+    public void selectAllRows(int rowCount) {
+        if (rowPositionFactory == null) {
+            throw new IllegalStateException("No row position factory was provided");
+        }
+
+        final List<T> removed = isRowRange() ?
+                new SelectedRowRange<>(0, selectedRowCount, rowPositionFactory) :
+                new ArrayList<>(sortedSelectedCells);
+
+        quiet = true;
+        try {
+            selectedCellBitSetMap.clear();
+            selectedCells.clear();
+        } finally {
+            quiet = false;
+        }
+        selectedRowCount = rowCount;
+
+        if (! removed.isEmpty() || rowCount > 0) {
+            listener.onChanged(new NonIterableChange.GenericAddRemoveChange<>(0, rowCount, removed, rowRangeList));
+        }
+    }
+
+    private boolean isRowRange() {
+        return selectedRowCount != -1;
+    }
+
+    // moves the whole row range into the regular storage, without firing
+    // any events, so that arbitrary modifications can be applied to it
+    private void expandRowRange() {
+        if (! isRowRange()) return;
+
+        final int rowCount = selectedRowCount;
+        selectedRowCount = -1;
+
+        List<T> cells = new ArrayList<>(rowCount);
+        for (int row = 0; row < rowCount; row++) {
+            cells.add(rowPositionFactory.apply(row));
+            selectedCellBitSetMap.put(row, new BitSet());
+        }
+
+        quiet = true;
+        try {
+            selectedCells.setAll(cells);
+        } finally {
+            quiet = false;
+        }
+    }
+
     public void add(T tp) {
+        if (isRowRange()) {
+            if (! isCellSelectionEnabled() && tp.getRow() >= 0 && tp.getRow() < selectedRowCount) {
+                // the row is already selected
+                return;
+            }
+            expandRowRange();
+        }
+
         final int row = tp.getRow();
         final int columnIndex = tp.getColumn();
 
@@ -121,6 +243,8 @@ public abstract class SelectedCellsMap<T extends TablePositionBase> {
     }
 
     public void addAll(Collection<T> cells) {
+        expandRowRange();
+
         // update bitset
         for (T tp : cells) {
             final int row = tp.getRow();
@@ -147,6 +271,8 @@ public abstract class SelectedCellsMap<T extends TablePositionBase> {
     }
 
     public void setAll(Collection<T> cells) {
+        expandRowRange();
+
         // update bitset
         selectedCellBitSetMap.clear();
         for (T tp : cells) {
@@ -174,6 +300,8 @@ public abstract class SelectedCellsMap<T extends TablePositionBase> {
     }
 
     public void remove(T tp) {
+        expandRowRange();
+
         final int row = tp.getRow();
         final int columnIndex = tp.getColumn();
 
@@ -195,6 +323,13 @@ public abstract class SelectedCellsMap<T extends TablePositionBase> {
     }
 
     public void clear() {
+        if (isRowRange()) {
+            final List<T> removed = new SelectedRowRange<>(0, selectedRowCount, rowPositionFactory);
+            selectedRowCount = -1;
+            listener.onChanged(new NonIterableChange.GenericAddRemoveChange<>(0, 0, removed, rowRangeList));
+            return;
+        }
+
         // update bitset
         selectedCellBitSetMap.clear();
 
@@ -203,6 +338,9 @@ public abstract class SelectedCellsMap<T extends TablePositionBase> {
     }
 
     public boolean isSelected(int row, int columnIndex) {
+        if (isRowRange()) {
+            return columnIndex < 0 && row >= 0 && row < selectedRowCount;
+        }
         if (columnIndex < 0) {
             return selectedCellBitSetMap.containsKey(row);
         } else {
@@ -211,14 +349,85 @@ public abstract class SelectedCellsMap<T extends TablePositionBase> {
     }
 
     public int indexOf(T tp) {
+        if (isRowRange()) {
+            final int row = tp.getRow();
+            return tp.getTableColumn() == null && row >= 0 && row < selectedRowCount ? row : -1;
+        }
         return sortedSelectedCells.indexOf(tp);
     }
 
     public boolean isEmpty() {
-        return selectedCells.isEmpty();
+        return isRowRange() ? selectedRowCount == 0 : selectedCells.isEmpty();
+    }
+
+    /**
+     * Returns the selected cells in selection order. While a whole row range is
+     * selected this is an immutable {@link SelectedRowRange}.
+     */
+    public List<T> getSelectedCells() {
+        return isRowRange() ? new SelectedRowRange<>(0, selectedRowCount, rowPositionFactory) : selectedCells;
     }
 
-    public ObservableList<T> getSelectedCells() {
-        return selectedCells;
+    /**
+     * Returns a copy of the selected cells in sorted order, which remains valid
+     * after the selection is modified.
+     */
+    public List<T> copySortedSelectedCells() {
+        return isRowRange() ?
+                new SelectedRowRange<>(0, selectedRowCount, rowPositionFactory) :
+                new ArrayList<>(sortedSelectedCells);
+    }
+
+    /**
+     * An immutable list of the whole row positions for the rows in [from, to),
+     * which are created on demand.
+     */
+    public static final class SelectedRowRange<T> extends AbstractList<T> {
+        private final int from;
+        private final int to;
+        private final IntFunction<T> rowPositionFactory;
+
+        SelectedRowRange(int from, int to, IntFunction<T> rowPositionFactory) {
+            this.from = from;
+            this.to = to;
+            this.rowPositionFactory = rowPositionFactory;
+        }
+
+        public int getFromRow() {
+            return from;
+        }
+
+        public int getToRow() {
+            return to;
+        }
+
+        /**
+         * Returns the rows in this range as an immutable list.
+         */
+        public List<Integer> getRows() {
+            return new AbstractList<Integer>() {
+                @Override public Integer get(int index) {
+                    if (index < 0 || index >= size()) {
+                        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+                    }
+                    return from + index;
+                }
+
+                @Override public int size() {
+                    return to - from;
+                }
+            };
+        }
+
+        @Override public T get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            return rowPositionFactory.apply(from + index);
+        }
+
+        @Override public int size() {
+            return to - from;
+        }
     }
 }
\ No newline at end of file
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,6 +25,7 @@
 
 package com.sun.javafx.scene.control;
 
+import com.sun.javafx.collections.KeyExtractingComparator;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -35,16 +36,39 @@ import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableColumnBase;
 import javafx.scene.control.TreeTableColumn;
 
-public abstract class TableColumnComparatorBase<S,T> implements Comparator<S> {
+public abstract class TableColumnComparatorBase<S,T> implements KeyExtractingComparator<S, Object[]> {
 
     private final List<? extends TableColumnBase> columns;
 
+    // The comparator and sort direction of every column, taken when this
+    // comparator is built, with a null column and comparator for columns that
+    // do not take part in the sort. The table builds a new comparator
+    // whenever any of them changes, so a sort never reads column properties.
+    private final List<TableColumnBase<S,T>> sortColumns;
+    private final List<Comparator<Object>> comparators;
+    private final boolean[] descending;
+
     public TableColumnComparatorBase(TableColumnBase<S,T>... columns) {
         this(Arrays.asList(columns));
     }
 
+    @SuppressWarnings("unchecked")
     public TableColumnComparatorBase(List<? extends TableColumnBase> columns) {
         this.columns = new ArrayList<TableColumnBase>(columns);
+        this.sortColumns = new ArrayList<>(columns.size());
+        this.comparators = new ArrayList<>(columns.size());
+        this.descending = new boolean[columns.size()];
+        for (int i = 0; i < descending.length; i++) {
+            TableColumnBase<S,T> tc = this.columns.get(i);
+            if (isSortable(tc)) {
+                sortColumns.add(tc);
+                comparators.add((Comparator<Object>) tc.getComparator());
+                descending[i] = isDescending(tc);
+            } else {
+                sortColumns.add(null);
+                comparators.add(null);
+            }
+        }
     }
 
     public List<? extends TableColumnBase> getColumns() {
@@ -52,13 +76,39 @@ public abstract class TableColumnComparatorBase<S,T> implements Comparator<S> {
     }
 
     @Override public int compare(S o1, S o2) {
-        for (TableColumnBase<S,T> tc : columns) {
-            if (! isSortable(tc)) continue;
+        for (int i = 0; i < descending.length; i++) {
+            TableColumnBase<S,T> tc = sortColumns.get(i);
+            if (tc == null) continue;
 
-            T value1 = tc.getCellData(o1);
-            T value2 = tc.getCellData(o2);
+            int result = doCompare(i, tc.getCellData(o1), tc.getCellData(o2));
 
-            int result = doCompare(tc, value1, value2);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Reads the cell data of every sortable column, so that sorting only
+     * queries each row once rather than once per comparison.
+     */
+    @Override public Object[] extractKey(S item) {
+        Object[] key = new Object[descending.length];
+        for (int i = 0; i < key.length; i++) {
+            TableColumnBase<S,T> tc = sortColumns.get(i);
+            if (tc != null) {
+                key[i] = tc.getCellData(item);
+            }
+        }
+        return key;
+    }
+
+    @Override public int compareKeys(Object[] key1, Object[] key2) {
+        for (int i = 0; i < descending.length; i++) {
+            if (sortColumns.get(i) == null) continue;
+
+            int result = doCompare(i, key1[i], key2[i]);
 
             if (result != 0) {
                 return result;
@@ -67,6 +117,13 @@ public abstract class TableColumnComparatorBase<S,T> implements Comparator<S> {
         return 0;
     }
 
+    private int doCompare(int column, Object value1, Object value2) {
+        final Comparator<Object> comparator = comparators.get(column);
+        return descending[column] ?
+                comparator.compare(value2, value1) :
+                comparator.compare(value1, value2);
+    }
+
     @Override public int hashCode() {
         int hash = 7;
         hash = 59 * hash + (this.columns != null ? this.columns.hashCode() : 0);
@@ -92,7 +149,7 @@ public abstract class TableColumnComparatorBase<S,T> implements Comparator<S> {
     }
 
     public abstract boolean isSortable(final TableColumnBase<S,T> tcb);
-    public abstract int doCompare(final TableColumnBase<S,T> tcb, final T value1, final T value2);
+    public abstract boolean isDescending(final TableColumnBase<S,T> tcb);
 
 
 
@@ -113,14 +170,9 @@ public abstract class TableColumnComparatorBase<S,T> implements Comparator<S> {
             return tc.getSortType() != null && tc.isSortable();
         }
 
-        @Override public int doCompare(final TableColumnBase<S,T> tcb, final T value1, final T value2) {
+        @Override public boolean isDescending(final TableColumnBase<S,T> tcb) {
             TableColumn<S, T> tc = (TableColumn<S,T>)tcb;
-            Comparator<T> c = tc.getComparator();
-            switch (tc.getSortType()) {
-                case ASCENDING: return c.compare(value1, value2);
-                case DESCENDING: return c.compare(value2, value1);
-            }
-            return 0;
+            return tc.getSortType() == TableColumn.SortType.DESCENDING;
         }
     }
 
@@ -140,14 +192,9 @@ public abstract class TableColumnComparatorBase<S,T> implements Comparator<S> {
             return tc.getSortType() != null && tc.isSortable();
         }
 
-        @Override public int doCompare(final TableColumnBase<S,T> tcb, final T value1, final T value2) {
+        @Override public boolean isDescending(final TableColumnBase<S,T> tcb) {
             TreeTableColumn<S, T> tc = (TreeTableColumn<S,T>)tcb;
-            Comparator<T> c = tc.getComparator();
-            switch (tc.getSortType()) {
-                case ASCENDING: return c.compare(value1, value2);
-                case DESCENDING: return c.compare(value2, value1);
-            }
-            return 0;
+            return tc.getSortType() == TreeTableColumn.SortType.DESCENDING;
         }
     }
 
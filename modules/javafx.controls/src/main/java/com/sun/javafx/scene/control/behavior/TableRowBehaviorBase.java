@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,6 +26,8 @@
 package com.sun.javafx.scene.control.behavior;
 
 import javafx.collections.ObservableList;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
 import javafx.scene.control.Cell;
 import javafx.scene.control.Control;
 import javafx.scene.control.TableColumnBase;
@@ -128,7 +130,17 @@ public abstract class TableRowBehaviorBase<T extends Cell> extends CellBehaviorB
         for (int i = 0; i < columns.size(); i++) {
             width += columns.get(i).getWidth();
         }
-
-        return x > width;
+        if (x > width) return true;
+
+        // columns whose values are drawn by the row itself have no cell to
+        // handle the click, so the row handles it unless a cell is there
+        boolean onRowContent = false;
+        for (Node child : getNode().getChildrenUnmodifiable()) {
+            Bounds bounds = child.getBoundsInParent();
+            if (! child.isVisible() || x < bounds.getMinX() || x >= bounds.getMaxX()) continue;
+            if (child instanceof Cell) return false;
+            onRowContent = true;
+        }
+        return onRowContent;
     }
 }
@@ -51,6 +51,7 @@ import javafx.scene.shape.PathElement;
 import javafx.scene.shape.StrokeLineJoin;
 import javafx.util.Duration;
 
+import com.sun.javafx.charts.Decimator;
 import com.sun.javafx.charts.Legend.LegendItem;
 import javafx.css.converter.BooleanConverter;
 import javafx.beans.property.BooleanProperty;
@@ -58,6 +59,7 @@ import javafx.css.CssMetaData;
 import javafx.css.Styleable;
 import javafx.css.StyleableBooleanProperty;
 import javafx.css.StyleableProperty;
+import javafx.scene.chart.LineChart.DecimationPolicy;
 import javafx.scene.chart.LineChart.SortingPolicy;
 
 /**
@@ -71,6 +73,8 @@ public class AreaChart<X,Y> extends XYChart<X,Y> {
 
     /** A multiplier for teh Y values that we store for each series, it is used to animate in a new series */
     private Map<Series<X,Y>, DoubleProperty> seriesYMultiplierMap = new HashMap<>();
+    /** Used to decimate the values of series to the resolution of the plot */
+    private final Decimator decimator = new Decimator();
 
     // -------------- PUBLIC PROPERTIES ----------------------------------------
 
@@ -157,26 +161,7 @@ public class AreaChart<X,Y> extends XYChart<X,Y> {
 
        /** {@inheritDoc} */
     @Override protected void updateAxisRange() {
-        final Axis<X> xa = getXAxis();
-        final Axis<Y> ya = getYAxis();
-        List<X> xData = null;
-        List<Y> yData = null;
-        if(xa.isAutoRanging()) xData = new ArrayList<X>();
-        if(ya.isAutoRanging()) yData = new ArrayList<Y>();
-        if(xData != null || yData != null) {
-            for(Series<X,Y> series : getData()) {
-                for(Data<X,Y> data: series.getData()) {
-                    if(xData != null) xData.add(data.getXValue());
-                    if(yData != null) yData.add(data.getYValue());
-                }
-            }
-            if(xData != null && !(xData.size() == 1 && getXAxis().toNumericValue(xData.get(0)) == 0)) {
-                xa.invalidateRange(xData);
-            }
-            if(yData != null && !(yData.size() == 1 && getYAxis().toNumericValue(yData.get(0)) == 0)) {
-                ya.invalidateRange(yData);
-            }
-        }
+        updateAutoRange(true);
     }
 
     @Override protected void dataItemAdded(Series<X,Y> series, int itemIndex, Data<X,Y> item) {
@@ -425,8 +410,11 @@ public class AreaChart<X,Y> extends XYChart<X,Y> {
             final ObservableList<Node> children = ((Group) series.getNode()).getChildren();
             Path fillPath = (Path) children.get(0);
             Path linePath = (Path) children.get(1);
-            makePaths(this, series, constructedPath, fillPath, linePath,
-                      seriesYAnimMultiplier.get(), SortingPolicy.X_AXIS);
+            if (!makeValuePaths(this, series, decimator, fillPath, linePath,
+                                seriesYAnimMultiplier.get(), DecimationPolicy.MIN_MAX)) {
+                makePaths(this, series, constructedPath, fillPath, linePath,
+                          seriesYAnimMultiplier.get(), SortingPolicy.X_AXIS);
+            }
         }
     }
 
@@ -526,6 +514,74 @@ public class AreaChart<X,Y> extends XYChart<X,Y> {
         }
     }
 
+    /**
+     * Builds the paths for the values of a series, decimated to the resolution
+     * of the plot. The paths are only rebuilt when the values, the axes or the
+     * size of the plot have changed since they were last built.
+     *
+     * @return false if the series has no values, or if they cannot be
+     *         plotted along the axes of the chart, in which case the data of
+     *         the series is drawn instead
+     */
+    static <X,Y> boolean makeValuePaths(XYChart<X, Y> chart, Series<X, Y> series,
+                                        Decimator decimator, Path fillPath, Path linePath,
+                                        double yAnimMultiplier, DecimationPolicy policy)
+    {
+        final int count = series.getValueCount();
+        final Axis<X> axisX = chart.getXAxis();
+        final Axis<Y> axisY = chart.getYAxis();
+        // values can only be plotted along numeric axes
+        if (count == 0 || !(axisX instanceof ValueAxis) || !(axisY instanceof ValueAxis)) {
+            if (series.valuesPathKey != null) {
+                series.valuesPathKey = null;
+                linePath.getElements().clear();
+                if (fillPath != null) fillPath.getElements().clear();
+            }
+            return false;
+        }
+        final int start = series.getValueStart();
+        // the transform of values to display positions, for linear axes
+        final double xOffset = axisX.getDisplayPosition(axisX.toRealValue(0));
+        final double xScale = axisX.getDisplayPosition(axisX.toRealValue(1)) - xOffset;
+        final double yOffset = axisY.getDisplayPosition(axisY.toRealValue(0));
+        final double yScale = (axisY.getDisplayPosition(axisY.toRealValue(1)) - yOffset) * yAnimMultiplier;
+        final double width = axisX.getWidth();
+        final double[] key = { xOffset, xScale, yOffset, yScale, width, policy.ordinal() };
+        if (Arrays.equals(key, series.valuesPathKey)) {
+            return true;
+        }
+        series.valuesPathKey = key;
+
+        if (policy == DecimationPolicy.LARGEST_TRIANGLE_THREE_BUCKETS) {
+            decimator.largestTriangleThreeBuckets(series.getXValues(), series.getYValues(), start, start + count,
+                    xOffset, xScale, yOffset, yScale, width, (int) Math.ceil(width) * 2);
+        } else {
+            decimator.minMax(series.getXValues(), series.getYValues(), start, start + count,
+                    xOffset, xScale, yOffset, yScale, width);
+        }
+        final int size = decimator.size();
+        final List<PathElement> elements = new ArrayList<>(size + 3);
+        for (int i = 0; i < size; i++) {
+            final double x = decimator.getX(i);
+            final double y = decimator.getY(i);
+            elements.add(i == 0 ? new MoveTo(x, y) : new LineTo(x, y));
+        }
+        linePath.getElements().setAll(elements);
+        if (fillPath != null) {
+            if (size == 0) {
+                fillPath.getElements().clear();
+            } else {
+                final double yOrigin = yOffset;
+                elements.set(0, new LineTo(decimator.getX(0), decimator.getY(0)));
+                elements.add(0, new MoveTo(decimator.getX(0), yOrigin));
+                elements.add(new LineTo(decimator.getX(size - 1), yOrigin));
+                elements.add(new ClosePath());
+                fillPath.getElements().setAll(elements);
+            }
+        }
+        return true;
+    }
+
     private Node createSymbol(Series<X,Y> series, int seriesIndex, final Data<X,Y> item, int itemIndex) {
         Node symbol = item.getNode();
         // check if symbol has already been created
@@ -543,6 +599,11 @@ public class AreaChart<X,Y> extends XYChart<X,Y> {
         return symbol;
     }
 
+    /** {@inheritDoc} */
+    @Override boolean drawsSeriesValues() {
+        return true;
+    }
+
     @Override
     LegendItem createLegendItemForSeries(Series<X, Y> series, int seriesIndex) {
         LegendItem legendItem = new LegendItem(series.getName());
@@ -57,6 +57,7 @@ import javafx.scene.shape.PathElement;
 import javafx.scene.shape.StrokeLineJoin;
 import javafx.util.Duration;
 
+import com.sun.javafx.charts.Decimator;
 import com.sun.javafx.charts.Legend.LegendItem;
 
 import javafx.css.StyleableBooleanProperty;
@@ -88,6 +89,8 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
     private Map<Data<X,Y>, Double> XYValueMap =
                                 new HashMap<Data<X,Y>, Double>();
     private Timeline seriesRemoveTimeline = null;
+    /** Used to decimate the values of series to the resolution of the plot */
+    private final Decimator decimator = new Decimator();
     // -------------- PUBLIC PROPERTIES ----------------------------------------
 
     /** When true, CSS styleable symbols are created for any data items that don't have a symbol node specified. */
@@ -161,6 +164,34 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
     public final void setAxisSortingPolicy(SortingPolicy value) { axisSortingPolicy.setValue(value); }
     public final ObjectProperty<SortingPolicy> axisSortingPolicyProperty() { return axisSortingPolicy; }
 
+    /**
+     * Indicates how the values of series set with
+     * {@link Series#setValues(double[], double[], int) setValues} are decimated
+     * to the resolution of the plot.
+     *
+     * @since 10
+     * @see DecimationPolicy
+     * @defaultValue DecimationPolicy#MIN_MAX
+     */
+    private ObjectProperty<DecimationPolicy> decimationPolicy = new ObjectPropertyBase<DecimationPolicy>(DecimationPolicy.MIN_MAX) {
+        @Override protected void invalidated() {
+            requestChartLayout();
+        }
+
+        public Object getBean() {
+            return LineChart.this;
+        }
+
+        public String getName() {
+            return "decimationPolicy";
+        }
+
+    };
+
+    public final DecimationPolicy getDecimationPolicy() { return decimationPolicy.getValue(); }
+    public final void setDecimationPolicy(DecimationPolicy value) { decimationPolicy.setValue(value); }
+    public final ObjectProperty<DecimationPolicy> decimationPolicyProperty() { return decimationPolicy; }
+
     // -------------- CONSTRUCTORS ----------------------------------------------
 
     /**
@@ -189,28 +220,7 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
 
     /** {@inheritDoc} */
     @Override protected void updateAxisRange() {
-        final Axis<X> xa = getXAxis();
-        final Axis<Y> ya = getYAxis();
-        List<X> xData = null;
-        List<Y> yData = null;
-        if(xa.isAutoRanging()) xData = new ArrayList<X>();
-        if(ya.isAutoRanging()) yData = new ArrayList<Y>();
-        if(xData != null || yData != null) {
-            for(Series<X,Y> series : getData()) {
-                for(Data<X,Y> data: series.getData()) {
-                    if(xData != null) xData.add(data.getXValue());
-                    if(yData != null) yData.add(data.getYValue());
-                }
-            }
-            // RT-32838 No need to invalidate range if there is one data item - whose value is zero.
-            if(xData != null && !(xData.size() == 1 && getXAxis().toNumericValue(xData.get(0)) == 0)) {
-                xa.invalidateRange(xData);
-            }
-            if(yData != null && !(yData.size() == 1 && getYAxis().toNumericValue(yData.get(0)) == 0)) {
-                ya.invalidateRange(yData);
-            }
-
-        }
+        updateAutoRange(true);
     }
 
     @Override protected void dataItemAdded(final Series<X,Y> series, int itemIndex, final Data<X,Y> item) {
@@ -455,9 +465,14 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
             final DoubleProperty seriesYAnimMultiplier = seriesYMultiplierMap.get(series);
             final Node seriesNode = series.getNode();
             if (seriesNode instanceof Path) {
-                AreaChart.makePaths(this, series,
-                                    constructedPath, null, (Path) seriesNode,
-                                    seriesYAnimMultiplier.get(), getAxisSortingPolicy());
+                final DecimationPolicy policy = getDecimationPolicy();
+                if (!AreaChart.makeValuePaths(this, series, decimator, null, (Path) seriesNode,
+                                              seriesYAnimMultiplier.get(),
+                                              policy != null ? policy : DecimationPolicy.MIN_MAX)) {
+                    AreaChart.makePaths(this, series,
+                                        constructedPath, null, (Path) seriesNode,
+                                        seriesYAnimMultiplier.get(), getAxisSortingPolicy());
+                }
             }
         }
     }
@@ -534,6 +549,11 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
         return symbol;
     }
 
+    /** {@inheritDoc} */
+    @Override boolean drawsSeriesValues() {
+        return true;
+    }
+
     @Override
     LegendItem createLegendItemForSeries(Series<X, Y> series, int seriesIndex) {
         LegendItem legendItem = new LegendItem(series.getName());
@@ -605,4 +625,21 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
          */
         Y_AXIS
     }
+
+    /**
+     * This enum defines a policy for {@link LineChart#decimationPolicyProperty()}.
+     * @since 10
+     */
+    public static enum DecimationPolicy {
+        /**
+         * The first, lowest, highest and last values of every pixel column are
+         * drawn, which draws the same pixels as drawing all the values.
+         */
+        MIN_MAX,
+        /**
+         * About two values per pixel column are drawn, chosen with the largest
+         * triangle three buckets algorithm to preserve the shape of the line.
+         */
+        LARGEST_TRIANGLE_THREE_BUCKETS
+    }
 }
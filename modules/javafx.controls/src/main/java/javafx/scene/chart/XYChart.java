@@ -27,6 +27,7 @@ package javafx.scene.chart;
 
 
 import com.sun.javafx.charts.Legend;
+import com.sun.javafx.charts.ValueBounds;
 import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.Collections;
@@ -100,6 +101,9 @@ public abstract class XYChart<X,Y> extends Chart {
     static String DEFAULT_COLOR = "default-color";
     final Map<Series<X,Y>, Integer> seriesColorMap = new HashMap<>();
     private boolean rangeValid = false;
+    /** The bounds of the x and y values of the data items of all series */
+    private final ValueBounds xDataBounds = new ValueBounds();
+    private final ValueBounds yDataBounds = new ValueBounds();
     private final Line verticalZeroLine = new Line();
     private final Line horizontalZeroLine = new Line();
     private final Path verticalGridLines = new Path();
@@ -137,6 +141,7 @@ public abstract class XYChart<X,Y> extends Chart {
             }
 
             for (Series<X,Y> s : c.getRemoved()) {
+                if (!s.setToRemove) removeDataBounds(s.getData());
                 s.setToRemove = true;
                 seriesRemoved(s);
             }
@@ -149,6 +154,7 @@ public abstract class XYChart<X,Y> extends Chart {
                     s.setToRemove = false;
                     s.getChart().seriesBeingRemovedIsAdded(s);
                 }
+                addDataBounds(s.getData());
                 // update linkedList Pointers for series
                 displayedSeries.add(s);
                 // update default color style class
@@ -501,6 +507,10 @@ public abstract class XYChart<X,Y> extends Chart {
 
     @SuppressWarnings({"UnusedParameters"})
     private void dataItemsChanged(Series<X,Y> series, List<Data<X,Y>> removed, int addedFrom, int addedTo, boolean permutation) {
+        if (!series.setToRemove) {
+            removeDataBounds(removed);
+            addDataBounds(series.getData().subList(addedFrom, addedTo));
+        }
         for (Data<X,Y> item : removed) {
             dataItemRemoved(item, series);
         }
@@ -512,8 +522,24 @@ public abstract class XYChart<X,Y> extends Chart {
         requestChartLayout();
     }
 
+    /** Called when the values of a series have been set */
+    private void seriesValuesChanged(Series<X,Y> series) {
+        // matches no state, so that the path is rebuilt or cleared
+        series.valuesPathKey = new double[0];
+        invalidateRange();
+        requestChartLayout();
+    }
+
     private <T> void dataValueChanged(Data<X,Y> item, T newValue, ObjectProperty<T> currentValueProperty) {
-        if (currentValueProperty.get() != newValue) invalidateRange();
+        if (currentValueProperty.get() != newValue) {
+            // the previous value may have been a bound
+            if (currentValueProperty == item.currentXProperty()) {
+                xDataBounds.invalidate();
+            } else if (currentValueProperty == item.currentYProperty()) {
+                yDataBounds.invalidate();
+            }
+            invalidateRange();
+        }
         dataItemChanged(item);
         if (shouldAnimate()) {
             animate(
@@ -637,21 +663,115 @@ public abstract class XYChart<X,Y> extends Chart {
      * axis passing it that data.
      */
     protected void updateAxisRange() {
+        updateAutoRange(false);
+    }
+
+    /**
+     * Returns true if this chart draws the values set on its series with
+     * {@link Series#setValues}, in which case they are part of the range of
+     * the axes when both axes are value axes, the only ones they can be
+     * plotted along.
+     */
+    boolean drawsSeriesValues() {
+        return false;
+    }
+
+    /**
+     * Updates the range of the auto ranging axes. A {@link ValueAxis} only
+     * depends on the bounds of the data, so it is only given the bounds kept
+     * up to date as data is added and removed, and those of the values of the
+     * series if the chart draws them. Other axes are given all the data.
+     *
+     * @param ignoreSingleZero true if the range should be left as it is when
+     *      the only data item is zero (RT-32838)
+     */
+    final void updateAutoRange(boolean ignoreSingleZero) {
         final Axis<X> xa = getXAxis();
         final Axis<Y> ya = getYAxis();
         List<X> xData = null;
         List<Y> yData = null;
         if(xa.isAutoRanging()) xData = new ArrayList<X>();
         if(ya.isAutoRanging()) yData = new ArrayList<Y>();
-        if(xData != null || yData != null) {
+        if(xData == null && yData == null) return;
+        final boolean xBounds = xa instanceof ValueAxis;
+        final boolean yBounds = ya instanceof ValueAxis;
+
+        if((xData != null && !xBounds) || (yData != null && !yBounds)) {
             for(Series<X,Y> series : getData()) {
                 for(Data<X,Y> data: series.getData()) {
-                    if(xData != null) xData.add(data.getXValue());
-                    if(yData != null) yData.add(data.getYValue());
+                    if(xData != null && !xBounds) xData.add(data.getXValue());
+                    if(yData != null && !yBounds) yData.add(data.getYValue());
                 }
             }
-            if(xData != null) xa.invalidateRange(xData);
-            if(yData != null) ya.invalidateRange(yData);
+        }
+        if(xBounds || yBounds) {
+            updateDataBounds();
+            int count = xDataBounds.getCount();
+            double xMin = xDataBounds.getMin();
+            double xMax = xDataBounds.getMax();
+            double yMin = yDataBounds.getMin();
+            double yMax = yDataBounds.getMax();
+            final boolean values = xBounds && yBounds && drawsSeriesValues();
+            for(Series<X,Y> series : getData()) {
+                final int valueCount = values ? series.getValueCount() : 0;
+                if (valueCount == 0) continue;
+                count += valueCount;
+                final double[] xValues = series.getXValues();
+                final int start = series.getValueStart();
+                if (xValues[start] < xMin) xMin = xValues[start];
+                if (xValues[start + valueCount - 1] > xMax) xMax = xValues[start + valueCount - 1];
+                final ValueBounds bounds = series.getYValueBounds();
+                if (bounds.getMin() < yMin) yMin = bounds.getMin();
+                if (bounds.getMax() > yMax) yMax = bounds.getMax();
+            }
+            if(ignoreSingleZero && count == 1) {
+                if(xBounds && xMin == 0) xData = null;
+                if(yBounds && yMin == 0) yData = null;
+            }
+            if(xData != null && xBounds && xMin <= xMax) {
+                xData.add(xa.toRealValue(xMin));
+                xData.add(xa.toRealValue(xMax));
+            }
+            if(yData != null && yBounds && yMin <= yMax) {
+                yData.add(ya.toRealValue(yMin));
+                yData.add(ya.toRealValue(yMax));
+            }
+        }
+        if(ignoreSingleZero) {
+            // RT-32838 No need to invalidate range if there is one data item - whose value is zero.
+            if(xData != null && !xBounds && xData.size() == 1 && xa.toNumericValue(xData.get(0)) == 0) xData = null;
+            if(yData != null && !yBounds && yData.size() == 1 && ya.toNumericValue(yData.get(0)) == 0) yData = null;
+        }
+        if(xData != null) xa.invalidateRange(xData);
+        if(yData != null) ya.invalidateRange(yData);
+    }
+
+    /** Recomputes the bounds of the data if a bound has been removed */
+    private void updateDataBounds() {
+        if (xDataBounds.isValid() && yDataBounds.isValid()) return;
+        xDataBounds.clear();
+        yDataBounds.clear();
+        for(Series<X,Y> series : getData()) {
+            addDataBounds(series.getData());
+        }
+    }
+
+    // the bounds are only used by value axes, whose numeric values are cheap to get
+    private void addDataBounds(List<Data<X,Y>> items) {
+        final boolean xBounds = xAxis instanceof ValueAxis;
+        final boolean yBounds = yAxis instanceof ValueAxis;
+        for (Data<X,Y> item : items) {
+            xDataBounds.add(xBounds ? xAxis.toNumericValue(item.getXValue()) : Double.NaN);
+            yDataBounds.add(yBounds ? yAxis.toNumericValue(item.getYValue()) : Double.NaN);
+        }
+    }
+
+    private void removeDataBounds(List<Data<X,Y>> items) {
+        final boolean xBounds = xAxis instanceof ValueAxis;
+        final boolean yBounds = yAxis instanceof ValueAxis;
+        for (Data<X,Y> item : items) {
+            xDataBounds.remove(xBounds ? xAxis.toNumericValue(item.getXValue()) : Double.NaN);
+            yDataBounds.remove(yBounds ? yAxis.toNumericValue(item.getYValue()) : Double.NaN);
         }
     }
 
@@ -1585,6 +1705,117 @@ public abstract class XYChart<X,Y> extends Chart {
         public final void setData(ObservableList<Data<X,Y>> value) { data.setValue(value); }
         public final ObjectProperty<ObservableList<Data<X,Y>>> dataProperty() { return data; }
 
+        // -------------- VALUES ----------------------------------------------------
+
+        private double[] xValues;
+        private double[] yValues;
+        private int valueStart;
+        private int valueCount;
+        /** Whether the arrays were created by this series, so values can be appended to them */
+        private boolean ownsValues;
+        private final ValueBounds yValueBounds = new ValueBounds();
+
+        /** The state the path drawn for the values was built for, used to skip rebuilding it */
+        double[] valuesPathKey;
+
+        /**
+         * Sets the values plotted for this series as arrays of x and y values in the
+         * numeric space of the axes. This is meant for series with many more values
+         * than there are pixels to plot them on: no {@link Data} items or nodes are
+         * created for the values, and {@link LineChart} and {@link AreaChart} draw
+         * them as a single path decimated to the resolution of the plot, in place of
+         * the data items of the series. The x values must be in non-decreasing order.
+         * The arrays are used as they are rather than copied, so this method must be
+         * called again after they are modified. Other charts ignore the values,
+         * as do line and area charts whose axes are not both {@link ValueAxis}
+         * instances, and the values are then not part of the range of the axes
+         * either.
+         *
+         * @param xValues the x values, or null to remove the values
+         * @param yValues the y values, or null to remove the values
+         * @param count the number of values to plot from the start of the arrays
+         * @throws IllegalArgumentException if count is negative or greater than
+         *      the length of one of the arrays
+         * @since 10
+         */
+        public final void setValues(double[] xValues, double[] yValues, int count) {
+            if (xValues == null || yValues == null) {
+                xValues = yValues = null;
+                count = 0;
+            } else if (count < 0 || count > xValues.length || count > yValues.length) {
+                throw new IllegalArgumentException("Invalid value count " + count);
+            }
+            this.xValues = xValues;
+            this.yValues = yValues;
+            this.valueStart = 0;
+            this.valueCount = count;
+            this.ownsValues = false;
+            yValueBounds.invalidate();
+            final XYChart<X,Y> chart = getChart();
+            if (chart != null) chart.seriesValuesChanged(this);
+        }
+
+        /**
+         * Appends a value to the values plotted for this series, removing the oldest
+         * values so that no more than {@code windowSize} values are kept. This takes
+         * constant time on average, which makes it suitable for plotting a live stream
+         * of samples. The x value must not be less than the x value of the last value.
+         * Values set with {@link #setValues(double[], double[], int)} are copied the
+         * first time a value is appended to them, and the arrays passed to it are not
+         * modified.
+         *
+         * @param xValue the x value
+         * @param yValue the y value
+         * @param windowSize the maximum number of values to keep
+         * @throws IllegalArgumentException if windowSize is less than one
+         * @since 10
+         */
+        public final void appendValue(double xValue, double yValue, int windowSize) {
+            if (windowSize < 1) {
+                throw new IllegalArgumentException("Invalid window size " + windowSize);
+            }
+            // slide the window past the oldest values
+            final int removed = Math.max(0, valueCount + 1 - windowSize);
+            for (int i = valueStart; i < valueStart + removed; i++) {
+                yValueBounds.remove(yValues[i]);
+            }
+            valueStart += removed;
+            valueCount -= removed;
+
+            if (!ownsValues || valueStart + valueCount == xValues.length) {
+                // move the values to the start of arrays with as much room after
+                // them as they take, so this only happens every so many appends
+                final int capacity = Math.max(16, valueCount * 2 + 1);
+                final boolean reuse = ownsValues && xValues.length >= capacity;
+                final double[] newXValues = reuse ? xValues : new double[capacity];
+                final double[] newYValues = reuse ? yValues : new double[capacity];
+                if (valueCount > 0) {
+                    System.arraycopy(xValues, valueStart, newXValues, 0, valueCount);
+                    System.arraycopy(yValues, valueStart, newYValues, 0, valueCount);
+                }
+                xValues = newXValues;
+                yValues = newYValues;
+                valueStart = 0;
+                ownsValues = true;
+            }
+            xValues[valueStart + valueCount] = xValue;
+            yValues[valueStart + valueCount] = yValue;
+            valueCount++;
+            yValueBounds.add(yValue);
+            final XYChart<X,Y> chart = getChart();
+            if (chart != null) chart.seriesValuesChanged(this);
+        }
+
+        /**
+         * Gets the number of values plotted for this series.
+         *
+         * @return the number of values set by {@link #setValues(double[], double[], int)}
+         * @since 10
+         */
+        public final int getValueCount() {
+            return valueCount;
+        }
+
         // -------------- CONSTRUCTORS ----------------------------------------------
 
         /**
@@ -1647,6 +1878,30 @@ public abstract class XYChart<X,Y> extends Chart {
         int getDataSize() {
             return displayedData.size();
         }
+
+        double[] getXValues() {
+            return xValues;
+        }
+
+        double[] getYValues() {
+            return yValues;
+        }
+
+        /** The index in the value arrays of the first value */
+        int getValueStart() {
+            return valueStart;
+        }
+
+        /** The bounds of the y values, recomputed if a bound has been removed */
+        ValueBounds getYValueBounds() {
+            if (!yValueBounds.isValid()) {
+                yValueBounds.clear();
+                for (int i = valueStart; i < valueStart + valueCount; i++) {
+                    yValueBounds.add(yValues[i]);
+                }
+            }
+            return yValueBounds;
+        }
     }
 
 }
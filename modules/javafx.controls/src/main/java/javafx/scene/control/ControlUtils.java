@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,6 +25,7 @@
 
 package javafx.scene.control;
 
+import com.sun.javafx.scene.control.SelectedCellsMap;
 import com.sun.javafx.scene.control.skin.Utils;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
@@ -159,17 +160,34 @@ class ControlUtils {
             // ensuring that the selectedIndices bitset is correctly updated.
 
             sm.startAtomic();
-            final List<Integer> removed = c.getRemoved().stream()
-                    .map(TablePositionBase::getRow)
-                    .distinct()
-                    .peek(sm.selectedIndices::clear)
-                    .collect(Collectors.toList());
-
-            final int addedSize = (int)c.getAddedSubList().stream()
-                    .map(TablePositionBase::getRow)
-                    .distinct()
-                    .peek(sm.selectedIndices::set)
-                    .count();
+            final List<Integer> removed;
+            final List<? extends TablePositionBase<?>> removedCells = c.getRemoved();
+            if (removedCells instanceof SelectedCellsMap.SelectedRowRange) {
+                // whole rows are selected, so the rows can be cleared in bulk
+                SelectedCellsMap.SelectedRowRange<?> range = (SelectedCellsMap.SelectedRowRange<?>) removedCells;
+                sm.selectedIndices.set(range.getFromRow(), range.getToRow(), false);
+                removed = range.getRows();
+            } else {
+                removed = removedCells.stream()
+                        .map(TablePositionBase::getRow)
+                        .distinct()
+                        .peek(sm.selectedIndices::clear)
+                        .collect(Collectors.toList());
+            }
+
+            final int addedSize;
+            final List<? extends TablePositionBase<?>> addedCells = c.getAddedSubList();
+            if (addedCells instanceof SelectedCellsMap.SelectedRowRange) {
+                SelectedCellsMap.SelectedRowRange<?> range = (SelectedCellsMap.SelectedRowRange<?>) addedCells;
+                sm.selectedIndices.set(range.getFromRow(), range.getToRow(), true);
+                addedSize = range.size();
+            } else {
+                addedSize = (int)addedCells.stream()
+                        .map(TablePositionBase::getRow)
+                        .distinct()
+                        .peek(sm.selectedIndices::set)
+                        .count();
+            }
             sm.stopAtomic();
 
             final int to = c.getFrom() + addedSize;
@@ -629,6 +629,9 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
         private int lastGetIndex = -1;
         private int lastGetValue = -1;
 
+        // cached cardinality of the bitset, or -1 if it needs to be recomputed
+        private int size = -1;
+
         // Fix for RT-20945 (and numerous other issues!)
         private int atomicityCount = 0;
 
@@ -695,6 +698,7 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
 
             _beginChange();
             bitset.set(index);
+            size = -1;
             int indicesIndex = indexOf(index);
             _nextAdd(indicesIndex, indicesIndex + 1);
             _endChange();
@@ -714,11 +718,16 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
 
         public void set(int index, int end, boolean isSet) {
             _beginChange();
+            size = -1;
             if (isSet) {
                 bitset.set(index, end, isSet);
-                int indicesIndex = indexOf(index);
-                int span = end - index;
-                _nextAdd(indicesIndex, indicesIndex + span);
+                if (! isAtomic()) {
+                    // no need to find the position of the range when no
+                    // change will be fired
+                    int indicesIndex = indexOf(index);
+                    int span = end - index;
+                    _nextAdd(indicesIndex, indicesIndex + span);
+                }
             } else {
                 // TODO handle remove
                 bitset.set(index, end, isSet);
@@ -791,6 +800,7 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
             _beginChange();
             List<Integer> removed = bitset.stream().boxed().collect(Collectors.toList());
             bitset.clear();
+            size = 0;
             _nextRemove(0, removed);
             _endChange();
         }
@@ -800,6 +810,7 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
 
             _beginChange();
             bitset.clear(index);
+            size = -1;
             _nextRemove(index, index);
             _endChange();
         }
@@ -854,7 +865,10 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
 
         /** Returns number of true bits in BitSet */
         @Override public int size() {
-            return bitset.cardinality();
+            if (size == -1) {
+                size = bitset.cardinality();
+            }
+            return size;
         }
 
         /** Returns the number of bits reserved in the BitSet */
@@ -49,6 +49,7 @@ import javafx.css.StyleableProperty;
 import com.sun.javafx.binding.ExpressionHelper;
 import com.sun.javafx.collections.ListListenerHelper;
 import com.sun.javafx.collections.NonIterableChange;
+import com.sun.javafx.scene.control.Rope;
 import javafx.css.converter.SizeConverter;
 import javafx.scene.control.skin.TextAreaSkin;
 
@@ -76,63 +77,29 @@ public class TextArea extends TextInputControl {
     // Text area content model
     private static final class TextAreaContent implements Content {
         private ExpressionHelper<String> helper = null;
-        private ArrayList<StringBuilder> paragraphs = new ArrayList<StringBuilder>();
-        private int contentLength = 0;
+        private Rope text = Rope.EMPTY;
+        // The string of each paragraph handed out by the paragraph list, or
+        // null if it has not been asked for since it last changed. It is kept
+        // in step with the text, so that every paragraph is only copied once
+        // and getParagraphs().get(i) returns the same object until the
+        // paragraph is edited.
+        private ArrayList<String> paragraphs = new ArrayList<String>();
         private ParagraphList paragraphList = new ParagraphList();
         private ListListenerHelper<CharSequence> listenerHelper;
 
         private TextAreaContent() {
-            paragraphs.add(new StringBuilder(DEFAULT_PARAGRAPH_CAPACITY));
+            paragraphs.add(null);
             paragraphList.content = this;
         }
 
         @Override public String get(int start, int end) {
-            int length = end - start;
-            StringBuilder textBuilder = new StringBuilder(length);
-
-            int paragraphCount = paragraphs.size();
-
-            int paragraphIndex = 0;
-            int offset = start;
-
-            while (paragraphIndex < paragraphCount) {
-                StringBuilder paragraph = paragraphs.get(paragraphIndex);
-                int count = paragraph.length() + 1;
-
-                if (offset < count) {
-                    break;
-                }
-
-                offset -= count;
-                paragraphIndex++;
-            }
-
-            // Read characters until end is reached, appending to text builder
-            // and moving to next paragraph as needed
-            StringBuilder paragraph = paragraphs.get(paragraphIndex);
-
-            int i = 0;
-            while (i < length) {
-                if (offset == paragraph.length()
-                    && i < contentLength) {
-                    textBuilder.append('\n');
-                    paragraph = paragraphs.get(++paragraphIndex);
-                    offset = 0;
-                } else {
-                    textBuilder.append(paragraph.charAt(offset++));
-                }
-
-                i++;
-            }
-
-            return textBuilder.toString();
+            return text.substring(start, end);
         }
 
         @Override
-        @SuppressWarnings("unchecked")
         public void insert(int index, String text, boolean notifyListeners) {
             if (index < 0
-                || index > contentLength) {
+                || index > length()) {
                 throw new IndexOutOfBoundsException();
             }
 
@@ -142,67 +109,20 @@ public class TextArea extends TextInputControl {
             text = TextInputControl.filterInput(text, false, false);
             int length = text.length();
             if (length > 0) {
-                // Split the text into lines
-                ArrayList<StringBuilder> lines = new ArrayList<StringBuilder>();
-
-                StringBuilder line = new StringBuilder(DEFAULT_PARAGRAPH_CAPACITY);
-                for (int i = 0; i < length; i++) {
-                    char c = text.charAt(i);
-
-                    if (c == '\n') {
-                        lines.add(line);
-                        line = new StringBuilder(DEFAULT_PARAGRAPH_CAPACITY);
-                    } else {
-                        line.append(c);
-                    }
-                }
-
-                lines.add(line);
-
-                // Merge the text into the existing content
-                // Merge the text into the existing content
-                int paragraphIndex = paragraphs.size();
-                int offset = contentLength + 1;
-
-                StringBuilder paragraph = null;
-
-                do {
-                    paragraph = paragraphs.get(--paragraphIndex);
-                    offset -= paragraph.length() + 1;
-                } while (index < offset);
-
-                int start = index - offset;
-
-                int n = lines.size();
-                if (n == 1) {
-                    // The text contains only a single line; insert it into the
-                    // intersecting paragraph
-                    paragraph.insert(start, line);
-                    fireParagraphListChangeEvent(paragraphIndex, paragraphIndex + 1,
-                        Collections.singletonList((CharSequence)paragraph));
-                } else {
-                    // The text contains multiple line; split the intersecting
-                    // paragraph
-                    int end = paragraph.length();
-                    CharSequence trailingText = paragraph.subSequence(start, end);
-                    paragraph.delete(start, end);
-
-                    // Append the first line to the intersecting paragraph and
-                    // append the trailing text to the last line
-                    StringBuilder first = lines.get(0);
-                    paragraph.insert(start, first);
-                    line.append(trailingText);
-                    fireParagraphListChangeEvent(paragraphIndex, paragraphIndex + 1,
-                        Collections.singletonList((CharSequence)paragraph));
-
-                    // Insert the remaining lines into the paragraph list
-                    paragraphs.addAll(paragraphIndex + 1, lines.subList(1, n));
-                    fireParagraphListChangeEvent(paragraphIndex + 1, paragraphIndex + n,
-                        Collections.EMPTY_LIST);
+                Rope oldText = this.text;
+                this.text = oldText.insert(index, text);
+
+                // The intersecting paragraph is replaced by the paragraphs
+                // it is split into
+                int paragraphIndex = oldText.getLineIndex(index);
+                int addedCount = this.text.getLineCount() - oldText.getLineCount();
+                List<CharSequence> removed = new Paragraphs(oldText, paragraphIndex, paragraphIndex + 1,
+                    paragraphs.set(paragraphIndex, null));
+                if (addedCount > 0) {
+                    paragraphs.addAll(paragraphIndex + 1, Collections.nCopies(addedCount, null));
                 }
+                fireParagraphListChangeEvent(paragraphIndex, paragraphIndex + addedCount + 1, removed);
 
-                // Update content length
-                contentLength += length;
                 if (notifyListeners) {
                     ExpressionHelper.fireValueChangedEvent(helper);
                 }
@@ -215,77 +135,27 @@ public class TextArea extends TextInputControl {
             }
 
             if (start < 0
-                || end > contentLength) {
+                || end > length()) {
                 throw new IndexOutOfBoundsException();
             }
 
             int length = end - start;
 
             if (length > 0) {
-                // Identify the trailing paragraph index
-                int paragraphIndex = paragraphs.size();
-                int offset = contentLength + 1;
-
-                StringBuilder paragraph = null;
-
-                do {
-                    paragraph = paragraphs.get(--paragraphIndex);
-                    offset -= paragraph.length() + 1;
-                } while (end < offset);
-
-                int trailingParagraphIndex = paragraphIndex;
-                int trailingOffset = offset;
-                StringBuilder trailingParagraph = paragraph;
-
-                // Identify the leading paragraph index
-                paragraphIndex++;
-                offset += paragraph.length() + 1;
-
-                do {
-                    paragraph = paragraphs.get(--paragraphIndex);
-                    offset -= paragraph.length() + 1;
-                } while (start < offset);
-
-                int leadingParagraphIndex = paragraphIndex;
-                int leadingOffset = offset;
-                StringBuilder leadingParagraph = paragraph;
-
-                // Remove the text
-                if (leadingParagraphIndex == trailingParagraphIndex) {
-                    // The removal affects only a single paragraph
-                    leadingParagraph.delete(start - leadingOffset,
-                        end - leadingOffset);
-
-                    fireParagraphListChangeEvent(leadingParagraphIndex, leadingParagraphIndex + 1,
-                        Collections.singletonList((CharSequence)leadingParagraph));
-                } else {
-                    // The removal spans paragraphs; remove any intervening paragraphs and
-                    // merge the leading and trailing segments
-                    CharSequence leadingSegment = leadingParagraph.subSequence(0,
-                        start - leadingOffset);
-                    int trailingSegmentLength = (start + length) - trailingOffset;
-
-                    trailingParagraph.delete(0, trailingSegmentLength);
-                    fireParagraphListChangeEvent(trailingParagraphIndex, trailingParagraphIndex + 1,
-                        Collections.singletonList((CharSequence)trailingParagraph));
-
-                    if (trailingParagraphIndex - leadingParagraphIndex > 0) {
-                        List<CharSequence> removed = new ArrayList<CharSequence>(paragraphs.subList(leadingParagraphIndex,
-                            trailingParagraphIndex));
-                        paragraphs.subList(leadingParagraphIndex,
-                            trailingParagraphIndex).clear();
-                        fireParagraphListChangeEvent(leadingParagraphIndex, leadingParagraphIndex,
-                            removed);
-                    }
-
-                    // Trailing paragraph is now at the former leading paragraph's index
-                    trailingParagraph.insert(0, leadingSegment);
-                    fireParagraphListChangeEvent(leadingParagraphIndex, leadingParagraphIndex + 1,
-                        Collections.singletonList((CharSequence)leadingParagraph));
-                }
+                Rope oldText = text;
+                text = oldText.delete(start, end);
+
+                // The paragraphs from the leading to the trailing one are
+                // merged into one
+                int leadingParagraphIndex = oldText.getLineIndex(start);
+                int trailingParagraphIndex = oldText.getLineIndex(end);
+                List<String> merged = paragraphs.subList(leadingParagraphIndex, trailingParagraphIndex + 1);
+                List<CharSequence> removed = new Paragraphs(oldText, leadingParagraphIndex, trailingParagraphIndex + 1,
+                    merged.toArray(new String[merged.size()]));
+                merged.subList(1, merged.size()).clear();
+                merged.set(0, null);
+                fireParagraphListChangeEvent(leadingParagraphIndex, leadingParagraphIndex + 1, removed);
 
-                // Update content length
-                contentLength -= length;
                 if (notifyListeners) {
                     ExpressionHelper.fireValueChangedEvent(helper);
                 }
@@ -293,11 +163,12 @@ public class TextArea extends TextInputControl {
         }
 
         @Override public int length() {
-            return contentLength;
+            return text.length();
         }
 
         @Override public String get() {
-            return get(0, length());
+            // built once for each version of the text
+            return text.toString();
         }
 
         @Override public void addListener(ChangeListener<? super String> changeListener) {
@@ -332,9 +203,27 @@ public class TextArea extends TextInputControl {
 
         private TextAreaContent content;
 
+        // where the last paragraph copied from the text ended, so that walking
+        // the paragraphs in order does not have to look up each one
+        private Rope lastText;
+        private int lastIndex = -1;
+        private int lastEnd;
+
         @Override
         public CharSequence get(int index) {
-            return content.paragraphs.get(index);
+            String paragraph = content.paragraphs.get(index);
+            if (paragraph == null) {
+                Rope text = content.text;
+                int start = (text == lastText && index == lastIndex + 1) ?
+                        lastEnd + 1 : text.getLineStart(index);
+                int end = text.getLineEndFrom(start);
+                paragraph = text.substring(start, end);
+                content.paragraphs.set(index, paragraph);
+                lastText = text;
+                lastIndex = index;
+                lastEnd = end;
+            }
+            return paragraph;
         }
 
         @Override
@@ -359,7 +248,7 @@ public class TextArea extends TextInputControl {
 
         @Override
         public int size() {
-            return content.paragraphs.size();
+            return content.text.getLineCount();
         }
 
         @Override
@@ -398,6 +287,36 @@ public class TextArea extends TextInputControl {
         }
     }
 
+    // The paragraphs of a version of the content, used for removed paragraphs.
+    // Those the paragraph list had handed out are returned as they were.
+    private static final class Paragraphs extends AbstractList<CharSequence> {
+        private final Rope text;
+        private final int from;
+        private final int to;
+        private final String[] strings;
+
+        private Paragraphs(Rope text, int from, int to, String... strings) {
+            this.text = text;
+            this.from = from;
+            this.to = to;
+            this.strings = strings;
+        }
+
+        @Override public CharSequence get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException();
+            }
+            if (strings[index] == null) {
+                strings[index] = text.substring(text.getLineStart(from + index), text.getLineEnd(from + index));
+            }
+            return strings[index];
+        }
+
+        @Override public int size() {
+            return to - from;
+        }
+    }
+
     private static final class ParagraphListChange extends NonIterableChange<CharSequence>  {
 
         private List<CharSequence> removed;
@@ -430,8 +349,6 @@ public class TextArea extends TextInputControl {
      */
     public static final int DEFAULT_PREF_ROW_COUNT = 10;
 
-    private static final int DEFAULT_PARAGRAPH_CAPACITY = 32;
-
     /**
      * Creates a {@code TextArea} with empty text content.
      */
@@ -27,7 +27,10 @@ package javafx.scene.control;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.BooleanPropertyBase;
@@ -44,6 +47,7 @@ import javafx.event.EventType;
 import javafx.scene.Node;
 
 import com.sun.javafx.event.EventHandlerManager;
+import com.sun.javafx.scene.control.RowCountIndex;
 import java.util.Comparator;
 import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.ReadOnlyBooleanWrapper;
@@ -366,6 +370,19 @@ public class TreeItem<T> implements EventTarget { //, Comparable<TreeItem<T>> {
         new EventHandler<TreeModificationEvent<Object>>() {
             @Override public void handle(TreeModificationEvent<Object> event) {
                 expandedDescendentCountDirty = true;
+
+                // expanding or collapsing this item does not change the rows
+                // of its children, but changing the children does
+                if (event.getTreeItem() == TreeItem.this && !event.wasExpanded() && !event.wasCollapsed()) {
+                    childRowsDirty = true;
+                }
+
+                // the event bubbles up to the parent next, so every item on
+                // the way up only marks its own rows as changed in its parent
+                final TreeItem<T> parent = getParent();
+                if (parent != null) {
+                    parent.childRowsChanged(TreeItem.this);
+                }
             }
     };
 
@@ -404,6 +421,19 @@ public class TreeItem<T> implements EventTarget { //, Comparable<TreeItem<T>> {
     // when all children are collapsed.
     int previousExpandedDescendentCount = 1;
 
+    // The number of rows shown by each child when this item is expanded, and
+    // the position of each child, so that rows can be looked up without
+    // scanning the children. The rows of the children whose expanded
+    // descendent count changed are updated when the index is next used, and
+    // the whole index is rebuilt when the children change. The index is only
+    // created once the rows of the children are first counted, that is once
+    // this item has children and is expanded, so leaves do not pay for it.
+    private RowCountIndex childRows;
+    private Map<TreeItem<T>, Integer> childPositions;
+    private Set<TreeItem<?>> dirtyChildRows;
+    private boolean childRowsDirty = true;
+    private boolean childRowsHaveDuplicates;
+
     Comparator<TreeItem<T>> lastComparator = null;
     TreeSortMode lastSortMode = null;
 
@@ -912,12 +942,84 @@ public class TreeItem<T> implements EventTarget { //, Comparable<TreeItem<T>> {
 
         ignoreSortUpdate = true;
         if (!isLeaf() && isExpanded()) {
-            for (TreeItem<T> child : getChildren()) {
+            getChildren();
+            expandedDescendentCount += getChildRows(reset).getTotal();
+        }
+        ignoreSortUpdate = false;
+    }
+
+    /*
+     * Returns the number of rows shown by each child, updating the rows of
+     * the children that changed since the last call. If reset is true, the
+     * rows of all descendants are counted again. This goes directly to the
+     * children list, rather than via getChildren(), so that looking up rows
+     * from a listener does not cause the children to be loaded or sorted.
+     */
+    RowCountIndex getChildRows(boolean reset) {
+        if (reset || childRowsDirty) {
+            dirtyChildRows = null;
+            final List<TreeItem<T>> children = this.children == null ? Collections.emptyList() : this.children;
+            final int size = children.size();
+            final int[] rows = new int[size];
+            if (childRows == null) {
+                childRows = new RowCountIndex();
+            }
+            childPositions = new IdentityHashMap<>(size);
+            childRowsHaveDuplicates = false;
+            for (int i = 0; i < size; i++) {
+                final TreeItem<T> child = children.get(i);
                 if (child == null) continue;
-                expandedDescendentCount += child.isExpanded() ? child.getExpandedDescendentCount(reset) : 1;
+                rows[i] = getRows(child, reset);
+                if (childPositions.putIfAbsent(child, i) != null) {
+                    childRowsHaveDuplicates = true;
+                }
+            }
+            childRows.setAll(rows, size);
+            childRowsDirty = false;
+        } else {
+            // counting the rows of a child may mark children dirty again
+            while (dirtyChildRows != null) {
+                final Set<TreeItem<?>> children = dirtyChildRows;
+                dirtyChildRows = null;
+                for (TreeItem<?> child : children) {
+                    final Integer position = childPositions.get(child);
+                    if (position != null) {
+                        childRows.set(position, getRows(child, false));
+                    }
+                }
             }
         }
-        ignoreSortUpdate = false;
+        return childRows;
+    }
+
+    /*
+     * Marks the rows of the given child as changed, so that they are counted
+     * again when the index is next used.
+     */
+    private void childRowsChanged(TreeItem<?> child) {
+        if (childRowsDirty) return;
+        if (childRowsHaveDuplicates) {
+            childRowsDirty = true;
+            return;
+        }
+        if (dirtyChildRows == null) {
+            dirtyChildRows = Collections.newSetFromMap(new IdentityHashMap<>());
+        }
+        dirtyChildRows.add(child);
+    }
+
+    private static int getRows(TreeItem<?> child, boolean reset) {
+        return child.isExpanded() ? child.getExpandedDescendentCount(reset) : 1;
+    }
+
+    /*
+     * Returns the number of rows shown by the children before the given
+     * child, or -1 if it is not a child of this item.
+     */
+    int getChildRowOffset(TreeItem<?> child) {
+        final RowCountIndex rows = getChildRows(false);
+        final Integer position = childPositions.get(child);
+        return position == null ? -1 : rows.getOffset(position);
     }
 
     private void updateChildren(ListChangeListener.Change<? extends TreeItem<T>> c) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,6 +25,7 @@
 
 package javafx.scene.control;
 
+import com.sun.javafx.scene.control.RowCountIndex;
 import java.util.List;
 
 /**
@@ -62,35 +63,22 @@ class TreeUtil {
         // if itemIndex is > the total item count, then it is out of range
         if (itemIndex >= getExpandedDescendantCount(parent, treeItemCountDirty)) return null;
 
-        // if we got here, then one of our descendants is the item we're after
+        // if we got here, then one of our descendants is the item we're after.
+        // The parent keeps the rows shown by each child, so the child is
+        // found without scanning its siblings.
         List<TreeItem<T>> children = parent.getChildren();
         if (children == null) return null;
 
         int idx = itemIndex - 1;
 
-        TreeItem<T> child;
-        for (int i = 0, max = children.size(); i < max; i++) {
-            child = children.get(i);
-            if (idx == 0) return child;
-
-            if (child.isLeaf() || ! child.isExpanded()) {
-                idx--;
-                continue;
-            }
-
-            int expandedChildCount = getExpandedDescendantCount(child, treeItemCountDirty);
-            if (idx >= expandedChildCount) {
-                idx -= expandedChildCount;
-                continue;
-            }
-
-            TreeItem<T> result = getItem(child, idx, treeItemCountDirty);
-            if (result != null) return result;
-            idx--;
-        }
+        RowCountIndex childRows = parent.getChildRows(false);
+        int i = childRows.getIndex(idx);
 
         // We might get here if getItem(0) is called on an empty tree
-        return null;
+        if (i >= children.size()) return null;
+
+        TreeItem<T> child = children.get(i);
+        return getItem(child, idx - childRows.getOffset(i), treeItemCountDirty);
     }
 
     static <T> int getRow(TreeItem<T> item, TreeItem<T> root, boolean treeItemCountDirty, boolean isShowRoot) {
@@ -104,8 +92,6 @@ class TreeUtil {
         TreeItem<T> i = item;
         TreeItem<T> p = item.getParent();
 
-        TreeItem<T> sibling;
-        List<TreeItem<T>> siblings;
         boolean parentIsCollapsed = false;
 
         while (!i.equals(root) && p != null) {
@@ -114,25 +100,21 @@ class TreeUtil {
                 break;
             }
 
-            siblings = p.children;
-
-            // work up each sibling, from the current item
-            int itemIndex = siblings.indexOf(i);
-            for (int pos = itemIndex - 1; pos > -1; pos--) {
-                sibling = siblings.get(pos);
-                if (sibling == null) continue;
-
-                row += getExpandedDescendantCount(sibling, treeItemCountDirty);
-
-                if (sibling.equals(root)) {
+            // add the rows of the siblings before the current item, which the
+            // parent keeps track of
+            int itemOffset = p.getChildRowOffset(i);
+            if (itemOffset > 0) {
+                int rootOffset = root == null ? -1 : p.getChildRowOffset(root);
+                if (rootOffset >= 0 && rootOffset < itemOffset) {
                     if (! isShowRoot) {
                         // special case: we've found out that our sibling is
                         // actually the root node AND we aren't showing root nodes.
                         // This means that the item shouldn't actually be shown.
                         return -1;
                     }
-                    return row;
+                    return row + itemOffset - rootOffset;
                 }
+                row += itemOffset;
             }
 
             i = p;
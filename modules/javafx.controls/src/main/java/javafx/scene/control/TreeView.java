@@ -1073,7 +1073,9 @@ public class TreeView<T> extends Control {
      **************************************************************************/
 
     private void updateExpandedItemCount(TreeItem<T> treeItem) {
-        setExpandedItemCount(TreeUtil.updateExpandedItemCount(treeItem, expandedItemCountDirty, isShowRoot()));
+        // the tree items keep their counts up to date as they change, so
+        // there is no need to count the rows of the whole tree again
+        setExpandedItemCount(TreeUtil.updateExpandedItemCount(treeItem, false, isShowRoot()));
 
         if (expandedItemCountDirty) {
             // this is a very inefficient thing to do, but for now having a cache
@@ -171,10 +171,10 @@ public class PropertyValueFactory<S,T> implements Callback<CellDataFeatures<S,T>
                     ! columnClass.equals(rowData.getClass()) ||
                     ! previousProperty.equals(getProperty())) {
 
-                // create a new PropertyReference
+                // get the shared PropertyReference of the new class
                 this.columnClass = rowData.getClass();
                 this.previousProperty = getProperty();
-                this.propertyRef = new PropertyReference<T>(rowData.getClass(), getProperty());
+                this.propertyRef = PropertyReference.of(rowData.getClass(), getProperty());
             }
 
             if (propertyRef != null) {
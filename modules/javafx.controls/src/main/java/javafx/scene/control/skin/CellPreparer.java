@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.control.skin;
+
+import java.util.concurrent.Executor;
+import javafx.scene.control.IndexedCell;
+
+/**
+ * Splits the work of filling a cell of a {@link VirtualFlow} in two steps:
+ * preparing the content to display for an item, which may be expensive and
+ * is done on a background thread, and applying the prepared content to a
+ * cell, which must be cheap and is done on the JavaFX Application Thread.
+ * The item is read from a cell on the JavaFX Application Thread when the
+ * content is requested, so that the items are never accessed from the
+ * background thread.
+ * <p>
+ * When a cell is laid out, it is first updated as usual, so that it can show
+ * a placeholder. If the content for its index has already been prepared, it
+ * is applied to the cell straight away; otherwise it is prepared in the
+ * background and applied as soon as it is ready, if the cell still shows
+ * the same index. The flow also prepares the content of the cells just
+ * outside the viewport, so that it is usually ready before they scroll into
+ * view.
+ *
+ * @param <I> the type of the items
+ * @param <T> the type of the cells
+ * @param <D> the type of the prepared content
+ * @see VirtualFlow#cellPreparerProperty()
+ * @since 10
+ */
+public interface CellPreparer<I, T extends IndexedCell<I>, D> {
+
+    /**
+     * Prepares the content to display for the given item. This method is
+     * called on a background thread, so it must not access the scene graph
+     * or the list of items; it may be called for items that are never
+     * displayed.
+     *
+     * @param index the index of the cell
+     * @param item the item of the cell at that index, which may be null
+     * @return the prepared content, which may be null
+     */
+    D prepare(int index, I item);
+
+    /**
+     * Applies prepared content to a cell. This method is called on the
+     * JavaFX Application Thread, after the cell has been updated to the
+     * index the content was prepared for.
+     *
+     * @param cell the cell to update
+     * @param content the content prepared for the index of the cell
+     */
+    void apply(T cell, D content);
+
+    /**
+     * Returns the executor used to call {@link #prepare(int, Object)}. The default
+     * implementation returns null, in which case a shared pool of daemon
+     * threads is used.
+     *
+     * @return the executor, or null to use the default one
+     */
+    default Executor getExecutor() {
+        return null;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.control.skin;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.sun.javafx.scene.control.skin.Utils;
+import javafx.css.StyleOrigin;
+import javafx.css.StyleableObjectProperty;
+import javafx.geometry.HPos;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.geometry.VPos;
+import javafx.scene.Node;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Cell;
+import javafx.scene.control.OverrunStyle;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Paint;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+/**
+ * Draws the values of a table column for rows that render the column without
+ * creating cells, as the default cell of the column would show them: the
+ * string value of the item, clipped with an ellipsis to the width of the
+ * column. A single renderer is shared by all the rows of a column, and it
+ * remembers the clipped text of the values it has drawn for the current
+ * column width and font, so that the text is not measured again every time a
+ * row is laid out.
+ * <p>
+ * The insets and alignment of the values are those of a template cell, which
+ * the table skin keeps in its children so that it is styled like the cells
+ * of the table.
+ */
+final class LightweightCellRenderer {
+
+    private static final String ELLIPSIS = "...";
+
+    private static final int MAX_CACHED_TEXTS = 1024;
+
+    private final Cell<?> template;
+    private final Map<String, String> clippedTexts = new HashMap<>();
+    private Font font;
+    private double textWidth = -1;
+
+    LightweightCellRenderer(Cell<?> template) {
+        this.template = template;
+    }
+
+    /**
+     * Returns the text the default cell shows for the given item, or null if
+     * it shows no text, which is the case for null items and for nodes,
+     * which the default cell shows as its graphic.
+     */
+    static String getText(Object item) {
+        return item == null || item instanceof Node ? null : item.toString();
+    }
+
+    /**
+     * Returns the alignment of the values. As TableRowSkinBase does for the
+     * cells, the values are aligned to the top of rows that do not centre
+     * their content, unless an alignment has been set on the cells.
+     */
+    Pos getAlignment(boolean centreContent) {
+        final StyleOrigin origin = ((StyleableObjectProperty<?>) template.alignmentProperty()).getStyleOrigin();
+        return ! centreContent && origin == null ? Pos.TOP_LEFT : template.getAlignment();
+    }
+
+    /**
+     * Draws the given text in the area of a cell.
+     */
+    void draw(GraphicsContext gc, String text, double x, double y, double width, double height,
+              boolean centreContent, Font font, Paint fill) {
+        if (text == null || text.isEmpty()) return;
+
+        final Insets insets = template.getInsets();
+        final double areaWidth = width - insets.getLeft() - insets.getRight();
+        final double areaHeight = height - insets.getTop() - insets.getBottom();
+        final String clippedText = getClippedText(text, font, areaWidth);
+        if (clippedText == null || clippedText.isEmpty()) return;
+
+        final Pos alignment = getAlignment(centreContent);
+        final HPos hpos = alignment.getHpos();
+        final VPos vpos = alignment.getVpos() == VPos.BASELINE ? VPos.TOP : alignment.getVpos();
+
+        double textX = x + insets.getLeft();
+        TextAlignment textAlignment = TextAlignment.LEFT;
+        if (hpos == HPos.CENTER) {
+            textX += areaWidth / 2;
+            textAlignment = TextAlignment.CENTER;
+        } else if (hpos == HPos.RIGHT) {
+            textX += areaWidth;
+            textAlignment = TextAlignment.RIGHT;
+        }
+
+        double textY = y + insets.getTop();
+        if (vpos == VPos.CENTER) {
+            textY += Math.max(0, areaHeight) / 2;
+        } else if (vpos == VPos.BOTTOM) {
+            textY += Math.max(0, areaHeight);
+        }
+
+        gc.setFont(font);
+        gc.setFill(fill);
+        gc.setTextAlign(textAlignment);
+        gc.setTextBaseline(vpos);
+        gc.fillText(clippedText, textX, textY);
+    }
+
+    /**
+     * Positions a node value in the area of a cell, as the default cell shows
+     * nodes as its graphic.
+     */
+    void layoutGraphic(Node graphic, double x, double y, double width, double height, boolean centreContent) {
+        final Insets insets = template.getInsets();
+        final double areaWidth = Math.max(0, width - insets.getLeft() - insets.getRight());
+        final double areaHeight = Math.max(0, height - insets.getTop() - insets.getBottom());
+        final double pw = Math.min(graphic.prefWidth(-1), areaWidth);
+        final double ph = Math.min(graphic.prefHeight(pw), areaHeight);
+        graphic.resize(pw, ph);
+
+        final Pos alignment = getAlignment(centreContent);
+        Region.positionInArea(graphic, x + insets.getLeft(), y + insets.getTop(), areaWidth, areaHeight,
+                0, Insets.EMPTY, alignment.getHpos(), alignment.getVpos(), template.isSnapToPixel());
+    }
+
+    /**
+     * Returns the given text clipped with an ellipsis to the given width.
+     */
+    String getClippedText(String text, Font font, double width) {
+        if (width <= 0) return "";
+        if (! font.equals(this.font) || width != textWidth) {
+            clippedTexts.clear();
+            this.font = font;
+            textWidth = width;
+        }
+
+        String clippedText = clippedTexts.get(text);
+        if (clippedText == null) {
+            clippedText = Utils.computeClippedText(font, text, width, OverrunStyle.ELLIPSIS, ELLIPSIS);
+            if (clippedTexts.size() == MAX_CACHED_TEXTS) {
+                clippedTexts.clear();
+            }
+            clippedTexts.put(text, clippedText);
+        }
+        return clippedText;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,6 +26,7 @@
 package javafx.scene.control.skin;
 
 
+import java.lang.ref.Reference;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -123,6 +124,11 @@ public class TableRowSkin<T> extends TableRowSkinBase<T, TableRow<T>, TableCell<
                 registerChangeListener(fixedCellSizeProperty, e -> {
                     fixedCellSize = fixedCellSizeProperty.get();
                     fixedCellSizeEnabled = fixedCellSize > 0;
+
+                    // cells are only created for the columns in view when the
+                    // fixed cell size is enabled, so the cells must be rebuilt
+                    isDirty = true;
+                    getSkinnable().requestLayout();
                 });
                 fixedCellSize = fixedCellSizeProperty.get();
                 fixedCellSizeEnabled = fixedCellSize > 0;
@@ -131,7 +137,10 @@ public class TableRowSkin<T> extends TableRowSkinBase<T, TableRow<T>, TableCell<
                 // When in fixed cell size mode, we must listen to the width of the virtual flow, so
                 // that when it changes, we can appropriately add / remove cells that may or may not
                 // be required (because we remove all cells that are not visible).
-                registerChangeListener(getVirtualFlow().widthProperty(), e -> tableView.requestLayout());
+                registerChangeListener(getVirtualFlow().widthProperty(), e -> {
+                    tableView.requestLayout();
+                    getSkinnable().requestLayout();
+                });
             }
         }
     }
@@ -168,7 +177,9 @@ public class TableRowSkin<T> extends TableRowSkinBase<T, TableRow<T>, TableCell<
                             /* This is the row-based case */
                             column = getTableView().getVisibleLeafColumn(0);
                         }
-                        TableCell<T,?> cell = cellsMap.get(column).get();
+                        // with a fixed cell size, columns out of view have no cell
+                        Reference<TableCell<T,?>> cellRef = cellsMap.get(column);
+                        TableCell<T,?> cell = cellRef == null ? null : cellRef.get();
                         if (cell != null) selection.add(cell);
                     }
                     return FXCollections.observableArrayList(selection);
@@ -207,6 +218,30 @@ public class TableRowSkin<T> extends TableRowSkinBase<T, TableRow<T>, TableCell<
      *                                                                         *
      **************************************************************************/
 
+    /** {@inheritDoc} */
+    @Override DoubleProperty fixedCellSizeProperty() {
+        TableView<T> control = getSkinnable().getTableView();
+        return control == null ? null : control.fixedCellSizeProperty();
+    }
+
+    /** {@inheritDoc} */
+    @Override boolean isLightweightColumn(TableColumnBase<T,?> column) {
+        // only the default cells, which show nothing but the text or graphic
+        // of the value, can be drawn by the row instead
+        TableView<T> tableView = getTableView();
+        return tableView != null
+                && tableView.getSkin() instanceof TableViewSkin
+                && ((TableViewSkin<?>) tableView.getSkin()).isLightweightCells()
+                && (Object) ((TableColumn<T,?>) column).getCellFactory() == TableColumn.DEFAULT_CELL_FACTORY;
+    }
+
+    /** {@inheritDoc} */
+    @Override LightweightCellRenderer getLightweightCellRenderer(TableColumnBase<T,?> column) {
+        TableView<T> tableView = getTableView();
+        return tableView != null && tableView.getSkin() instanceof TableViewSkin ?
+                ((TableViewSkin<?>) tableView.getSkin()).getLightweightCellRenderer(column) : null;
+    }
+
     /** {@inheritDoc} */
     @Override protected TableCell<T, ?> createCell(TableColumnBase tcb) {
         TableColumn tableColumn = (TableColumn<T,?>) tcb;
@@ -39,10 +39,11 @@ import javafx.collections.ObservableList;
 import javafx.collections.WeakListChangeListener;
 import javafx.css.StyleOrigin;
 import javafx.css.StyleableObjectProperty;
-import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
 import javafx.scene.Parent;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.*;
 import javafx.util.Duration;
 
@@ -116,7 +117,9 @@ public abstract class TableRowSkinBase<T,
      * This is recreated whenever the leaf columns change, however to increase
      * efficiency we create cells for all columns, even if they aren't visible,
      * and we only create new cells if we don't already have it cached in this
-     * map.
+     * map. The exception is when a fixed cell size is set, in which case cells
+     * are only created for the columns that are scrolled into view, and the
+     * cells of the other columns are kept here until their columns return.
      *
      * Note that this means that it is possible for this map to therefore be
      * a memory leak if an application uses TableView and is creating and removing
@@ -128,6 +131,13 @@ public abstract class TableRowSkinBase<T,
     // This observableArrayList contains the currently visible table cells for this row.
     final List<R> cells = new ArrayList<>();
 
+    // The range of visible leaf columns, [visibleColumnsFrom, visibleColumnsTo),
+    // that the cells list represents. When a fixed cell size is set this is the
+    // range of columns within the viewport of the VirtualFlow, and otherwise it
+    // is all visible leaf columns.
+    int visibleColumnsFrom = 0;
+    int visibleColumnsTo = 0;
+
     private int fullRefreshCounter = DEFAULT_FULL_REFRESH_COUNTER;
 
     boolean isDirty = false;
@@ -136,6 +146,13 @@ public abstract class TableRowSkinBase<T,
     double fixedCellSize;
     boolean fixedCellSizeEnabled;
 
+    // The columns in view that are drawn by this row rather than by cells,
+    // see isLightweightColumn. Their values are drawn into lightweightCanvas,
+    // except for node values, which are added to the row as they are.
+    private final Set<TableColumnBase<T,?>> lightweightColumns = Collections.newSetFromMap(new IdentityHashMap<>());
+    private Canvas lightweightCanvas;
+    private final List<Node> lightweightGraphics = new ArrayList<>();
+
 
 
     /***************************************************************************
@@ -155,6 +172,14 @@ public abstract class TableRowSkinBase<T,
         super(control);
         getSkinnable().setPickOnBounds(false);
 
+        // the fixed cell size must be known before any cells are created, as
+        // it determines whether cells are created for every column
+        DoubleProperty fixedCellSizeProperty = fixedCellSizeProperty();
+        if (fixedCellSizeProperty != null) {
+            fixedCellSize = fixedCellSizeProperty.get();
+            fixedCellSizeEnabled = fixedCellSize > 0;
+        }
+
         recreateCells();
         updateCells(true);
 
@@ -254,7 +279,11 @@ public abstract class TableRowSkinBase<T,
     /** {@inheritDoc} */
     @Override protected void layoutChildren(double x, final double y, final double w, final double h) {
         checkState();
-        if (cellsMap.isEmpty()) return;
+        if (fixedCellSizeEnabled && updateVisibleColumnRange()) {
+            // columns have scrolled into or out of view
+            updateVisibleCells();
+        }
+        if (cellsMap.isEmpty() && lightweightColumns.isEmpty()) return;
 
         ObservableList<? extends TableColumnBase> visibleLeafColumns = getVisibleLeafColumns();
         if (visibleLeafColumns.isEmpty()) {
@@ -339,119 +368,130 @@ public abstract class TableRowSkinBase<T,
         int index = control.getIndex();
         if (index < 0/* || row >= itemsProperty().get().size()*/) return;
 
-        for (int column = 0, max = cells.size(); column < max; column++) {
-            R tableCell = cells.get(column);
-            TableColumnBase<T, ?> tableColumn = getTableColumn(tableCell);
+        // skip over the columns that are scrolled out of view (and therefore
+        // have no cells)
+        for (int column = 0; column < visibleColumnsFrom; column++) {
+            x += getColumnWidth(visibleLeafColumns.get(column), horizontalPadding);
+        }
+
+        final GraphicsContext lightweightGraphicsContext = prepareLightweightCanvas(x, horizontalPadding);
+        final List<Node> previousLightweightGraphics = lightweightGraphics.isEmpty() ?
+                Collections.emptyList() : new ArrayList<>(lightweightGraphics);
+        lightweightGraphics.clear();
+
+        // Added for RT-32700, and then updated for RT-34074.
+        // We change the alignment from CENTER_LEFT to TOP_LEFT if the
+        // height of the row is greater than the default size, and if
+        // the alignment is the default alignment.
+        // What I would rather do is only change the alignment if the
+        // alignment has not been manually changed, but for now this will
+        // do.
+        final boolean centreContent = h <= 24.0;
+
+        for (int column = visibleColumnsFrom, cellIndex = 0; column < visibleColumnsTo; column++) {
+            if (lightweightGraphicsContext != null) {
+                TableColumnBase<T,?> tableColumn = getTypedVisibleLeafColumns().get(column);
+                if (lightweightColumns.contains(tableColumn)) {
+                    width = getColumnWidth(tableColumn, horizontalPadding);
+                    layoutLightweightCell(lightweightGraphicsContext, tableColumn, index, x, width, fixedCellSize, centreContent);
+                    x += width;
+                    continue;
+                }
+            }
+
+            if (cellIndex == cells.size()) break;
+            R tableCell = cells.get(cellIndex++);
 
-            boolean isVisible = true;
             if (fixedCellSizeEnabled) {
-                // we determine if the cell is visible, and if not we have the
-                // ability to take it out of the scenegraph to help improve
-                // performance. However, we only do this when there is a
-                // fixed cell length specified in the TableView. This is because
                 // when we have a fixed cell length it is possible to know with
                 // certainty the height of each TableCell - it is the fixed value
                 // provided by the developer, and this means that we do not have
                 // to concern ourselves with the possibility that the height
-                // may be variable and / or dynamic.
-                isVisible = isColumnPartiallyOrFullyVisible(tableColumn);
-
+                // may be variable and / or dynamic. This is why only the cells
+                // of the columns in view are kept in the scenegraph in this case.
                 height = fixedCellSize;
+
+                if (tableCell.getParent() == null) {
+                    getChildren().add(tableCell);
+                }
             } else {
                 height = Math.max(controlHeight, tableCell.prefHeight(-1));
                 height = snapSizeY(height) - snapSizeY(verticalPadding);
             }
 
-            if (isVisible) {
-                if (fixedCellSizeEnabled && tableCell.getParent() == null) {
-                    getChildren().add(tableCell);
-                }
+            width = tableCell.prefWidth(height) - snapSizeX(horizontalPadding);
 
-                width = tableCell.prefWidth(height) - snapSizeX(horizontalPadding);
-
-                // Added for RT-32700, and then updated for RT-34074.
-                // We change the alignment from CENTER_LEFT to TOP_LEFT if the
-                // height of the row is greater than the default size, and if
-                // the alignment is the default alignment.
-                // What I would rather do is only change the alignment if the
-                // alignment has not been manually changed, but for now this will
-                // do.
-                final boolean centreContent = h <= 24.0;
-
-                // if the style origin is null then the property has not been
-                // set (or it has been reset to its default), which means that
-                // we can set it without overwriting someone elses settings.
-                final StyleOrigin origin = ((StyleableObjectProperty<?>) tableCell.alignmentProperty()).getStyleOrigin();
-                if (! centreContent && origin == null) {
-                    tableCell.setAlignment(Pos.TOP_LEFT);
-                }
-                // --- end of RT-32700 fix
-
-                ///////////////////////////////////////////
-                // further indentation code starts here
-                ///////////////////////////////////////////
-                if (indentationRequired && column == indentationColumnIndex) {
-                    if (disclosureVisible) {
-                        double ph = disclosureNode.prefHeight(disclosureWidth);
-
-                        if (width > 0 && width < (disclosureWidth + leftMargin)) {
-                            fadeOut(disclosureNode);
-                        } else {
-                            fadeIn(disclosureNode);
-                            disclosureNode.resize(disclosureWidth, ph);
-
-                            disclosureNode.relocate(x + leftMargin,
-                                    centreContent ? (h / 2.0 - ph / 2.0) :
-                                            (y + tableCell.getPadding().getTop()));
-                            disclosureNode.toFront();
-                        }
+            // if the style origin is null then the property has not been
+            // set (or it has been reset to its default), which means that
+            // we can set it without overwriting someone elses settings.
+            final StyleOrigin origin = ((StyleableObjectProperty<?>) tableCell.alignmentProperty()).getStyleOrigin();
+            if (! centreContent && origin == null) {
+                tableCell.setAlignment(Pos.TOP_LEFT);
+            }
+            // --- end of RT-32700 fix
+
+            ///////////////////////////////////////////
+            // further indentation code starts here
+            ///////////////////////////////////////////
+            if (indentationRequired && column == indentationColumnIndex) {
+                if (disclosureVisible) {
+                    double ph = disclosureNode.prefHeight(disclosureWidth);
+
+                    if (width > 0 && width < (disclosureWidth + leftMargin)) {
+                        fadeOut(disclosureNode);
+                    } else {
+                        fadeIn(disclosureNode);
+                        disclosureNode.resize(disclosureWidth, ph);
+
+                        disclosureNode.relocate(x + leftMargin,
+                                centreContent ? (h / 2.0 - ph / 2.0) :
+                                        (y + tableCell.getPadding().getTop()));
+                        disclosureNode.toFront();
                     }
+                }
 
-                    // determine starting point of the graphic or cell node, and the
-                    // remaining width available to them
-                    ObjectProperty<Node> graphicProperty = graphicProperty();
-                    Node graphic = graphicProperty == null ? null : graphicProperty.get();
+                // determine starting point of the graphic or cell node, and the
+                // remaining width available to them
+                ObjectProperty<Node> graphicProperty = graphicProperty();
+                Node graphic = graphicProperty == null ? null : graphicProperty.get();
 
-                    if (graphic != null) {
-                        graphicWidth = graphic.prefWidth(-1) + 3;
-                        double ph = graphic.prefHeight(graphicWidth);
+                if (graphic != null) {
+                    graphicWidth = graphic.prefWidth(-1) + 3;
+                    double ph = graphic.prefHeight(graphicWidth);
 
-                        if (width > 0 && width < disclosureWidth + leftMargin + graphicWidth) {
-                            fadeOut(graphic);
-                        } else {
-                            fadeIn(graphic);
+                    if (width > 0 && width < disclosureWidth + leftMargin + graphicWidth) {
+                        fadeOut(graphic);
+                    } else {
+                        fadeIn(graphic);
 
-                            graphic.relocate(x + leftMargin + disclosureWidth,
-                                    centreContent ? (h / 2.0 - ph / 2.0) :
-                                            (y + tableCell.getPadding().getTop()));
+                        graphic.relocate(x + leftMargin + disclosureWidth,
+                                centreContent ? (h / 2.0 - ph / 2.0) :
+                                        (y + tableCell.getPadding().getTop()));
 
-                            graphic.toFront();
-                        }
+                        graphic.toFront();
                     }
                 }
-                ///////////////////////////////////////////
-                // further indentation code ends here
-                ///////////////////////////////////////////
+            }
+            ///////////////////////////////////////////
+            // further indentation code ends here
+            ///////////////////////////////////////////
 
-                tableCell.resize(width, height);
-                tableCell.relocate(x, snappedTopInset());
+            tableCell.resize(width, height);
+            tableCell.relocate(x, snappedTopInset());
 
-                // Request layout is here as (partial) fix for RT-28684.
-                // This does not appear to impact performance...
-                tableCell.requestLayout();
-            } else {
-                width = snapSizeX(tableCell.prefWidth(-1)) - snapSizeX(horizontalPadding);
-
-                if (fixedCellSizeEnabled) {
-                    // we only add/remove to the scenegraph if the fixed cell
-                    // length support is enabled - otherwise we keep all
-                    // TableCells in the scenegraph
-                    getChildren().remove(tableCell);
-                }
-            }
+            // Request layout is here as (partial) fix for RT-28684.
+            // This does not appear to impact performance...
+            tableCell.requestLayout();
 
             x += width;
         }
+
+        // remove the node values of lightweight columns that are no longer shown
+        for (Node graphic : previousLightweightGraphics) {
+            if (! lightweightGraphics.contains(graphic) && graphic.getParent() == control) {
+                getChildren().remove(graphic);
+            }
+        }
     }
 
     int getIndentationLevel(C control) {
@@ -495,6 +535,36 @@ public abstract class TableRowSkinBase<T,
         return true;
     }
 
+    /**
+     * Returns the fixed cell size property of the control this row belongs to,
+     * or null if it is not yet known. This is called during construction, so
+     * implementations must only rely on the skinnable.
+     */
+    DoubleProperty fixedCellSizeProperty() {
+        return null;
+    }
+
+    /**
+     * Returns whether the given column is drawn by this row rather than by a
+     * cell. This is only asked when a fixed cell size is set, as the height
+     * of a cell is then known without creating it. The values of such
+     * columns are drawn by the {@link LightweightCellRenderer} of the column
+     * into a single canvas shared by all of them, so that they need neither
+     * cells, nor text nodes, nor listeners. They are read again whenever the
+     * row is laid out.
+     */
+    boolean isLightweightColumn(TableColumnBase<T,?> column) {
+        return false;
+    }
+
+    /**
+     * Returns the renderer that draws the values of the given lightweight
+     * column.
+     */
+    LightweightCellRenderer getLightweightCellRenderer(TableColumnBase<T,?> column) {
+        return null;
+    }
+
     void updateCells(boolean resetChildren) {
         // To avoid a potential memory leak (when the TableColumns in the
         // TableView are created/inserted/removed/deleted, we have a 'refresh
@@ -514,27 +584,17 @@ public abstract class TableRowSkinBase<T,
 
         final C skinnable = getSkinnable();
         final int skinnableIndex = skinnable.getIndex();
-        final List<? extends TableColumnBase/*<T,?>*/> visibleLeafColumns = getVisibleLeafColumns();
+        final List<? extends TableColumnBase<T,?>> visibleLeafColumns = getTypedVisibleLeafColumns();
 
-        for (int i = 0, max = visibleLeafColumns.size(); i < max; i++) {
+        updateVisibleColumnRange();
+        lightweightColumns.clear();
+        for (int i = visibleColumnsFrom; i < visibleColumnsTo; i++) {
             TableColumnBase<T,?> col = visibleLeafColumns.get(i);
-
-            R cell = null;
-            if (cellsMap.containsKey(col)) {
-                cell = cellsMap.get(col).get();
-
-                // the reference has been gc'd, remove key entry from map
-                if (cell == null) {
-                    cellsMap.remove(col);
-                }
-            }
-
-            if (cell == null) {
-                // if the cell is null it means we don't have it in cache and
-                // need to create it
-                cell = createCellAndCache(col);
+            if (fixedCellSizeEnabled && isLightweightColumn(col)) {
+                lightweightColumns.add(col);
+                continue;
             }
-
+            R cell = getOrCreateCell(col);
             updateCell(cell, skinnable);
             cell.updateIndex(skinnableIndex);
             cells.add(cell);
@@ -542,17 +602,10 @@ public abstract class TableRowSkinBase<T,
 
         // update children of each row
         if (fixedCellSizeEnabled) {
-            // we leave the adding / removing up to the layoutChildren method mostly,
-            // but here we remove any children cells that refer to columns that are
-            // not visible
-            List<Node> toRemove = new ArrayList<>();
-            for (Node cell : getChildren()) {
-                if (! (cell instanceof IndexedCell)) continue;
-                if (!getTableColumn((R)cell).isVisible()) {
-                    toRemove.add(cell);
-                }
-            }
-            getChildren().removeAll(toRemove);
+            // we leave the adding up to the layoutChildren method, but here we
+            // remove any children cells that refer to columns that are not
+            // visible or not in view
+            removeUnusedCells();
         } else if (!fixedCellSizeEnabled && (resetChildren || cellsEmpty)) {
             getChildren().setAll(cells);
         }
@@ -572,6 +625,13 @@ public abstract class TableRowSkinBase<T,
     /** {@inheritDoc} */
     @Override protected double computePrefWidth(double height, double topInset, double rightInset, double bottomInset, double leftInset) {
         double prefWidth = 0.0;
+        if (fixedCellSizeEnabled) {
+            // not every column has a cell, but the cells are as wide as their columns
+            for (TableColumnBase<?,?> column : getVisibleLeafColumns()) {
+                prefWidth += snapSizeX(column.getWidth());
+            }
+            return prefWidth;
+        }
         for (R cell : cells) {
             prefWidth += cell.prefWidth(height);
         }
@@ -663,27 +723,195 @@ public abstract class TableRowSkinBase<T,
      *                                                                         *
      **************************************************************************/
 
-    private boolean isColumnPartiallyOrFullyVisible(TableColumnBase col) {
-        if (col == null || !col.isVisible()) return false;
+    /*
+     * Updates visibleColumnsFrom and visibleColumnsTo, returning true if they
+     * changed. When a fixed cell size is set the range only contains the
+     * columns that are (at least partially) within the viewport of the
+     * VirtualFlow, so that cells for the remaining columns are neither created
+     * nor laid out.
+     */
+    private boolean updateVisibleColumnRange() {
+        final List<? extends TableColumnBase<T,?>> visibleLeafColumns = getTypedVisibleLeafColumns();
+        final int columnCount = visibleLeafColumns.size();
+
+        int from = 0;
+        int to = columnCount;
+
+        final VirtualFlow<?> virtualFlow = fixedCellSizeEnabled ? getVirtualFlow() : null;
+        if (virtualFlow != null) {
+            final double horizontalPadding = snappedLeftInset() + snappedRightInset();
+            double viewportWidth = virtualFlow.getViewportBreadth();
+            if (viewportWidth <= 0) {
+                viewportWidth = virtualFlow.getWidth();
+            }
+
+            // the cells start at the left inset of the row, which is scrolled
+            // horizontally by the value of the hbar
+            final double start = virtualFlow.getHbar().getValue() - snappedLeftInset();
+            final double end = start + viewportWidth;
+
+            double x = 0;
+            from = 0;
+            while (from < columnCount) {
+                final double width = getColumnWidth(visibleLeafColumns.get(from), horizontalPadding);
+                if (x + width > start) break;
+                x += width;
+                from++;
+            }
+
+            to = from;
+            while (to < columnCount && x < end) {
+                x += getColumnWidth(visibleLeafColumns.get(to), horizontalPadding);
+                to++;
+            }
+        }
+
+        final boolean changed = from != visibleColumnsFrom || to != visibleColumnsTo;
+        visibleColumnsFrom = from;
+        visibleColumnsTo = to;
+        return changed;
+    }
+
+    /*
+     * Called when columns have scrolled into or out of view, to update the cells
+     * list to match the new visible column range. Unlike updateCells, only the
+     * cells that were not already in view are updated.
+     */
+    private void updateVisibleCells() {
+        final C skinnable = getSkinnable();
+        final int skinnableIndex = skinnable.getIndex();
+        final List<? extends TableColumnBase<T,?>> visibleLeafColumns = getTypedVisibleLeafColumns();
 
-        final VirtualFlow<?> virtualFlow = getVirtualFlow();
-        double scrollX = virtualFlow == null ? 0.0 : virtualFlow.getHbar().getValue();
+        final Set<R> previousCells = Collections.newSetFromMap(new IdentityHashMap<>());
+        previousCells.addAll(cells);
+        cells.clear();
+        lightweightColumns.clear();
 
-        // work out where this column header is, and it's width (start -> end)
-        double start = 0;
-        final ObservableList<? extends TableColumnBase> visibleLeafColumns = getVisibleLeafColumns();
-        for (int i = 0, max = visibleLeafColumns.size(); i < max; i++) {
-            TableColumnBase<?,?> c = visibleLeafColumns.get(i);
-            if (c.equals(col)) break;
-            start += c.getWidth();
+        for (int i = visibleColumnsFrom; i < visibleColumnsTo; i++) {
+            TableColumnBase<T,?> col = visibleLeafColumns.get(i);
+            if (isLightweightColumn(col)) {
+                lightweightColumns.add(col);
+                continue;
+            }
+            R cell = getOrCreateCell(col);
+            if (! previousCells.contains(cell)) {
+                updateCell(cell, skinnable);
+                cell.updateIndex(skinnableIndex);
+            }
+            cells.add(cell);
         }
-        double end = start + col.getWidth();
 
-        // determine the width of the table
-        final Insets padding = getSkinnable().getPadding();
-        double headerWidth = getSkinnable().getWidth() - padding.getLeft() + padding.getRight();
+        removeUnusedCells();
+    }
 
-        return (start >= scrollX || end > scrollX) && (start < (headerWidth + scrollX) || end <= (headerWidth + scrollX));
+    // removes the children cells that are not in the cells list
+    private void removeUnusedCells() {
+        final Set<R> usedCells = Collections.newSetFromMap(new IdentityHashMap<>());
+        usedCells.addAll(cells);
+
+        List<Node> toRemove = new ArrayList<>();
+        for (Node cell : getChildren()) {
+            if (! (cell instanceof IndexedCell)) continue;
+            if (! usedCells.contains(cell)) {
+                toRemove.add(cell);
+            }
+        }
+        getChildren().removeAll(toRemove);
+    }
+
+    // the width a cell of the given column occupies in layoutChildren
+    /*
+     * Returns the visible leaf columns typed by the row item, which
+     * getVisibleLeafColumns does not declare.
+     */
+    @SuppressWarnings("unchecked")
+    private List<? extends TableColumnBase<T,?>> getTypedVisibleLeafColumns() {
+        return (List<? extends TableColumnBase<T,?>>) (List<?>) getVisibleLeafColumns();
+    }
+
+    private double getColumnWidth(TableColumnBase<?,?> column, double horizontalPadding) {
+        return snapSizeX(column.getWidth()) - snapSizeX(horizontalPadding);
+    }
+
+    /*
+     * Sizes the lightweight canvas to the columns in view, starting at the
+     * given x position, and clears it. Returns the graphics context to draw
+     * the lightweight columns with, or null if there are none.
+     */
+    private GraphicsContext prepareLightweightCanvas(double x, double horizontalPadding) {
+        if (lightweightColumns.isEmpty()) {
+            if (lightweightCanvas != null) {
+                getChildren().remove(lightweightCanvas);
+                lightweightCanvas = null;
+            }
+            return null;
+        }
+
+        final List<? extends TableColumnBase<T,?>> visibleLeafColumns = getTypedVisibleLeafColumns();
+        double width = 0;
+        for (int column = visibleColumnsFrom; column < visibleColumnsTo; column++) {
+            width += getColumnWidth(visibleLeafColumns.get(column), horizontalPadding);
+        }
+
+        if (lightweightCanvas == null) {
+            lightweightCanvas = new Canvas();
+        }
+        if (lightweightCanvas.getParent() == null) {
+            getChildren().add(lightweightCanvas);
+        }
+        lightweightCanvas.setWidth(width);
+        lightweightCanvas.setHeight(fixedCellSize);
+        lightweightCanvas.relocate(x, snappedTopInset());
+
+        // clearing the whole canvas also discards the commands drawn before
+        final GraphicsContext gc = lightweightCanvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, width, fixedCellSize);
+        return gc;
+    }
+
+    /*
+     * Shows the value of a lightweight column in the area of its cell, either
+     * by drawing it into the lightweight canvas or, for node values, by adding
+     * the node to the row, as the default cell shows nodes as its graphic.
+     */
+    private void layoutLightweightCell(GraphicsContext gc, TableColumnBase<T,?> column, int index,
+                                       double x, double width, double height, boolean centreContent) {
+        final C control = getSkinnable();
+        final LightweightCellRenderer renderer = getLightweightCellRenderer(column);
+        if (control.isEmpty() || renderer == null) return;
+
+        final Object value = column.getCellData(index);
+        if (value instanceof Node) {
+            final Node graphic = (Node) value;
+            if (graphic.getParent() != control) {
+                getChildren().add(graphic);
+            }
+            lightweightGraphics.add(graphic);
+            renderer.layoutGraphic(graphic, x, snappedTopInset(), width, height, centreContent);
+        } else {
+            renderer.draw(gc, LightweightCellRenderer.getText(value),
+                    x - lightweightCanvas.getLayoutX(), 0, width, height, centreContent,
+                    control.getFont(), control.getTextFill());
+        }
+    }
+
+    private R getOrCreateCell(TableColumnBase<T,?> col) {
+        R cell = null;
+        if (cellsMap.containsKey(col)) {
+            cell = cellsMap.get(col).get();
+
+            // the reference has been gc'd, remove key entry from map
+            if (cell == null) {
+                cellsMap.remove(col);
+            }
+        }
+
+        if (cell == null) {
+            // if the cell is null it means we don't have it in cache and
+            // need to create it
+            cell = createCellAndCache(col);
+        }
+        return cell;
     }
 
     private void requestCellUpdate() {
@@ -724,6 +952,9 @@ public abstract class TableRowSkinBase<T,
         fullRefreshCounter = DEFAULT_FULL_REFRESH_COUNTER;
         getChildren().clear();
 
+        // with a fixed cell size, cells are only created once their column is in view
+        if (fixedCellSizeEnabled) return;
+
         for (TableColumnBase col : columns) {
             if (cellsMap.containsKey(col)) {
                 continue;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -27,12 +27,15 @@ package javafx.scene.control.skin;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import com.sun.javafx.scene.control.Properties;
 import com.sun.javafx.scene.control.behavior.BehaviorBase;
 import com.sun.javafx.scene.control.skin.Utils;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.event.EventHandler;
@@ -44,6 +47,7 @@ import javafx.scene.control.Control;
 import javafx.scene.control.ResizeFeaturesBase;
 import javafx.scene.control.TableCell;
 import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableColumnBase;
 import javafx.scene.control.TablePosition;
 import javafx.scene.control.TableRow;
 import javafx.scene.control.TableSelectionModel;
@@ -72,6 +76,12 @@ public class TableViewSkin<T> extends TableViewSkinBase<T, T, TableView<T>, Tabl
 
     private final TableViewBehavior<T>  behavior;
 
+    // The cell whose insets and alignment the lightweight cells are drawn
+    // with, and the renderers of the lightweight columns, which are only
+    // created while lightweightCells is set
+    private TableCell<T,?> lightweightCellTemplate;
+    private final Map<TableColumnBase<?,?>, LightweightCellRenderer> lightweightCellRenderers = new WeakHashMap<>();
+
 
 
     /***************************************************************************
@@ -135,6 +145,62 @@ public class TableViewSkin<T> extends TableViewSkinBase<T, T, TableView<T>, Tabl
 
 
 
+    /***************************************************************************
+     *                                                                         *
+     * Properties                                                              *
+     *                                                                         *
+     **************************************************************************/
+
+    // --- lightweight cells
+    /**
+     * Indicates whether the rows draw the values of the columns that use the
+     * {@link TableColumn#DEFAULT_CELL_FACTORY default cell factory} themselves,
+     * rather than creating a {@link TableCell} for every such column. This
+     * only takes effect when the table has a
+     * {@link TableView#fixedCellSizeProperty() fixed cell size}.
+     * <p>
+     * The text of the values of these columns is drawn by a renderer shared by
+     * all the rows of a column, with the font and text fill of the row and
+     * the insets and alignment that the stylesheets give to a
+     * {@code table-cell}, so a row needs no cell, skin, text node
+     * or listener for them. In exchange:
+     * <ul>
+     * <li>the values are read when the row is laid out, so changes to the
+     * properties of an item are only shown once the row is updated, for
+     * example by calling {@link TableView#refresh()}</li>
+     * <li>other styles of the cells of these columns are not applied,
+     * nor are styles that select the cells through their row</li>
+     * <li>these cells cannot be edited, and clicking them selects their row,
+     * so this is intended for tables with row selection</li>
+     * </ul>
+     * @since 10
+     */
+    private final BooleanProperty lightweightCells = new SimpleBooleanProperty(this, "lightweightCells") {
+        @Override protected void invalidated() {
+            // the template cell is kept hidden in the children of the table,
+            // so that it is styled by the stylesheets of the table
+            if (get()) {
+                lightweightCellTemplate = new TableCell<>();
+                lightweightCellTemplate.setVisible(false);
+                lightweightCellTemplate.setManaged(false);
+                getChildren().add(lightweightCellTemplate);
+            } else {
+                getChildren().remove(lightweightCellTemplate);
+                lightweightCellTemplate = null;
+                lightweightCellRenderers.clear();
+            }
+
+            // the rows decide which columns get cells when they are created
+            needCellsRecreated = true;
+            getSkinnable().requestLayout();
+        }
+    };
+    public final boolean isLightweightCells() { return lightweightCells.get(); }
+    public final void setLightweightCells(boolean value) { lightweightCells.set(value); }
+    public final BooleanProperty lightweightCellsProperty() { return lightweightCells; }
+
+
+
     /***************************************************************************
      *                                                                         *
      * Public API                                                              *
@@ -223,6 +289,16 @@ public class TableViewSkin<T> extends TableViewSkinBase<T, T, TableView<T>, Tabl
         return cell;
     }
 
+    /*
+     * Returns the renderer shared by the rows that draw the given column, or
+     * null if the rows do not draw their columns.
+     */
+    LightweightCellRenderer getLightweightCellRenderer(TableColumnBase<?,?> column) {
+        if (lightweightCellTemplate == null) return null;
+        return lightweightCellRenderers.computeIfAbsent(column,
+                c -> new LightweightCellRenderer(lightweightCellTemplate));
+    }
+
     /** {@inheritDoc} */
     @Override protected int getItemCount() {
         TableView<T> tableView = getSkinnable();
@@ -175,6 +175,7 @@ public abstract class TableViewSkinBase<M, S, C extends Control, I extends Index
     };
 
     private ListChangeListener<S> rowCountListener = c -> {
+        flow.itemsChanged(c);
         while (c.next()) {
             if (c.wasReplaced()) {
                 // RT-28397: Support for when an item is replaced with itself (but
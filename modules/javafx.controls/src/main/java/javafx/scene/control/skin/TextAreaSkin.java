@@ -25,15 +25,19 @@
 
 package javafx.scene.control.skin;
 
+import com.sun.javafx.scene.control.RowCountIndex;
 import com.sun.javafx.scene.control.behavior.BehaviorBase;
 import com.sun.javafx.scene.control.behavior.TextAreaBehavior;
 import com.sun.javafx.scene.control.skin.Utils;
+import com.sun.javafx.scene.text.HitInfoHelper;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.application.Platform;
 import javafx.beans.binding.BooleanBinding;
 import javafx.beans.binding.DoubleBinding;
 import javafx.beans.binding.IntegerBinding;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.value.ObservableBooleanValue;
 import javafx.beans.value.ObservableIntegerValue;
 import javafx.collections.ListChangeListener;
@@ -66,6 +70,7 @@ import javafx.scene.text.HitInfo;
 import javafx.util.Duration;
 
 import java.util.List;
+import java.util.TreeMap;
 
 import static com.sun.javafx.PlatformUtil.isMac;
 import static com.sun.javafx.PlatformUtil.isWindows;
@@ -113,6 +118,30 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
     private ContentView contentView = new ContentView();
     private Group paragraphNodes = new Group();
 
+    // The length of each paragraph plus one for its line terminator, used in
+    // virtualized mode to map between offsets and paragraphs. Built on demand.
+    private RowCountIndex paragraphLengths;
+
+    // The number of paragraphs of each length, and a paragraph that is
+    // likely the longest one, kept along with the paragraph lengths so that
+    // the preferred width can be found without scanning the paragraphs
+    private TreeMap<Integer, Integer> paragraphLengthCounts;
+    private int longestParagraph = -1;
+
+    // The paragraphs shown by the text node in virtualized mode, from first
+    // (inclusive) to last (exclusive), or -1 when they must be recomputed
+    private int windowFirst = -1;
+    private int windowLast = -1;
+
+    // The offset of the first character of the text node in the content
+    private int windowStart = 0;
+
+    // Holds a single paragraph outside of the window in virtualized mode, to
+    // hit test and position the caret there. It is not in the scene graph.
+    private Text detachedNode;
+    private int detachedParagraph = -1;
+    private int detachedStart;
+
     private Text promptNode;
     private ObservableBooleanValue usePromptText;
 
@@ -264,6 +293,9 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
         control.wrapTextProperty().addListener((observable, oldValue, newValue) -> {
             invalidateMetrics();
             scrollPane.setFitToWidth(newValue);
+            if (isVirtualized()) {
+                resetTextWindow();
+            }
         });
 
         control.prefColumnCountProperty().addListener((observable, oldValue, newValue) -> {
@@ -307,6 +339,9 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
             double vValue = (newValue.doubleValue() < getScrollTopMax())
                                ? (newValue.doubleValue() / getScrollTopMax()) : 1.0;
             scrollPane.setVvalue(vValue);
+            if (isWindowed() && !isTextWindowVisible()) {
+                contentView.requestLayout();
+            }
         });
 
         control.scrollLeftProperty().addListener((observable, oldValue, newValue) -> {
@@ -345,17 +380,57 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
         } else {
             control.textProperty().addListener(observable -> {
                 invalidateMetrics();
-                ((Text)paragraphNodes.getChildren().get(0)).setText(control.textProperty().getValueSafe());
+                if (isWindowed()) {
+                    // the window is rebuilt on the next layout pass, so that
+                    // the whole text is never materialized
+                    windowFirst = windowLast = -1;
+                    detachedParagraph = -1;
+                } else {
+                    ((Text)paragraphNodes.getChildren().get(0)).setText(control.textProperty().getValueSafe());
+                }
                 contentView.requestLayout();
             });
         }
 
+        control.getParagraphs().addListener((ListChangeListener.Change<? extends CharSequence> change) -> {
+            if (paragraphLengths == null) {
+                return;
+            }
+            while (change.next()) {
+                int from = change.getFrom();
+                int removedTo = from + change.getRemovedSize();
+                int addedTo = change.getTo();
+                for (int i = from; i < removedTo; i++) {
+                    countParagraphLength(paragraphLengths.get(i) - 1, -1);
+                }
+                if (removedTo > addedTo) {
+                    paragraphLengths.remove(addedTo, removedTo);
+                } else if (addedTo > removedTo) {
+                    paragraphLengths.insert(removedTo, addedTo - removedTo);
+                }
+                if (longestParagraph >= removedTo) {
+                    longestParagraph += addedTo - removedTo;
+                } else if (longestParagraph >= from) {
+                    longestParagraph = -1;
+                }
+                for (int i = from; i < addedTo; i++) {
+                    int length = change.getList().get(i).length();
+                    paragraphLengths.set(i, length + 1);
+                    countParagraphLength(length, 1);
+                    if (longestParagraph < 0 || length >= paragraphLengths.get(longestParagraph) - 1) {
+                        longestParagraph = i;
+                    }
+                }
+            }
+        });
+
         usePromptText = new BooleanBinding() {
             { bind(control.textProperty(), control.promptTextProperty()); }
             @Override protected boolean computeValue() {
-                String txt = control.getText();
+                // the length is used rather than the text, which would have
+                // to be built from the content on every change
                 String promptTxt = control.getPromptText();
-                return ((txt == null || txt.isEmpty()) &&
+                return (control.getLength() == 0 &&
                         promptTxt != null && !promptTxt.isEmpty());
             }
         };
@@ -401,7 +476,7 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
                 Point2D tp = textNode.localToScene(0, 0);
                 Point2D p = new Point2D(e.getSceneX() - tp.getX() - pressX + caretHandle.getWidth() / 2,
                                         e.getSceneY() - tp.getY() - pressY - 6);
-                HitInfo hit = textNode.hitTest(translateCaretPosition(p));
+                HitInfo hit = getIndex(p.getX() + textNode.getLayoutX(), p.getY() + textNode.getLayoutY());
                 positionCaret(hit, false);
                 e.consume();
             });
@@ -412,7 +487,7 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
                 Point2D tp = textNode.localToScene(0, 0);
                 Point2D p = new Point2D(e.getSceneX() - tp.getX() - pressX + selectionHandle1.getWidth() / 2,
                                         e.getSceneY() - tp.getY() - pressY + selectionHandle1.getHeight() + 5);
-                HitInfo hit = textNode.hitTest(translateCaretPosition(p));
+                HitInfo hit = getIndex(p.getX() + textNode.getLayoutX(), p.getY() + textNode.getLayoutY());
                 if (control1.getAnchor() < control1.getCaretPosition()) {
                     // Swap caret and anchor
                     control1.selectRange(control1.getCaretPosition(), control1.getAnchor());
@@ -433,7 +508,7 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
                 Point2D tp = textNode.localToScene(0, 0);
                 Point2D p = new Point2D(e.getSceneX() - tp.getX() - pressX + selectionHandle2.getWidth() / 2,
                                         e.getSceneY() - tp.getY() - pressY - 6);
-                HitInfo hit = textNode.hitTest(translateCaretPosition(p));
+                HitInfo hit = getIndex(p.getX() + textNode.getLayoutX(), p.getY() + textNode.getLayoutY());
                 if (control1.getAnchor() > control1.getCaretPosition()) {
                     // Swap caret and anchor
                     control1.selectRange(control1.getCaretPosition(), control1.getAnchor());
@@ -452,6 +527,37 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
 
 
 
+    /***************************************************************************
+     *                                                                         *
+     * Properties                                                              *
+     *                                                                         *
+     **************************************************************************/
+
+    // --- virtualized
+    /**
+     * Indicates whether the text area only lays out the paragraphs around the
+     * visible part of its content. When true, and the text is not wrapped,
+     * the text node holds the visible paragraphs and a page of paragraphs
+     * before and after them, and is replaced as the content scrolls. The
+     * height of the content is then the number of paragraphs times the line
+     * height, so documents with millions of lines can be shown and edited
+     * without laying out all of their text. Paragraphs outside of the window
+     * are laid out one at a time when the caret or a hit test needs them.
+     * Wrapped text is always laid out in full, as the height of a paragraph
+     * cannot be known without laying it out.
+     * @since 10
+     */
+    private final BooleanProperty virtualized = new SimpleBooleanProperty(this, "virtualized") {
+        @Override protected void invalidated() {
+            resetTextWindow();
+        }
+    };
+    public final boolean isVirtualized() { return virtualized.get(); }
+    public final void setVirtualized(boolean value) { virtualized.set(value); }
+    public final BooleanProperty virtualizedProperty() { return virtualized; }
+
+
+
     /***************************************************************************
      *                                                                         *
      * Public API                                                              *
@@ -488,6 +594,15 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
      * @return a {@code HitInfo} object describing the index and forward bias.
      */
     public HitInfo getIndex(double x, double y) {
+        if (isWindowed()) {
+            Text textNode = getTextNodeAt(y);
+            Point2D p = new Point2D(x - textNode.getLayoutX(), y - textNode.getLayoutY());
+            HitInfo hit = textNode.hitTest(translateCaretPosition(p));
+            int nodeStart = getTextNodeStart(textNode);
+            return HitInfoHelper.createHitInfo(hit.getCharIndex() + nodeStart,
+                    hit.getInsertionIndex() + nodeStart, hit.isLeading());
+        }
+
         // adjust the event to be in the same coordinate space as the
         // text content of the textInputControl
         Text textNode = getTextNode();
@@ -572,7 +687,8 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
             moveRight = !moveRight;
         }
 
-        Text textNode = getTextNode();
+        Text textNode = getTextNode(textArea.getCaretPosition());
+        int nodeStart = getTextNodeStart(textNode);
         Bounds caretBounds = caretPath.getLayoutBounds();
         if (caretPath.getElements().size() == 4) {
             // The caret is split
@@ -589,7 +705,7 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
         if ((moveRight && charShape.getLayoutBounds().getMaxX() > caretBounds.getMaxX()) ||
                 (!moveRight && charShape.getLayoutBounds().getMinX() < caretBounds.getMinX())) {
             leading = !leading;
-            positionCaret(hit.getInsertionIndex(), leading, false, false);
+            positionCaret(hit.getInsertionIndex() + nodeStart, leading, false, false);
         } else {
             // We're at beginning or end of line. Try moving up / down.
             int dot = textArea.getCaretPosition();
@@ -608,21 +724,27 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
     }
 
     private void downLines(int nLines, boolean select, boolean extendSelection) {
-        Text textNode = getTextNode();
         Bounds caretBounds = caretPath.getLayoutBounds();
 
+        // The caret and the line we go to may be in different text nodes in
+        // virtualized mode, so y coordinates are compared in the content.
+        double caretY = caretPath.getLayoutY();
+
         // The middle y coordinate of the the line we want to go to.
-        double targetLineMidY = (caretBounds.getMinY() + caretBounds.getMaxY()) / 2 + nLines * lineHeight;
-        if (targetLineMidY < 0) {
-            targetLineMidY = 0;
+        double targetLineMidY = caretY + (caretBounds.getMinY() + caretBounds.getMaxY()) / 2 + nLines * lineHeight;
+        if (targetLineMidY < getTextTranslateY()) {
+            targetLineMidY = getTextTranslateY();
         }
 
+        Text textNode = getTextNodeAt(targetLineMidY);
+        int nodeStart = getTextNodeStart(textNode);
+
         // The target x for the caret. This may have been set during a
         // previous call.
         double x = (targetCaretX >= 0) ? targetCaretX : (caretBounds.getMaxX());
 
         // Find a text position for the target x,y.
-        HitInfo hit = textNode.hitTest(translateCaretPosition(new Point2D(x, targetLineMidY)));
+        HitInfo hit = textNode.hitTest(translateCaretPosition(new Point2D(x, targetLineMidY - textNode.getLayoutY())));
         int pos = hit.getCharIndex();
 
         // Save the old pos temporarily while testing the new one.
@@ -636,17 +758,17 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
         tmpCaretPath.setLayoutY(textNode.getLayoutY());
         Bounds tmpCaretBounds = tmpCaretPath.getLayoutBounds();
         // The y for the middle of the row we found.
-        double foundLineMidY = (tmpCaretBounds.getMinY() + tmpCaretBounds.getMaxY()) / 2;
+        double foundLineMidY = textNode.getLayoutY() + (tmpCaretBounds.getMinY() + tmpCaretBounds.getMaxY()) / 2;
         textNode.setCaretBias(oldBias);
         textNode.setCaretPosition(oldPos);
 
         // Test if the found line is in the correct direction and move
         // the caret.
         if (nLines == 0 ||
-                (nLines > 0 && foundLineMidY > caretBounds.getMaxY()) ||
-                (nLines < 0 && foundLineMidY < caretBounds.getMinY())) {
+                (nLines > 0 && foundLineMidY > caretY + caretBounds.getMaxY()) ||
+                (nLines < 0 && foundLineMidY < caretY + caretBounds.getMinY())) {
 
-            positionCaret(hit.getInsertionIndex(), hit.isLeading(), select, extendSelection);
+            positionCaret(hit.getInsertionIndex() + nodeStart, hit.isLeading(), select, extendSelection);
             targetCaretX = x;
         }
     }
@@ -684,18 +806,29 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
 
     private void paragraphStart(boolean previousIfAtStart, boolean select) {
         TextArea textArea = getSkinnable();
-        String text = textArea.textProperty().getValueSafe();
         int pos = textArea.getCaretPosition();
 
         if (pos > 0) {
-            if (previousIfAtStart && text.codePointAt(pos-1) == 0x0a) {
-                // We are at the beginning of a paragraph.
-                // Back up to the previous paragraph.
-                pos--;
-            }
-            // Back up to the beginning of this paragraph
-            while (pos > 0 && text.codePointAt(pos-1) != 0x0a) {
-                pos--;
+            if (isWindowed()) {
+                int paragraph = getParagraphAt(pos);
+                int paragraphOffset = getParagraphOffset(paragraph);
+                if (previousIfAtStart && pos == paragraphOffset) {
+                    // We are at the beginning of a paragraph.
+                    // Back up to the previous paragraph.
+                    paragraphOffset = getParagraphOffset(paragraph - 1);
+                }
+                pos = paragraphOffset;
+            } else {
+                String text = textArea.textProperty().getValueSafe();
+                if (previousIfAtStart && text.codePointAt(pos-1) == 0x0a) {
+                    // We are at the beginning of a paragraph.
+                    // Back up to the previous paragraph.
+                    pos--;
+                }
+                // Back up to the beginning of this paragraph
+                while (pos > 0 && text.codePointAt(pos-1) != 0x0a) {
+                    pos--;
+                }
             }
             if (select) {
                 textArea.selectPositionCaret(pos);
@@ -708,13 +841,37 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
 
     private void paragraphEnd(boolean goPastInitialNewline, boolean select) {
         TextArea textArea = getSkinnable();
-        String text = textArea.textProperty().getValueSafe();
         int pos = textArea.getCaretPosition();
-        int len = text.length();
+        int len = textArea.getLength();
         boolean wentPastInitialNewline = false;
         boolean goPastTrailingNewline = isWindows();
 
-        if (pos < len) {
+        if (pos < len && isWindowed()) {
+            int paragraph = getParagraphAt(pos);
+            // The offset of the line terminator of the paragraph
+            int paragraphEnd = getParagraphOffset(paragraph + 1) - 1;
+            if (goPastInitialNewline && pos == paragraphEnd) {
+                // We are at the end of a paragraph, start by moving to the
+                // next paragraph.
+                pos++;
+                wentPastInitialNewline = true;
+                paragraphEnd = getParagraphOffset(paragraph + 2) - 1;
+            }
+            if (!(goPastTrailingNewline && wentPastInitialNewline)) {
+                // Go to the end of this paragraph, and on Windows to the
+                // beginning of the next one
+                pos = paragraphEnd;
+                if (goPastTrailingNewline && pos < len) {
+                    pos++;
+                }
+            }
+            if (select) {
+                textArea.selectPositionCaret(pos);
+            } else {
+                textArea.positionCaret(pos);
+            }
+        } else if (pos < len) {
+            String text = textArea.textProperty().getValueSafe();
             if (goPastInitialNewline && text.codePointAt(pos) == 0x0a) {
                 // We are at the end of a paragraph, start by moving to the
                 // next paragraph.
@@ -742,6 +899,12 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
 
     /** {@inheritDoc} */
     @Override protected PathElement[] getUnderlineShape(int start, int end) {
+        if (isWindowed()) {
+            Text p = getTextNode(start);
+            int pStart = getTextNodeStart(p);
+            return p.underlineShape(start - pStart, end - pStart);
+        }
+
         int pStart = 0;
         for (Node node : paragraphNodes.getChildren()) {
             Text p = (Text)node;
@@ -756,6 +919,12 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
 
     /** {@inheritDoc} */
     @Override protected PathElement[] getRangeShape(int start, int end) {
+        if (isWindowed()) {
+            Text p = getTextNode(start);
+            int pStart = getTextNodeStart(p);
+            return p.rangeShape(start - pStart, end - pStart);
+        }
+
         int pStart = 0;
         for (Node node : paragraphNodes.getChildren()) {
             Text p = (Text)node;
@@ -772,14 +941,18 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
     @Override protected void addHighlight(List<? extends Node> nodes, int start) {
         int pStart = 0;
         Text paragraphNode = null;
-        for (Node node : paragraphNodes.getChildren()) {
-            Text p = (Text)node;
-            int pEnd = pStart + p.textProperty().getValueSafe().length();
-            if (pEnd >= start) {
-                paragraphNode = p;
-                break;
+        if (isWindowed()) {
+            paragraphNode = getTextNode(start);
+        } else {
+            for (Node node : paragraphNodes.getChildren()) {
+                Text p = (Text)node;
+                int pEnd = pStart + p.textProperty().getValueSafe().length();
+                if (pEnd >= start) {
+                    paragraphNode = p;
+                    break;
+                }
+                pStart = pEnd + 1;
             }
-            pStart = pEnd + 1;
         }
 
         if (paragraphNode != null) {
@@ -823,6 +996,9 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
             case LINE_END:
             case BOUNDS_FOR_RANGE:
             case OFFSET_AT_POINT:
+                if (isWindowed()) {
+                    return queryWindowedAccessibleAttribute(attribute, parameters);
+                }
                 Text text = getTextNode();
                 return text.queryAccessibleAttribute(attribute, parameters);
             default: return super.queryAccessibleAttribute(attribute, parameters);
@@ -873,6 +1049,10 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
 
     /** {@inheritDoc} */
     @Override protected int getInsertionPoint(double x, double y) {
+        if (isWindowed()) {
+            return getIndex(x, y).getInsertionIndex();
+        }
+
         TextArea textArea = getSkinnable();
 
         int n = paragraphNodes.getChildren().size();
@@ -929,7 +1109,7 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
         boolean isNewLine =
                 (pos > 0 &&
                         pos <= getSkinnable().getLength() &&
-                        getSkinnable().getText().codePointAt(pos-1) == 0x0a);
+                        getSkinnable().getText(pos - 1, pos).charAt(0) == '\n');
 
         // special handling for a new line
         if (!leading && isNewLine) {
@@ -954,14 +1134,20 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
     @Override public Rectangle2D getCharacterBounds(int index) {
         TextArea textArea = getSkinnable();
 
-        int paragraphIndex = paragraphNodes.getChildren().size();
-        int paragraphOffset = textArea.getLength() + 1;
-
+        int paragraphOffset;
         Text paragraphNode = null;
-        do {
-            paragraphNode = (Text)paragraphNodes.getChildren().get(--paragraphIndex);
-            paragraphOffset -= paragraphNode.getText().length() + 1;
-        } while (index < paragraphOffset);
+        if (isWindowed()) {
+            paragraphNode = getTextNode(index);
+            paragraphOffset = getTextNodeStart(paragraphNode);
+        } else {
+            int paragraphIndex = paragraphNodes.getChildren().size();
+            paragraphOffset = textArea.getLength() + 1;
+
+            do {
+                paragraphNode = (Text)paragraphNodes.getChildren().get(--paragraphIndex);
+                paragraphOffset -= paragraphNode.getText().length() + 1;
+            } while (index < paragraphOffset);
+        }
 
         int characterIndex = index - paragraphOffset;
         boolean terminator = false;
@@ -1174,14 +1360,232 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
         return (Text)paragraphNodes.getChildren().get(0);
     }
 
-    private void updateTextNodeCaretPos(int pos) {
-        Text textNode = getTextNode();
+    private Text updateTextNodeCaretPos(int pos) {
+        Text textNode = getTextNode(pos);
+        int nodeStart = getTextNodeStart(textNode);
         if (isForwardBias()) {
-            textNode.setCaretPosition(pos);
+            textNode.setCaretPosition(pos - nodeStart);
         } else {
-            textNode.setCaretPosition(pos - 1);
+            textNode.setCaretPosition(pos - nodeStart - 1);
         }
         textNode.caretBiasProperty().set(isForwardBias());
+        return textNode;
+    }
+
+    /*
+     * Virtualized mode
+     */
+
+    private boolean isWindowed() {
+        return isVirtualized() && !getSkinnable().isWrapText();
+    }
+
+    private void resetTextWindow() {
+        windowFirst = windowLast = -1;
+        windowStart = 0;
+        detachedParagraph = -1;
+        if (!isWindowed()) {
+            paragraphLengths = null;
+            paragraphLengthCounts = null;
+            longestParagraph = -1;
+            getTextNode().setText(getSkinnable().textProperty().getValueSafe());
+        }
+        invalidateMetrics();
+        contentView.requestLayout();
+    }
+
+    private int getFirstVisibleParagraph() {
+        if (lineHeight <= 0) {
+            return 0;
+        }
+        int first = (int) ((getSkinnable().getScrollTop() - getTextTranslateY()) / lineHeight);
+        return Math.max(0, Math.min(first, getSkinnable().getParagraphs().size() - 1));
+    }
+
+    private int getVisibleParagraphCount() {
+        if (lineHeight <= 0) {
+            return getSkinnable().getParagraphs().size();
+        }
+        Bounds viewportBounds = scrollPane.getViewportBounds();
+        double viewportHeight = viewportBounds != null ? viewportBounds.getHeight() : 0;
+        return (int) Math.min(Math.ceil(viewportHeight / lineHeight) + 1, getSkinnable().getParagraphs().size());
+    }
+
+    private boolean isTextWindowVisible() {
+        int first = getFirstVisibleParagraph();
+        int last = Math.min(getSkinnable().getParagraphs().size(), first + getVisibleParagraphCount());
+        return windowFirst >= 0 && first >= windowFirst && last <= windowLast;
+    }
+
+    private void updateTextWindow() {
+        if (isTextWindowVisible()) {
+            return;
+        }
+
+        // Keep a page of paragraphs before and after the visible ones, so
+        // that small scrolls do not replace the text
+        List<CharSequence> paragraphs = getSkinnable().getParagraphs();
+        int first = getFirstVisibleParagraph();
+        int count = getVisibleParagraphCount();
+        windowFirst = Math.max(0, first - count);
+        windowLast = Math.min(paragraphs.size(), first + 2 * count);
+        windowStart = getParagraphOffset(windowFirst);
+
+        StringBuilder text = new StringBuilder();
+        for (int i = windowFirst; i < windowLast; i++) {
+            if (i > windowFirst) {
+                text.append('\n');
+            }
+            text.append(paragraphs.get(i));
+        }
+        getTextNode().setText(text.toString());
+
+        // the preferred width includes the paragraphs in the window
+        invalidateMetrics();
+    }
+
+    /**
+     * Returns the text node showing the character at the given index.
+     */
+    private Text getTextNode(int index) {
+        if (!isWindowed()) {
+            return getTextNode();
+        }
+        return getParagraphNode(getParagraphAt(index));
+    }
+
+    /**
+     * Returns the text node showing the line at the given y coordinate in
+     * the content.
+     */
+    private Text getTextNodeAt(double y) {
+        if (!isWindowed()) {
+            return getTextNode();
+        }
+        int paragraph = lineHeight > 0 ? (int) Math.floor((y - getTextTranslateY()) / lineHeight) : 0;
+        return getParagraphNode(Math.max(0, Math.min(paragraph, getSkinnable().getParagraphs().size() - 1)));
+    }
+
+    /**
+     * Returns the offset in the content of the first character of the given
+     * text node.
+     */
+    private int getTextNodeStart(Text textNode) {
+        return textNode == detachedNode ? detachedStart : windowStart;
+    }
+
+    private Text getParagraphNode(int paragraph) {
+        if (paragraph >= windowFirst && paragraph < windowLast) {
+            return getTextNode();
+        }
+
+        Text textNode = getTextNode();
+        if (detachedNode == null) {
+            detachedNode = new Text();
+            detachedNode.setTextOrigin(VPos.TOP);
+            detachedNode.fontProperty().bind(textNode.fontProperty());
+            detachedNode.boundsTypeProperty().bind(textNode.boundsTypeProperty());
+        }
+        if (detachedParagraph != paragraph) {
+            detachedNode.setText(getSkinnable().getParagraphs().get(paragraph).toString());
+            detachedParagraph = paragraph;
+            detachedStart = getParagraphOffset(paragraph);
+        }
+        detachedNode.setLayoutX(textNode.getLayoutX());
+        detachedNode.setLayoutY(getTextTranslateY() + paragraph * lineHeight);
+        return detachedNode;
+    }
+
+    private RowCountIndex getParagraphLengths() {
+        if (paragraphLengths == null) {
+            List<CharSequence> paragraphs = getSkinnable().getParagraphs();
+            int n = paragraphs.size();
+            int[] lengths = new int[n];
+            paragraphLengthCounts = new TreeMap<>();
+            longestParagraph = -1;
+            for (int i = 0; i < n; i++) {
+                int length = paragraphs.get(i).length();
+                lengths[i] = length + 1;
+                countParagraphLength(length, 1);
+                if (longestParagraph < 0 || length > lengths[longestParagraph] - 1) {
+                    longestParagraph = i;
+                }
+            }
+            paragraphLengths = new RowCountIndex();
+            paragraphLengths.setAll(lengths, n);
+        }
+        return paragraphLengths;
+    }
+
+    private void countParagraphLength(int length, int delta) {
+        paragraphLengthCounts.merge(length, delta, (count, d) -> count + d == 0 ? null : count + d);
+    }
+
+    /**
+     * Returns the index of a paragraph with the most characters.
+     */
+    private int getLongestParagraph() {
+        RowCountIndex lengths = getParagraphLengths();
+        int longestLength = paragraphLengthCounts.lastKey();
+        if (longestParagraph < 0 || lengths.get(longestParagraph) - 1 < longestLength) {
+            // the longest paragraph was shortened or removed, so look for
+            // another one of the greatest length
+            for (int i = 0, n = lengths.size(); i < n; i++) {
+                if (lengths.get(i) - 1 == longestLength) {
+                    longestParagraph = i;
+                    break;
+                }
+            }
+        }
+        return longestParagraph;
+    }
+
+    private int getParagraphAt(int index) {
+        RowCountIndex lengths = getParagraphLengths();
+        return Math.min(lengths.getIndex(Math.max(0, index)), lengths.size() - 1);
+    }
+
+    private int getParagraphOffset(int paragraph) {
+        return getParagraphLengths().getOffset(paragraph);
+    }
+
+    private Object queryWindowedAccessibleAttribute(AccessibleAttribute attribute, Object... parameters) {
+        // Lines are paragraphs, as text is not wrapped in virtualized mode
+        TextArea textArea = getSkinnable();
+        int paragraphCount = textArea.getParagraphs().size();
+        switch (attribute) {
+            case LINE_FOR_OFFSET: {
+                int offset = (Integer)parameters[0];
+                if (offset > textArea.getLength()) return null;
+                return getParagraphAt(offset);
+            }
+            case LINE_START: {
+                int line = (Integer)parameters[0];
+                if (line < 0 || line >= paragraphCount) return null;
+                return getParagraphOffset(line);
+            }
+            case LINE_END: {
+                int line = (Integer)parameters[0];
+                if (line < 0 || line >= paragraphCount) return null;
+                return Math.min(getParagraphOffset(line + 1), textArea.getLength());
+            }
+            case BOUNDS_FOR_RANGE: {
+                // Only the text in the window is on screen
+                int start = (Integer)parameters[0];
+                int end = (Integer)parameters[1];
+                Text textNode = getTextNode(start);
+                if (textNode == detachedNode) return null;
+                int length = textNode.getText().length();
+                return textNode.queryAccessibleAttribute(attribute,
+                        Math.min(start - windowStart, length), Math.min(end - windowStart, length));
+            }
+            case OFFSET_AT_POINT: {
+                Point2D point = contentView.screenToLocal((Point2D)parameters[0]);
+                if (point == null) return null;
+                return getIndex(point.getX(), point.getY()).getCharIndex();
+            }
+            default: return null;
+        }
     }
 
 
@@ -1224,11 +1628,21 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
             if (computedPrefWidth < 0) {
                 double prefWidth = 0;
 
-                for (Node node : paragraphNodes.getChildren()) {
-                    Text paragraphNode = (Text)node;
-                    prefWidth = Math.max(prefWidth,
-                            Utils.computeTextWidth(paragraphNode.getFont(),
-                                    paragraphNode.getText(), 0));
+                if (isWindowed()) {
+                    // Measure the paragraph with the most characters, and
+                    // the paragraphs in the window
+                    CharSequence longest = getSkinnable().getParagraphs().get(getLongestParagraph());
+                    Text textNode = getTextNode();
+                    prefWidth = Math.max(
+                            Utils.computeTextWidth(textNode.getFont(), longest.toString(), 0),
+                            Utils.computeTextWidth(textNode.getFont(), textNode.getText(), 0));
+                } else {
+                    for (Node node : paragraphNodes.getChildren()) {
+                        Text paragraphNode = (Text)node;
+                        prefWidth = Math.max(prefWidth,
+                                Utils.computeTextWidth(paragraphNode.getFont(),
+                                        paragraphNode.getText(), 0));
+                    }
                 }
 
                 prefWidth += snappedLeftInset() + snappedRightInset();
@@ -1255,13 +1669,18 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
 
                 double prefHeight = 0;
 
-                for (Node node : paragraphNodes.getChildren()) {
-                    Text paragraphNode = (Text)node;
-                    prefHeight += Utils.computeTextHeight(
-                            paragraphNode.getFont(),
-                            paragraphNode.getText(),
-                            wrappingWidth,
-                            paragraphNode.getBoundsType());
+                if (isWindowed()) {
+                    // Every paragraph is a single line
+                    prefHeight = getSkinnable().getParagraphs().size() * lineHeight;
+                } else {
+                    for (Node node : paragraphNodes.getChildren()) {
+                        Text paragraphNode = (Text)node;
+                        prefHeight += Utils.computeTextHeight(
+                                paragraphNode.getFont(),
+                                paragraphNode.getText(),
+                                wrappingWidth,
+                                paragraphNode.getBoundsType());
+                    }
                 }
 
                 prefHeight += snappedTopInset() + snappedBottomInset();
@@ -1297,15 +1716,24 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
             final double leftPadding = snappedLeftInset();
 
             double wrappingWidth = Math.max(width - (leftPadding + snappedRightInset()), 0);
+            double textWrappingWidth = wrappingWidth;
 
             double y = topPadding;
 
+            if (isWindowed()) {
+                // The text node holds the paragraphs of the window only, and
+                // lines are never wrapped so they all have the same height
+                updateTextWindow();
+                y += windowFirst * lineHeight;
+                textWrappingWidth = 0;
+            }
+
             final List<Node> paragraphNodesChildren = paragraphNodes.getChildren();
 
             for (int i = 0; i < paragraphNodesChildren.size(); i++) {
                 Node node = paragraphNodesChildren.get(i);
                 Text paragraphNode = (Text)node;
-                paragraphNode.setWrappingWidth(wrappingWidth);
+                paragraphNode.setWrappingWidth(textWrappingWidth);
 
                 Bounds bounds = paragraphNode.getBoundsInLocal();
                 paragraphNode.setLayoutX(leftPadding);
@@ -1344,15 +1772,7 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
                 // Position the handle for the anchor. This could be handle1 or handle2.
                 // Do this before positioning the actual caret.
                 if (selection.getLength() > 0) {
-                    int paragraphIndex = paragraphNodesChildren.size();
-                    int paragraphOffset = textArea.getLength() + 1;
-                    Text paragraphNode = null;
-                    do {
-                        paragraphNode = (Text)paragraphNodesChildren.get(--paragraphIndex);
-                        paragraphOffset -= paragraphNode.getText().length() + 1;
-                    } while (anchorPos < paragraphOffset);
-
-                    updateTextNodeCaretPos(anchorPos - paragraphOffset);
+                    Text paragraphNode = updateTextNodeCaretPos(anchorPos);
                     caretPath.getElements().clear();
                     caretPath.getElements().addAll(paragraphNode.getCaretShape());
                     caretPath.setLayoutX(paragraphNode.getLayoutX());
@@ -1371,16 +1791,7 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
 
             {
                 // Position caret
-                int paragraphIndex = paragraphNodesChildren.size();
-                int paragraphOffset = textArea.getLength() + 1;
-
-                Text paragraphNode = null;
-                do {
-                    paragraphNode = (Text)paragraphNodesChildren.get(--paragraphIndex);
-                    paragraphOffset -= paragraphNode.getText().length() + 1;
-                } while (caretPos < paragraphOffset);
-
-                updateTextNodeCaretPos(caretPos - paragraphOffset);
+                Text paragraphNode = updateTextNodeCaretPos(caretPos);
 
                 caretPath.getElements().clear();
                 caretPath.getElements().addAll(paragraphNode.getCaretShape());
@@ -1399,6 +1810,10 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
             // Update selection fg and bg
             int start = selection.getStart();
             int end = selection.getEnd();
+            if (isWindowed()) {
+                start = Math.max(0, start - windowStart);
+                end = Math.max(0, end - windowStart);
+            }
             for (int i = 0, max = paragraphNodesChildren.size(); i < max; i++) {
                 Node paragraphNode = paragraphNodesChildren.get(i);
                 Text textNode = (Text)paragraphNode;
@@ -38,6 +38,7 @@ import javafx.scene.control.TreeTablePosition;
 import javafx.scene.control.TreeTableRow;
 import javafx.scene.control.TreeTableView;
 
+import java.lang.ref.Reference;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -143,6 +144,11 @@ public class TreeTableRowSkin<T> extends TableRowSkinBase<TreeItem<T>, TreeTable
                 registerChangeListener(fixedCellSizeProperty, e -> {
                     fixedCellSize = fixedCellSizeProperty.get();
                     fixedCellSizeEnabled = fixedCellSize > 0;
+
+                    // cells are only created for the columns in view when the
+                    // fixed cell size is enabled, so the cells must be rebuilt
+                    isDirty = true;
+                    getSkinnable().requestLayout();
                 });
                 fixedCellSize = fixedCellSizeProperty.get();
                 fixedCellSizeEnabled = fixedCellSize > 0;
@@ -151,7 +157,10 @@ public class TreeTableRowSkin<T> extends TableRowSkinBase<TreeItem<T>, TreeTable
                 // When in fixed cell size mode, we must listen to the width of the virtual flow, so
                 // that when it changes, we can appropriately add / remove cells that may or may not
                 // be required (because we remove all cells that are not visible).
-                registerChangeListener(getVirtualFlow().widthProperty(), e -> treeTableView.requestLayout());
+                registerChangeListener(getVirtualFlow().widthProperty(), e -> {
+                    treeTableView.requestLayout();
+                    getSkinnable().requestLayout();
+                });
             }
         }
     }
@@ -260,6 +269,12 @@ public class TreeTableRowSkin<T> extends TableRowSkinBase<TreeItem<T>, TreeTable
      *                                                                         *
      **************************************************************************/
 
+    /** {@inheritDoc} */
+    @Override DoubleProperty fixedCellSizeProperty() {
+        TreeTableView<T> control = getSkinnable().getTreeTableView();
+        return control == null ? null : control.fixedCellSizeProperty();
+    }
+
     /** {@inheritDoc} */
     @Override protected TreeTableCell<T, ?> createCell(TableColumnBase tcb) {
         TreeTableColumn tableColumn = (TreeTableColumn<T,?>) tcb;
@@ -470,7 +485,9 @@ public class TreeTableRowSkin<T> extends TableRowSkinBase<TreeItem<T>, TreeTable
                             /* This is the row-based case */
                             column = treeTableView.getVisibleLeafColumn(0);
                         }
-                        TreeTableCell<T,?> cell = cellsMap.get(column).get();
+                        // with a fixed cell size, columns out of view have no cell
+                        Reference<TreeTableCell<T,?>> cellRef = cellsMap.get(column);
+                        TreeTableCell<T,?> cell = cellRef == null ? null : cellRef.get();
                         if (cell != null) selection.add(cell);
                     }
                     return FXCollections.observableArrayList(selection);
@@ -26,6 +26,8 @@
 package javafx.scene.control.skin;
 
 import com.sun.javafx.scene.ParentHelper;
+import com.sun.javafx.scene.control.CellContentLoader;
+import com.sun.javafx.scene.control.CellSizeIndex;
 import com.sun.javafx.scene.control.Logging;
 import com.sun.javafx.scene.control.Properties;
 import com.sun.javafx.scene.control.VirtualScrollBar;
@@ -48,6 +50,7 @@ import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ChangeListener;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.event.EventDispatcher;
 import javafx.event.EventHandler;
@@ -110,6 +113,12 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
 
     private static final double GOLDEN_RATIO_MULTIPLIER = 0.618033987;
 
+    /**
+     * The length assumed for all cells by the size index, until the first
+     * cell has been measured.
+     */
+    private static final double DEFAULT_CELL_LENGTH = 24;
+
 
 
     /***************************************************************************
@@ -242,6 +251,27 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
 
     private boolean fixedCellSizeEnabled = false;
 
+    /**
+     * The measured cell lengths when the flow is size indexed, and the
+     * viewport breadth they were measured at.
+     */
+    private CellSizeIndex sizeIndex;
+    private double sizeIndexBreadth = -1;
+
+    /**
+     * The distance from the start of the content to the start of the
+     * viewport, and the position it was converted to. Keeping the distance
+     * avoids the rounding errors of converting it back from the position.
+     */
+    private double indexedViewportStart;
+    private double indexedPosition = -1;
+
+    /**
+     * Prepares the content of the cells in the background when a cell
+     * preparer is set.
+     */
+    private CellContentLoader contentLoader;
+
     private boolean needsReconfigureCells = false; // when cell contents are the same
     private boolean needsRecreateCells = false; // when cell factory changed
     private boolean needsRebuildCells = false; // when cell contents have changed
@@ -815,6 +845,9 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
             if (countChanged) {
                 VirtualScrollBar lengthBar = isVertical() ? vbar : hbar;
                 lengthBar.setMax(cellCount);
+
+                // the prepared content may belong to other indexes now
+                if (contentLoader != null) contentLoader.clear();
             }
 
             // I decided *not* to reset maxPrefBreadth here for the following
@@ -892,6 +925,31 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     public final double getFixedCellSize() { return fixedCellSize.get(); }
     public final DoubleProperty fixedCellSizeProperty() { return fixedCellSize; }
 
+    // --- size indexed
+    /**
+     * Indicates whether the flow remembers the length of every cell it lays
+     * out. When true, and no fixed cell size is set, the position and the
+     * length scroll bar are based on the length of the content rather than
+     * on the number of cells: scrolling moves the content by exactly the
+     * requested number of pixels, and the thumb keeps its size as cells of
+     * different lengths come into view. Cells that have not been laid out yet
+     * are assumed to have the average length of those that have. Finding
+     * the cell at a position takes logarithmic time, and the memory used
+     * grows linearly with the cell count.
+     * @since 10
+     */
+    private BooleanProperty sizeIndexed = new SimpleBooleanProperty(this, "sizeIndexed") {
+        @Override protected void invalidated() {
+            sizeIndex = null;
+            sizeIndexBreadth = -1;
+            setNeedsLayout(true);
+            requestLayout();
+        }
+    };
+    public final boolean isSizeIndexed() { return sizeIndexed.get(); }
+    public final void setSizeIndexed(boolean value) { sizeIndexed.set(value); }
+    public final BooleanProperty sizeIndexedProperty() { return sizeIndexed; }
+
 
     // --- Cell Factory
     private ObjectProperty<Callback<VirtualFlow<T>, T>> cellFactory;
@@ -941,6 +999,54 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     }
 
 
+    // --- Cell Preparer
+    private ObjectProperty<CellPreparer<?, ? super T, ?>> cellPreparer;
+
+    /**
+     * Sets the cell preparer to use in the VirtualFlow.
+     * @param value the new cell preparer
+     * @since 10
+     */
+    public final void setCellPreparer(CellPreparer<?, ? super T, ?> value) {
+        cellPreparerProperty().set(value);
+    }
+
+    /**
+     * Returns the current cell preparer.
+     * @return the current cell preparer
+     * @since 10
+     */
+    public final CellPreparer<?, ? super T, ?> getCellPreparer() {
+        return cellPreparer == null ? null : cellPreparer.get();
+    }
+
+    /**
+     * The cell preparer, if any, fills the cells in two steps: the content
+     * to display for an index is prepared on a background thread, and then
+     * applied to the cell on the JavaFX Application Thread. The content of
+     * the cells just outside the viewport is prepared ahead of time, so that
+     * expensive content does not slow down scrolling.
+     *
+     * <p>Refer to the {@link CellPreparer} class documentation for more detail.
+     * @return the cell preparer property
+     * @since 10
+     */
+    public final ObjectProperty<CellPreparer<?, ? super T, ?>> cellPreparerProperty() {
+        if (cellPreparer == null) {
+            cellPreparer = new SimpleObjectProperty<CellPreparer<?, ? super T, ?>>(this, "cellPreparer") {
+                @Override protected void invalidated() {
+                    if (contentLoader != null) {
+                        contentLoader.clear();
+                        contentLoader = null;
+                    }
+                    rebuildCells();
+                }
+            };
+        }
+        return cellPreparer;
+    }
+
+
 
     /***************************************************************************
      *                                                                         *
@@ -987,6 +1093,8 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
             cells.clear();
             pile.clear();
             releaseAllPrivateCells();
+            if (sizeIndex != null) sizeIndex.clear();
+            if (contentLoader != null) contentLoader.clear();
         } else if (needsRebuildCells) {
             lastWidth = -1;
             lastHeight = -1;
@@ -996,10 +1104,12 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
             }
             addAllToPile();
             releaseAllPrivateCells();
+            if (contentLoader != null) contentLoader.clear();
         } else if (needsReconfigureCells) {
             setMaxPrefBreadth(-1);
             lastWidth = -1;
             lastHeight = -1;
+            if (contentLoader != null) contentLoader.clear();
         }
 
         if (! dirtyCells.isEmpty()) {
@@ -1207,6 +1317,13 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
 
         initViewport();
 
+        // Cell lengths depend on the breadth they are laid out at, for
+        // example when the text in the cells wraps
+        if (getSizeIndex() != null && getViewportBreadth() != sizeIndexBreadth) {
+            sizeIndex.clear();
+            sizeIndexBreadth = getViewportBreadth();
+        }
+
         // Get the index of the "current" cell
         int currentIndex = computeCurrentIndex();
         if (lastCellCount != cellCount) {
@@ -1226,9 +1343,14 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
                 double firstCellOffset = getCellPosition(firstCell);
                 int firstCellIndex = getCellIndex(firstCell);
 //                setItemCount(cellCount);
-                adjustPositionToIndex(firstCellIndex);
-                double viewportTopToCellTop = -computeOffsetForCell(firstCellIndex);
-                adjustByPixelAmount(viewportTopToCellTop - firstCellOffset);
+                final CellSizeIndex sizeIndex = getPositionIndex();
+                if (sizeIndex != null) {
+                    setViewportStart(sizeIndex, sizeIndex.getOffset(Math.min(firstCellIndex, cellCount)) - firstCellOffset);
+                } else {
+                    adjustPositionToIndex(firstCellIndex);
+                    double viewportTopToCellTop = -computeOffsetForCell(firstCellIndex);
+                    adjustByPixelAmount(viewportTopToCellTop - firstCellOffset);
+                }
             }
 
             // Update the current index
@@ -1259,6 +1381,7 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
 
         recreatedOrRebuilt = recreatedOrRebuilt || rebuild;
         updateScrollBarsAndCells(recreatedOrRebuilt);
+        anchorPositionToCells();
 
         lastWidth = getWidth();
         lastHeight = getHeight();
@@ -1267,6 +1390,7 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         lastPosition = getPosition();
 
         cleanPile();
+        prefetchCellContent();
     }
 
     /** {@inheritDoc} */
@@ -1481,9 +1605,14 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         }
 
         if (! posSet) {
-            adjustPositionToIndex(index);
-            double offset = - computeOffsetForCell(index);
-            adjustByPixelAmount(offset);
+            final CellSizeIndex sizeIndex = getPositionIndex();
+            if (sizeIndex != null) {
+                setViewportStart(sizeIndex, sizeIndex.getOffset(index));
+            } else {
+                adjustPositionToIndex(index);
+                double offset = - computeOffsetForCell(index);
+                adjustByPixelAmount(offset);
+            }
         }
 
         requestLayout();
@@ -1614,7 +1743,9 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
 
         // Finally, update the scroll bars
         updateScrollBarsAndCells(false);
+        anchorPositionToCells();
         lastPosition = getPosition();
+        prefetchCellContent();
 
         // notify
         return delta; // TODO fake
@@ -1666,6 +1797,13 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         }
 
         // We need to use the accumCell and return that
+        T cell = getAccumCell();
+        setCellIndex(cell, index);
+        resizeCellSize(cell);
+        return cell;
+    }
+
+    private T getAccumCell() {
         if (accumCell == null) {
             Callback<VirtualFlow<T>,T> cellFactory = getCellFactory();
             if (cellFactory != null) {
@@ -1689,8 +1827,6 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
                 });
             }
         }
-        setCellIndex(accumCell, index);
-        resizeCellSize(accumCell);
         return accumCell;
     }
 
@@ -1707,6 +1843,17 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
 
         cell.updateIndex(index);
 
+        // apply the content prepared in the background, or have it prepared.
+        // The accumCell is only used to measure cells, so no content is
+        // prepared for it
+        final CellContentLoader loader = getContentLoader();
+        if (loader != null && cell != accumCell && index >= 0 && index < getCellCount()) {
+            loader.request(index, cell.getItem());
+            if (loader.isReady(index)) {
+                applyCellContent(cell, index);
+            }
+        }
+
         // make sure the cell is sized correctly. This is important for both
         // general layout of cells in a VirtualFlow, but also in cases such as
         // RT-34333, where the sizes were being reported incorrectly to the
@@ -1769,7 +1916,7 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     private final void setViewportBreadth(double value) {
         this.viewportBreadth = value;
     }
-    private final double getViewportBreadth() {
+    final double getViewportBreadth() {
         return viewportBreadth;
     }
 
@@ -1798,6 +1945,14 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     double getCellLength(int index) {
         if (fixedCellSizeEnabled) return getFixedCellSize();
 
+        // with a size index, only cells that have never been laid out need
+        // to be measured
+        final CellSizeIndex sizeIndex = getSizeIndex();
+        if (sizeIndex != null && index >= 0 && index < sizeIndex.size()
+                && sizeIndex.isMeasured(index) && getVisibleCell(index) == null) {
+            return sizeIndex.get(index);
+        }
+
         T cell = getCell(index);
         double length = getCellLength(cell);
         releaseCell(cell);
@@ -1865,6 +2020,159 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
             double height = Math.max(getMaxPrefBreadth(), getViewportBreadth());
             cell.resize(fixedCellSizeEnabled ? getFixedCellSize() : Utils.boundedSize(cell.prefWidth(height), cell.minWidth(height), cell.maxWidth(height)), height);
         }
+        updateSizeIndex(cell);
+    }
+
+    /**
+     * Returns the size index, sized for the current cell count, or null if
+     * the flow is not size indexed.
+     */
+    private CellSizeIndex getSizeIndex() {
+        if (fixedCellSizeEnabled || !isSizeIndexed()) return null;
+
+        final int cellCount = getCellCount();
+        if (sizeIndex == null) {
+            sizeIndex = new CellSizeIndex(cellCount, DEFAULT_CELL_LENGTH);
+        } else if (sizeIndex.size() != cellCount) {
+            // the items changed without itemsChanged being told where
+            sizeIndex.setSize(cellCount);
+        }
+        return sizeIndex;
+    }
+
+    /**
+     * Returns the size index if the position should be mapped through it,
+     * that is if the flow is size indexed and the content has a length.
+     */
+    private CellSizeIndex getPositionIndex() {
+        final CellSizeIndex sizeIndex = getSizeIndex();
+        return (sizeIndex != null && sizeIndex.getTotalLength() > 0) ? sizeIndex : null;
+    }
+
+    /**
+     * Records the length of a cell that has just been resized.
+     */
+    private void updateSizeIndex(T cell) {
+        final CellSizeIndex sizeIndex = getSizeIndex();
+        if (sizeIndex != null) {
+            final int index = getCellIndex(cell);
+            if (index >= 0 && index < sizeIndex.size()) {
+                sizeIndex.set(index, getCellLength(cell));
+            }
+        }
+    }
+
+    /**
+     * When size indexed, the cells that have just been laid out may have
+     * lengths other than those assumed when the position was set. This
+     * recomputes the position from the first visible cell, so that the
+     * position, the scroll bar and the next layout agree with the cells
+     * on screen.
+     */
+    private void anchorPositionToCells() {
+        final CellSizeIndex sizeIndex = getPositionIndex();
+        final T firstCell = getFirstVisibleCell();
+        final double position = getPosition();
+        if (sizeIndex == null || firstCell == null || position == 0 || position == 1) return;
+
+        final double scrollableLength = sizeIndex.getTotalLength() - getViewportLength();
+        if (scrollableLength <= 0) return;
+
+        setViewportStart(sizeIndex, sizeIndex.getOffset(getCellIndex(firstCell)) - getCellPosition(firstCell));
+        if (getPosition() != position) {
+            VirtualScrollBar lengthBar = isVertical() ? vbar : hbar;
+            lengthBar.setValue(getPosition());
+        }
+    }
+
+    /**
+     * Returns the distance from the start of the content to the start of the
+     * viewport for the given position.
+     */
+    private double getViewportStart(CellSizeIndex sizeIndex, double position) {
+        final double scrollableLength = Math.max(0, sizeIndex.getTotalLength() - getViewportLength());
+        if (position == indexedPosition && position != 0 && position != 1
+                && indexedViewportStart <= scrollableLength) {
+            return indexedViewportStart;
+        }
+        return position * scrollableLength;
+    }
+
+    /**
+     * Sets the position such that the viewport starts at the given distance
+     * from the start of the content.
+     */
+    private void setViewportStart(CellSizeIndex sizeIndex, double viewportStart) {
+        final double scrollableLength = sizeIndex.getTotalLength() - getViewportLength();
+        if (scrollableLength <= 0) {
+            setPosition(0.0f);
+            return;
+        }
+        indexedViewportStart = com.sun.javafx.util.Utils.clamp(0, viewportStart, scrollableLength);
+        indexedPosition = indexedViewportStart / scrollableLength;
+        setPosition(indexedPosition);
+    }
+
+    /**
+     * Returns the loader for the content of the cells, or null if no cell
+     * preparer is set.
+     */
+    private CellContentLoader getContentLoader() {
+        final CellPreparer<?, ? super T, ?> preparer = getCellPreparer();
+        if (preparer == null) return null;
+
+        if (contentLoader == null) {
+            @SuppressWarnings("unchecked")
+            final CellPreparer<Object, ?, ?> p = (CellPreparer<Object, ?, ?>) preparer;
+            contentLoader = new CellContentLoader(p::prepare, preparer.getExecutor(), this::cellContentReady);
+        }
+        return contentLoader;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void applyCellContent(T cell, int index) {
+        ((CellPreparer<?, ? super T, Object>) getCellPreparer()).apply(cell, contentLoader.get(index));
+    }
+
+    private void cellContentReady(int index) {
+        T cell = getVisibleCell(index);
+        if (cell != null) {
+            applyCellContent(cell, index);
+        }
+    }
+
+    /**
+     * Has the content of as many cells as are visible prepared on both sides
+     * of the viewport, and forgets the content of cells further away.
+     */
+    private void prefetchCellContent() {
+        final CellContentLoader loader = getContentLoader();
+        final T firstCell = getFirstVisibleCell();
+        final T lastCell = getLastVisibleCell();
+        if (loader == null || firstCell == null || lastCell == null) return;
+
+        final int firstIndex = getCellIndex(firstCell);
+        final int lastIndex = getCellIndex(lastCell);
+        final int count = lastIndex - firstIndex + 1;
+        loader.retain(firstIndex - 2 * count, lastIndex + 2 * count + 1);
+
+        final int cellCount = getCellCount();
+        for (int i = 1; i <= count; i++) {
+            if (lastIndex + i < cellCount) prefetchCellContent(loader, lastIndex + i);
+            if (firstIndex - i >= 0) prefetchCellContent(loader, firstIndex - i);
+        }
+    }
+
+    // reads the item of a cell outside of the viewport through the
+    // accumCell, so that the preparer never reads the items itself
+    private void prefetchCellContent(CellContentLoader loader, int index) {
+        if (loader.isRequested(index)) return;
+
+        final T cell = getAccumCell();
+        if (cell == null) return;
+        setCellIndex(cell, index);
+        loader.prefetch(index, cell.getItem());
+        releaseCell(cell);
     }
 
     private List<T> getCells() {
@@ -2131,10 +2439,46 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     }
 
     void setCellDirty(int index) {
+        if (contentLoader != null) {
+            contentLoader.invalidate(index);
+            final T cell = getVisibleCell(index);
+            if (cell != null) contentLoader.request(index, cell.getItem());
+        }
         dirtyCells.set(index);
         requestLayout();
     }
 
+    /**
+     * Moves the lengths measured for the cells of a size indexed flow, and
+     * the content prepared for the cells, along with the items they show, so
+     * that a change to the items only forgets the lengths and content of the
+     * cells it affects. Skins call this from their items listener, before
+     * the cell count is updated. The change is reset afterwards.
+     */
+    void itemsChanged(ListChangeListener.Change<?> c) {
+        while (c.next()) {
+            final int from = c.getFrom();
+            if (sizeIndex != null && from + c.getRemovedSize() > sizeIndex.size()) {
+                // the index does not match the items, start over
+                sizeIndex = null;
+            }
+            if (c.wasPermutated() || c.wasUpdated()) {
+                if (sizeIndex != null) sizeIndex.clear(from, c.getTo());
+                if (contentLoader != null) contentLoader.invalidate(from, c.getTo());
+            } else {
+                if (sizeIndex != null) {
+                    sizeIndex.remove(from, from + c.getRemovedSize());
+                    sizeIndex.insert(from, c.getAddedSize());
+                }
+                if (contentLoader != null) {
+                    contentLoader.remove(from, from + c.getRemovedSize());
+                    contentLoader.insert(from, c.getAddedSize());
+                }
+            }
+        }
+        c.reset();
+    }
+
     private void startSBReleasedAnimation() {
         if (sbTouchTimeline == null) {
             /*
@@ -2283,8 +2627,12 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         // the breadth scrollbar which changes viewport length, so we need
         // to re-position the cells.
         if (!cells.isEmpty()) {
-            final double currOffset = -computeViewportOffset(getPosition());
-            final int currIndex = computeCurrentIndex() - cells.getFirst().getIndex();
+            // When size indexed, laying out the cells has just changed the
+            // lengths the position is based on, so keep the first cell in
+            // place instead
+            final boolean indexed = getPositionIndex() != null;
+            final double currOffset = indexed ? getCellPosition(cells.getFirst()) : -computeViewportOffset(getPosition());
+            final int currIndex = indexed ? 0 : computeCurrentIndex() - cells.getFirst().getIndex();
             final int size = cells.size();
 
             // position leading cells
@@ -2360,7 +2708,12 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
 
         // determine how many cells there are on screen so that the scrollbar
         // thumb can be appropriately sized
-        if (recreate && (lengthBar.isVisible() || Properties.IS_TOUCH_SUPPORTED)) {
+        final CellSizeIndex positionIndex = getPositionIndex();
+        if (positionIndex != null && (lengthBar.isVisible() || Properties.IS_TOUCH_SUPPORTED)) {
+            // the content length is known, so the thumb size is exact
+            lengthBar.setMax(1);
+            lengthBar.setVisibleAmount(Math.min(1, viewportLength / positionIndex.getTotalLength()));
+        } else if (recreate && (lengthBar.isVisible() || Properties.IS_TOUCH_SUPPORTED)) {
             final int cellCount = getCellCount();
             int numCellsVisibleOnScreen = 0;
             for (int i = 0, max = cells.size(); i < max; i++) {
@@ -2454,12 +2807,13 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         // Note: Do not optimise this loop by pre-calculating the cells size and
         // storing that into a int value - this can lead to RT-32828
         for (int i = 0; i < cells.size(); i++) {
-            Cell<?> cell = cells.get(i);
+            T cell = cells.get(i);
             if (isVertical) {
                 cell.resize(size, cell.prefHeight(size));
             } else {
                 cell.resize(cell.prefWidth(size), size);
             }
+            updateSizeIndex(cell);
         }
     }
 
@@ -2632,6 +2986,12 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
      */
     private double computeViewportOffset(double position) {
         double p = com.sun.javafx.util.Utils.clamp(0, position, 1);
+        final CellSizeIndex sizeIndex = getPositionIndex();
+        if (sizeIndex != null) {
+            if (p == 1) return -getViewportLength();
+            double viewportStart = getViewportStart(sizeIndex, p);
+            return viewportStart - sizeIndex.getOffset(sizeIndex.getIndex(viewportStart));
+        }
         double fractionalPosition = p * getCellCount();
         int cellIndex = (int) fractionalPosition;
         double fraction = fractionalPosition - cellIndex;
@@ -2643,8 +3003,12 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
 
     private void adjustPositionToIndex(int index) {
         int cellCount = getCellCount();
+        final CellSizeIndex sizeIndex = getPositionIndex();
         if (cellCount <= 0) {
             setPosition(0.0f);
+        } else if (sizeIndex != null) {
+            int i = com.sun.javafx.util.Utils.clamp(0, index, cellCount);
+            setPosition(sizeIndex.getOffset(i) / sizeIndex.getTotalLength());
         } else {
             setPosition(((double)index) / cellCount);
         }
@@ -2659,6 +3023,14 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
      */
     private void adjustByPixelAmount(double numPixels) {
         if (numPixels == 0) return;
+
+        final CellSizeIndex sizeIndex = getPositionIndex();
+        if (sizeIndex != null) {
+            // the position maps directly to pixels
+            setViewportStart(sizeIndex, getViewportStart(sizeIndex, getPosition()) + numPixels);
+            return;
+        }
+
         // Starting from the current cell, we move in the direction indicated
         // by numPixels one cell at a team. For each cell, we discover how many
         // pixels the "position" line would move within that cell, and adjust
@@ -2729,6 +3101,14 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     }
 
     private int computeCurrentIndex() {
+        final CellSizeIndex sizeIndex = getPositionIndex();
+        if (sizeIndex != null) {
+            // the cells are laid out from the cell at the start of the
+            // viewport, or from the end of the content when at the end, so
+            // that the cell lengths estimated before layout do not matter
+            double p = getPosition();
+            return p == 1 ? sizeIndex.size() : sizeIndex.getIndex(getViewportStart(sizeIndex, p));
+        }
         return (int) (getPosition() * getCellCount());
     }
 
@@ -2740,6 +3120,11 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
      * calculation.
      */
     private double computeOffsetForCell(int itemIndex) {
+        final CellSizeIndex sizeIndex = getPositionIndex();
+        if (sizeIndex != null) {
+            int i = com.sun.javafx.util.Utils.clamp(0, itemIndex, sizeIndex.size());
+            return -(getViewportLength() * sizeIndex.getOffset(i) / sizeIndex.getTotalLength());
+        }
         double cellCount = getCellCount();
         double p = com.sun.javafx.util.Utils.clamp(0, itemIndex, cellCount) / cellCount;
         return -(getViewportLength() * p);
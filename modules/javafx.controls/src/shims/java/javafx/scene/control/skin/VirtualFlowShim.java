@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,6 +25,7 @@
 package javafx.scene.control.skin;
 
 import com.sun.javafx.scene.control.VirtualScrollBar;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.scene.Node;
 import javafx.scene.control.IndexedCell;
@@ -55,6 +56,21 @@ public class VirtualFlowShim<T extends IndexedCell> extends VirtualFlow<T> {
         super.recreateCells();
     }
 
+    @Override
+    public void reconfigureCells() {
+        super.reconfigureCells();
+    }
+
+    @Override
+    public void setCellDirty(int index) {
+        super.setCellDirty(index);
+    }
+
+    @Override
+    public void itemsChanged(ListChangeListener.Change<?> c) {
+        super.itemsChanged(c);
+    }
+
     public double shim_getMaxPrefBreadth() {
         return super.getMaxPrefBreadth();
     }
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.charts;
+
+import com.sun.javafx.charts.Decimator;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class DecimatorTest {
+
+    private final Decimator decimator = new Decimator();
+
+    private static double[] range(int count) {
+        double[] values = new double[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = i;
+        }
+        return values;
+    }
+
+    @Test public void minMaxKeepsAllValuesInSeparateColumns() {
+        double[] x = range(5);
+        double[] y = { 3, 1, 4, 1, 5 };
+        decimator.minMax(x, y, 0, 5, 0, 10, 0, 1, 100);
+        assertEquals(5, decimator.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(x[i] * 10, decimator.getX(i), 0);
+            assertEquals(y[i], decimator.getY(i), 0);
+        }
+    }
+
+    @Test public void minMaxKeepsFirstLowestHighestAndLastOfColumn() {
+        double[] x = { 0, 0.1, 0.2, 0.3, 0.4, 0.5 };
+        double[] y = { 2, 9, 3, -4, 1, 2 };
+        decimator.minMax(x, y, 0, 6, 0, 1, 0, 1, 10);
+        assertEquals(4, decimator.size());
+        assertEquals(2, decimator.getY(0), 0);
+        assertEquals(9, decimator.getY(1), 0);
+        assertEquals(-4, decimator.getY(2), 0);
+        assertEquals(2, decimator.getY(3), 0);
+    }
+
+    @Test public void minMaxOnlyReadsVisibleValuesAndTheirNeighbours() {
+        double[] x = range(1000);
+        double[] y = range(1000);
+        // values 100 to 110 are visible
+        decimator.minMax(x, y, 0, 1000, -1000, 10, 0, 1, 100);
+        assertEquals(13, decimator.size());
+        assertEquals(99, decimator.getY(0), 0);
+        assertEquals(111, decimator.getY(12), 0);
+    }
+
+    @Test public void minMaxBoundsOutputByColumns() {
+        Random random = new Random(7);
+        int count = 100000;
+        double[] x = range(count);
+        double[] y = new double[count];
+        for (int i = 0; i < count; i++) {
+            y[i] = random.nextGaussian();
+        }
+        double width = 500;
+        decimator.minMax(x, y, 0, count, 0, width / count, 0, 1, width);
+        assertTrue(decimator.size() <= 4 * (width + 1));
+        double min = Double.MAX_VALUE, max = -Double.MAX_VALUE;
+        double decimatedMin = Double.MAX_VALUE, decimatedMax = -Double.MAX_VALUE;
+        for (double v : y) {
+            min = Math.min(min, v);
+            max = Math.max(max, v);
+        }
+        for (int i = 0; i < decimator.size(); i++) {
+            decimatedMin = Math.min(decimatedMin, decimator.getY(i));
+            decimatedMax = Math.max(decimatedMax, decimator.getY(i));
+            if (i > 0) assertTrue(decimator.getX(i) >= decimator.getX(i - 1));
+        }
+        assertEquals(min, decimatedMin, 0);
+        assertEquals(max, decimatedMax, 0);
+    }
+
+    @Test public void minMaxSkipsNaN() {
+        double[] x = range(3);
+        double[] y = { 1, Double.NaN, 3 };
+        decimator.minMax(x, y, 0, 3, 0, 10, 0, 1, 100);
+        assertEquals(2, decimator.size());
+    }
+
+    @Test public void largestTriangleThreeBucketsKeepsThresholdValues() {
+        int count = 10000;
+        double[] x = range(count);
+        double[] y = new double[count];
+        for (int i = 0; i < count; i++) {
+            y[i] = Math.sin(i / 100.0);
+        }
+        // a spike is always kept
+        y[5000] = 50;
+        decimator.largestTriangleThreeBuckets(x, y, 0, count, 0, 0.1, 0, 1, 1000, 100);
+        assertEquals(100, decimator.size());
+        assertEquals(0, decimator.getX(0), 0);
+        assertEquals((count - 1) * 0.1, decimator.getX(99), 1e-9);
+        boolean spike = false;
+        for (int i = 0; i < decimator.size(); i++) {
+            if (decimator.getY(i) == 50) spike = true;
+            if (i > 0) assertTrue(decimator.getX(i) > decimator.getX(i - 1));
+        }
+        assertTrue(spike);
+    }
+
+    @Test public void largestTriangleThreeBucketsKeepsAllValuesBelowThreshold() {
+        double[] x = range(10);
+        double[] y = range(10);
+        decimator.largestTriangleThreeBuckets(x, y, 0, 10, 0, 1, 0, 1, 100, 20);
+        assertEquals(10, decimator.size());
+    }
+
+    @Test public void largestTriangleThreeBucketsSkipsNaN() {
+        double[] x = range(5);
+        double[] y = { Double.NaN, 1, Double.NaN, 3, Double.NaN };
+        decimator.largestTriangleThreeBuckets(x, y, 0, 5, 0, 10, 0, 1, 100, 20);
+        assertEquals(2, decimator.size());
+        assertEquals(1, decimator.getY(0), 0);
+        assertEquals(3, decimator.getY(1), 0);
+
+        int count = 1000;
+        x = range(count);
+        y = new double[count];
+        for (int i = 0; i < count; i++) {
+            y[i] = i % 3 == 0 ? Double.NaN : i % 10;
+        }
+        // including a bucket of NaN values only
+        for (int i = 500; i < 600; i++) {
+            y[i] = Double.NaN;
+        }
+        decimator.largestTriangleThreeBuckets(x, y, 0, count, 0, 1, 0, 1, 1000, 50);
+        assertTrue(decimator.size() > 2 && decimator.size() <= 50);
+        assertEquals(1, decimator.getX(0), 0);
+        // the last value, 999, is NaN
+        assertEquals(count - 2, decimator.getX(decimator.size() - 1), 0);
+        for (int i = 0; i < decimator.size(); i++) {
+            assertTrue(!Double.isNaN(decimator.getX(i)) && !Double.isNaN(decimator.getY(i)));
+        }
+    }
+
+    @Test public void valuesOfSubrange() {
+        double[] x = range(10);
+        double[] y = range(10);
+        decimator.minMax(x, y, 4, 8, 0, 10, 0, 1, 1000);
+        assertEquals(4, decimator.size());
+        assertEquals(4, decimator.getY(0), 0);
+        assertEquals(7, decimator.getY(3), 0);
+    }
+}
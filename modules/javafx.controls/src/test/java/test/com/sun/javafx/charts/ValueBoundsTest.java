@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.charts;
+
+import com.sun.javafx.charts.ValueBounds;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ValueBoundsTest {
+
+    private final ValueBounds bounds = new ValueBounds();
+
+    @Test public void emptyBounds() {
+        assertTrue(bounds.isValid());
+        assertTrue(bounds.isEmpty());
+        assertEquals(0, bounds.getCount());
+    }
+
+    @Test public void addUpdatesBounds() {
+        bounds.add(3);
+        bounds.add(-2);
+        bounds.add(Double.NaN);
+        bounds.add(7);
+        assertTrue(bounds.isValid());
+        assertEquals(-2, bounds.getMin(), 0);
+        assertEquals(7, bounds.getMax(), 0);
+        assertEquals(4, bounds.getCount());
+    }
+
+    @Test public void removeInsideBoundsKeepsThemValid() {
+        bounds.add(3);
+        bounds.add(-2);
+        bounds.add(7);
+        bounds.remove(3);
+        bounds.remove(Double.NaN);
+        assertTrue(bounds.isValid());
+        assertEquals(-2, bounds.getMin(), 0);
+        assertEquals(7, bounds.getMax(), 0);
+    }
+
+    @Test public void removeBoundInvalidates() {
+        bounds.add(3);
+        bounds.add(7);
+        bounds.remove(7);
+        assertFalse(bounds.isValid());
+        bounds.clear();
+        bounds.add(3);
+        assertTrue(bounds.isValid());
+        assertEquals(3, bounds.getMax(), 0);
+    }
+
+    @Test public void invalidate() {
+        bounds.add(3);
+        bounds.invalidate();
+        assertFalse(bounds.isValid());
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.com.sun.javafx.scene.control;
+
+import com.sun.javafx.scene.control.CellSizeIndex;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class CellSizeIndexTest {
+
+    private CellSizeIndex index;
+
+    @Before public void setUp() {
+        index = new CellSizeIndex(10, 20);
+    }
+
+    @Test public void testDefaultLength() {
+        assertEquals(200, index.getTotalLength(), 0);
+        assertEquals(20, index.get(3), 0);
+        assertEquals(60, index.getOffset(3), 0);
+        assertEquals(0, index.getIndex(-5));
+        assertEquals(0, index.getIndex(0));
+        assertEquals(0, index.getIndex(19.9));
+        assertEquals(1, index.getIndex(20));
+        assertEquals(9, index.getIndex(199));
+        assertEquals(10, index.getIndex(200));
+        assertEquals(10, index.getIndex(1000));
+    }
+
+    @Test public void testEstimateIsAverageOfMeasured() {
+        index.set(0, 10);
+        index.set(1, 30);
+        assertTrue(index.isMeasured(1));
+        assertFalse(index.isMeasured(2));
+        assertEquals(20, index.getEstimate(), 0);
+        index.set(1, 50);
+        assertEquals(30, index.getEstimate(), 0);
+        assertEquals(10 + 50 + 8 * 30, index.getTotalLength(), 0);
+        assertEquals(10 + 50 + 30, index.getOffset(3), 0);
+        assertEquals(1, index.getIndex(10));
+        assertEquals(1, index.getIndex(59.5));
+        assertEquals(2, index.getIndex(60));
+    }
+
+    @Test public void testZeroLengthCellsAreSkipped() {
+        index.set(0, 0);
+        index.set(1, 0);
+        index.set(2, 40);
+        assertEquals(2, index.getIndex(0));
+        assertEquals(3, index.getIndex(40));
+    }
+
+    @Test public void testClear() {
+        index.set(4, 100);
+        index.set(6, 100);
+        index.clear(5, 7);
+        assertTrue(index.isMeasured(4));
+        assertFalse(index.isMeasured(6));
+        assertEquals(100 + 9 * 100, index.getTotalLength(), 0);
+
+        index.clear();
+        assertFalse(index.isMeasured(4));
+        assertEquals(200, index.getTotalLength(), 0);
+    }
+
+    @Test public void testSetSizeKeepsMeasuredLengths() {
+        index.set(1, 40);
+        index.set(4, 100);
+        index.setSize(3);
+        assertEquals(3, index.size());
+        assertTrue(index.isMeasured(1));
+        assertEquals(40 + 2 * 40, index.getTotalLength(), 0);
+
+        index.setSize(2000);
+        assertEquals(2000, index.size());
+        assertEquals(40, index.get(1), 0);
+        assertFalse(index.isMeasured(1999));
+        assertEquals(2000 * 40, index.getTotalLength(), 0);
+    }
+
+    @Test public void testInsertAndRemoveShiftMeasuredLengths() {
+        index.set(2, 10);
+        index.set(5, 50);
+        index.insert(3, 2);
+        assertEquals(12, index.size());
+        assertEquals(10, index.get(2), 0);
+        assertFalse(index.isMeasured(3));
+        assertFalse(index.isMeasured(4));
+        assertFalse(index.isMeasured(5));
+        assertEquals(50, index.get(7), 0);
+        assertEquals(30 + 30 + 10 + 30 + 30 + 30 + 30, index.getOffset(7), 0);
+
+        index.remove(0, 3);
+        assertEquals(9, index.size());
+        assertEquals(50, index.get(4), 0);
+        assertEquals(9 * 50, index.getTotalLength(), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeLength() {
+        index.set(0, -1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testOffsetOutOfBounds() {
+        index.getOffset(11);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testSetPastSizeAfterShrinking() {
+        // the storage keeps its capacity, but the removed cells are gone
+        index.setSize(5);
+        index.set(7, 30);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetPastSizeAfterRemove() {
+        index.remove(0, 3);
+        index.get(8);
+    }
+
+    @Test public void testRandomChangesAgainstList() {
+        final Random random = new Random(3);
+        index = new CellSizeIndex(0, 24);
+        final List<Double> lengths = new ArrayList<>();
+        for (int round = 0; round < 1000; round++) {
+            final int size = lengths.size();
+            final int op = random.nextInt(4);
+            if (op == 0 && size > 0) {
+                final int from = random.nextInt(size);
+                final int to = from + random.nextInt(Math.min(10, size - from) + 1);
+                index.remove(from, to);
+                lengths.subList(from, to).clear();
+            } else if (op == 1) {
+                final int at = random.nextInt(size + 1);
+                final int count = random.nextInt(40);
+                index.insert(at, count);
+                lengths.addAll(at, Collections.nCopies(count, Double.NaN));
+            } else if (size > 0) {
+                final int i = random.nextInt(size);
+                final double length = random.nextInt(100);
+                index.set(i, length);
+                lengths.set(i, length);
+            }
+
+            assertEquals(lengths.size(), index.size());
+            double measuredLength = 0;
+            int measuredCount = 0;
+            for (double length : lengths) {
+                if (!Double.isNaN(length)) {
+                    measuredLength += length;
+                    measuredCount++;
+                }
+            }
+            final double estimate = measuredCount == 0 ? 24 : measuredLength / measuredCount;
+            assertEquals(estimate, index.getEstimate(), 1e-6);
+            double offset = 0;
+            for (int j = 0; j < lengths.size(); j++) {
+                assertEquals(offset, index.getOffset(j), 1e-6);
+                assertEquals(!Double.isNaN(lengths.get(j)), index.isMeasured(j));
+                offset += Double.isNaN(lengths.get(j)) ? estimate : lengths.get(j);
+            }
+            assertEquals(offset, index.getTotalLength(), 1e-6);
+        }
+    }
+
+    @Test public void testRandomAgainstLinearScan() {
+        final Random random = new Random(7);
+        final int size = 1000;
+        index = new CellSizeIndex(size, 24);
+        final double[] lengths = new double[size];
+        final boolean[] measured = new boolean[size];
+        for (int round = 0; round < 2000; round++) {
+            final int i = random.nextInt(size);
+            lengths[i] = random.nextInt(100);
+            measured[i] = true;
+            index.set(i, lengths[i]);
+
+            if (round % 100 == 0) {
+                final double estimate = index.getEstimate();
+                double offset = 0;
+                for (int j = 0; j < size; j++) {
+                    assertEquals(offset, index.getOffset(j), 1e-6);
+                    final double length = measured[j] ? lengths[j] : estimate;
+                    if (length > 0) {
+                        // the estimated lengths are fractional, so stay
+                        // clear of rounding at the cell boundaries
+                        assertEquals(j, index.getIndex(offset + 1e-6));
+                        assertEquals(j, index.getIndex(offset + length / 2));
+                    }
+                    offset += length;
+                }
+                assertEquals(offset, index.getTotalLength(), 1e-6);
+                assertEquals(size, index.getIndex(index.getTotalLength()));
+            }
+        }
+    }
+}
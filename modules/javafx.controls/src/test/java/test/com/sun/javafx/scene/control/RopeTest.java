@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.scene.control;
+
+import com.sun.javafx.scene.control.Rope;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class RopeTest {
+
+    private static void assertRope(String expected, Rope rope) {
+        assertEquals(expected.length(), rope.length());
+        assertEquals(expected, rope.toString());
+        assertEquals(expected, rope.substring(0, rope.length()));
+
+        int lineCount = 1;
+        int lineStart = 0;
+        for (int i = 0; i < expected.length(); i++) {
+            assertEquals(expected.charAt(i), rope.charAt(i));
+            assertEquals(lineCount - 1, rope.getLineIndex(i));
+            int lineEnd = expected.indexOf('\n', i);
+            assertEquals(lineEnd < 0 ? expected.length() : lineEnd, rope.getLineEndFrom(i));
+            if (expected.charAt(i) == '\n') {
+                assertEquals(lineStart, rope.getLineStart(lineCount - 1));
+                assertEquals(i, rope.getLineEnd(lineCount - 1));
+                lineCount++;
+                lineStart = i + 1;
+            }
+        }
+        assertEquals(lineCount, rope.getLineCount());
+        assertEquals(lineStart, rope.getLineStart(lineCount - 1));
+        assertEquals(expected.length(), rope.getLineEnd(lineCount - 1));
+        assertEquals(lineCount - 1, rope.getLineIndex(expected.length()));
+        assertEquals(expected.length(), rope.getLineEndFrom(expected.length()));
+    }
+
+    @Test public void testEmpty() {
+        assertRope("", Rope.EMPTY);
+        assertSame(Rope.EMPTY, Rope.of(""));
+    }
+
+    @Test public void testOf() {
+        assertRope("a\nbc\n\nd", Rope.of("a\nbc\n\nd"));
+    }
+
+    @Test public void testSubstring() {
+        Rope rope = Rope.of("hello\nworld");
+        assertEquals("lo\nwo", rope.substring(3, 8));
+        assertEquals("", rope.substring(4, 4));
+        assertEquals("lo\nwo", rope.subSequence(3, 8).toString());
+    }
+
+    @Test public void testInsertAndDelete() {
+        Rope rope = Rope.of("hello world");
+        Rope inserted = rope.insert(5, ",\nbig");
+        assertRope("hello,\nbig world", inserted);
+        assertRope("hello world", rope);
+        assertRope("hello world", inserted.delete(5, 10));
+        assertRope("", inserted.delete(0, inserted.length()));
+        assertSame(rope, rope.insert(3, ""));
+        assertSame(rope, rope.delete(3, 3));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testInsertOutOfRange() {
+        Rope.of("abc").insert(4, "d");
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testDeleteOutOfRange() {
+        Rope.of("abc").delete(2, 4);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testLineOutOfRange() {
+        Rope.of("a\nb").getLineStart(2);
+    }
+
+    @Test public void testLargeText() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            builder.append("line ").append(i).append('\n');
+        }
+        String text = builder.toString();
+        Rope rope = Rope.of(text);
+        assertEquals(text, rope.toString());
+        assertEquals(20001, rope.getLineCount());
+        assertEquals(text.indexOf("line 12345"), rope.getLineStart(12345));
+        assertEquals(12345, rope.getLineIndex(text.indexOf("line 12345") + 3));
+
+        // pasting into a large text
+        Rope pasted = rope.insert(text.length() / 2, text);
+        assertEquals(new StringBuilder(text).insert(text.length() / 2, text).toString(), pasted.toString());
+        assertEquals(40001, pasted.getLineCount());
+        assertEquals(text, pasted.delete(text.length() / 2, text.length() / 2 + text.length()).toString());
+    }
+
+    @Test public void testRandomEdits() {
+        Random random = new Random(3);
+        StringBuilder expected = new StringBuilder();
+        Rope rope = Rope.EMPTY;
+        for (int i = 0; i < 3000; i++) {
+            if (expected.length() > 0 && random.nextInt(3) == 0) {
+                int start = random.nextInt(expected.length());
+                int end = start + random.nextInt(Math.min(expected.length() - start, 2000) + 1);
+                expected.delete(start, end);
+                rope = rope.delete(start, end);
+            } else {
+                int index = random.nextInt(expected.length() + 1);
+                StringBuilder text = new StringBuilder();
+                int length = random.nextInt(10) == 0 ? random.nextInt(3000) : random.nextInt(4) + 1;
+                for (int j = 0; j < length; j++) {
+                    text.append(random.nextInt(8) == 0 ? '\n' : (char) ('a' + random.nextInt(26)));
+                }
+                expected.insert(index, text);
+                rope = rope.insert(index, text);
+            }
+            if (i % 100 == 0) {
+                assertRope(expected.toString(), rope);
+            }
+        }
+        assertRope(expected.toString(), rope);
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.scene.control;
+
+import com.sun.javafx.scene.control.RowCountIndex;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class RowCountIndexTest {
+
+    private RowCountIndex index;
+
+    @Before public void setUp() {
+        index = new RowCountIndex();
+        index.setAll(new int[] { 1, 3, 0, 2, 1 }, 5);
+    }
+
+    @Test public void testEmpty() {
+        index.setAll(new int[0], 0);
+        assertEquals(0, index.size());
+        assertEquals(0, index.getTotal());
+        assertEquals(0, index.getOffset(0));
+        assertEquals(0, index.getIndex(0));
+    }
+
+    @Test public void testOffsets() {
+        assertEquals(7, index.getTotal());
+        assertEquals(0, index.getOffset(0));
+        assertEquals(1, index.getOffset(1));
+        assertEquals(4, index.getOffset(2));
+        assertEquals(4, index.getOffset(3));
+        assertEquals(6, index.getOffset(4));
+        assertEquals(7, index.getOffset(5));
+    }
+
+    @Test public void testIndexSkipsEmptyEntries() {
+        assertEquals(0, index.getIndex(0));
+        assertEquals(1, index.getIndex(1));
+        assertEquals(1, index.getIndex(3));
+        assertEquals(3, index.getIndex(4));
+        assertEquals(3, index.getIndex(5));
+        assertEquals(4, index.getIndex(6));
+        assertEquals(5, index.getIndex(7));
+        assertEquals(5, index.getIndex(100));
+    }
+
+    @Test public void testSet() {
+        index.set(2, 5);
+        assertEquals(5, index.get(2));
+        assertEquals(12, index.getTotal());
+        assertEquals(9, index.getOffset(3));
+        assertEquals(2, index.getIndex(4));
+        assertEquals(2, index.getIndex(8));
+        assertEquals(3, index.getIndex(9));
+    }
+
+    @Test public void testSetAllReusesStorage() {
+        index.setAll(new int[] { 2, 2 }, 2);
+        assertEquals(2, index.size());
+        assertEquals(4, index.getTotal());
+        assertEquals(2, index.getOffset(1));
+        assertEquals(1, index.getIndex(3));
+        assertEquals(2, index.getIndex(4));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetPastSizeAfterShrinking() {
+        // the storage keeps its capacity, but the dropped entries are gone
+        index.setAll(new int[] { 2, 2 }, 2);
+        index.get(3);
+    }
+
+    @Test public void testInsert() {
+        index.insert(2, 2);
+        index.set(3, 4);
+        assertEquals(7, index.size());
+        assertEquals(11, index.getTotal());
+        assertEquals(4, index.getOffset(2));
+        assertEquals(4, index.getOffset(3));
+        assertEquals(8, index.getOffset(5));
+        assertEquals(3, index.getIndex(4));
+        assertEquals(5, index.getIndex(8));
+    }
+
+    @Test public void testRemove() {
+        index.remove(1, 3);
+        assertEquals(3, index.size());
+        assertEquals(4, index.getTotal());
+        assertEquals(1, index.getOffset(1));
+        assertEquals(3, index.getOffset(2));
+        assertEquals(1, index.getIndex(2));
+        assertEquals(2, index.getIndex(3));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testRemoveOutOfBounds() {
+        index.remove(4, 6);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeCount() {
+        index.set(0, -1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testOffsetOutOfBounds() {
+        index.getOffset(6);
+    }
+
+    @Test public void testRandomSetAllAgainstLinearScan() {
+        // TreeItem replaces all counts whenever its children change, so the
+        // storage is reused for lists that grow and shrink
+        final Random random = new Random(17);
+        for (int round = 0; round < 200; round++) {
+            final int size = random.nextInt(50);
+            final int[] counts = new int[size + random.nextInt(5)];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = random.nextInt(4);
+            }
+            index.setAll(counts, size);
+            if (size > 0) {
+                final int i = random.nextInt(size);
+                counts[i] = random.nextInt(4);
+                index.set(i, counts[i]);
+            }
+
+            assertEquals(size, index.size());
+            int offset = 0;
+            for (int j = 0; j < size; j++) {
+                assertEquals(offset, index.getOffset(j));
+                for (int k = 0; k < counts[j]; k++) {
+                    assertEquals(j, index.getIndex(offset + k));
+                }
+                offset += counts[j];
+            }
+            assertEquals(offset, index.getTotal());
+            assertEquals(size, index.getIndex(offset));
+        }
+    }
+
+    @Test public void testRandomAgainstLinearScan() {
+        final Random random = new Random(11);
+        final int size = 1000;
+        final int[] counts = new int[size];
+        for (int i = 0; i < size; i++) {
+            counts[i] = random.nextInt(4);
+        }
+        index.setAll(counts, size);
+        for (int round = 0; round < 2000; round++) {
+            final int i = random.nextInt(size);
+            counts[i] = random.nextInt(4);
+            index.set(i, counts[i]);
+
+            if (round % 100 == 0) {
+                int offset = 0;
+                for (int j = 0; j < size; j++) {
+                    assertEquals(offset, index.getOffset(j));
+                    for (int k = 0; k < counts[j]; k++) {
+                        assertEquals(j, index.getIndex(offset + k));
+                    }
+                    offset += counts[j];
+                }
+                assertEquals(offset, index.getTotal());
+                assertEquals(size, index.getIndex(offset));
+            }
+        }
+    }
+}
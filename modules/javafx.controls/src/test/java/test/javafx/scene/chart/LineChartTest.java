@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -27,13 +27,20 @@ package test.javafx.scene.chart;
 
 import javafx.collections.ObservableList;
 import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.chart.CategoryAxis;
 import javafx.scene.chart.Chart;
 import javafx.scene.chart.LineChart;
 import javafx.scene.chart.NumberAxis;
 import javafx.scene.chart.XYChart;
 import javafx.scene.chart.XYChartShim;
 import javafx.scene.shape.Path;
+import javafx.scene.shape.PathElement;
+import javafx.stage.Stage;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import org.junit.Ignore;
 import org.junit.Test;
 
@@ -138,6 +145,126 @@ public class LineChartTest extends XYChartTestBase {
         assertEquals(true, lineChart.getAnimated());
     }
 
+    @Test
+    public void testSeriesValuesAreDecimatedToPixelColumns() {
+        startApp();
+        final int count = 100000;
+        double[] xValues = new double[count];
+        double[] yValues = new double[count];
+        for (int i = 0; i < count; i++) {
+            xValues[i] = i;
+            yValues[i] = (i % 7) - 3;
+        }
+        final XYChart.Series<Number, Number> series = new XYChart.Series<Number, Number>();
+        series.setValues(xValues, yValues, count);
+        lineChart.getData().add(series);
+        pulse();
+
+        NumberAxis xAxis = (NumberAxis) lineChart.getXAxis();
+        NumberAxis yAxis = (NumberAxis) lineChart.getYAxis();
+        assertTrue(xAxis.getUpperBound() >= count - 1);
+        assertTrue(yAxis.getLowerBound() <= -3 && yAxis.getUpperBound() >= 3);
+        // no more than the first, lowest, highest and last value of every pixel column
+        int size = ((Path) series.getNode()).getElements().size();
+        assertTrue(size > 0);
+        assertTrue(size <= 4 * (Math.ceil(xAxis.getWidth()) + 2));
+        assertEquals(0, countSymbols(lineChart, "chart-line-symbol"));
+    }
+
+    @Test
+    public void testSeriesValuesPathIsOnlyRebuiltWhenAxesChange() {
+        startApp();
+        double[] xValues = { 0, 1, 2, 3, 4 };
+        double[] yValues = { 4, 2, 5, 1, 3 };
+        final XYChart.Series<Number, Number> series = new XYChart.Series<Number, Number>();
+        series.setValues(xValues, yValues, 5);
+        lineChart.getData().add(series);
+        pulse();
+        Path line = (Path) series.getNode();
+        assertEquals(5, line.getElements().size());
+        PathElement first = line.getElements().get(0);
+
+        lineChart.requestLayout();
+        pulse();
+        assertSame(first, line.getElements().get(0));
+
+        NumberAxis xAxis = (NumberAxis) lineChart.getXAxis();
+        xAxis.setAutoRanging(false);
+        xAxis.setLowerBound(2);
+        xAxis.setUpperBound(3);
+        pulse();
+        assertNotSame(first, line.getElements().get(0));
+        // the visible values and one on either side
+        assertEquals(4, line.getElements().size());
+
+        series.setValues(null, null, 0);
+        pulse();
+        assertEquals(0, line.getElements().size());
+    }
+
+    @Test
+    public void testSeriesValuesOnCategoryAxisDrawTheData() {
+        LineChart<String, Number> categoryChart = new LineChart<>(new CategoryAxis(), new NumberAxis());
+        categoryChart.setAnimated(false);
+        final XYChart.Series<String, Number> series = new XYChart.Series<>();
+        series.getData().add(new XYChart.Data<>("A", 1));
+        series.getData().add(new XYChart.Data<>("B", 3));
+        series.getData().add(new XYChart.Data<>("C", 2));
+        // values cannot be plotted along a category axis
+        series.setValues(new double[] { 0, 1 }, new double[] { 5, 6 }, 2);
+        categoryChart.getData().add(series);
+
+        Stage stage = new Stage();
+        stage.setScene(new Scene(categoryChart, 400, 300));
+        stage.show();
+        pulse();
+        // a move to the first item and a line to every item
+        assertEquals(4, ((Path) series.getNode()).getElements().size());
+        stage.hide();
+    }
+
+    @Test
+    public void testAppendValueKeepsWindow() {
+        startApp();
+        NumberAxis xAxis = (NumberAxis) lineChart.getXAxis();
+        xAxis.setForceZeroInRange(false);
+        double[] xValues = { 0, 1 };
+        double[] yValues = { 5, 6 };
+        final XYChart.Series<Number, Number> series = new XYChart.Series<Number, Number>();
+        series.setValues(xValues, yValues, 2);
+        lineChart.getData().add(series);
+        for (int i = 2; i < 1000; i++) {
+            series.appendValue(i, i % 10, 100);
+        }
+        pulse();
+        assertEquals(100, series.getValueCount());
+        assertTrue(xAxis.getLowerBound() >= 850);
+        assertTrue(xAxis.getUpperBound() >= 999);
+        // the arrays that were set are left as they were
+        assertEquals(1, xValues[1], 0);
+        assertEquals(6, yValues[1], 0);
+        assertEquals(100, ((Path) series.getNode()).getElements().size());
+    }
+
+    @Test
+    public void testAxisRangeShrinksWhenBoundIsRemoved() {
+        startApp();
+        lineChart.getData().add(series1);
+        pulse();
+        NumberAxis yAxis = (NumberAxis) lineChart.getYAxis();
+        assertTrue(yAxis.getUpperBound() >= 20);
+        // 25,20 is the highest data item
+        series1.getData().remove(1);
+        pulse();
+        assertTrue(yAxis.getUpperBound() < 20);
+        series1.getData().add(new XYChart.Data(90d, 40d));
+        pulse();
+        assertTrue(yAxis.getUpperBound() >= 40);
+        series1.getData().get(series1.getData().size() - 1).setYValue(12d);
+        pulse();
+        assertTrue(yAxis.getUpperBound() < 20);
+    }
+
     @Override
     void checkSeriesStyleClasses(XYChart.Series<?, ?> series,
             int seriesIndex, int colorIndex) {
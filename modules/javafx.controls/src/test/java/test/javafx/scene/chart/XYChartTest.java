@@ -45,6 +45,7 @@ import javafx.scene.chart.CategoryAxis;
 import javafx.scene.chart.Chart;
 import javafx.scene.chart.ChartShim;
 import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.ScatterChart;
 import javafx.scene.chart.XYChart;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
@@ -55,6 +56,7 @@ import javafx.stage.Stage;
 import org.junit.Assert;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import test.com.sun.javafx.scene.control.infrastructure.ControlTestUtils;
 
 public class XYChartTest extends ChartTestBase {
@@ -171,4 +173,25 @@ public class XYChartTest extends ChartTestBase {
             seriesProperty.add(new XYChart.Series<>());
         });
     }
+
+    @Test
+    public void testSeriesValuesAreNotInTheRangeOfChartsThatDoNotDrawThem() {
+        NumberAxis xAxis = new NumberAxis();
+        NumberAxis yAxis = new NumberAxis();
+        ScatterChart<Number, Number> scatterChart = new ScatterChart<>(xAxis, yAxis);
+        scatterChart.setAnimated(false);
+        XYChart.Series<Number, Number> series = new XYChart.Series<>();
+        series.getData().add(new XYChart.Data<>(10, 10));
+        series.getData().add(new XYChart.Data<>(20, 20));
+        series.setValues(new double[] { 0, 1000 }, new double[] { 0, 1000 }, 2);
+        scatterChart.getData().add(series);
+
+        Stage stage = new Stage();
+        stage.setScene(new Scene(scatterChart, 400, 300));
+        stage.show();
+        pulse();
+        assertTrue(xAxis.getUpperBound() < 1000);
+        assertTrue(yAxis.getUpperBound() < 1000);
+        stage.hide();
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -30,6 +30,8 @@ import static javafx.scene.control.TableColumn.SortType.ASCENDING;
 import static javafx.scene.control.TableColumn.SortType.DESCENDING;
 import static org.junit.Assert.*;
 
+import java.io.File;
+import java.nio.file.Files;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
@@ -57,11 +59,13 @@ import javafx.event.EventHandler;
 import javafx.geometry.Orientation;
 import javafx.scene.Group;
 import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
 import javafx.scene.control.cell.*;
 import javafx.scene.control.skin.TableCellSkin;
 import javafx.scene.control.skin.TableColumnHeader;
 import javafx.scene.control.skin.TableColumnHeaderShim;
 import javafx.scene.control.skin.TableHeaderRow;
+import javafx.scene.control.skin.TableViewSkin;
 import javafx.scene.control.skin.VirtualFlow;
 import com.sun.javafx.scene.control.VirtualScrollBar;
 import javafx.scene.image.ImageView;
@@ -655,6 +659,19 @@ public class TableViewTest {
         VirtualFlowTestUtils.assertListContainsItemsInOrder(c.getColumns(), col);
     }
 
+    @Test public void testComparatorKeepsSortStateOfItsColumns() {
+        TableColumn<String, String> col = initSortTestStructure();
+        table.getSortOrder().add(col);
+        TableColumnComparator c = (TableColumnComparator)table.getComparator();
+        assertTrue(c.compare("Apple", "Banana") < 0);
+
+        col.setSortType(DESCENDING);
+        col.setComparator(Comparator.<String>reverseOrder());
+        assertTrue(c.compare("Apple", "Banana") < 0);
+        assertTrue(((TableColumnComparator)table.getComparator()).compare("Apple", "Banana") < 0);
+        VirtualFlowTestUtils.assertListContainsItemsInOrder(table.getItems(), "Apple", "Banana", "Orange");
+    }
+
     @Ignore
     @Test public void testComparatorChangesInSyncWithSortOrder_2() {
         // same as test above
@@ -5426,4 +5443,240 @@ public class TableViewTest {
 
         sl.dispose();
     }
+
+    @Test public void testSelectAllRowsIsStoredAsRange() {
+        final int rowCount = 100_000;
+        TableView<Integer> bigTable = new TableView<>();
+        for (int i = 0; i < rowCount; i++) {
+            bigTable.getItems().add(i);
+        }
+        TableColumn<Integer, Integer> col = new TableColumn<>("Value");
+        bigTable.getColumns().add(col);
+
+        TableView.TableViewSelectionModel<Integer> bigSm = bigTable.getSelectionModel();
+        bigSm.setSelectionMode(SelectionMode.MULTIPLE);
+        bigSm.select(5);
+
+        List<String> cellChanges = new ArrayList<>();
+        bigSm.getSelectedCells().addListener((ListChangeListener<TablePosition>) c -> {
+            while (c.next()) {
+                cellChanges.add(c.getFrom() + "-" + c.getTo() + " -" + c.getRemovedSize());
+            }
+        });
+        List<String> indexChanges = new ArrayList<>();
+        bigSm.getSelectedIndices().addListener((ListChangeListener<Integer>) c -> {
+            while (c.next()) {
+                indexChanges.add(c.getFrom() + "-" + c.getTo() + " -" + c.getRemovedSize());
+            }
+        });
+
+        bigSm.selectAll();
+        assertEquals(Arrays.asList("0-" + rowCount + " -1"), cellChanges);
+        assertEquals(Arrays.asList("0-" + rowCount + " -1"), indexChanges);
+        assertEquals(rowCount, bigSm.getSelectedCells().size());
+        assertEquals(rowCount, bigSm.getSelectedIndices().size());
+        assertEquals(rowCount, bigSm.getSelectedItems().size());
+        assertEquals(new TablePosition<>(bigTable, 1234, null), bigSm.getSelectedCells().get(1234));
+        assertEquals(1234, (int) bigSm.getSelectedIndices().get(1234));
+        assertTrue(bigSm.isSelected(rowCount - 1));
+        assertTrue(bigSm.isSelected(rowCount - 1, col));
+
+        // selecting an already selected row is a no-op
+        cellChanges.clear();
+        bigSm.select(10);
+        assertTrue(cellChanges.isEmpty());
+        assertEquals(rowCount, bigSm.getSelectedCells().size());
+
+        // modifying the selection still works once all rows are selected
+        bigSm.clearSelection(10);
+        assertEquals(rowCount - 1, bigSm.getSelectedCells().size());
+        assertEquals(rowCount - 1, bigSm.getSelectedIndices().size());
+        assertFalse(bigSm.isSelected(10));
+        assertEquals(11, bigSm.getSelectedCells().get(10).getRow());
+
+        bigSm.selectAll();
+        cellChanges.clear();
+        indexChanges.clear();
+        bigSm.clearSelection();
+        assertEquals(Arrays.asList("0-0 -" + rowCount), cellChanges);
+        assertEquals(Arrays.asList("0-0 -" + rowCount), indexChanges);
+        assertTrue(bigSm.getSelectedCells().isEmpty());
+        assertTrue(bigSm.getSelectedIndices().isEmpty());
+        assertFalse(bigSm.isSelected(0));
+    }
+
+    @Test public void testFixedCellSizeOnlyCreatesCellsForColumnsInView() {
+        final int columnCount = 200;
+        TableView<Integer> wideTable = new TableView<>();
+        for (int i = 0; i < 50; i++) {
+            wideTable.getItems().add(i);
+        }
+        wideTable.setFixedCellSize(24);
+        wideTable.setPrefSize(500, 300);
+
+        AtomicLong createdCells = new AtomicLong();
+        for (int i = 0; i < columnCount; i++) {
+            final int columnIndex = i;
+            TableColumn<Integer, String> column = new TableColumn<>("Column " + i);
+            column.setPrefWidth(100);
+            column.setCellValueFactory(param -> new ReadOnlyStringWrapper(param.getValue() + "-" + columnIndex));
+            column.setCellFactory(param -> {
+                createdCells.incrementAndGet();
+                return new TableCell<Integer, String>() {
+                    @Override protected void updateItem(String item, boolean empty) {
+                        super.updateItem(item, empty);
+                        setText(empty ? null : item);
+                    }
+                };
+            });
+            wideTable.getColumns().add(column);
+        }
+
+        StageLoader sl = new StageLoader(wideTable);
+
+        IndexedCell row = VirtualFlowTestUtils.getCell(wideTable, 3);
+        long rowCellCount = row.getChildrenUnmodifiable().stream().filter(n -> n instanceof TableCell).count();
+        assertTrue("Too many cells in row: " + rowCellCount, rowCellCount > 0 && rowCellCount <= 7);
+        assertTrue("Too many cells created: " + createdCells.get(), createdCells.get() < columnCount);
+        assertEquals("3-0", VirtualFlowTestUtils.getCell(wideTable, 3, 0).getItem());
+
+        // scroll horizontally to the middle of the table
+        VirtualFlowTestUtils.getVirtualFlowHorizontalScrollbar(wideTable).setValue(100 * 100);
+        Toolkit.getToolkit().firePulse();
+
+        row = VirtualFlowTestUtils.getCell(wideTable, 3);
+        List<String> items = new ArrayList<>();
+        for (Node n : row.getChildrenUnmodifiable()) {
+            if (n instanceof TableCell) {
+                items.add((String) ((TableCell) n).getItem());
+            }
+        }
+        assertTrue(items.toString(), items.size() <= 7);
+        assertTrue(items.toString(), items.contains("3-100"));
+        assertFalse(items.toString(), items.contains("3-0"));
+
+        // the cells are positioned where their column is
+        for (Node n : row.getChildrenUnmodifiable()) {
+            if (n instanceof TableCell && "3-100".equals(((TableCell) n).getItem())) {
+                assertEquals(100 * 100, n.getLayoutX(), 0.5);
+            }
+        }
+
+        sl.dispose();
+    }
+
+    @Test public void testLightweightCellsAreDrawnByTheRow() {
+        TableView<Integer> lightTable = new TableView<>();
+        for (int i = 0; i < 50; i++) {
+            lightTable.getItems().add(i);
+        }
+        lightTable.setFixedCellSize(24);
+        lightTable.setPrefSize(500, 300);
+
+        TableColumn<Integer, String> textColumn = new TableColumn<>("Text");
+        textColumn.setPrefWidth(100);
+        textColumn.setCellValueFactory(param -> new ReadOnlyStringWrapper("text-" + param.getValue()));
+        TableColumn<Integer, Node> nodeColumn = new TableColumn<>("Node");
+        nodeColumn.setPrefWidth(100);
+        Rectangle rectangle = new Rectangle(10, 10);
+        nodeColumn.setCellValueFactory(param -> new ReadOnlyObjectWrapper<>(param.getValue() == 3 ? rectangle : null));
+        TableColumn<Integer, String> customColumn = new TableColumn<>("Custom");
+        customColumn.setPrefWidth(100);
+        customColumn.setCellValueFactory(param -> new ReadOnlyStringWrapper("custom-" + param.getValue()));
+        customColumn.setCellFactory(TextFieldTableCell.forTableColumn());
+        lightTable.getColumns().addAll(textColumn, nodeColumn, customColumn);
+
+        // the table is laid out without being shown, so that the canvas of
+        // the rows is never synced
+        new Scene(lightTable);
+        layoutLightweightTable(lightTable);
+        TableViewSkin<?> skin = (TableViewSkin<?>) lightTable.getSkin();
+        skin.setLightweightCells(true);
+        layoutLightweightTable(lightTable);
+
+        // only the column with a custom cell factory has cells
+        IndexedCell row = VirtualFlowTestUtils.getCell(lightTable, 3);
+        List<Object> items = new ArrayList<>();
+        for (Node n : row.getChildrenUnmodifiable()) {
+            if (n instanceof TableCell) {
+                items.add(((TableCell) n).getItem());
+            }
+        }
+        assertEquals(Arrays.asList("custom-3"), items);
+        assertTrue(row.getChildrenUnmodifiable().stream().anyMatch(n -> n instanceof Canvas));
+
+        // node values are shown in their column
+        assertSame(row, rectangle.getParent());
+        assertTrue(rectangle.getLayoutX() >= 100 && rectangle.getLayoutX() < 200);
+
+        // turning lightweight cells off creates cells for every column again
+        skin.setLightweightCells(false);
+        layoutLightweightTable(lightTable);
+        row = VirtualFlowTestUtils.getCell(lightTable, 3);
+        assertEquals(3, row.getChildrenUnmodifiable().stream().filter(n -> n instanceof TableCell).count());
+        assertFalse(row.getChildrenUnmodifiable().stream().anyMatch(n -> n instanceof Canvas));
+        assertEquals("text-3", VirtualFlowTestUtils.getCell(lightTable, 3, 0).getItem());
+    }
+
+    @Test public void testClickOnLightweightCellSelectsRow() {
+        TableView<Integer> lightTable = new TableView<>();
+        for (int i = 0; i < 50; i++) {
+            lightTable.getItems().add(i);
+        }
+        lightTable.setFixedCellSize(24);
+        TableColumn<Integer, String> textColumn = new TableColumn<>("Text");
+        textColumn.setCellValueFactory(param -> new ReadOnlyStringWrapper("text-" + param.getValue()));
+        lightTable.getColumns().add(textColumn);
+
+        // the events need a shown stage, but no pulse is fired, so that the
+        // canvas of the rows is never synced
+        StageLoader sl = new StageLoader(lightTable);
+        layoutLightweightTable(lightTable);
+        ((TableViewSkin<?>) lightTable.getSkin()).setLightweightCells(true);
+        layoutLightweightTable(lightTable);
+
+        IndexedCell row = VirtualFlowTestUtils.getCell(lightTable, 4);
+        Node canvas = row.getChildrenUnmodifiable().stream()
+                .filter(n -> n instanceof Canvas).findFirst().get();
+        MouseEventFirer mouse = new MouseEventFirer(canvas);
+        mouse.fireMousePressAndRelease();
+        assertTrue(lightTable.getSelectionModel().isSelected(4));
+        assertEquals(1, lightTable.getSelectionModel().getSelectedIndices().size());
+
+        mouse.dispose();
+        sl.dispose();
+    }
+
+    @Test public void testLightweightCellsUseTheInsetsAndAlignmentOfTheCells() throws Exception {
+        TableView<Integer> lightTable = new TableView<>();
+        lightTable.getItems().addAll(0, 1, 2);
+        lightTable.setFixedCellSize(40);
+        Rectangle rectangle = new Rectangle(10, 10);
+        TableColumn<Integer, Node> nodeColumn = new TableColumn<>("Node");
+        nodeColumn.setPrefWidth(100);
+        nodeColumn.setCellValueFactory(param -> new ReadOnlyObjectWrapper<>(param.getValue() == 1 ? rectangle : null));
+        lightTable.getColumns().add(nodeColumn);
+
+        File stylesheet = File.createTempFile("lightweight", ".css");
+        stylesheet.deleteOnExit();
+        Files.write(stylesheet.toPath(), Arrays.asList(
+                ".table-cell { -fx-padding: 5 7 5 30; -fx-border-width: 0; -fx-alignment: bottom-left; }"));
+        lightTable.getStylesheets().add(stylesheet.toURI().toString());
+
+        new Scene(lightTable);
+        layoutLightweightTable(lightTable);
+        ((TableViewSkin<?>) lightTable.getSkin()).setLightweightCells(true);
+        layoutLightweightTable(lightTable);
+
+        IndexedCell row = VirtualFlowTestUtils.getCell(lightTable, 1);
+        assertSame(row, rectangle.getParent());
+        assertEquals(row.snappedLeftInset() + 30, rectangle.getLayoutX(), 0.5);
+        assertEquals(row.snappedTopInset() + 40 - 5 - 10, rectangle.getLayoutY(), 0.5);
+    }
+
+    private static void layoutLightweightTable(TableView<?> table) {
+        table.applyCss();
+        table.resize(500, 300);
+        table.layout();
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,12 +25,18 @@
 
 package test.javafx.scene.control;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
+import javafx.collections.ListChangeListener;
 import javafx.scene.Scene;
 import javafx.scene.control.TextArea;
 import javafx.scene.control.TextInputControlShim;
@@ -404,6 +410,70 @@ public class TextAreaTest {
         assertEquals(dummyTxtArea.getParagraphs().get(1).toString(), "another");
     }
 
+    @Test public void insertParagraphsAndCheckParagraphChange() {
+        dummyTxtArea.setText("dummy\nanother");
+        List<String> changes = new ArrayList<>();
+        dummyTxtArea.getParagraphs().addListener((ListChangeListener.Change<? extends CharSequence> c) -> {
+            while (c.next()) {
+                changes.add(c.getFrom() + "," + c.getTo() + "," + c.getRemoved());
+            }
+        });
+        dummyTxtArea.insertText(2, "a\nb\nc");
+        assertEquals(Arrays.asList("0,3,[dummy]"), changes);
+        assertEquals(4, dummyTxtArea.getParagraphs().size());
+        assertEquals("dua", dummyTxtArea.getParagraphs().get(0).toString());
+        assertEquals("cmmy", dummyTxtArea.getParagraphs().get(2).toString());
+    }
+
+    @Test public void paragraphsAreTheSameObjectsUntilEdited() {
+        dummyTxtArea.setText("dummy\nanother\nlast");
+        CharSequence first = dummyTxtArea.getParagraphs().get(0);
+        CharSequence last = dummyTxtArea.getParagraphs().get(2);
+        assertSame(first, dummyTxtArea.getParagraphs().get(0));
+
+        dummyTxtArea.insertText(8, "x\ny");
+        assertSame(first, dummyTxtArea.getParagraphs().get(0));
+        assertSame(last, dummyTxtArea.getParagraphs().get(3));
+        assertEquals("anx", dummyTxtArea.getParagraphs().get(1).toString());
+        assertEquals("yother", dummyTxtArea.getParagraphs().get(2).toString());
+
+        dummyTxtArea.deleteText(0, 1);
+        assertNotSame(first, dummyTxtArea.getParagraphs().get(0));
+        assertEquals("ummy", dummyTxtArea.getParagraphs().get(0).toString());
+        assertSame(last, dummyTxtArea.getParagraphs().get(3));
+    }
+
+    @Test public void walkParagraphsAfterEdits() {
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            expected.append("line ").append(i).append('\n');
+        }
+        dummyTxtArea.setText(expected.toString());
+        for (int round = 0; round < 20; round++) {
+            int index = round * 97 % expected.length();
+            dummyTxtArea.insertText(index, "a\nb");
+            expected.insert(index, "a\nb");
+            dummyTxtArea.deleteText(index / 2, index / 2 + 7);
+            expected.delete(index / 2, index / 2 + 7);
+            assertEquals(Arrays.asList(expected.toString().split("\n", -1)),
+                    dummyTxtArea.getParagraphs().stream().map(CharSequence::toString).collect(Collectors.toList()));
+        }
+    }
+
+    @Test public void deleteParagraphsAndCheckParagraphChange() {
+        dummyTxtArea.setText("dummy\nanother\nlast");
+        List<String> changes = new ArrayList<>();
+        dummyTxtArea.getParagraphs().addListener((ListChangeListener.Change<? extends CharSequence> c) -> {
+            while (c.next()) {
+                changes.add(c.getFrom() + "," + c.getTo() + "," + c.getRemoved());
+            }
+        });
+        dummyTxtArea.deleteText(3, 15);
+        assertEquals(Arrays.asList("0,1,[dummy, another, last]"), changes);
+        assertEquals(1, dummyTxtArea.getParagraphs().size());
+        assertEquals("dumast", dummyTxtArea.getParagraphs().get(0).toString());
+    }
+
     @Test public void appendNormalTextAndCheckText() {
         dummyTxtArea.appendText("another");
         assertEquals(dummyTxtArea.getText(), "dummyanother");
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -3621,4 +3621,46 @@ public class TreeViewTest {
         // in the selectedIndices and selectedItems list
         childNode1.setExpanded(false);
     }
+
+    private static void collectRows(TreeItem<Integer> item, List<TreeItem<Integer>> rows) {
+        rows.add(item);
+        if (item.isExpanded()) {
+            for (TreeItem<Integer> child : item.getChildren()) {
+                collectRows(child, rows);
+            }
+        }
+    }
+
+    @Test public void testRowLookupAfterExpandCollapseAndChildChanges() {
+        final Random random = new Random(5);
+        final List<TreeItem<Integer>> all = new ArrayList<>();
+        TreeItem<Integer> root = new TreeItem<>(0);
+        root.setExpanded(true);
+        all.add(root);
+        for (int i = 1; i < 2000; i++) {
+            TreeItem<Integer> item = new TreeItem<>(i);
+            item.setExpanded(random.nextBoolean());
+            all.get(random.nextInt(all.size())).getChildren().add(item);
+            all.add(item);
+        }
+        TreeView<Integer> tree = new TreeView<>(root);
+
+        for (int round = 0; round < 30; round++) {
+            TreeItem<Integer> item = all.get(1 + random.nextInt(all.size() - 1));
+            switch (round % 3) {
+                case 0: item.setExpanded(!item.isExpanded()); break;
+                case 1: item.getChildren().add(0, new TreeItem<>(-round)); break;
+                default: if (!item.getChildren().isEmpty()) item.getChildren().remove(0); break;
+            }
+
+            final List<TreeItem<Integer>> rows = new ArrayList<>();
+            collectRows(root, rows);
+            assertEquals(rows.size(), tree.getExpandedItemCount());
+            for (int row = 0; row < rows.size(); row += 7) {
+                assertSame(rows.get(row), tree.getTreeItem(row));
+                assertEquals(row, tree.getRow(rows.get(row)));
+            }
+            assertNull(tree.getTreeItem(rows.size()));
+        }
+    }
 }
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.scene.control.skin;
+
+import com.sun.javafx.tk.Toolkit;
+import javafx.scene.Node;
+import javafx.scene.control.TextArea;
+import javafx.scene.control.skin.TextAreaSkin;
+import javafx.scene.control.skin.TextInputControlSkin.Direction;
+import javafx.scene.control.skin.TextInputControlSkin.TextUnit;
+import javafx.scene.text.HitInfo;
+import javafx.scene.text.Text;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import test.com.sun.javafx.scene.control.infrastructure.StageLoader;
+
+import static org.junit.Assert.*;
+
+public class TextAreaSkinTest {
+
+    private static final int LINE_COUNT = 100_000;
+
+    private TextArea textArea;
+    private TextAreaSkin skin;
+    private StageLoader stageLoader;
+
+    @Before public void setup() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < LINE_COUNT; i++) {
+            if (i > 0) {
+                text.append('\n');
+            }
+            text.append("line ").append(i);
+        }
+        textArea = new TextArea(text.toString());
+        textArea.setPrefRowCount(10);
+        skin = new TextAreaSkin(textArea);
+        skin.setVirtualized(true);
+        textArea.setSkin(skin);
+        stageLoader = new StageLoader(textArea);
+        Toolkit.getToolkit().firePulse();
+    }
+
+    @After public void cleanup() {
+        stageLoader.dispose();
+    }
+
+    private Text getTextNode() {
+        for (Node node : textArea.lookupAll(".text")) {
+            if (node instanceof Text) {
+                return (Text) node;
+            }
+        }
+        throw new AssertionError("No text node");
+    }
+
+    // the stub toolkit lays out lines as high as the font size
+    private double getLineHeight() {
+        return textArea.getFont().getSize();
+    }
+
+    private int getLineOffset(int line) {
+        int offset = 0;
+        for (int i = 0; i < line; i++) {
+            offset += textArea.getParagraphs().get(i).length() + 1;
+        }
+        return offset;
+    }
+
+    @Test public void virtualizedTextNodeOnlyHoldsParagraphsAroundViewport() {
+        String text = getTextNode().getText();
+        assertTrue(text.startsWith("line 0\nline 1\n"));
+        assertTrue(text.split("\n").length < 100);
+    }
+
+    @Test public void virtualizedTextNodeFollowsScrolling() {
+        textArea.setScrollTop(50_000 * getLineHeight());
+        Toolkit.getToolkit().firePulse();
+
+        String text = getTextNode().getText();
+        assertTrue(text.contains("line 50000\n"));
+        assertFalse(text.contains("line 0\n"));
+        assertTrue(text.split("\n").length < 100);
+    }
+
+    @Test public void virtualizedHitTestReturnsOffsetInContent() {
+        textArea.setScrollTop(50_000 * getLineHeight());
+        Toolkit.getToolkit().firePulse();
+
+        // a line in the window
+        Text textNode = getTextNode();
+        int firstLine = Integer.parseInt(textNode.getText().substring(5, textNode.getText().indexOf('\n')));
+        HitInfo hit = skin.getIndex(textNode.getLayoutX(), textNode.getLayoutY() + getLineHeight() / 2);
+        assertEquals(getLineOffset(firstLine), hit.getInsertionIndex());
+
+        // a line outside of the window
+        hit = skin.getIndex(textNode.getLayoutX(), textNode.getLayoutY() - 10 * getLineHeight() + getLineHeight() / 2);
+        assertEquals(getLineOffset(firstLine - 10), hit.getInsertionIndex());
+    }
+
+    @Test public void virtualizedParagraphNavigationCrossesWindow() {
+        textArea.positionCaret(textArea.getLength());
+        skin.moveCaret(TextUnit.PARAGRAPH, Direction.BEGINNING, false);
+        assertEquals(getLineOffset(LINE_COUNT - 1), textArea.getCaretPosition());
+
+        skin.moveCaret(TextUnit.PARAGRAPH, Direction.UP, false);
+        assertEquals(getLineOffset(LINE_COUNT - 2), textArea.getCaretPosition());
+
+        textArea.positionCaret(3);
+        skin.moveCaret(TextUnit.PARAGRAPH, Direction.END, false);
+        assertEquals(getLineOffset(1) - 1, textArea.getCaretPosition());
+    }
+
+    @Test public void virtualizedSelectionAndEditing() {
+        textArea.selectAll();
+        Toolkit.getToolkit().firePulse();
+        Text textNode = getTextNode();
+        assertEquals(0, textNode.getSelectionStart());
+        assertTrue(textNode.getSelectionEnd() >= textNode.getText().length());
+
+        textArea.insertText(getLineOffset(1), "new\n");
+        Toolkit.getToolkit().firePulse();
+        assertTrue(getTextNode().getText().startsWith("line 0\nnew\nline 1\n"));
+
+        textArea.positionCaret(getLineOffset(2));
+        skin.moveCaret(TextUnit.PARAGRAPH, Direction.UP, false);
+        assertEquals(getLineOffset(1), textArea.getCaretPosition());
+    }
+
+    @Test public void virtualizedPrefWidthFollowsLongestParagraph() {
+        Node content = textArea.lookup(".content");
+        double width = content.prefWidth(-1);
+
+        // long paragraphs far outside of the window
+        String longer = new String(new char[500]).replace('\0', 'x');
+        String shorter = longer.substring(100);
+        textArea.insertText(getLineOffset(50_000), longer + "\n" + shorter + "\n");
+        Toolkit.getToolkit().firePulse();
+        double longerWidth = content.prefWidth(-1);
+        assertTrue(longerWidth > width);
+
+        // shortening the longest paragraph falls back to the next one
+        int start = getLineOffset(50_000);
+        textArea.deleteText(start, start + 200);
+        Toolkit.getToolkit().firePulse();
+        double shorterWidth = content.prefWidth(-1);
+        assertTrue(shorterWidth < longerWidth);
+        assertTrue(shorterWidth > width);
+
+        // removing the long paragraphs restores the width
+        textArea.deleteText(start, getLineOffset(50_002));
+        Toolkit.getToolkit().firePulse();
+        assertEquals(width, content.prefWidth(-1), 0);
+    }
+
+    @Test public void wrappedTextIsNotVirtualized() {
+        textArea.setWrapText(true);
+        Toolkit.getToolkit().firePulse();
+        assertEquals(textArea.getLength(), getTextNode().getText().length());
+
+        textArea.setWrapText(false);
+        Toolkit.getToolkit().firePulse();
+        assertTrue(getTextNode().getText().split("\n").length < 100);
+    }
+}
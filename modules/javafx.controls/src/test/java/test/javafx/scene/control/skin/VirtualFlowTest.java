@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -33,10 +33,16 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.concurrent.Executor;
 
 import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.event.Event;
 import javafx.scene.control.IndexedCell;
 import test.javafx.scene.control.SkinStub;
@@ -48,6 +54,7 @@ import org.junit.Test;
 
 import java.util.List;
 import javafx.scene.control.IndexedCellShim;
+import javafx.scene.control.skin.CellPreparer;
 import javafx.scene.control.skin.VirtualFlowShim;
 import javafx.scene.control.skin.VirtualFlowShim.ArrayLinkedListShim;
 
@@ -1126,6 +1133,277 @@ public class VirtualFlowTest {
         assertMinimalNumberOfCellsAreUsed(flow);
         assertEquals(flow.getViewportLength()-25.0, VirtualFlowShim.<IndexedCell>cells_getLast(flow.cells).getLayoutY(), 0.0);
     }
+
+    // the length of a cell in a size indexed flow, which varies by index
+    private static double lengthOf(int index) {
+        return 20 + (index % 4) * 10;
+    }
+
+    private static double offsetOf(int index) {
+        double offset = 0;
+        for (int i = 0; i < index; i++) {
+            offset += lengthOf(i);
+        }
+        return offset;
+    }
+
+    private double viewportStart() {
+        IndexedCell firstCell = VirtualFlowShim.<IndexedCell>cells_getFirst(flow.cells);
+        return offsetOf(firstCell.getIndex()) - firstCell.getLayoutY();
+    }
+
+    private void setUpSizeIndexedFlow() {
+        flow.setCellFactory(p -> new CellStub(flow) {
+            @Override protected double computeMinHeight(double width) {
+                return computePrefHeight(width);
+            }
+
+            @Override protected double computeMaxHeight(double width) {
+                return computePrefHeight(width);
+            }
+
+            @Override protected double computePrefHeight(double width) {
+                return lengthOf(getIndex());
+            }
+        });
+        flow.setSizeIndexed(true);
+        pulse();
+    }
+
+    @Test
+    public void testSizeIndexed_ScrollPixelsIsExact() {
+        setUpSizeIndexedFlow();
+        for (int i = 1; i <= 200; i++) {
+            flow.scrollPixels(10);
+            pulse();
+            assertEquals(i * 10, viewportStart(), 0.0);
+        }
+        for (int i = 199; i >= 0; i--) {
+            flow.scrollPixels(-10);
+            pulse();
+            assertEquals(i * 10, viewportStart(), 0.0);
+        }
+        assertEquals(0, flow.getPosition(), 0.0);
+        assertMinimalNumberOfCellsAreUsed(flow);
+    }
+
+    @Test
+    public void testSizeIndexed_ThumbMatchesContentLength() {
+        setUpSizeIndexedFlow();
+        while (flow.getPosition() < 1) {
+            flow.scrollPixels(100);
+            pulse();
+        }
+        // every cell has been laid out, so the content length is exact
+        final double contentLength = offsetOf(100);
+        final double scrollableLength = contentLength - flow.getViewportLength();
+        assertEquals(flow.getViewportLength() / contentLength, flow.shim_getVbar().getVisibleAmount(), 0.0001);
+        assertEquals(scrollableLength, viewportStart(), 0.0);
+
+        flow.scrollPixels(-500);
+        pulse();
+        assertEquals(scrollableLength - 500, viewportStart(), 0.0);
+        assertEquals((scrollableLength - 500) / scrollableLength, flow.getPosition(), 0.0001);
+    }
+
+    @Test
+    public void testSizeIndexed_ScrollToTop() {
+        setUpSizeIndexedFlow();
+        flow.scrollToTop(50);
+        pulse();
+        IndexedCell firstCell = VirtualFlowShim.<IndexedCell>cells_getFirst(flow.cells);
+        assertEquals(50, firstCell.getIndex());
+        assertEquals(0, firstCell.getLayoutY(), 0.0);
+        assertMinimalNumberOfCellsAreUsed(flow);
+
+        flow.scrollToTop(10);
+        pulse();
+        firstCell = VirtualFlowShim.<IndexedCell>cells_getFirst(flow.cells);
+        assertEquals(10, firstCell.getIndex());
+        assertEquals(0, firstCell.getLayoutY(), 0.0);
+    }
+
+    @Test
+    public void testSizeIndexed_ItemsChangeKeepsMeasuredLengths() {
+        ObservableList<Integer> items = FXCollections.observableArrayList();
+        for (int i = 0; i < 100; i++) {
+            items.add(i);
+        }
+        items.addListener(flow::itemsChanged);
+        // the length of each cell follows its item rather than its index
+        flow.setCellFactory(p -> new CellStub(flow) {
+            @Override protected double computeMinHeight(double width) {
+                return computePrefHeight(width);
+            }
+
+            @Override protected double computeMaxHeight(double width) {
+                return computePrefHeight(width);
+            }
+
+            @Override protected double computePrefHeight(double width) {
+                final int index = getIndex();
+                return index < 0 || index >= items.size() ? 20 : lengthOf(items.get(index));
+            }
+        });
+        flow.setSizeIndexed(true);
+        pulse();
+        while (flow.getPosition() < 1) {
+            flow.scrollPixels(100);
+            pulse();
+        }
+        flow.setPosition(0);
+        pulse();
+
+        items.add(0, 101);
+        items.remove(50, 53);
+        flow.setCellCount(items.size());
+        pulse();
+        double contentLength = 0;
+        for (int item : items) {
+            contentLength += lengthOf(item);
+        }
+        assertEquals(flow.getViewportLength() / contentLength, flow.shim_getVbar().getVisibleAmount(), 0.0001);
+    }
+
+    // runs the tasks submitted to it when asked to
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final List<Integer> prepared = new ArrayList<>();
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void setUpCellPreparer(Executor executor) {
+        CellPreparer<Object, IndexedCell<Object>, String> preparer = new CellPreparer<Object, IndexedCell<Object>, String>() {
+            @Override public String prepare(int index, Object item) {
+                prepared.add(index);
+                return "Prepared " + (item instanceof Integer ? item : index);
+            }
+
+            @Override public void apply(IndexedCell<Object> cell, String content) {
+                cell.getProperties().put("content", content);
+            }
+
+            @Override public Executor getExecutor() {
+                return executor;
+            }
+        };
+        // the flow of this test holds raw IndexedCells
+        ((VirtualFlowShim) flow).setCellPreparer(preparer);
+        pulse();
+    }
+
+    private void assertCellContentApplied() {
+        for (int i = 0; i < VirtualFlowShim.cells_size(flow.cells); i++) {
+            IndexedCell cell = VirtualFlowShim.<IndexedCell>cells_get(flow.cells, i);
+            assertEquals("Prepared " + cell.getIndex(), cell.getProperties().get("content"));
+        }
+    }
+
+    @Test
+    public void testCellPreparer_ContentIsAppliedWhenReady() {
+        setUpCellPreparer(tasks::add);
+        IndexedCell firstCell = VirtualFlowShim.<IndexedCell>cells_getFirst(flow.cells);
+        assertNull(firstCell.getProperties().get("content"));
+        assertTrue(prepared.isEmpty());
+
+        runTasks();
+        assertCellContentApplied();
+    }
+
+    @Test
+    public void testCellPreparer_CellsAroundTheViewportArePrefetched() {
+        setUpCellPreparer(tasks::add);
+        runTasks();
+        IndexedCell lastCell = VirtualFlowShim.<IndexedCell>cells_getLast(flow.cells);
+        int lastIndex = lastCell.getIndex();
+        assertTrue(prepared.contains(lastIndex + 1));
+        assertTrue(prepared.contains(lastIndex + 5));
+
+        // the cells scrolled into view show their content straight away
+        flow.scrollPixels(100);
+        assertCellContentApplied();
+    }
+
+    @Test
+    public void testCellPreparer_PrefetchingSkipsCellsScrolledAway() {
+        setUpCellPreparer(tasks::add);
+        runTasks();
+        prepared.clear();
+
+        // queue the prefetching of the next cells, then jump far away
+        flow.scrollPixels(25);
+        int firstIndex = VirtualFlowShim.<IndexedCell>cells_getFirst(flow.cells).getIndex();
+        int lastIndex = VirtualFlowShim.<IndexedCell>cells_getLast(flow.cells).getIndex();
+        int farthestIndex = lastIndex + (lastIndex - firstIndex + 1);
+        assertTrue(tasks.size() > 0);
+
+        flow.scrollTo(90);
+        pulse();
+        runTasks();
+        assertFalse(prepared.contains(farthestIndex));
+        assertTrue(prepared.contains(90));
+        assertCellContentApplied();
+    }
+
+    @Test
+    public void testCellPreparer_DirtyCellIsPreparedAgain() {
+        setUpCellPreparer(Runnable::run);
+        assertCellContentApplied();
+        prepared.clear();
+
+        flow.setCellDirty(3);
+        pulse();
+        assertEquals(1, prepared.size());
+        assertEquals(3, (int) prepared.get(0));
+        assertCellContentApplied();
+
+        // the content of the other cells is kept
+        flow.scrollPixels(300);
+        flow.scrollPixels(-300);
+        assertFalse(prepared.contains(5));
+        assertCellContentApplied();
+    }
+
+    @Test
+    public void testCellPreparer_MeasuringCellsDoesNotPrepareContent() {
+        setUpCellPreparer(tasks::add);
+        runTasks();
+        prepared.clear();
+
+        flow.getCellLength(90);
+        runTasks();
+        assertFalse(prepared.contains(90));
+    }
+
+    @Test
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public void testCellPreparer_PermutedItemsArePreparedAgain() {
+        ObservableList<Integer> items = FXCollections.observableArrayList();
+        for (int i = 0; i < 100; i++) {
+            items.add(i);
+        }
+        items.addListener(flow::itemsChanged);
+        flow.setCellFactory(p -> new CellStub(flow) {
+            @Override public void updateIndex(int i) {
+                super.updateIndex(i);
+                updateItem(i >= 0 && i < items.size() ? items.get(i) : null, i < 0 || i >= items.size());
+            }
+        });
+        pulse();
+        setUpCellPreparer(Runnable::run);
+
+        FXCollections.sort(items, Comparator.reverseOrder());
+        flow.reconfigureCells();
+        pulse();
+        for (int i = 0; i < VirtualFlowShim.cells_size(flow.cells); i++) {
+            IndexedCell cell = VirtualFlowShim.<IndexedCell>cells_get(flow.cells, i);
+            assertEquals("Prepared " + items.get(cell.getIndex()), cell.getProperties().get("content"));
+        }
+    }
 }
 
 class CellStub extends IndexedCellShim {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -273,6 +273,19 @@ abstract class BitSet<T> implements ObservableSet<T> {
 
         final int a = maskOne.length;
         final int b = maskTwo.length;
+
+        // fast path for the common case where other is a subset of this,
+        // which doesn't modify this and so doesn't need a new array
+        if (b <= a) {
+            int n = 0;
+            while (n < b && (maskTwo[n] & ~maskOne[n]) == 0) {
+                n++;
+            }
+            if (n == b) {
+                return false;
+            }
+        }
+
         // Math.max(maskOne.length, maskTwo.length) is too slow
         final int max = a < b ? b : a;
 
@@ -477,15 +490,19 @@ abstract class BitSet<T> implements ObservableSet<T> {
     @Override
     public void clear() {
 
-        for (int n = 0; n < bits.length; n++) {
+        // only bother to look for the removed elements if someone is listening
+        if (SetListenerHelper.hasListeners(listenerHelper)) {
+
+            for (int n = 0; n < bits.length; n++) {
 
-            long bitsRemoved = bits[n];
+                long bitsRemoved = bits[n];
 
-            for(int b = 0; b < Long.SIZE; b++) {
-                long m = 1l << b;
-                if ((m & bitsRemoved) == m) {
-                    T t = getT(n*Long.SIZE + b);
-                    notifyObservers(t, Change.ELEMENT_REMOVED);
+                for(int b = 0; b < Long.SIZE; b++) {
+                    long m = 1l << b;
+                    if ((m & bitsRemoved) == m) {
+                        T t = getT(n*Long.SIZE + b);
+                        notifyObservers(t, Change.ELEMENT_REMOVED);
+                    }
                 }
             }
         }
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.css;
+
+import java.util.concurrent.atomic.LongAdder;
+import com.sun.javafx.logging.PulseLogger;
+import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
+
+/**
+ * Hit, miss and eviction counts of the CSS caches. There is one CacheStats
+ * for each kind of cache, summed over all caches of that kind. When pulse
+ * logging is enabled, the counts are also reported as the counters
+ * "<name> hits", "<name> misses" and "<name> evictions" of each pulse.
+ */
+public final class CacheStats {
+
+    /** The values converted by StyleConverter */
+    public static final CacheStats CONVERTER = new CacheStats("CSS converter cache");
+
+    /** The parsed Node.style of each CacheContainer */
+    public static final CacheStats INLINE_STYLE = new CacheStats("CSS inline style cache");
+
+    /** The StyleCache of each CacheContainer */
+    public static final CacheStats STYLE_CACHE = new CacheStats("CSS style cache");
+
+    private final String name;
+    private final String hitCounter;
+    private final String missCounter;
+    private final String evictionCounter;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CacheStats(final String name) {
+        this.name = name;
+        this.hitCounter = name + " hits";
+        this.missCounter = name + " misses";
+        this.evictionCounter = name + " evictions";
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public void reset() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    void hit() {
+        hits.increment();
+        if (PULSE_LOGGING_ENABLED) {
+            PulseLogger.incrementCounter(hitCounter);
+        }
+    }
+
+    void missed() {
+        misses.increment();
+        if (PULSE_LOGGING_ENABLED) {
+            PulseLogger.incrementCounter(missCounter);
+        }
+    }
+
+    void evicted() {
+        evictions.increment();
+        if (PULSE_LOGGING_ENABLED) {
+            PulseLogger.incrementCounter(evictionCounter);
+        }
+    }
+
+    @Override public String toString() {
+        return name + ": hits=" + getHitCount()
+                + ", misses=" + getMissCount()
+                + ", evictions=" + getEvictionCount();
+    }
+}
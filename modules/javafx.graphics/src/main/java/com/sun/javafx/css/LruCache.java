@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.css;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A cache that holds at most a given number of entries. When the cache is
+ * full, adding an entry evicts the entry that was least recently used.
+ * Hits, misses and evictions are counted in a CacheStats, which may be
+ * shared by several caches of the same kind. An LruCache may be used from
+ * more than one thread.
+ */
+public final class LruCache<K,V> {
+
+    private final int maxSize;
+    private final CacheStats stats;
+    private final Map<K,V> map;
+
+    /**
+     * @param maxSize the maximum number of entries, which must be at least one
+     * @param stats the counters for this cache
+     */
+    public LruCache(final int maxSize, final CacheStats stats) {
+
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be at least 1: " + maxSize);
+        }
+        if (stats == null) {
+            throw new IllegalArgumentException("stats cannot be null");
+        }
+
+        this.maxSize = maxSize;
+        this.stats = stats;
+        this.map = new LinkedHashMap<K,V>(Math.min(maxSize, 16), 0.75f, true) {
+            @Override protected boolean removeEldestEntry(Map.Entry<K,V> eldest) {
+                if (size() > LruCache.this.maxSize) {
+                    LruCache.this.stats.evicted();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Get the maximum number of entries for a cache from a system property.
+     * @param property the name of the system property
+     * @param defaultSize the size to use if the property is not set or is
+     * not a positive integer
+     * @return the maximum number of entries
+     */
+    public static int getMaxSize(final String property, final int defaultSize) {
+        final Integer size = AccessController.doPrivileged(
+                (PrivilegedAction<Integer>) () -> Integer.getInteger(property));
+        return (size != null && size > 0) ? size : defaultSize;
+    }
+
+    /**
+     * Get the value for the key, and count a hit or a miss. The value
+     * of an entry may be null, so use containsKey to tell a null value
+     * from a missing entry.
+     * @param key the key
+     * @return the value, or null
+     */
+    public synchronized V get(final K key) {
+        final V value = map.get(key);
+        if (value != null || map.containsKey(key)) {
+            stats.hit();
+        } else {
+            stats.missed();
+        }
+        return value;
+    }
+
+    public synchronized boolean containsKey(final K key) {
+        return map.containsKey(key);
+    }
+
+    public synchronized void put(final K key, final V value) {
+        map.put(key, value);
+    }
+
+    public synchronized void clear() {
+        map.clear();
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public CacheStats getStats() {
+        return stats;
+    }
+}
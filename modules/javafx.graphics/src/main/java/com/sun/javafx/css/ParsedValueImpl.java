@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -30,7 +30,14 @@ import javafx.css.Size;
 import javafx.css.SizeUnits;
 import javafx.css.StyleConverter;
 import javafx.css.StyleConverter.StringStore;
+import javafx.geometry.Insets;
+import javafx.scene.layout.CornerRadii;
 import javafx.scene.paint.Color;
+import javafx.scene.paint.CycleMethod;
+import javafx.scene.paint.LinearGradient;
+import javafx.scene.paint.Paint;
+import javafx.scene.paint.RadialGradient;
+import javafx.scene.paint.Stop;
 import javafx.scene.text.Font;
 
 import java.io.DataInputStream;
@@ -38,6 +45,8 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Implementation details behind a {@link ParsedValueImpl}.
@@ -190,9 +199,62 @@ public class ParsedValueImpl<V, T> extends ParsedValue<V,T> {
 
 
     public T convert(Font font) {
+        if (preConverted) {
+            // arrays are the only mutable results that can be pre-converted
+            @SuppressWarnings("unchecked")
+            final T result = (T)(preConvertedValue instanceof Object[]
+                    ? ((Object[])preConvertedValue).clone()
+                    : preConvertedValue);
+            return result;
+        }
         return (T)((converter != null) ? converter.convert(this, font) : value);
     }
 
+    /*
+     * The value returned by the converter, computed when the stylesheet was
+     * bundled. See preConvert().
+     */
+    private boolean preConverted = false;
+    private Object preConvertedValue = null;
+
+    /**
+     * @return true if this value carries the result of its conversion.
+     */
+    public final boolean isPreConverted() { return preConverted; }
+
+    /**
+     * Convert this value now and keep the result, so that the result can be
+     * written to a binary stylesheet and does not have to be converted again
+     * when the stylesheet is read. This is done only if the result does not
+     * depend on anything other than this value - that is, if the value does not
+     * contain lookups or font relative sizes - and only if the result is of a
+     * type that can be written to a binary stylesheet.
+     * @return true if the value was converted
+     */
+    public final boolean preConvert() {
+
+        if (preConverted) return true;
+
+        if (converter == null || containsLookups
+                || containsFontRelativeSize(this, true)) {
+            return false;
+        }
+
+        final Object result;
+        try {
+            result = converter.convert(this, null);
+        } catch (RuntimeException e) {
+            // let the converter report the problem when the value is used
+            return false;
+        }
+
+        if (getPreConvertedType(result) == NULL_VALUE) return false;
+
+        preConvertedValue = result;
+        preConverted = true;
+        return true;
+    }
+
     private static int indent = 0;
 
     private static String spaces() {
@@ -557,11 +619,30 @@ public class ParsedValueImpl<V, T> extends ParsedValue<V,T> {
         } else {
             throw new InternalError("cannot writeBinary " + this);
         }
+
+        // Version 7 adds the pre-converted value
+        os.writeBoolean(preConverted);
+        if (preConverted) {
+            writePreConverted(os, preConvertedValue);
+        }
     }
 
     public static ParsedValueImpl readBinary(int bssVersion, DataInputStream is, String[] strings)
             throws IOException {
 
+        final ParsedValueImpl<?,?> parsedValue = readValue(bssVersion, is, strings);
+
+        if (bssVersion >= 7 && is.readBoolean()) {
+            parsedValue.preConvertedValue = readPreConverted(is);
+            parsedValue.preConverted = true;
+        }
+
+        return parsedValue;
+    }
+
+    private static ParsedValueImpl<?,?> readValue(int bssVersion, DataInputStream is, String[] strings)
+            throws IOException {
+
         final boolean lookup = is.readBoolean();
         final boolean hasType = is.readBoolean();
 
@@ -695,4 +776,223 @@ public class ParsedValueImpl<V, T> extends ParsedValue<V,T> {
             throw new InternalError("unknown type: " + valType);
         }
     }
+
+    //
+    // Pre-converted values are limited to the immutable types that the
+    // converters for paints, insets, radii, sizes and booleans produce,
+    // and to arrays of those types. Strings are not pre-converted since
+    // a String may be a URL that is resolved against the stylesheet URL.
+    //
+    final static private byte BOOLEAN_RESULT = 1;
+    final static private byte NUMBER_RESULT = 2;
+    final static private byte COLOR_RESULT = 3;
+    final static private byte LINEAR_GRADIENT_RESULT = 4;
+    final static private byte RADIAL_GRADIENT_RESULT = 5;
+    final static private byte INSETS_RESULT = 6;
+    final static private byte CORNER_RADII_RESULT = 7;
+    final static private byte ARRAY_RESULT = 8;
+
+    // The component types of arrays that can be pre-converted
+    final static private Class<?>[] ARRAY_RESULT_TYPES = {
+        Paint.class, Insets.class, CornerRadii.class, Number.class, Double.class, Boolean.class
+    };
+
+    private static byte getPreConvertedType(Object obj) {
+
+        if (obj == null) return NULL_VALUE;
+
+        final Class<?> type = obj.getClass();
+        if (type == Boolean.class) return BOOLEAN_RESULT;
+        if (type == Double.class) return NUMBER_RESULT;
+        if (type == Color.class) return COLOR_RESULT;
+        if (type == LinearGradient.class) return LINEAR_GRADIENT_RESULT;
+        if (type == RadialGradient.class) return RADIAL_GRADIENT_RESULT;
+        if (type == Insets.class) return INSETS_RESULT;
+        if (type == CornerRadii.class) return CORNER_RADII_RESULT;
+
+        if (type.isArray() && getArrayResultType(type.getComponentType()) >= 0) {
+            for (Object element : (Object[])obj) {
+                if (getPreConvertedType(element) == NULL_VALUE) return NULL_VALUE;
+            }
+            return ARRAY_RESULT;
+        }
+
+        return NULL_VALUE;
+    }
+
+    private static int getArrayResultType(Class<?> componentType) {
+        for (int n=0; n<ARRAY_RESULT_TYPES.length; n++) {
+            if (ARRAY_RESULT_TYPES[n] == componentType) return n;
+        }
+        return -1;
+    }
+
+    private static void writePreConverted(DataOutputStream os, Object obj)
+        throws IOException {
+
+        final byte type = getPreConvertedType(obj);
+        os.writeByte(type);
+
+        switch (type) {
+            case BOOLEAN_RESULT:
+                os.writeBoolean((Boolean)obj);
+                break;
+            case NUMBER_RESULT:
+                os.writeDouble((Double)obj);
+                break;
+            case COLOR_RESULT:
+                writeColor(os, (Color)obj);
+                break;
+            case LINEAR_GRADIENT_RESULT: {
+                final LinearGradient lg = (LinearGradient)obj;
+                os.writeDouble(lg.getStartX());
+                os.writeDouble(lg.getStartY());
+                os.writeDouble(lg.getEndX());
+                os.writeDouble(lg.getEndY());
+                os.writeBoolean(lg.isProportional());
+                os.writeByte(lg.getCycleMethod().ordinal());
+                writeStops(os, lg.getStops());
+                break;
+            }
+            case RADIAL_GRADIENT_RESULT: {
+                final RadialGradient rg = (RadialGradient)obj;
+                os.writeDouble(rg.getFocusAngle());
+                os.writeDouble(rg.getFocusDistance());
+                os.writeDouble(rg.getCenterX());
+                os.writeDouble(rg.getCenterY());
+                os.writeDouble(rg.getRadius());
+                os.writeBoolean(rg.isProportional());
+                os.writeByte(rg.getCycleMethod().ordinal());
+                writeStops(os, rg.getStops());
+                break;
+            }
+            case INSETS_RESULT: {
+                final Insets insets = (Insets)obj;
+                os.writeDouble(insets.getTop());
+                os.writeDouble(insets.getRight());
+                os.writeDouble(insets.getBottom());
+                os.writeDouble(insets.getLeft());
+                break;
+            }
+            case CORNER_RADII_RESULT: {
+                final CornerRadii radii = (CornerRadii)obj;
+                os.writeDouble(radii.getTopLeftHorizontalRadius());
+                os.writeDouble(radii.getTopLeftVerticalRadius());
+                os.writeDouble(radii.getTopRightVerticalRadius());
+                os.writeDouble(radii.getTopRightHorizontalRadius());
+                os.writeDouble(radii.getBottomRightHorizontalRadius());
+                os.writeDouble(radii.getBottomRightVerticalRadius());
+                os.writeDouble(radii.getBottomLeftVerticalRadius());
+                os.writeDouble(radii.getBottomLeftHorizontalRadius());
+                os.writeBoolean(radii.isTopLeftHorizontalRadiusAsPercentage());
+                os.writeBoolean(radii.isTopLeftVerticalRadiusAsPercentage());
+                os.writeBoolean(radii.isTopRightVerticalRadiusAsPercentage());
+                os.writeBoolean(radii.isTopRightHorizontalRadiusAsPercentage());
+                os.writeBoolean(radii.isBottomRightHorizontalRadiusAsPercentage());
+                os.writeBoolean(radii.isBottomRightVerticalRadiusAsPercentage());
+                os.writeBoolean(radii.isBottomLeftVerticalRadiusAsPercentage());
+                os.writeBoolean(radii.isBottomLeftHorizontalRadiusAsPercentage());
+                break;
+            }
+            case ARRAY_RESULT: {
+                final Object[] array = (Object[])obj;
+                os.writeByte(getArrayResultType(array.getClass().getComponentType()));
+                os.writeInt(array.length);
+                for (Object element : array) {
+                    writePreConverted(os, element);
+                }
+                break;
+            }
+            default:
+                throw new InternalError("cannot writeBinary " + obj);
+        }
+    }
+
+    private static Object readPreConverted(DataInputStream is)
+        throws IOException {
+
+        final byte type = is.readByte();
+
+        switch (type) {
+            case BOOLEAN_RESULT:
+                return is.readBoolean();
+            case NUMBER_RESULT:
+                return is.readDouble();
+            case COLOR_RESULT:
+                return readColor(is);
+            case LINEAR_GRADIENT_RESULT: {
+                final double startX = is.readDouble();
+                final double startY = is.readDouble();
+                final double endX = is.readDouble();
+                final double endY = is.readDouble();
+                final boolean proportional = is.readBoolean();
+                final CycleMethod cycleMethod = CycleMethod.values()[is.readByte()];
+                final List<Stop> stops = readStops(is);
+                return new LinearGradient(startX, startY, endX, endY, proportional, cycleMethod, stops);
+            }
+            case RADIAL_GRADIENT_RESULT: {
+                final double focusAngle = is.readDouble();
+                final double focusDistance = is.readDouble();
+                final double centerX = is.readDouble();
+                final double centerY = is.readDouble();
+                final double radius = is.readDouble();
+                final boolean proportional = is.readBoolean();
+                final CycleMethod cycleMethod = CycleMethod.values()[is.readByte()];
+                final List<Stop> stops = readStops(is);
+                return new RadialGradient(focusAngle, focusDistance, centerX, centerY, radius, proportional, cycleMethod, stops);
+            }
+            case INSETS_RESULT:
+                return new Insets(is.readDouble(), is.readDouble(), is.readDouble(), is.readDouble());
+            case CORNER_RADII_RESULT:
+                return new CornerRadii(
+                        is.readDouble(), is.readDouble(), is.readDouble(), is.readDouble(),
+                        is.readDouble(), is.readDouble(), is.readDouble(), is.readDouble(),
+                        is.readBoolean(), is.readBoolean(), is.readBoolean(), is.readBoolean(),
+                        is.readBoolean(), is.readBoolean(), is.readBoolean(), is.readBoolean());
+            case ARRAY_RESULT: {
+                final Class<?> componentType = ARRAY_RESULT_TYPES[is.readByte()];
+                final int length = is.readInt();
+                final Object[] array = (Object[])java.lang.reflect.Array.newInstance(componentType, length);
+                for (int n=0; n<length; n++) {
+                    array[n] = readPreConverted(is);
+                }
+                return array;
+            }
+            default:
+                throw new InternalError("unknown pre-converted type: " + type);
+        }
+    }
+
+    private static void writeColor(DataOutputStream os, Color c) throws IOException {
+        os.writeDouble(c.getRed());
+        os.writeDouble(c.getGreen());
+        os.writeDouble(c.getBlue());
+        os.writeDouble(c.getOpacity());
+    }
+
+    private static Color readColor(DataInputStream is) throws IOException {
+        final double r = is.readDouble();
+        final double g = is.readDouble();
+        final double b = is.readDouble();
+        final double a = is.readDouble();
+        return Color.color(r, g, b, a);
+    }
+
+    private static void writeStops(DataOutputStream os, List<Stop> stops) throws IOException {
+        os.writeInt(stops.size());
+        for (Stop stop : stops) {
+            os.writeDouble(stop.getOffset());
+            writeColor(os, stop.getColor());
+        }
+    }
+
+    private static List<Stop> readStops(DataInputStream is) throws IOException {
+        final int nStops = is.readInt();
+        final List<Stop> stops = new ArrayList<>(nStops);
+        for (int n=0; n<nStops; n++) {
+            final double offset = is.readDouble();
+            stops.add(new Stop(offset, readColor(is)));
+        }
+        return stops;
+    }
 }
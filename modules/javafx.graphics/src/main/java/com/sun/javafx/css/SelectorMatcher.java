@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.css;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import javafx.css.CompoundSelector;
+import javafx.css.PseudoClass;
+import javafx.css.Selector;
+import javafx.css.SimpleSelector;
+import javafx.css.StyleClass;
+import javafx.css.Styleable;
+import javafx.geometry.NodeOrientation;
+import javafx.scene.Node;
+
+/**
+ * Matches a node against a list of selectors, with the same result as
+ * calling {@link Selector#applies(Styleable, Set[], int)} for each of them,
+ * but without allocating once the matcher has warmed up.
+ * <p>
+ * Each selector is compiled once into an array of {@code Part}s, one per
+ * simple selector, in which the style-classes are bit masks over the
+ * {@link StyleClass} indices. When matching, the type, id and style-classes
+ * of the node and of each ancestor are read at most once and then tested
+ * against the parts of all the selectors, where {@code Selector.applies}
+ * recomputes them, and allocates a set of style-classes, for every simple
+ * selector and every ancestor it visits.
+ * <p>
+ * A SelectorMatcher keeps scratch state and is not thread-safe. The
+ * StyleManager only uses it while holding its style lock.
+ */
+final class SelectorMatcher {
+
+    /*
+     * A compiled SimpleSelector
+     */
+    private static final class Part {
+
+        // null if the selector doesn't match on the type
+        private final String name;
+        // null if the selector doesn't match on the id
+        private final String id;
+        // null if the selector doesn't match on style-classes
+        private final long[] styleClasses;
+        // null if the selector doesn't match on dir()
+        private final NodeOrientation nodeOrientation;
+        private final Set<PseudoClass> pseudoClasses;
+        // true if the relationship with the part on the right is CHILD
+        private final boolean child;
+
+        private Part(SimpleSelector selector, boolean child) {
+            final String n = selector.getName();
+            this.name = n == null || n.isEmpty() || "*".equals(n) ? null : n;
+            final String i = selector.getId();
+            this.id = i == null || i.isEmpty() ? null : i;
+            final long[] bits = ((StyleClassSet) selector.getStyleClassSet()).getBits();
+            this.styleClasses = bits.length == 0 ? null : bits.clone();
+            final NodeOrientation dir = selector.getNodeOrientation();
+            this.nodeOrientation = dir == NodeOrientation.INHERIT ? null : dir;
+            this.pseudoClasses = selector.createMatch().getPseudoClasses();
+            this.child = child;
+        }
+    }
+
+    private final Selector[] selectors;
+
+    // null for selectors that are neither simple nor compound
+    private final Part[][] programs;
+
+    // the styleables from the node (at depth 0) up to the root
+    private Styleable[] chain = new Styleable[16];
+    private int chainLength;
+
+    // type selectors and style-class masks of the chain, computed on demand
+    private String[] types = new String[16];
+    private long[][] styleClasses = new long[16][];
+    private boolean[] styleClassesValid = new boolean[16];
+
+    // pseudo-class states of a compound selector, kept aside until it is
+    // known whether the selector applies
+    private PseudoClassState[] tempStates = new PseudoClassState[0];
+    private boolean[] tempStatesSet = new boolean[0];
+    private int tempStatesUsed;
+
+    SelectorMatcher(List<Selector> selectors) {
+        final int nSelectors = selectors != null ? selectors.size() : 0;
+        this.selectors = new Selector[nSelectors];
+        this.programs = new Part[nSelectors][];
+        for (int s = 0; s < nSelectors; s++) {
+            final Selector selector = selectors.get(s);
+            this.selectors[s] = selector;
+            this.programs[s] = compile(selector);
+        }
+    }
+
+    private static Part[] compile(Selector selector) {
+        if (selector instanceof SimpleSelector) {
+            return new Part[] { new Part((SimpleSelector) selector, false) };
+        }
+        if (selector instanceof CompoundSelector) {
+            final CompoundSelector compound = (CompoundSelector) selector;
+            final List<SimpleSelector> parts = compound.getSelectors();
+            final List<Combinator> relationships =
+                    CompoundSelectorHelper.getRelationships(compound);
+            if (parts.isEmpty()) {
+                return null;
+            }
+            final Part[] program = new Part[parts.size()];
+            for (int n = 0; n < program.length; n++) {
+                final boolean child =
+                        n < program.length - 1 && relationships.get(n) == Combinator.CHILD;
+                program[n] = new Part(parts.get(n), child);
+            }
+            return program;
+        }
+        return null;
+    }
+
+    /**
+     * For every selector that applies to the node, sets the bit with the
+     * index of the selector in the key and adds the pseudo-classes of the
+     * selector to the triggerStates.
+     *
+     * @param key cleared bits, at least one per selector
+     * @return true if at least one selector applies
+     */
+    boolean match(Node node, Set<PseudoClass>[] triggerStates, long[] key) {
+        boolean matched = false;
+        chain[0] = node;
+        chainLength = 1;
+        try {
+            for (int s = 0; s < programs.length; s++) {
+                final Part[] program = programs[s];
+                final boolean applies = program != null
+                        ? applies(program, triggerStates)
+                        : selectors[s].applies(node, triggerStates, 0);
+                if (applies) {
+                    key[s / Long.SIZE] |= 1L << s;
+                    matched = true;
+                }
+            }
+        } finally {
+            // don't hold on to the nodes
+            Arrays.fill(chain, 0, chainLength, null);
+            Arrays.fill(types, 0, chainLength, null);
+            Arrays.fill(styleClassesValid, 0, chainLength, false);
+        }
+        return matched;
+    }
+
+    private boolean applies(Part[] program, Set<PseudoClass>[] triggerStates) {
+
+        final int last = program.length - 1;
+        if (last == 0) {
+            // same as SimpleSelector.applies(Styleable, Set[], int)
+            final Part part = program[0];
+            if (!applies(part, 0)) {
+                return false;
+            }
+            if (triggerStates != null && triggerStates.length > 0) {
+                if (triggerStates[0] == null) {
+                    triggerStates[0] = new PseudoClassState();
+                }
+                triggerStates[0].addAll(part.pseudoClasses);
+            }
+            return true;
+        }
+
+        // same as CompoundSelector.applies(Styleable, Set[], int)
+        if (triggerStates != null && triggerStates.length == 0) {
+            return false;
+        }
+        final int nStates = triggerStates != null ? triggerStates.length : 0;
+        if (tempStates.length < nStates) {
+            tempStates = Arrays.copyOf(tempStates, nStates);
+            tempStatesSet = Arrays.copyOf(tempStatesSet, nStates);
+        }
+        tempStatesUsed = 0;
+
+        final boolean applies = applies(program, last, 0, nStates);
+
+        for (int n = 0; n < tempStatesUsed; n++) {
+            if (!tempStatesSet[n]) {
+                continue;
+            }
+            final PseudoClassState pseudoClassIn = tempStates[n];
+            if (applies) {
+                if (triggerStates[n] == null) {
+                    triggerStates[n] = new PseudoClassState();
+                }
+                triggerStates[n].addAll(pseudoClassIn);
+            }
+            pseudoClassIn.clear();
+            tempStatesSet[n] = false;
+        }
+        return applies;
+    }
+
+    private boolean applies(Part[] program, int index, int depth, int nStates) {
+
+        final Part part = program[index];
+        if (!applies(part, depth)) {
+            return false;
+        }
+        if (depth < nStates) {
+            if (tempStates[depth] == null) {
+                tempStates[depth] = new PseudoClassState();
+            }
+            tempStates[depth].addAll(part.pseudoClasses);
+            tempStatesSet[depth] = true;
+            tempStatesUsed = Math.max(tempStatesUsed, depth + 1);
+        }
+
+        if (index == 0) {
+            return true;
+        }
+
+        if (program[index - 1].child) {
+            return getStyleable(depth + 1) != null
+                    && applies(program, index - 1, depth + 1, nStates);
+        }
+        for (int d = depth + 1; getStyleable(d) != null; d++) {
+            if (applies(program, index - 1, d, nStates)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // same as SimpleSelector.applies(Styleable)
+    private boolean applies(Part part, int depth) {
+
+        final Styleable styleable = chain[depth];
+
+        if (part.nodeOrientation != null && styleable instanceof Node) {
+            final Node node = (Node) styleable;
+            final NodeOrientation orientation = node.getNodeOrientation();
+            if (orientation == NodeOrientation.INHERIT
+                    ? node.getEffectiveNodeOrientation() != part.nodeOrientation
+                    : orientation != part.nodeOrientation) {
+                return false;
+            }
+        }
+
+        if (part.id != null && !part.id.equals(styleable.getId())) {
+            return false;
+        }
+
+        if (part.name != null) {
+            String type = types[depth];
+            if (type == null) {
+                type = types[depth] = styleable.getTypeSelector();
+            }
+            if (!part.name.equals(type)) {
+                return false;
+            }
+        }
+
+        if (part.styleClasses != null) {
+            final long[] bits = getStyleClasses(depth);
+            final long[] required = part.styleClasses;
+            for (int n = 0; n < required.length; n++) {
+                final long word = n < bits.length ? bits[n] : 0;
+                if ((word & required[n]) != required[n]) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private Styleable getStyleable(int depth) {
+        while (chainLength <= depth) {
+            final Styleable child = chain[chainLength - 1];
+            if (child == null) {
+                return null;
+            }
+            if (chainLength == chain.length) {
+                final int newLength = chainLength * 2;
+                chain = Arrays.copyOf(chain, newLength);
+                types = Arrays.copyOf(types, newLength);
+                styleClasses = Arrays.copyOf(styleClasses, newLength);
+                styleClassesValid = Arrays.copyOf(styleClassesValid, newLength);
+            }
+            chain[chainLength++] = child.getStyleableParent();
+        }
+        return chain[depth];
+    }
+
+    private long[] getStyleClasses(int depth) {
+        long[] bits = styleClasses[depth];
+        if (styleClassesValid[depth]) {
+            return bits;
+        }
+        if (bits == null) {
+            bits = styleClasses[depth] = new long[1];
+        }
+        Arrays.fill(bits, 0);
+        final List<String> names = chain[depth].getStyleClass();
+        for (int n = 0, nMax = names.size(); n < nMax; n++) {
+            final String name = names.get(n);
+            if (name == null || name.isEmpty()) continue;
+            final int index = StyleClassSet.getStyleClass(name).getIndex();
+            final int word = index / Long.SIZE;
+            if (word >= bits.length) {
+                bits = styleClasses[depth] = Arrays.copyOf(bits, word + 1);
+            }
+            bits[word] |= 1L << index;
+        }
+        styleClassesValid[depth] = true;
+        return bits;
+    }
+}
@@ -214,7 +214,7 @@ final public class StyleManager {
         CacheContainer container = getCacheContainer(styleable, subScene);
         if (container == null) return null;
 
-        Map<StyleCache.Key,StyleCache> styleCache = container.getStyleCache();
+        LruCache<StyleCache.Key,StyleCache> styleCache = container.getStyleCache();
         if (styleCache == null) return null;
 
         StyleCache sharedCache = styleCache.get(key);
@@ -692,6 +692,11 @@ final public class StyleManager {
                 stylesheetContainer.selectorPartitioning.reset();
             }
 
+            // the converted values are keyed by the parsed values of the
+            // stylesheet, which would otherwise stay reachable until they
+            // are pushed out of the cache
+            StyleConverter.clearCache();
+
             // if container has no references, then remove it
             for(Entry<Parent,CacheContainer> entry : cacheContainerMap.entrySet()) {
 
@@ -938,6 +943,80 @@ final public class StyleManager {
         return new byte[0];
     }
 
+    /*
+     * The stylesheet bundles that are searched before a stylesheet is loaded
+     * from its URL. The bundles named by the javafx.css.bundles property, a
+     * comma separated list of URLs or resource names, are opened when the
+     * first stylesheet is loaded.
+     */
+    private static List<StylesheetBundle> stylesheetBundles = null;
+
+    /**
+     * Add a stylesheet bundle to the bundles that are searched before a
+     * stylesheet is loaded from its URL.
+     * @param bundle the stylesheet bundle
+     */
+    public static void addStylesheetBundle(final StylesheetBundle bundle) {
+        if (bundle == null) return;
+        synchronized (styleLock) {
+            getStylesheetBundles().add(bundle);
+        }
+    }
+
+    /**
+     * Remove a stylesheet bundle from the bundles that are searched before a
+     * stylesheet is loaded from its URL. Stylesheets that have already been
+     * loaded from the bundle are not affected.
+     * @param bundle the stylesheet bundle
+     */
+    public static void removeStylesheetBundle(final StylesheetBundle bundle) {
+        synchronized (styleLock) {
+            getStylesheetBundles().remove(bundle);
+        }
+    }
+
+    private static List<StylesheetBundle> getStylesheetBundles() {
+
+        if (stylesheetBundles == null) {
+
+            stylesheetBundles = new ArrayList<>();
+
+            final String names = AccessController.doPrivileged(
+                    (PrivilegedAction<String>) () -> System.getProperty("javafx.css.bundles"));
+            if (names == null) return stylesheetBundles;
+
+            for (String name : names.split(",")) {
+                name = name.trim();
+                if (name.isEmpty()) continue;
+                try {
+                    final URL url = getURL(name);
+                    if (url == null) throw new FileNotFoundException(name);
+                    stylesheetBundles.add(StylesheetBundle.load(url));
+                } catch (IOException ioe) {
+                    if (getLogger().isLoggable(Level.WARNING)) {
+                        getLogger().warning("Could not load stylesheet bundle: " + name + ": " + ioe);
+                    }
+                }
+            }
+        }
+        return stylesheetBundles;
+    }
+
+    private static Stylesheet loadBundledStylesheet(final String fname) {
+
+        for (StylesheetBundle bundle : getStylesheetBundles()) {
+            try {
+                final Stylesheet stylesheet = bundle.getStylesheet(fname);
+                if (stylesheet != null) return stylesheet;
+            } catch (IOException ioe) {
+                if (getLogger().isLoggable(Level.INFO)) {
+                    getLogger().info("Could not load stylesheet " + fname + " from bundle " + bundle.getURL());
+                }
+            }
+        }
+        return null;
+    }
+
     public static Stylesheet loadStylesheet(final String fname) {
         try {
             return loadStylesheetUnPrivileged(fname);
@@ -1077,9 +1156,13 @@ final public class StyleManager {
             try {
                 final String ext = (parse) ? (".css") : (".bss");
                 java.net.URL url = null;
-                Stylesheet stylesheet = null;
+                // a stylesheet bundle takes the place of a .bss file
+                Stylesheet stylesheet = (parse) ? null : loadBundledStylesheet(fname);
+                if (stylesheet != null) {
+                    parse = false;
+                }
                 // check if url has extension, if not then just url as is and always parse as css text
-                if (!(fname.endsWith(".css") || fname.endsWith(".bss"))) {
+                else if (!(fname.endsWith(".css") || fname.endsWith(".bss"))) {
                     url = getURL(fname);
                     parse = true;
                 } else {
@@ -1900,8 +1983,8 @@ final public class StyleManager {
     // package for testing
     static class CacheContainer {
 
-        private Map<StyleCache.Key,StyleCache> getStyleCache() {
-            if (styleCache == null) styleCache = new HashMap<StyleCache.Key, StyleCache>();
+        private LruCache<StyleCache.Key,StyleCache> getStyleCache() {
+            if (styleCache == null) styleCache = new LruCache<>(STYLE_CACHE_SIZE, CacheStats.STYLE_CACHE);
             return styleCache;
         }
 
@@ -1999,9 +2082,12 @@ final public class StyleManager {
             // If there are no styles for this property then we can just bail
             if ((inlineStyle == null) || inlineStyle.trim().isEmpty()) return null;
 
-            if (inlineStylesCache != null && inlineStylesCache.containsKey(inlineStyle)) {
-                // Value of Map entry may be null!
-                return inlineStylesCache.get(inlineStyle);
+            if (inlineStylesCache != null) {
+                final Selector selector = inlineStylesCache.get(inlineStyle);
+                // Value of cache entry may be null!
+                if (selector != null || inlineStylesCache.containsKey(inlineStyle)) {
+                    return selector;
+                }
             }
 
             //
@@ -2009,7 +2095,7 @@ final public class StyleManager {
             //
 
             if (inlineStylesCache == null) {
-                inlineStylesCache = new HashMap<>();
+                inlineStylesCache = new LruCache<>(INLINE_STYLE_CACHE_SIZE, CacheStats.INLINE_STYLE);
             }
 
             final Stylesheet inlineStylesheet =
@@ -2044,7 +2130,18 @@ final public class StyleManager {
 
         }
 
-        private Map<StyleCache.Key,StyleCache> styleCache;
+        /*
+         * The number of StyleCaches and of parsed inline styles each
+         * CacheContainer keeps. These can be set with the
+         * javafx.css.styleCacheSize and javafx.css.inlineStyleCacheSize
+         * properties.
+         */
+        private static final int STYLE_CACHE_SIZE =
+                LruCache.getMaxSize("javafx.css.styleCacheSize", 4096);
+        private static final int INLINE_STYLE_CACHE_SIZE =
+                LruCache.getMaxSize("javafx.css.inlineStyleCacheSize", 1024);
+
+        private LruCache<StyleCache.Key,StyleCache> styleCache;
 
         private Map<List<String>, Map<Key,Cache>> cacheMap;
 
@@ -2054,7 +2151,7 @@ final public class StyleManager {
          * Cache of parsed, inline styles. The key is Node.style.
          * The value is the Selector from the inline stylesheet.
          */
-        private Map<String,Selector> inlineStylesCache;
+        private LruCache<String,Selector> inlineStylesCache;
 
         /*
          * A simple counter used to generate a unique id for a StyleMap.
@@ -2077,10 +2174,15 @@ final public class StyleManager {
     private static class Cache {
 
         private static class Key {
-            final long[] key;
-            final String inlineStyle;
+            long[] key;
+            String inlineStyle;
 
             Key(long[] key, String inlineStyle) {
+                set(key, inlineStyle);
+            }
+
+            // Keys used for lookup only are reused
+            private void set(long[] key, String inlineStyle) {
                 this.key = key;
                 // let inlineStyle be null if it is empty
                 this.inlineStyle =  (inlineStyle != null && inlineStyle.trim().isEmpty() ? null : inlineStyle);
@@ -2126,9 +2228,19 @@ final public class StyleManager {
         private final List<Selector> selectors;
         private final Map<Key, Integer> cache;
 
+        // matches the selectors without allocating
+        private final SelectorMatcher matcher;
+
+        // reused for lookups in the cache
+        private final long[] lookupBits;
+        private final Key lookupKey;
+
         Cache(List<Selector> selectors) {
             this.selectors = selectors;
             this.cache = new HashMap<Key, Integer>();
+            this.matcher = new SelectorMatcher(selectors);
+            this.lookupBits = new long[selectors.size()/Long.SIZE + 1];
+            this.lookupKey = new Key(lookupBits, null);
         }
 
         private StyleMap getStyleMap(CacheContainer cacheContainer, Node node, Set<PseudoClass>[] triggerStates, boolean hasInlineStyle) {
@@ -2137,8 +2249,6 @@ final public class StyleManager {
                 return StyleMap.EMPTY_MAP;
             }
 
-            final int selectorDataSize = selectors.size();
-
             //
             // Since the list of selectors is found by matching only the
             // rightmost selector, the set of selectors may larger than those
@@ -2150,38 +2260,24 @@ final public class StyleManager {
             // where the selectors that match this particular node are
             // represented by bits on the long[].
             //
-            long key[] = new long[selectorDataSize/Long.SIZE + 1];
-            boolean nothingMatched = true;
-
-            for (int s = 0; s < selectorDataSize; s++) {
-
-                final Selector sel = selectors.get(s);
-
-                //
-                // This particular flavor of applies takes a PseudoClassState[]
-                // fills in the pseudo-class states from the selectors where
-                // they apply to a node. This is an expedient to looking the
-                // applies loopa second time on the matching selectors. This has to
-                // be done ahead of the cache lookup since not all nodes that
-                // have the same set of selectors will have the same node hierarchy.
-                //
-                // For example, if I have .foo:hover:focused .bar:selected {...}
-                // and the "bar" node is 4 away from the root and the foo
-                // node is two away from the root, pseudoclassBits would be
-                // [selected, 0, hover:focused, 0]
-                // Note that the states run from leaf to root. This is how
-                // the code in StyleHelper expects things.
-                // Note also that, if the selector does not apply, the triggerStates
-                // is unchanged.
-                //
-
-                if (sel.applies(node, triggerStates, 0)) {
-                    final int index = s / Long.SIZE;
-                    final long mask = key[index] | 1l << s;
-                    key[index] = mask;
-                    nothingMatched = false;
-                }
-            }
+            // The SelectorMatcher fills in the pseudo-class states from the
+            // selectors where they apply to a node, just like
+            // Selector.applies(Node, Set<PseudoClass>[], int) does. This has
+            // to be done ahead of the cache lookup since not all nodes that
+            // have the same set of selectors will have the same node hierarchy.
+            //
+            // For example, if I have .foo:hover:focused .bar:selected {...}
+            // and the "bar" node is 4 away from the root and the foo
+            // node is two away from the root, pseudoclassBits would be
+            // [selected, 0, hover:focused, 0]
+            // Note that the states run from leaf to root. This is how
+            // the code in StyleHelper expects things.
+            // Note also that, if the selector does not apply, the triggerStates
+            // is unchanged.
+            //
+            final long[] key = lookupBits;
+            Arrays.fill(key, 0);
+            final boolean nothingMatched = !matcher.match(node, triggerStates, key);
 
             // nothing matched!
             if (nothingMatched && hasInlineStyle == false) {
@@ -2189,12 +2285,12 @@ final public class StyleManager {
             }
 
             final String inlineStyle = node.getStyle();
-            final Key keyObj = new Key(key, inlineStyle);
+            lookupKey.set(key, inlineStyle);
 
-            if (cache.containsKey(keyObj)) {
-                Integer styleMapId = cache.get(keyObj);
-                final StyleMap styleMap = styleMapId != null
-                        ? cacheContainer.getStyleMap(styleMapId.intValue())
+            final Integer cachedStyleMapId = cache.get(lookupKey);
+            if (cachedStyleMapId != null || cache.containsKey(lookupKey)) {
+                final StyleMap styleMap = cachedStyleMapId != null
+                        ? cacheContainer.getStyleMap(cachedStyleMapId.intValue())
                         : StyleMap.EMPTY_MAP;
                 return styleMap;
             }
@@ -2224,7 +2320,7 @@ final public class StyleManager {
             }
 
             int id = cacheContainer.nextSmapId();
-            cache.put(keyObj, Integer.valueOf(id));
+            cache.put(new Key(key.clone(), inlineStyle), Integer.valueOf(id));
 
             final StyleMap styleMap = new StyleMap(id, selectors);
             cacheContainer.addStyleMap(styleMap);
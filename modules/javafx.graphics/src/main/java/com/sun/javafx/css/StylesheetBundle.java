@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.css;
+
+import javafx.css.CssParser;
+import javafx.css.Declaration;
+import javafx.css.ParsedValue;
+import javafx.css.Rule;
+import javafx.css.StyleConverter.StringStore;
+import javafx.css.Stylesheet;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A stylesheet bundle holds any number of binary stylesheets in one file,
+ * together with one string table that is shared by all of them. Values that
+ * do not depend on a font, a lookup or the stylesheet URL are converted when
+ * the bundle is written, so that reading a stylesheet from the bundle does
+ * neither parse nor convert them.
+ * <p>
+ * Opening a bundle reads only the string table and the index. A file bundle
+ * is memory mapped. A stylesheet is read from the bundle when it is asked
+ * for and, as with any binary stylesheet, the declarations of a rule are
+ * read when they are first used.
+ * <p>
+ * The stylesheets in a bundle are named by their path relative to the
+ * directory from which the bundle was written, without the file extension.
+ * A stylesheet URL is found in a bundle if its path, without the file
+ * extension, ends with one of these names.
+ * <pre>
+ * int    magic number
+ * short  bundle version
+ * short  binary CSS version
+ * ...    string table
+ * short  number of stylesheets
+ * ...    for each stylesheet: name index (short), offset (int), length (int)
+ * ...    binary stylesheets
+ * </pre>
+ */
+public final class StylesheetBundle {
+
+    /** "JFXB" */
+    final static int MAGIC = 0x4A465842;
+
+    /**
+     * Version number of the bundle format. The value is incremented whenever
+     * the layout of the header or of the index changes. The format of the
+     * stylesheets themselves is versioned by the binary CSS version.
+     */
+    final static int BUNDLE_VERSION = 1;
+
+    private final URL url;
+    private final int bssVersion;
+    private final String[] strings;
+    private final String[] names;
+    private final int[] offsets;
+    private final int[] lengths;
+    private final ByteBuffer data;
+
+    private StylesheetBundle(URL url, ByteBuffer buffer) throws IOException {
+
+        this.url = url;
+
+        final DataInputStream is = new DataInputStream(new ByteBufferInputStream(buffer));
+
+        if (is.readInt() != MAGIC) {
+            throw new IOException(url + " is not a stylesheet bundle");
+        }
+
+        final int bundleVersion = is.readShort();
+        if (bundleVersion != BUNDLE_VERSION) {
+            throw new IOException(url + " wrong stylesheet bundle version: "
+                    + bundleVersion + ". Expected version " + BUNDLE_VERSION);
+        }
+
+        this.bssVersion = is.readShort();
+        if (bssVersion > StylesheetHelper.getBinaryVersion()) {
+            throw new IOException(url + " wrong binary CSS version: "
+                    + bssVersion + ". Expected version less than or equal to "
+                    + StylesheetHelper.getBinaryVersion());
+        }
+
+        this.strings = StringStore.readBinary(is);
+
+        final int nStylesheets = is.readShort();
+        this.names = new String[nStylesheets];
+        this.offsets = new int[nStylesheets];
+        this.lengths = new int[nStylesheets];
+        for (int n=0; n<nStylesheets; n++) {
+            names[n] = strings[is.readShort()];
+            offsets[n] = is.readInt();
+            lengths[n] = is.readInt();
+        }
+
+        // the stylesheets start where the index ends
+        this.data = buffer.slice();
+    }
+
+    /**
+     * Open the stylesheet bundle at the given URL.
+     * @param url the URL of the bundle
+     * @return the bundle
+     * @throws IOException if the bundle cannot be read or is not a bundle
+     * of a supported version
+     */
+    public static StylesheetBundle load(URL url) throws IOException {
+
+        if (url == null) {
+            throw new IllegalArgumentException("url cannot be null");
+        }
+
+        ByteBuffer buffer = null;
+
+        if ("file".equals(url.getProtocol())) {
+            try (FileChannel channel = FileChannel.open(Paths.get(url.toURI()), StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                // not a path we can map, so read it as a stream
+                buffer = null;
+            }
+        }
+
+        if (buffer == null) {
+            try (InputStream is = url.openStream()) {
+                buffer = ByteBuffer.wrap(is.readAllBytes());
+            }
+        }
+
+        return new StylesheetBundle(url, buffer);
+    }
+
+    /**
+     * @return the URL from which the bundle was loaded
+     */
+    public URL getURL() {
+        return url;
+    }
+
+    /**
+     * @return the names of the stylesheets in the bundle
+     */
+    public List<String> getNames() {
+        return Collections.unmodifiableList(Arrays.asList(names));
+    }
+
+    /**
+     * Read a stylesheet from the bundle.
+     * @param fname the URL of the stylesheet, as given to the StyleManager
+     * @return the stylesheet, or null if the bundle does not contain a
+     * stylesheet for the given URL
+     * @throws IOException if the stylesheet cannot be read
+     */
+    public Stylesheet getStylesheet(String fname) throws IOException {
+
+        final int index = indexOf(fname);
+        if (index < 0) return null;
+
+        final ByteBuffer buffer = data.duplicate();
+        buffer.position(offsets[index]);
+        buffer.limit(offsets[index] + lengths[index]);
+
+        final DataInputStream is = new DataInputStream(new ByteBufferInputStream(buffer));
+        return StylesheetHelper.readBinary(fname, bssVersion, is, strings);
+    }
+
+    // package for testing
+    int indexOf(String fname) {
+
+        if (fname == null) return -1;
+
+        String path = fname.replace('\\', '/');
+        if (path.endsWith(".css") || path.endsWith(".bss")) {
+            path = path.substring(0, path.length() - 4);
+        }
+
+        for (int n=0; n<names.length; n++) {
+            final String name = names[n];
+            if (path.endsWith(name)) {
+                final int start = path.length() - name.length();
+                if (start == 0 || path.charAt(start - 1) == '/' || path.charAt(start - 1) == '!') {
+                    return n;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Parse the given stylesheets and write them to a bundle.
+     * @param stylesheets the stylesheets to bundle, keyed by the name by
+     * which they are found in the bundle
+     * @param destination the file to which the bundle is written
+     * @throws IOException the exception
+     */
+    public static void write(Map<String,URL> stylesheets, File destination) throws IOException {
+
+        if (stylesheets == null || destination == null) {
+            throw new IllegalArgumentException("parameters may not be null");
+        }
+
+        // first write all the stylesheets into the buffer and collect strings on the way
+        final StringStore stringStore = new StringStore();
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        final DataOutputStream dos = new DataOutputStream(baos);
+
+        final int nStylesheets = stylesheets.size();
+        final int[] nameIndices = new int[nStylesheets];
+        final int[] offsets = new int[nStylesheets];
+        final int[] lengths = new int[nStylesheets];
+
+        int n = 0;
+        for (Map.Entry<String,URL> entry : stylesheets.entrySet()) {
+
+            String name = entry.getKey().replace('\\', '/');
+            if (name.endsWith(".css") || name.endsWith(".bss")) {
+                name = name.substring(0, name.length() - 4);
+            }
+            if (name.startsWith("/")) {
+                name = name.substring(1);
+            }
+
+            final Stylesheet stylesheet = new CssParser().parse(entry.getValue());
+            preConvert(stylesheet);
+
+            nameIndices[n] = stringStore.addString(name);
+            offsets[n] = dos.size();
+            StylesheetHelper.writeBinary(stylesheet, dos, stringStore);
+            lengths[n] = dos.size() - offsets[n];
+            n += 1;
+        }
+        dos.flush();
+
+        try (DataOutputStream os = new DataOutputStream(new FileOutputStream(destination))) {
+            os.writeInt(MAGIC);
+            os.writeShort(BUNDLE_VERSION);
+            os.writeShort(StylesheetHelper.getBinaryVersion());
+            stringStore.writeBinary(os);
+            os.writeShort(nStylesheets);
+            for (n=0; n<nStylesheets; n++) {
+                os.writeShort(nameIndices[n]);
+                os.writeInt(offsets[n]);
+                os.writeInt(lengths[n]);
+            }
+            baos.writeTo(os);
+        }
+    }
+
+    private static void preConvert(Stylesheet stylesheet) {
+        for (Rule rule : stylesheet.getRules()) {
+            for (Declaration declaration : rule.getDeclarations()) {
+                final ParsedValue<?, ?> parsedValue = declaration.getParsedValue();
+                if (parsedValue instanceof ParsedValueImpl) {
+                    ((ParsedValueImpl<?, ?>)parsedValue).preConvert();
+                }
+            }
+        }
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override public int read() {
+            return buffer.hasRemaining() ? (buffer.get() & 0xff) : -1;
+        }
+
+        @Override public int read(byte[] b, int off, int len) {
+            if (len == 0) return 0;
+            if (!buffer.hasRemaining()) return -1;
+            len = Math.min(len, buffer.remaining());
+            buffer.get(b, off, len);
+            return len;
+        }
+
+        @Override public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.css.parser;
+
+import com.sun.javafx.css.StylesheetBundle;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** Css2Bundle <output file> <base directory> <input file>...
+ * java com.sun.javafx.css.parser.Css2Bundle app.bundle src/main/resources src/main/resources/app/theme.css ...
+ *  The stylesheets are named in the bundle by their path relative to the base directory.
+ */
+public final class Css2Bundle {
+    public static void main(String args[]) throws Exception {
+
+        if ( args.length < 3 ) throw new IllegalArgumentException("expected output file, base directory and input files as arguments");
+
+        try {
+            final String[] ifnames = new String[args.length - 2];
+            System.arraycopy(args, 2, ifnames, 0, ifnames.length);
+            convertToBundle(args[0], args[1], ifnames);
+
+        } catch (Exception e) {
+            System.err.println(e.toString());
+            e.printStackTrace(System.err);
+            System.exit(-1);
+        }
+    }
+
+    public static void convertToBundle(String ofname, String basedir, String... ifnames) throws IOException {
+
+        if (ofname == null || basedir == null || ifnames == null) {
+            throw new IllegalArgumentException("parameters cannot be null");
+        }
+
+        final File base = new File(basedir).getAbsoluteFile();
+        final Map<String,URL> stylesheets = new LinkedHashMap<>();
+
+        for (String ifname : ifnames) {
+            final File source = new File(ifname).getAbsoluteFile();
+            if (source.canRead() == false) {
+                throw new IllegalArgumentException("cannot read " + ifname);
+            }
+            final String path = source.getPath();
+            if (!path.startsWith(base.getPath() + File.separator)) {
+                throw new IllegalArgumentException(ifname + " is not in " + basedir);
+            }
+            final String name = path.substring(base.getPath().length() + 1);
+            stylesheets.put(name, source.toURI().toURL());
+        }
+
+        StylesheetBundle.write(stylesheets, new File(ofname));
+    }
+
+}
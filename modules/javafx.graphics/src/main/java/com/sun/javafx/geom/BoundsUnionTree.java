@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.geom;
+
+import java.util.Arrays;
+
+/**
+ * Maintains the union of a set of bounds under incremental updates.
+ * <p>
+ * Each bounds lives in a slot obtained from {@link #allocate()}. The slots
+ * are the leaves of a segment tree in which every inner entry holds the
+ * union of its two children, so that updating or freeing one slot is
+ * O(log n) and the union of all slots is available in O(1). This is used
+ * by groups with many children, where moving a single child that lies on
+ * the edge of the group would otherwise require a full scan of the
+ * children to find the new edges.
+ */
+public final class BoundsUnionTree {
+
+    private static final int MIN_CAPACITY = 16;
+
+    // number of leaves, always a power of two; the leaf for slot s is at
+    // index capacity + s and the union of everything is at index 1
+    private int capacity;
+    private float[] minX, minY, minZ, maxX, maxY, maxZ;
+
+    private int nextSlot;
+    private int[] freeSlots = new int[8];
+    private int freeCount;
+
+    public BoundsUnionTree(int expectedSize) {
+        capacity = MIN_CAPACITY;
+        while (capacity < expectedSize) {
+            capacity <<= 1;
+        }
+        minX = newExtents(2 * capacity, Float.POSITIVE_INFINITY);
+        minY = newExtents(2 * capacity, Float.POSITIVE_INFINITY);
+        minZ = newExtents(2 * capacity, Float.POSITIVE_INFINITY);
+        maxX = newExtents(2 * capacity, Float.NEGATIVE_INFINITY);
+        maxY = newExtents(2 * capacity, Float.NEGATIVE_INFINITY);
+        maxZ = newExtents(2 * capacity, Float.NEGATIVE_INFINITY);
+    }
+
+    private static float[] newExtents(int size, float value) {
+        float[] a = new float[size];
+        Arrays.fill(a, value);
+        return a;
+    }
+
+    /**
+     * Returns a new, empty slot.
+     */
+    public int allocate() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (nextSlot == capacity) {
+            grow();
+        }
+        return nextSlot++;
+    }
+
+    /**
+     * Empties the slot and makes it available for reuse.
+     */
+    public void free(int slot) {
+        clear(slot);
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    /**
+     * Sets the bounds held by the slot. Empty bounds empty the slot.
+     */
+    public void set(int slot, BaseBounds bounds) {
+        if (bounds.isEmpty()) {
+            clear(slot);
+            return;
+        }
+        int i = capacity + slot;
+        minX[i] = bounds.getMinX();
+        minY[i] = bounds.getMinY();
+        minZ[i] = bounds.getMinZ();
+        maxX[i] = bounds.getMaxX();
+        maxY[i] = bounds.getMaxY();
+        maxZ[i] = bounds.getMaxZ();
+        propagate(i);
+    }
+
+    private void clear(int slot) {
+        int i = capacity + slot;
+        minX[i] = minY[i] = minZ[i] = Float.POSITIVE_INFINITY;
+        maxX[i] = maxY[i] = maxZ[i] = Float.NEGATIVE_INFINITY;
+        propagate(i);
+    }
+
+    private void propagate(int i) {
+        for (i >>= 1; i > 0; i >>= 1) {
+            if (!union(i)) {
+                // the union above this entry cannot change either
+                return;
+            }
+        }
+    }
+
+    // Recomputes the entry from its two children, returns true if it changed
+    private boolean union(int i) {
+        final int l = 2 * i, r = l + 1;
+        final float x0 = Math.min(minX[l], minX[r]);
+        final float y0 = Math.min(minY[l], minY[r]);
+        final float z0 = Math.min(minZ[l], minZ[r]);
+        final float x1 = Math.max(maxX[l], maxX[r]);
+        final float y1 = Math.max(maxY[l], maxY[r]);
+        final float z1 = Math.max(maxZ[l], maxZ[r]);
+        if (x0 == minX[i] && y0 == minY[i] && z0 == minZ[i] &&
+            x1 == maxX[i] && y1 == maxY[i] && z1 == maxZ[i])
+        {
+            return false;
+        }
+        minX[i] = x0;
+        minY[i] = y0;
+        minZ[i] = z0;
+        maxX[i] = x1;
+        maxY[i] = y1;
+        maxZ[i] = z1;
+        return true;
+    }
+
+    private void grow() {
+        final int oldCapacity = capacity;
+        capacity <<= 1;
+        minX = grow(minX, oldCapacity, Float.POSITIVE_INFINITY);
+        minY = grow(minY, oldCapacity, Float.POSITIVE_INFINITY);
+        minZ = grow(minZ, oldCapacity, Float.POSITIVE_INFINITY);
+        maxX = grow(maxX, oldCapacity, Float.NEGATIVE_INFINITY);
+        maxY = grow(maxY, oldCapacity, Float.NEGATIVE_INFINITY);
+        maxZ = grow(maxZ, oldCapacity, Float.NEGATIVE_INFINITY);
+        for (int i = capacity - 1; i > 0; i--) {
+            union(i);
+        }
+    }
+
+    private float[] grow(float[] extents, int oldCapacity, float empty) {
+        float[] a = newExtents(2 * capacity, empty);
+        System.arraycopy(extents, oldCapacity, a, capacity, oldCapacity);
+        return a;
+    }
+
+    /**
+     * Returns true if no slot holds non-empty bounds.
+     */
+    public boolean isEmpty() {
+        return maxX[1] < minX[1];
+    }
+
+    /**
+     * Stores the union of all slots into the given bounds.
+     *
+     * @param result the bounds to store the union into
+     * @return the union, which may be a different instance than
+     * {@code result} if the union is 3D
+     */
+    public BaseBounds getUnion(BaseBounds result) {
+        if (isEmpty()) {
+            return result.makeEmpty();
+        }
+        return result.deriveWithNewBounds(minX[1], minY[1], minZ[1],
+                                          maxX[1], maxY[1], maxZ[1]);
+    }
+}
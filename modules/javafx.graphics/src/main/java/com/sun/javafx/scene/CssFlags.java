@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2013, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -42,6 +42,13 @@ public enum CssFlags {
      * or grandchildren, etc is UPDATE or REAPPLY so we need to step into this branch.
      */
     DIRTY_BRANCH,
+    /**
+     * Indicates that we must update properties for this node, but that child
+     * nodes only need to be updated if they are themselves not clean. This
+     * is in response to a pseudoclass state change that only affects the
+     * styles of this node.
+     */
+    UPDATE_SELF,
     /**
      * Indicates that we must update properties for this node and all child
      * nodes. This is typically in response to a pseudoclass state change and
@@ -69,6 +69,10 @@ public class ParentHelper extends NodeHelper {
         return ((ParentHelper) getHelper(parent)).getAllParentStylesheetsImpl(parent);
     }
 
+    public static boolean isLayoutBoundary(Parent parent) {
+        return ((ParentHelper) getHelper(parent)).isLayoutBoundaryImpl(parent);
+    }
+
     @Override
     protected NGNode createPeerImpl(Node node) {
         return parentAccessor.doCreatePeer(node);
@@ -104,6 +108,16 @@ public class ParentHelper extends NodeHelper {
         return parentAccessor.doGetAllParentStylesheets(parent);
     }
 
+    /*
+     * A layout boundary is a parent whose size hints cannot be affected by
+     * a layout request coming from its own subtree, so that such a request
+     * need not be propagated to its ancestors. Plain parents compute their
+     * size from their children and are never a layout boundary.
+     */
+    protected boolean isLayoutBoundaryImpl(Parent parent) {
+        return false;
+    }
+
     @Override
     protected Object processMXNodeImpl(Node node, MXNodeAlgorithm alg, MXNodeAlgorithmContext ctx) {
         return parentAccessor.doProcessMXNode(node, alg, ctx);
@@ -34,6 +34,7 @@ import com.sun.javafx.sg.prism.NGNode;
 import com.sun.javafx.util.Utils;
 import javafx.geometry.Bounds;
 import javafx.scene.Node;
+import javafx.scene.Parent;
 import javafx.scene.layout.Region;
 
 /**
@@ -94,6 +95,11 @@ public class RegionHelper extends ParentHelper {
         return regionAccessor.doComputeContains(node, localX, localY);
     }
 
+    @Override
+    protected boolean isLayoutBoundaryImpl(Parent parent) {
+        return regionAccessor.doIsLayoutBoundary(parent);
+    }
+
     @Override
     protected void notifyLayoutBoundsChangedImpl(Node node) {
         regionAccessor.doNotifyLayoutBoundsChanged(node);
@@ -121,6 +127,7 @@ public class RegionHelper extends ParentHelper {
         void doNotifyLayoutBoundsChanged(Node node);
         void doPickNodeLocal(Node node, PickRay localPickRay,
                 PickResultChooser result);
+        boolean doIsLayoutBoundary(Node node);
     }
 
 }
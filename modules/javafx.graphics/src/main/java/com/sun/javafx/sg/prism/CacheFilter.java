@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -73,6 +73,13 @@ import javafx.scene.paint.Color;
  * For example, the ScrollView UI Control can define its content area as being cached,
  * such that when the user scrolls, we can shift the old content area and adjust the
  * dirty region so that it only includes the "newly exposed" area.
+ *
+ * With CacheHint.LAYER the CacheFilter acts as a retained layer: the subtree
+ * is rendered once at the pixel scale of the screen and the resulting image is
+ * composited with the full render transform, whatever it is. Only an
+ * invalidation of the node contents (or a larger pixel scale) causes the
+ * layer to be re-rendered. The memory held by layers is managed by
+ * {@link LayerCache}.
  */
 public class CacheFilter {
     /**
@@ -113,10 +120,13 @@ public class CacheFilter {
 
     // Used to draw the cached image to the screen
     private final Affine2D screenXform = new Affine2D();
+    // The 2x2 part of the render xform, used for layers
+    private final Affine2D layerXform = new Affine2D();
 
     // Cache hint settings
     private boolean scaleHint;
     private boolean rotateHint;
+    private boolean layerHint;
     // We keep this around for the sake of matchesHint
     private CacheHint cacheHint;
 
@@ -158,11 +168,27 @@ public class CacheFilter {
         this.rotateHint = (cacheHint == CacheHint.SPEED ||
                            cacheHint == CacheHint.ROTATE ||
                            cacheHint == CacheHint.SCALE_AND_ROTATE);
+        boolean wasLayer = this.layerHint;
+        this.layerHint = (cacheHint == CacheHint.LAYER);
+        if (wasLayer && !layerHint) {
+            LayerCache.remove(this);
+        }
     }
 
-    // These two methods exist only for the sake of testing.
+    // These methods exist only for the sake of testing.
     final boolean isScaleHint() { return scaleHint; }
     final boolean isRotateHint() { return rotateHint; }
+    final boolean isLayerHint() { return layerHint; }
+    final boolean isCached() { return cachedImageData != null; }
+    final void setCachedImage(ImageData imageData, double scaleX, double scaleY) {
+        cachedImageData = imageData;
+        cachedScaleX = scaleX;
+        cachedScaleY = scaleY;
+        cachedXform.setTransform(scaleX, 0.0, 0.0, scaleY, 0.0, 0.0);
+    }
+    final boolean needToRenderCache(BaseTransform renderXform, float pixelScaleX, float pixelScaleY) {
+        return needToRenderCache(renderXform, unmatrix(renderXform), pixelScaleX, pixelScaleY);
+    }
 
     /**
      * Indicates whether this CacheFilter's hint matches the CacheHint
@@ -235,6 +261,12 @@ public class CacheFilter {
             }
         }
 
+        if (layerHint) {
+            // A layer can be painted with any transform, it only needs to be
+            // regenerated if we moved onto a screen with a higher pixelScale.
+            return cachedScaleX < pixelScaleX || cachedScaleY < pixelScaleY;
+        }
+
         // TODO: is == sufficient for floating point comparison here? (RT-23963)
         if (cachedXform.getMxx() == renderXform.getMxx() &&
             cachedXform.getMyy() == renderXform.getMyy() &&
@@ -293,7 +325,16 @@ public class CacheFilter {
         // screenXform will be the difference between the cachedXform and the
         // render xform.
 
-        if (scaleHint) {
+        if (layerHint) {
+            // The layer is only ever rendered with a pure scale, so the full
+            // 2x2 part of the render xform can be applied directly (including
+            // shears and non-uniform scales combined with rotations).
+            screenXform.setTransform(layerXform.getMxx() / cachedScaleX,
+                                     layerXform.getMyx() / cachedScaleX,
+                                     layerXform.getMxy() / cachedScaleY,
+                                     layerXform.getMyy() / cachedScaleY,
+                                     0.0, 0.0);
+        } else if (scaleHint) {
             if (rotateHint) {
                 double screenScaleX = xformInfo[0] / cachedScaleX;
                 double screenScaleY = xformInfo[1] / cachedScaleY;
@@ -326,6 +367,9 @@ public class CacheFilter {
     }
 
     void imageDataUnref() {
+        if (layerHint) {
+            LayerCache.remove(this);
+        }
         if (tempTexture != null) {
             tempTexture.dispose();
             tempTexture = null;
@@ -363,6 +407,7 @@ public class CacheFilter {
 
     public void dispose() {
         invalidate();
+        LayerCache.remove(this);
         node = null;
     }
 
@@ -528,7 +573,11 @@ public class CacheFilter {
         FilterContext fctx = PrFilterContext.getInstance(g.getAssociatedScreen()); // getFilterContext
 
         double[] xformInfo = unmatrix(xform);
-        boolean isUnsupported = unsupported(xformInfo);
+        // Layers can be painted with any 2D transform
+        boolean isUnsupported = !layerHint && unsupported(xformInfo);
+        layerXform.setTransform(xform.getMxx(), xform.getMyx(),
+                                xform.getMxy(), xform.getMyy(),
+                                0.0, 0.0);
 
         lastXDelta = lastXDelta * xformInfo[0];
         lastYDelta = lastYDelta * xformInfo[1];
@@ -556,7 +605,17 @@ public class CacheFilter {
                 }
                 invalidate();
             }
-            if (scaleHint) {
+            if (layerHint) {
+                // Render the layer once at the pixel scale of the screen, it
+                // will then be transformed as a texture.
+                cachedScaleX = pixelScaleX;
+                cachedScaleY = pixelScaleY;
+                cachedRotate = 0;
+                cachedXform.setTransform(cachedScaleX, 0.0,
+                                         0.0, cachedScaleY,
+                                         0.0, 0.0);
+                updateScreenXform(xformInfo);
+            } else if (scaleHint) {
                 // do not cache the image at a small scale factor when
                 // scaleHint is set as it leads to poor rendering results
                 // when image is scaled up.
@@ -583,8 +642,17 @@ public class CacheFilter {
             }
 
             cacheBounds = getCacheBounds(cacheBounds, cachedXform);
+            long layerSize = 0;
+            if (layerHint) {
+                layerSize = LayerCache.estimateSize(g.getResourceFactory(),
+                                                    cacheBounds.width, cacheBounds.height);
+                LayerCache.prepareForAllocation(g.getResourceFactory(), this, layerSize);
+            }
             cachedImageData = createImageData(fctx, cacheBounds);
             renderNodeToCache(cachedImageData, cacheBounds, cachedXform, null);
+            if (layerHint && cachedImageData.getUntransformedImage() != null) {
+                LayerCache.allocated(this, layerSize);
+            }
 
             // cachedBounds includes effects, and is in *scene* coords
             Rectangle cachedBounds = cachedImageData.getUntransformedBounds();
@@ -596,6 +664,12 @@ public class CacheFilter {
             cachedY = cachedBounds.y;
 
         } else {
+            if (layerHint) {
+                if (PulseLogger.PULSE_LOGGING_ENABLED) {
+                    PulseLogger.incrementCounter("Layer cache reused");
+                }
+                LayerCache.touch(this);
+            }
             if (scrollCacheState == ScrollCacheState.ENABLED &&
                     (lastXDelta != 0 || lastYDelta != 0) ) {
                 moveCacheBy(cachedImageData, lastXDelta, lastYDelta);
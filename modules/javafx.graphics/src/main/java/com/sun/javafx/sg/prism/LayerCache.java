@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.sg.prism;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import com.sun.javafx.logging.PulseLogger;
+import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
+import com.sun.prism.ResourceFactory;
+import com.sun.prism.impl.PrismSettings;
+import com.sun.prism.impl.TextureResourcePool;
+
+/**
+ * LayerCache - Keeps track of the textures held by all {@link CacheFilter}s
+ * operating in {@code CacheHint.LAYER} mode and enforces a memory budget on
+ * them. Layers are kept in least recently painted order; when a new layer
+ * image is about to be allocated and the budget (or the target of the
+ * texture pool) would be exceeded, the images of the least recently painted
+ * layers are released back to the pool. An evicted layer simply re-renders
+ * its subtree the next time it is painted.
+ *
+ * The layers are weakly referenced, so that the cache does not keep the
+ * filters of nodes that are gone, and their nodes, alive.
+ *
+ * All methods must be called on the render thread.
+ */
+final class LayerCache {
+
+    // Access ordered, so iteration starts at the least recently painted layer
+    private static final LinkedHashMap<LayerKey, Long> layers =
+            new LinkedHashMap<>(16, 0.75f, true);
+    private static final ReferenceQueue<CacheFilter> collected = new ReferenceQueue<>();
+    private static long used;
+
+    private LayerCache() {
+    }
+
+    /**
+     * Estimate the texture memory needed for a layer of the given size.
+     */
+    static long estimateSize(ResourceFactory factory, int w, int h) {
+        TextureResourcePool<?> pool = factory.getTextureResourcePool();
+        return pool.estimateRTTextureSize(w, h, false);
+    }
+
+    /**
+     * Make room for a layer image of the given size, evicting the least
+     * recently painted layers other than {@code layer} as needed.
+     *
+     * @param factory the resource factory the image will be allocated from
+     * @param layer the layer that is about to allocate its image
+     * @param size the estimated size of the new image
+     */
+    static void prepareForAllocation(ResourceFactory factory, CacheFilter layer, long size) {
+        TextureResourcePool<?> pool = factory.getTextureResourcePool();
+        prepareForAllocation(pool, layer, size, PrismSettings.layerCacheBudget);
+    }
+
+    static void prepareForAllocation(TextureResourcePool<?> pool, CacheFilter layer,
+                                     long size, long budget) {
+        remove(layer);
+        // Evicted images are only released to the pool, which does not lower
+        // its usage, so layers are evicted until the images they release
+        // cover what the new image would take beyond the budget or the
+        // target of the pool
+        long needed = Math.max(used + size - budget, pool.used() + size - pool.target());
+        // The entries are read through the iterator, as a get() would reorder
+        // this access ordered map and break the iteration
+        Iterator<Map.Entry<LayerKey, Long>> it = layers.entrySet().iterator();
+        while (needed > 0 && it.hasNext()) {
+            Map.Entry<LayerKey, Long> entry = it.next();
+            CacheFilter victim = entry.getKey().get();
+            used -= entry.getValue();
+            needed -= entry.getValue();
+            it.remove();
+            if (victim != null) {
+                victim.imageDataUnref();
+            }
+            if (PULSE_LOGGING_ENABLED) {
+                PulseLogger.incrementCounter("Layer cache evictions");
+            }
+        }
+    }
+
+    /**
+     * Record a newly rendered layer image.
+     */
+    static void allocated(CacheFilter layer, long size) {
+        remove(layer);
+        layers.put(new LayerKey(layer, collected), size);
+        used += size;
+    }
+
+    /**
+     * Mark the layer as painted in the current frame.
+     */
+    static void touch(CacheFilter layer) {
+        layers.get(new LayerKey(layer, null));
+    }
+
+    /**
+     * Forget about the layer, called when its image is released.
+     */
+    static void remove(CacheFilter layer) {
+        expungeCollectedLayers();
+        removeKey(new LayerKey(layer, null));
+    }
+
+    /**
+     * @return whether the image of the layer is currently held
+     */
+    static boolean contains(CacheFilter layer) {
+        return layers.containsKey(new LayerKey(layer, null));
+    }
+
+    /**
+     * @return the amount of texture memory currently held by layers
+     */
+    static long used() {
+        expungeCollectedLayers();
+        return used;
+    }
+
+    // Forget about the layers whose filter has been collected. Their images
+    // are no longer referenced and are reclaimed by the pool.
+    private static void expungeCollectedLayers() {
+        Reference<? extends CacheFilter> key;
+        while ((key = collected.poll()) != null) {
+            removeKey(key);
+        }
+    }
+
+    private static void removeKey(Object key) {
+        Long size = layers.remove(key);
+        if (size != null) {
+            used -= size;
+        }
+    }
+
+    /*
+     * A weak reference to a layer that is equal to the references to the
+     * same layer. Once the layer has been collected, the reference is only
+     * equal to itself, so that it can still be removed from the map.
+     */
+    private static final class LayerKey extends WeakReference<CacheFilter> {
+        private final int hash;
+
+        LayerKey(CacheFilter layer, ReferenceQueue<CacheFilter> queue) {
+            super(layer, queue);
+            hash = System.identityHashCode(layer);
+        }
+
+        @Override public int hashCode() {
+            return hash;
+        }
+
+        @Override public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof LayerKey)) {
+                return false;
+            }
+            CacheFilter layer = get();
+            return layer != null && layer == ((LayerKey) obj).get();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -54,6 +54,7 @@ import com.sun.scenario.effect.impl.prism.PrDrawable;
 import com.sun.scenario.effect.impl.prism.PrEffectHelper;
 import com.sun.scenario.effect.impl.prism.PrFilterContext;
 import com.sun.javafx.logging.PulseLogger;
+import com.sun.javafx.logging.PulseStats;
 import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
 
 /**
@@ -1951,7 +1952,7 @@ public abstract class NGNode {
      */
     public final void render(Graphics g) {
         if (PULSE_LOGGING_ENABLED) {
-            PulseLogger.incrementCounter("Nodes visited during render");
+            PulseLogger.incrementCounter(PulseStats.NODES_VISITED);
         }
         // Clear the visuals changed flag
         clearDirty();
@@ -2088,7 +2089,7 @@ public abstract class NGNode {
         g.setDepthTest(prevDepthTest);
 
         if (PULSE_LOGGING_ENABLED) {
-            PulseLogger.incrementCounter("Nodes rendered");
+            PulseLogger.incrementCounter(PulseStats.NODES_RENDERED);
         }
 
         // Used for debug purposes. This is not entirely accurate, as it doesn't measure the
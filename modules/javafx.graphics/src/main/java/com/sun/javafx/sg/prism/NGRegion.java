@@ -61,6 +61,7 @@ import com.sun.javafx.geom.transform.Affine2D;
 import com.sun.javafx.geom.transform.BaseTransform;
 import com.sun.javafx.geom.transform.GeneralTransform3D;
 import com.sun.javafx.logging.PulseLogger;
+import com.sun.javafx.logging.PulseStats;
 import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
 import com.sun.javafx.scene.NodeHelper;
 import com.sun.javafx.tk.Toolkit;
@@ -654,7 +655,7 @@ public class NGRegion extends NGGroup {
 
                 g.drawTexture(cached, dstX1, dstY1, dstX2, dstY2, srcX1, srcY1, srcX2, srcY2);
                 if (PULSE_LOGGING_ENABLED) {
-                    PulseLogger.incrementCounter("Cached region shape image used");
+                    PulseLogger.incrementCounter(PulseStats.SHAPE_CACHE_HITS);
                 }
             } else {
                 // no cache, rendering backgrounds directly to graphics
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -39,6 +39,9 @@ import com.sun.javafx.tk.RenderJob;
 
 import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
 import com.sun.javafx.logging.PulseLogger;
+import com.sun.javafx.logging.PulseStats;
+import com.sun.prism.GraphicsPipeline;
+import com.sun.prism.ResourceFactory;
 
 /**
  * Manages the collection and rendering of dirty scenes. This class has
@@ -302,6 +305,11 @@ final class PaintCollector implements CompletionListener {
             // If pulse logging is enabled, then we must call renderEnd now
             // that we know that all of the scene's being rendered are finished
             if (PULSE_LOGGING_ENABLED) {
+                ResourceFactory factory = GraphicsPipeline.getDefaultResourceFactory();
+                if (factory != null) {
+                    PulseLogger.incrementCounter(PulseStats.TEXTURE_POOL_USAGE,
+                            factory.getTextureResourcePool().used());
+                }
                 PulseLogger.renderEnd();
             }
         }
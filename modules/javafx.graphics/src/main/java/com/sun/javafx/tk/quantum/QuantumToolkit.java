@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -511,6 +511,9 @@ public final class QuantumToolkit extends Toolkit {
             nextPulseRequested.set(false);
             if (animationRunnable != null) {
                 animationRunning.set(true);
+                if (PULSE_LOGGING_ENABLED) {
+                    PulseLogger.newPhase("Animation");
+                }
                 animationRunnable.run();
             } else {
                 animationRunning.set(false);
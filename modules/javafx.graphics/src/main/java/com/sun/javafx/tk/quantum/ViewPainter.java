@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -50,6 +50,7 @@ import com.sun.prism.impl.PrismSettings;
 import com.sun.prism.paint.Color;
 import com.sun.prism.paint.Paint;
 import com.sun.javafx.logging.PulseLogger;
+import com.sun.javafx.logging.PulseStats;
 import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
 
 /**
@@ -258,6 +259,19 @@ abstract class ViewPainter implements Runnable {
         // might as well save this reference.
         final int dirtyRegionSize = status == DirtyRegionContainer.DTR_OK ? dirtyRegionContainer.size() : 0;
 
+        if (PULSE_LOGGING_ENABLED) {
+            long dirtyArea = 0;
+            if (status != DirtyRegionContainer.DTR_OK) {
+                dirtyArea = (long) width * height;
+            } else {
+                for (int i = 0; i < dirtyRegionSize; i++) {
+                    final RectBounds dirtyRegion = dirtyRegionContainer.getDirtyRegion(i);
+                    dirtyArea += (long) (dirtyRegion.getWidth() * dirtyRegion.getHeight());
+                }
+            }
+            PulseLogger.incrementCounter(PulseStats.DIRTY_AREA, dirtyArea);
+        }
+
         if (dirtyRegionSize > 0) {
             // We set this flag on Graphics so that subsequent code in the render paths of
             // NGNode know whether they ought to be paying attention to dirty region
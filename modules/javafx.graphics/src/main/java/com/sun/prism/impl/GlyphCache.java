@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -46,6 +46,7 @@ import java.util.WeakHashMap;
 
 import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
 import com.sun.javafx.logging.PulseLogger;
+import com.sun.javafx.logging.PulseStats;
 
 import com.sun.prism.ResourceFactory;
 import com.sun.prism.Texture.WrapMode;
@@ -252,6 +253,9 @@ public class GlyphCache {
         }
 
         // Render the glyph and insert it in the cache
+        if (PULSE_LOGGING_ENABLED) {
+            PulseLogger.incrementCounter(PulseStats.GLYPH_CACHE_MISSES);
+        }
         GlyphData data = null;
         Glyph glyph = strike.getGlyph(glyphCode);
         if (glyph != null) {
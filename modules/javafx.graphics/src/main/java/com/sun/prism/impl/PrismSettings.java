@@ -75,6 +75,7 @@ public final class PrismSettings {
     public static final long maxVram;
     public static final long targetVram;
     public static final boolean poolStats;
+    public static final long layerCacheBudget;
     public static final boolean poolDebug;
     public static final boolean disableEffects;
     public static final int glyphCacheWidth;
@@ -306,6 +307,9 @@ public final class PrismSettings {
         targetVram = getLong(systemProperties, "prism.targetvram", maxVram / 8, maxVram,
                              "Try -Dprism.targetvram=<long>[kKmMgG]|<double(0,100)>%");
         poolStats = getBoolean(systemProperties, "prism.poolstats", false);
+        // Upper bound on the texture memory held by CacheHint.LAYER nodes
+        layerCacheBudget = getLong(systemProperties, "prism.layercachebudget", targetVram / 4, targetVram,
+                                   "Try -Dprism.layercachebudget=<long>[kKmMgG]|<double(0,100)>%");
         poolDebug = getBoolean(systemProperties, "prism.pooldebug", false);
 
         if (verbose) {
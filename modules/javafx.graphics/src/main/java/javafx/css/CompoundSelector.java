@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2008, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2008, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,6 +26,7 @@
 package javafx.css;
 
 import com.sun.javafx.css.Combinator;
+import com.sun.javafx.css.CompoundSelectorHelper;
 import com.sun.javafx.css.PseudoClassState;
 
 import java.io.DataInputStream;
@@ -73,6 +74,15 @@ final public class CompoundSelector extends Selector {
     }
 
     private final List<Combinator> relationships;
+
+    static {
+        CompoundSelectorHelper.setCompoundSelectorAccessor(new CompoundSelectorHelper.CompoundSelectorAccessor() {
+            @Override public List<Combinator> getRelationships(CompoundSelector selector) {
+                return selector.relationships;
+            }
+        });
+    }
+
     // /**
     //  * The relationships between the selectors
     //  * @return Immutable List&lt;Combinator&gt;
@@ -47,6 +47,8 @@ import javafx.scene.paint.Paint;
 import javafx.scene.text.Font;
 import javafx.util.Duration;
 
+import com.sun.javafx.css.CacheStats;
+import com.sun.javafx.css.LruCache;
 import com.sun.javafx.scene.layout.region.CornerRadiiConverter;
 import com.sun.javafx.util.Logging;
 import sun.util.logging.PlatformLogger;
@@ -59,7 +61,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.WeakHashMap;
 
 
 /**
@@ -262,16 +263,18 @@ public class StyleConverter<F, T> {
         os.writeShort(index);
     }
 
-    private static Map<ParsedValue, Object> cache;
+    // The number of converted values to keep can be set with the
+    // javafx.css.converterCacheSize property. The cache is cleared when a
+    // stylesheet is removed, so that it does not keep its parsed values.
+    private static final LruCache<ParsedValue, Object> cache = new LruCache<>(
+            LruCache.getMaxSize("javafx.css.converterCacheSize", 4096), CacheStats.CONVERTER);
 
     /**
      * Clear the cache.
      * @since 9
      */
     public static void clearCache() {
-        if (cache != null) {
-            cache.clear();
-        }
+        cache.clear();
     }
 
     /**
@@ -281,10 +284,7 @@ public class StyleConverter<F, T> {
      * @since 9
      */
     protected T getCachedValue(ParsedValue key) {
-        if (cache != null) {
-            return (T)cache.get(key);
-        }
-        return null;
+        return (T)cache.get(key);
     }
 
     /**
@@ -294,7 +294,6 @@ public class StyleConverter<F, T> {
      * @since 9
      */
     protected void cacheValue(ParsedValue key, Object value) {
-        if (cache == null) cache = new WeakHashMap<>();
         cache.put(key, value);
     }
 
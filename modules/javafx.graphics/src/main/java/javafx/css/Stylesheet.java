@@ -32,6 +32,7 @@ import javafx.collections.ObservableList;
 
 import com.sun.javafx.collections.TrackableObservableList;
 import com.sun.javafx.css.FontFaceImpl;
+import com.sun.javafx.css.StylesheetHelper;
 
 import java.io.BufferedInputStream;
 import java.io.ByteArrayOutputStream;
@@ -62,8 +63,29 @@ public class Stylesheet {
      * binary stream changes. This number does not correlate with JavaFX versions.
      * Version 5: persist @font-face
      * Version 6: converter classes moved to public package
+     * Version 7: persist pre-converted values
      */
-    final static int BINARY_CSS_VERSION = 6;
+    final static int BINARY_CSS_VERSION = 7;
+
+    static {
+        StylesheetHelper.setStylesheetAccessor(new StylesheetHelper.StylesheetAccessor() {
+            @Override public int getBinaryVersion() {
+                return BINARY_CSS_VERSION;
+            }
+
+            @Override public void writeBinary(Stylesheet stylesheet, DataOutputStream os, StringStore stringStore)
+                throws IOException {
+                stylesheet.writeBinary(os, stringStore);
+            }
+
+            @Override public Stylesheet readBinary(String url, int bssVersion, DataInputStream is, String[] strings)
+                throws IOException {
+                Stylesheet stylesheet = new Stylesheet(url);
+                stylesheet.readBinary(bssVersion, is, strings);
+                return stylesheet;
+            }
+        });
+    }
 
     private final String url;
     /** The URL from which the stylesheet was loaded.
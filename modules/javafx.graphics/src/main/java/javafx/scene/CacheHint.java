@@ -81,4 +81,21 @@ public enum CacheHint {
     * the cached bitmap (rather than re-rendering the node).
     */
     SCALE_AND_ROTATE,
+
+   /**
+    * A hint to tell the bitmap caching mechanism that the node and its
+    * subtree should be treated as a retained layer. The subtree is rendered
+    * once into a texture and the texture is then composited under any
+    * transform or opacity change; the texture is only re-rendered when the
+    * contents of the subtree itself change, or when the node moves to a
+    * screen with a higher pixel scale.
+    * <p>
+    * This hint is intended for large, mostly static content (for example a
+    * complex background underneath animated overlays). The texture memory
+    * held by all layers is bounded and layers that have not been painted
+    * recently are discarded first when the bound is exceeded.
+    *
+    * @since 10
+    */
+    LAYER,
 }
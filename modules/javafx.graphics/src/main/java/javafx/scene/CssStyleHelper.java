@@ -33,6 +33,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.WeakHashMap;
 
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
@@ -130,8 +131,8 @@ final class CssStyleHelper {
                 node.styleHelper.cacheContainer.fontSizeCache.clear();
             }
             node.styleHelper.cacheContainer.forceSlowpath = true;
-            node.styleHelper.triggerStates.addAll(triggerStates[0]);
             node.styleHelper.firstStyleableAncestor = findFirstStyleableAncestor(node);
+            node.styleHelper.addTriggerStates(node, styleMap, triggerStates[0]);
             updateParentTriggerStates(node, depth, triggerStates);
             return node.styleHelper;
 
@@ -170,14 +171,15 @@ final class CssStyleHelper {
         }
 
         final CssStyleHelper helper = new CssStyleHelper();
-        helper.triggerStates.addAll(triggerStates[0]);
+
+        helper.firstStyleableAncestor = findFirstStyleableAncestor(node);
+
+        helper.addTriggerStates(node, styleMap, triggerStates[0]);
 
         updateParentTriggerStates(node, depth, triggerStates);
 
         helper.cacheContainer = new CacheContainer(node, styleMap, depth);
 
-        helper.firstStyleableAncestor = findFirstStyleableAncestor(node);
-
         // If this node had a style helper, then reset properties to their initial value
         // since the style map might now be different
         if (node.styleHelper != null) {
@@ -219,6 +221,7 @@ final class CssStyleHelper {
                     parentNode.styleHelper.firstStyleableAncestor = findFirstStyleableAncestor(parentNode) ;
                 }
                 parentNode.styleHelper.triggerStates.addAll(triggerState);
+                parentNode.styleHelper.descendantTriggerStates.addAll(triggerState);
 
             }
 
@@ -540,6 +543,140 @@ final class CssStyleHelper {
         return triggerStates.contains(pseudoClass);
     }
 
+    /**
+     * The subset of triggerStates which, if they change, may also change the
+     * styles of the Node's descendants. In the example above, "hover" is in
+     * descendantTriggerStates because of the .button:hover *.label rule.
+     * Without that rule, a change to "hover" would only need to update the
+     * Button itself, provided the .button:hover styles only set properties
+     * of the Button that are not inherited and do not define lookups.
+     */
+    private PseudoClassState descendantTriggerStates = new PseudoClassState();
+
+    /*
+     * True if some descendant has a style with the value "inherit", which
+     * is resolved against the styles of this Node in its current state.
+     */
+    private boolean descendantsInherit = false;
+
+    boolean isDescendantTrigger(PseudoClass pseudoClass) {
+        return descendantsInherit || descendantTriggerStates.contains(pseudoClass);
+    }
+
+    // Add the pseudo-classes from the selectors that match the node itself.
+    private void addTriggerStates(final Node node, final StyleMap styleMap, final PseudoClassState states) {
+
+        triggerStates.addAll(states);
+
+        final StateDependencies dependencies = getStateDependencies(node, styleMap);
+
+        if (dependencies.selfOnlyStates.isEmpty()) {
+            descendantTriggerStates.addAll(states);
+        } else {
+            for (PseudoClass pseudoClass : states) {
+                if (dependencies.selfOnlyStates.contains(pseudoClass) == false) {
+                    descendantTriggerStates.add(pseudoClass);
+                }
+            }
+        }
+
+        // "inherit" looks at the first styleable ancestor, see getInheritedStyle
+        if (dependencies.hasInheritValue && firstStyleableAncestor != null
+                && firstStyleableAncestor.styleHelper != null) {
+            firstStyleableAncestor.styleHelper.descendantsInherit = true;
+        }
+    }
+
+    /*
+     * What the styles in a StyleMap depend on, given the CssMetaData of the
+     * node they apply to. Nodes that share a StyleMap almost always share
+     * their CssMetaData, too.
+     */
+    private static final class StateDependencies {
+
+        private final List<CssMetaData<? extends Styleable, ?>> cssMetaData;
+
+        // pseudo-classes that only select styles for non-inherited
+        // properties of the node
+        private final PseudoClassState selfOnlyStates;
+
+        // true if a style has the value "inherit"
+        private final boolean hasInheritValue;
+
+        private StateDependencies(List<CssMetaData<? extends Styleable, ?>> cssMetaData,
+                                  PseudoClassState selfOnlyStates, boolean hasInheritValue) {
+            this.cssMetaData = cssMetaData;
+            this.selfOnlyStates = selfOnlyStates;
+            this.hasInheritValue = hasInheritValue;
+        }
+    }
+
+    private static final Map<StyleMap, StateDependencies> stateDependenciesMap = new WeakHashMap<>();
+
+    private static StateDependencies getStateDependencies(final Node node, final StyleMap styleMap) {
+
+        final List<CssMetaData<? extends Styleable, ?>> cssMetaData = node.getCssMetaData();
+
+        StateDependencies dependencies = stateDependenciesMap.get(styleMap);
+        if (dependencies != null && dependencies.cssMetaData == cssMetaData) {
+            return dependencies;
+        }
+
+        final Set<String> ownProperties = new HashSet<>();
+        if (cssMetaData != null) {
+            for (int n=0, nMax=cssMetaData.size(); n<nMax; n++) {
+                addOwnProperties(cssMetaData.get(n), ownProperties);
+            }
+        }
+
+        final PseudoClassState selfOnlyStates = new PseudoClassState();
+        final PseudoClassState sharedStates = new PseudoClassState();
+        boolean hasInheritValue = false;
+
+        final Map<String, List<CascadingStyle>> cascadingStyles =
+                styleMap != null ? styleMap.getCascadingStyles() : Collections.emptyMap();
+
+        for (Entry<String, List<CascadingStyle>> entry : cascadingStyles.entrySet()) {
+
+            // A style for anything other than a non-inherited property of
+            // this node - a lookup, say - might be seen by descendants
+            final boolean own = ownProperties.contains(entry.getKey());
+
+            final List<CascadingStyle> styles = entry.getValue();
+            for (int n=0, nMax=styles.size(); n<nMax; n++) {
+                final CascadingStyle style = styles.get(n);
+                final ParsedValue<?, ?> cssValue = style.getParsedValue();
+                if (cssValue != null && "inherit".equals(cssValue.getValue())) {
+                    hasInheritValue = true;
+                }
+                final Set<PseudoClass> pseudoClasses = style.getPseudoClasses();
+                if (pseudoClasses != null) {
+                    (own ? selfOnlyStates : sharedStates).addAll(pseudoClasses);
+                }
+            }
+        }
+
+        selfOnlyStates.removeAll(sharedStates);
+
+        dependencies = new StateDependencies(cssMetaData, selfOnlyStates, hasInheritValue);
+        stateDependenciesMap.put(styleMap, dependencies);
+        return dependencies;
+    }
+
+    private static void addOwnProperties(final CssMetaData<? extends Styleable, ?> cssMetaData, final Set<String> ownProperties) {
+
+        if (cssMetaData.isInherits()) return;
+
+        ownProperties.add(cssMetaData.getProperty());
+
+        final List<CssMetaData<? extends Styleable, ?>> subProperties = cssMetaData.getSubProperties();
+        if (subProperties != null) {
+            for (int n=0, nMax=subProperties.size(); n<nMax; n++) {
+                addOwnProperties(subProperties.get(n), ownProperties);
+            }
+        }
+    }
+
     /**
      * Dynamic pseudo-class state of the node and its parents.
      * Only valid during a pulse.
@@ -590,8 +727,10 @@ final class CssStyleHelper {
                 final Set<PseudoClass> pseudoClassState = parent.pseudoClassStates;
                 retainedStates[count] = new PseudoClassState();
                 retainedStates[count].addAll(pseudoClassState);
-                // retainAll method takes the intersection of pseudoClassState and helper.triggerStates
-                retainedStates[count].retainAll(helper.triggerStates);
+                // retainAll method takes the intersection of pseudoClassState and helper.triggerStates.
+                // The states of an ancestor that only matter to the ancestor's own styles are left out.
+                retainedStates[count].retainAll(count == 0 || helper.descendantsInherit
+                        ? helper.triggerStates : helper.descendantTriggerStates);
                 count += 1;
             }
             parent = parent.getParent();
@@ -3632,6 +3632,13 @@ public abstract class Node implements EventTarget, Styleable {
      */
     boolean boundsChanged;
 
+    /**
+     * The slot of this node in the bounds tree of its parent, or -1 if the
+     * parent doesn't track the bounds of this node in a tree. Like
+     * boundsChanged, this really belongs to the Parent of the node.
+     */
+    int boundsSlot = -1;
+
     /*
      * Returns geometric bounds, but may be over-ridden by a subclass.
      */
@@ -9286,16 +9293,19 @@ public abstract class Node implements EventTarget, Styleable {
 
     /**
      * Called when a CSS pseudo-class change would cause styles to be reapplied.
+     * If the change cannot affect the styles of the children, then only this
+     * node needs to be updated.
      */
-    private void requestCssStateTransition() {
+    private void requestCssStateTransition(boolean updateChildren) {
         // If there is no scene, then we cannot make it dirty, so we'll leave
         // the flag alone
         if (getScene() == null) return;
-        // Don't bother doing anything if the cssFlag is not CLEAN.
+        // Don't bother doing anything if the cssFlag already asks for as much.
         // If the flag indicates a DIRTY_BRANCH, the flag needs to be changed
         // to UPDATE to ensure that NodeHelper.processCSS is called on the node.
-        if (cssFlag == CssFlags.CLEAN || cssFlag == CssFlags.DIRTY_BRANCH) {
-            cssFlag = CssFlags.UPDATE;
+        final CssFlags flag = updateChildren ? CssFlags.UPDATE : CssFlags.UPDATE_SELF;
+        if (cssFlag.compareTo(flag) < 0) {
+            cssFlag = flag;
             notifyParentsOfInvalidatedCSS();
         }
     }
@@ -9337,7 +9347,7 @@ public abstract class Node implements EventTarget, Styleable {
         if (modified && styleHelper != null) {
             final boolean isTransition = styleHelper.pseudoClassStateChanged(pseudoClass);
             if (isTransition) {
-                requestCssStateTransition();
+                requestCssStateTransition(styleHelper.isDescendantTrigger(pseudoClass));
             }
         }
    }
@@ -9392,8 +9402,10 @@ public abstract class Node implements EventTarget, Styleable {
 
         if (cssFlag == CssFlags.REAPPLY) return;
 
-        // RT-36838 - don't reapply CSS in the middle of an update
-        if (cssFlag == CssFlags.UPDATE) {
+        // RT-36838 - don't reapply CSS in the middle of an update. Inside a
+        // batch, defer the reapply to the next CSS pass the same way.
+        if (cssFlag == CssFlags.UPDATE || cssFlag == CssFlags.UPDATE_SELF ||
+                (getParent() != null && getParent().isInBatch())) {
             cssFlag = CssFlags.REAPPLY;
             notifyParentsOfInvalidatedCSS();
             return;
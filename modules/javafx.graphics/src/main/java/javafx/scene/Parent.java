@@ -32,6 +32,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener.Change;
 import javafx.collections.ObservableList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -43,6 +44,7 @@ import com.sun.javafx.collections.VetoableListDecorator;
 import javafx.css.Selector;
 import com.sun.javafx.css.StyleManager;
 import com.sun.javafx.geom.BaseBounds;
+import com.sun.javafx.geom.BoundsUnionTree;
 import com.sun.javafx.geom.PickRay;
 import com.sun.javafx.geom.Point2D;
 import com.sun.javafx.geom.RectBounds;
@@ -50,6 +52,8 @@ import com.sun.javafx.geom.transform.BaseTransform;
 import com.sun.javafx.geom.transform.NoninvertibleTransformException;
 import com.sun.javafx.jmx.MXNodeAlgorithm;
 import com.sun.javafx.jmx.MXNodeAlgorithmContext;
+import com.sun.javafx.logging.PulseLogger;
+import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
 import com.sun.javafx.scene.CssFlags;
 import com.sun.javafx.scene.DirtyBits;
 import com.sun.javafx.scene.input.PickResultChooser;
@@ -82,6 +86,11 @@ public abstract class Parent extends Node {
     // package private for testing
     static final int DIRTY_CHILDREN_THRESHOLD = 10;
 
+    // Parents with more children than this keep the bounds of their children
+    // in a BoundsUnionTree, so that a child moving away from an edge doesn't
+    // force a scan of all the children
+    static final int BOUNDS_TREE_THRESHOLD = 256;
+
     // If set to true, generate a warning message whenever adding a node to a
     // parent if it is currently a child of another parent.
     private static final boolean warnOnAutoMove = PropertyHelper.getBooleanProperty("javafx.sg.warn");
@@ -442,12 +451,28 @@ public abstract class Parent extends Node {
             // if one of the new children needs layout, in which case need to ensure
             // the needsLayout flag is set all the way to the root so the next layout
             // pass will reach the child.
-            if (relayout) {
-                requestLayout();
-            }
+            if (isInBatch()) {
+                // The layout request and bounds invalidation are merged and
+                // delivered once when the batch ends.
+                if (relayout) {
+                    clearSizeCache();
+                    setLayoutFlag(LayoutFlags.NEEDS_LAYOUT);
+                    batchRequestLayout = true;
+                }
+                if (geomChanged) {
+                    batchGeomChanged = true;
+                }
+                if (relayout || geomChanged) {
+                    deferUntilBatchEnd();
+                }
+            } else {
+                if (relayout) {
+                    requestLayout();
+                }
 
-            if (geomChanged) {
-                NodeHelper.geomChanged(Parent.this);
+                if (geomChanged) {
+                    NodeHelper.geomChanged(Parent.this);
+                }
             }
 
             // Note the starting index at which we need to update the
@@ -857,6 +882,102 @@ public abstract class Parent extends Node {
         return results;
     }
 
+    /***********************************************************************
+     *                              Batching                               *
+     *                                                                     *
+     *  Functions and variables related to batched modification of the     *
+     *  scene graph.                                                       *
+     *                                                                     *
+     **********************************************************************/
+
+    private int batchDepth = 0;
+    private boolean batchRegistered = false;
+    private boolean batchRequestLayout = false;
+    private boolean batchGeomChanged = false;
+
+    /**
+     * Runs the given modifications of this parent's subtree as a single
+     * batch. While the batch is running, layout requests reaching this
+     * parent, bounds invalidations caused by changes to its children list
+     * and CSS reapplication of nodes added to it are not propagated
+     * immediately. They are merged and delivered once when the batch ends,
+     * so that adding thousands of children costs a single invalidation of
+     * the ancestors' layout and bounds and a single CSS pass.
+     * <p>
+     * Children lists are updated and their listeners notified as usual.
+     * However, the bounds of this parent queried from within the batch do
+     * not reflect the changes to its children list until the batch ends, and
+     * layout and CSS of the affected nodes are brought up to date on the next
+     * pulse (or by an explicit call to {@link #layout()} or
+     * {@link Node#applyCss()} after the batch).
+     * Batches may be nested, in which case the invalidation happens when the
+     * outermost batch ends.
+     * <p>
+     * This method must be called on the JavaFX Application Thread if this
+     * parent is part of a showing window.
+     *
+     * @param changes the modifications to perform, must not be null
+     * @throws NullPointerException if {@code changes} is null
+     * @see Scene#runBatch(Runnable)
+     * @since 10
+     */
+    public final void runBatch(Runnable changes) {
+        if (changes == null) {
+            throw new NullPointerException("changes cannot be null");
+        }
+        batchDepth++;
+        try {
+            changes.run();
+        } finally {
+            if (--batchDepth == 0) {
+                endBatch();
+            }
+        }
+    }
+
+    /*
+     * Returns true if invalidations of this parent should be deferred, either
+     * because a batch is running on this parent or on its scene.
+     */
+    final boolean isInBatch() {
+        if (batchDepth > 0) {
+            return true;
+        }
+        final Scene scene = getScene();
+        return scene != null && scene.isInBatch();
+    }
+
+    /*
+     * Called whenever an invalidation was deferred. If the batch runs on this
+     * parent, the invalidation is delivered when that batch ends; otherwise
+     * the parent is registered with the scene so that it is delivered at the
+     * end of the scene's batch.
+     */
+    private void deferUntilBatchEnd() {
+        if (batchDepth == 0 && !batchRegistered) {
+            final Scene scene = getScene();
+            if (scene != null && scene.isInBatch()) {
+                batchRegistered = true;
+                scene.addBatchedParent(this);
+            }
+        }
+    }
+
+    /*
+     * Delivers the invalidations that were deferred while in a batch.
+     */
+    void endBatch() {
+        batchRegistered = false;
+        if (batchRequestLayout) {
+            batchRequestLayout = false;
+            markDirtyLayout(false, false);
+        }
+        if (batchGeomChanged) {
+            batchGeomChanged = false;
+            NodeHelper.geomChanged(this);
+        }
+    }
+
     private ParentTraversalEngine traversalEngine;
 
     private final void setTraversalEngine(ParentTraversalEngine value) {
@@ -938,7 +1059,7 @@ public abstract class Parent extends Node {
 
     private void markDirtyLayout(boolean local, boolean forceParentLayout) {
         setLayoutFlag(LayoutFlags.NEEDS_LAYOUT);
-        if (local || layoutRoot) {
+        if (local || layoutRoot || isLayoutBoundary(forceParentLayout)) {
             if (sceneRoot) {
                 Toolkit.getToolkit().requestNextPulse();
                 if (getSubScene() != null) {
@@ -952,6 +1073,65 @@ public abstract class Parent extends Node {
         }
     }
 
+    /*
+     * Returns true if the layout request can stop at this parent, that is if
+     * its size hints do not depend on its subtree (see
+     * ParentHelper.isLayoutBoundaryImpl). This parent is then laid out again
+     * on the next pulse without its ancestors having to be laid out.
+     */
+    private boolean isLayoutBoundary(boolean forceParentLayout) {
+        if (forceParentLayout || !ParentHelper.isLayoutBoundary(this)) {
+            return false;
+        }
+        if (PULSE_LOGGING_ENABLED) {
+            PulseLogger.incrementCounter("Layout requests stopped at a layout boundary");
+        }
+        layoutStoppedAtBoundary = true;
+        return true;
+    }
+
+    /*
+     * The baseline offset of a layout boundary still depends on its subtree,
+     * and ancestors may align it or derive their own baseline from it. The
+     * boundary therefore remembers its baseline offset after each layout, and
+     * when a layout request that stopped here moves it, the ancestors are
+     * laid out again after all.
+     */
+    private static boolean boundaryBaselineMoved = false;
+
+    private boolean layoutStoppedAtBoundary = false;
+    private double boundaryBaseline = Double.NaN;
+
+    private void updateBoundaryBaseline() {
+        final boolean stopped = layoutStoppedAtBoundary;
+        layoutStoppedAtBoundary = false;
+        if (!stopped && !ParentHelper.isLayoutBoundary(this)) {
+            boundaryBaseline = Double.NaN;
+            return;
+        }
+        final double baseline = getBaselineOffset();
+        // a boundary that has not been laid out yet was just added, and
+        // its ancestors are being laid out anyway
+        if (stopped && !Double.isNaN(boundaryBaseline)
+                && Double.compare(baseline, boundaryBaseline) != 0) {
+            final Parent p = getParent();
+            if (p != null) {
+                p.requestLayout(true);
+                boundaryBaselineMoved = true;
+            }
+        }
+        boundaryBaseline = baseline;
+    }
+
+    /*
+     * Called by the Scene after laying out its root. Returns true if a layout
+     * boundary has asked its ancestors to be laid out again during the current
+     * layout pass, which the Scene then does before anything is rendered.
+     */
+    static boolean isBoundaryBaselineMoved() {
+        return boundaryBaselineMoved;
+    }
+
     /**
      * Requests a layout pass to be performed before the next scene is
      * rendered. This is batched up asynchronously to happen once per
@@ -964,6 +1144,12 @@ public abstract class Parent extends Node {
      */
     public void requestLayout() {
         clearSizeCache();
+        if (!forceParentLayout && isInBatch()) {
+            setLayoutFlag(LayoutFlags.NEEDS_LAYOUT);
+            batchRequestLayout = true;
+            deferUntilBatchEnd();
+            return;
+        }
         markDirtyLayout(false, forceParentLayout);
     }
 
@@ -1016,6 +1202,71 @@ public abstract class Parent extends Node {
         prefHeightCache = -1;
         minWidthCache = -1;
         minHeightCache = -1;
+        passSizeCachePass = 0;
+    }
+
+    /*
+     * Size hints computed for a specific constraint (that is, other than -1)
+     * are memoized for the duration of a single layout pass, keyed by the
+     * constraint. Layouts such as a wrapping FlowPane or a HBox of
+     * horizontally biased children query the same constraint several times
+     * per pass, which would otherwise recompute the whole subtree each time.
+     * The cache holds one (constraint, value) pair per kind of size hint and
+     * is dropped whenever the size cache above is cleared.
+     */
+    private static final int PASS_PREF_WIDTH = 0;
+    private static final int PASS_PREF_HEIGHT = 2;
+    private static final int PASS_MIN_WIDTH = 4;
+    private static final int PASS_MIN_HEIGHT = 6;
+
+    private static int layoutPassCount = 0;
+    private static int currentLayoutPass = 0;
+
+    private double[] passSizeCache;
+    private int passSizeCachePass = 0;
+
+    /*
+     * Called by the Scene around each layout pass. Returns the identifier of
+     * the enclosing layout pass, if any, to be given back to endLayoutPass.
+     */
+    static int beginLayoutPass() {
+        final int enclosing = currentLayoutPass;
+        if (++layoutPassCount == 0) {
+            // 0 means "no layout pass in progress"
+            layoutPassCount = 1;
+        }
+        currentLayoutPass = layoutPassCount;
+        boundaryBaselineMoved = false;
+        return enclosing;
+    }
+
+    static void endLayoutPass(int enclosing) {
+        currentLayoutPass = enclosing;
+    }
+
+    private double getPassSizeCache(int index, double constraint) {
+        if (currentLayoutPass != 0 && passSizeCachePass == currentLayoutPass
+                && passSizeCache[index] == constraint) {
+            return passSizeCache[index + 1];
+        }
+        return -1;
+    }
+
+    private double setPassSizeCache(int index, double constraint, double result) {
+        result = Double.isNaN(result) || result < 0 ? 0 : result;
+        if (currentLayoutPass != 0) {
+            if (passSizeCache == null) {
+                passSizeCache = new double[8];
+            }
+            if (passSizeCachePass != currentLayoutPass) {
+                Arrays.fill(passSizeCache, Double.NaN);
+                passSizeCachePass = currentLayoutPass;
+            }
+            passSizeCache[index] = constraint;
+            passSizeCache[index + 1] = result;
+            sizeCacheClear = false;
+        }
+        return result;
     }
 
     @Override public double prefWidth(double height) {
@@ -1027,8 +1278,9 @@ public abstract class Parent extends Node {
             }
             return prefWidthCache;
         } else {
-            double result = computePrefWidth(height);
-            return Double.isNaN(result) || result < 0 ? 0 : result;
+            final double result = getPassSizeCache(PASS_PREF_WIDTH, height);
+            return result != -1 ? result
+                    : setPassSizeCache(PASS_PREF_WIDTH, height, computePrefWidth(height));
         }
     }
 
@@ -1041,8 +1293,9 @@ public abstract class Parent extends Node {
             }
             return prefHeightCache;
         } else {
-            double result = computePrefHeight(width);
-            return Double.isNaN(result) || result < 0 ? 0 : result;
+            final double result = getPassSizeCache(PASS_PREF_HEIGHT, width);
+            return result != -1 ? result
+                    : setPassSizeCache(PASS_PREF_HEIGHT, width, computePrefHeight(width));
         }
     }
 
@@ -1055,8 +1308,9 @@ public abstract class Parent extends Node {
             }
             return minWidthCache;
         } else {
-            double result = computeMinWidth(height);
-            return Double.isNaN(result) || result < 0 ? 0 : result;
+            final double result = getPassSizeCache(PASS_MIN_WIDTH, height);
+            return result != -1 ? result
+                    : setPassSizeCache(PASS_MIN_WIDTH, height, computeMinWidth(height));
         }
     }
 
@@ -1069,8 +1323,9 @@ public abstract class Parent extends Node {
             }
             return minHeightCache;
         } else {
-            double result = computeMinHeight(width);
-            return Double.isNaN(result) || result < 0 ? 0 : result;
+            final double result = getPassSizeCache(PASS_MIN_HEIGHT, width);
+            return result != -1 ? result
+                    : setPassSizeCache(PASS_MIN_HEIGHT, width, computeMinHeight(width));
         }
     }
 
@@ -1209,6 +1464,7 @@ public abstract class Parent extends Node {
                 }
                 performingLayout = true;
                 layoutChildren();
+                updateBoundaryBaseline();
                 // Intended fall-through
             case DIRTY_BRANCH:
                 for (int i = 0, max = children.size(); i < max; i++) {
@@ -1369,6 +1625,10 @@ public abstract class Parent extends Node {
             return;
         }
 
+        // If only this node's styles are out of date, then the children
+        // are processed only if they are themselves not clean.
+        final boolean updateChildren = cssFlag != CssFlags.UPDATE_SELF;
+
         // Let the super implementation handle CSS for this node
         ParentHelper.superProcessCSS(this);
 
@@ -1398,7 +1658,7 @@ public abstract class Parent extends Node {
             // If the parent styles are being updated, recalculated or
             // reapplied, then make sure the children get the same treatment.
             // Unless the child is already more dirty than this parent (RT-29074).
-            if(CssFlags.UPDATE.compareTo(child.cssFlag) > 0) {
+            if(updateChildren && CssFlags.UPDATE.compareTo(child.cssFlag) > 0) {
                 child.cssFlag = CssFlags.UPDATE;
             }
             NodeHelper.processCSS(child);
@@ -1484,6 +1744,15 @@ public abstract class Parent extends Node {
      */
     private ArrayList<Node> dirtyChildren;
 
+    /**
+     * The bounds of the visible children, indexed by Node.boundsSlot. It is
+     * only used when the number of children is > BOUNDS_TREE_THRESHOLD, in
+     * which case it replaces the edge nodes below. With it, updating the
+     * bounds after k children have changed is O(k log n) regardless of
+     * whether the changed children were on an edge of the group.
+     */
+    private BoundsUnionTree boundsTree;
+
     private Node top;
     private Node left;
     private Node bottom;
@@ -1619,6 +1888,11 @@ public abstract class Parent extends Node {
             far = null;
             cachedBoundsInvalid = true;
         }
+        if (node.boundsSlot != -1) {
+            boundsTree.free(node.boundsSlot);
+            node.boundsSlot = -1;
+            cachedBoundsInvalid = true;
+        }
 
         setChildDirty(node, false);
     }
@@ -1627,6 +1901,15 @@ public abstract class Parent extends Node {
      * Recomputes the bounds from scratch and saves the cached bounds.
      */
     private void recomputeBounds() {
+        if (boundsTree != null && children.size() <= BOUNDS_TREE_THRESHOLD / 2) {
+            disposeBoundsTree();
+            if (children.size() > 1) {
+                // the edge nodes are unknown at this point
+                createCachedBounds(children);
+                return;
+            }
+        }
+
         // fast path for case of no children
         if (children.isEmpty()) {
             cachedBounds.makeEmpty();
@@ -1648,6 +1931,11 @@ public abstract class Parent extends Node {
             return;
         }
 
+        if (boundsTree != null || children.size() > BOUNDS_TREE_THRESHOLD) {
+            updateBoundsTree();
+            return;
+        }
+
         if ((dirtyChildrenCount == 0) ||
                 !updateCachedBounds(dirtyChildren != null
                                         ? dirtyChildren : children,
@@ -1657,6 +1945,55 @@ public abstract class Parent extends Node {
         }
     }
 
+    private void updateBoundsTree() {
+        if (boundsTree == null) {
+            boundsTree = new BoundsUnionTree(children.size());
+            for (int i = 0, max = children.size(); i < max; i++) {
+                final Node node = children.get(i);
+                node.boundsChanged = false;
+                if (node.isVisible()) {
+                    updateBoundsSlot(node);
+                }
+            }
+        } else {
+            final List<Node> dirtyNodes =
+                    dirtyChildren != null ? dirtyChildren : children;
+            int remainingDirtyNodes = dirtyChildrenCount;
+            for (int i = dirtyNodes.size() - 1; remainingDirtyNodes > 0; --i) {
+                final Node node = dirtyNodes.get(i);
+                if (node.boundsChanged) {
+                    node.boundsChanged = false;
+                    --remainingDirtyNodes;
+                    if (node.isVisible()) {
+                        updateBoundsSlot(node);
+                    } else if (node.boundsSlot != -1) {
+                        boundsTree.free(node.boundsSlot);
+                        node.boundsSlot = -1;
+                    }
+                }
+            }
+        }
+
+        // the edge nodes are not maintained while the tree is in use
+        left = top = near = right = bottom = far = null;
+        cachedBounds = boundsTree.getUnion(cachedBounds);
+    }
+
+    private void updateBoundsSlot(final Node node) {
+        if (node.boundsSlot == -1) {
+            node.boundsSlot = boundsTree.allocate();
+        }
+        tmp = getChildTransformedBounds(node, BaseTransform.IDENTITY_TRANSFORM, tmp);
+        boundsTree.set(node.boundsSlot, tmp);
+    }
+
+    private void disposeBoundsTree() {
+        for (int i = 0, max = children.size(); i < max; i++) {
+            children.get(i).boundsSlot = -1;
+        }
+        boundsTree = null;
+    }
+
     private final int LEFT_INVALID = 1;
     private final int TOP_INVALID = 1 << 1;
     private final int NEAR_INVALID = 1 << 2;
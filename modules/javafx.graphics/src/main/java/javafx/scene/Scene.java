@@ -91,6 +91,7 @@ import java.util.*;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import com.sun.javafx.logging.PulseLogger;
+import com.sun.javafx.logging.PulseStats;
 
 import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
 import com.sun.javafx.scene.NodeHelper;
@@ -584,10 +585,71 @@ public class Scene implements EventTarget {
         }
     }
 
+    private int batchDepth = 0;
+    private List<Parent> batchedParents;
+
+    /**
+     * Runs the given modifications of this scene's graph as a single batch.
+     * This is the scene wide equivalent of {@link Parent#runBatch(Runnable)}:
+     * while the batch is running, layout requests, bounds invalidations
+     * caused by changes to children lists and CSS reapplication of added
+     * nodes are deferred for every parent of this scene, and they are
+     * delivered once, merged per parent, when the batch ends.
+     * <p>
+     * This method must be called on the JavaFX Application Thread if this
+     * scene is attached to a showing window.
+     *
+     * @param changes the modifications to perform, must not be null
+     * @throws NullPointerException if {@code changes} is null
+     * @since 10
+     */
+    public final void runBatch(Runnable changes) {
+        if (changes == null) {
+            throw new NullPointerException("changes cannot be null");
+        }
+        batchDepth++;
+        try {
+            changes.run();
+        } finally {
+            if (--batchDepth == 0 && batchedParents != null) {
+                final List<Parent> parents = batchedParents;
+                batchedParents = null;
+                for (int i = 0, max = parents.size(); i < max; i++) {
+                    parents.get(i).endBatch();
+                }
+            }
+        }
+    }
+
+    final boolean isInBatch() {
+        return batchDepth > 0;
+    }
+
+    final void addBatchedParent(Parent parent) {
+        if (batchedParents == null) {
+            batchedParents = new ArrayList<>();
+        }
+        batchedParents.add(parent);
+    }
+
     void doLayoutPass() {
         final Parent r = getRoot();
         if (r != null) {
-            r.layout();
+            final boolean logLayout = PULSE_LOGGING_ENABLED && r.layoutFlag != LayoutFlags.CLEAN;
+            final long start = logLayout ? System.nanoTime() : 0;
+            final int enclosingPass = Parent.beginLayoutPass();
+            try {
+                r.layout();
+                if (Parent.isBoundaryBaselineMoved()) {
+                    r.layout();
+                }
+            } finally {
+                Parent.endLayoutPass(enclosingPass);
+            }
+            if (logLayout) {
+                PulseLogger.addMessage("Layout of " + r + " took "
+                        + (System.nanoTime() - start) / 1000 + " us");
+            }
         }
     }
 
@@ -2378,12 +2440,18 @@ public class Scene implements EventTarget {
             // scene and then create the dirty nodes array list
             if (Scene.this.dirtyNodes == null) {
                 // must do this recursively
-                syncAll(getRoot());
+                int synced = syncAll(getRoot());
+                if (PULSE_LOGGING_ENABLED) {
+                    PulseLogger.incrementCounter(PulseStats.NODES_SYNCHRONIZED, synced);
+                }
                 dirtyNodes = new Node[MIN_DIRTY_CAPACITY];
 
             } else {
                 // This is not the first time this scene has been synchronized,
                 // so we will only synchronize those nodes that need it
+                if (PULSE_LOGGING_ENABLED) {
+                    PulseLogger.incrementCounter(PulseStats.NODES_SYNCHRONIZED, dirtyNodesSize);
+                }
                 for (int i = 0 ; i < dirtyNodesSize; ++i) {
                     Node node = dirtyNodes[i];
                     dirtyNodes[i] = null;
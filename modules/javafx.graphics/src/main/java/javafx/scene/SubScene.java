@@ -633,7 +633,8 @@ public class SubScene extends Node {
         // Nothing to do...
         if (cssFlag == CssFlags.CLEAN) { return; }
 
-        if (getRoot().cssFlag == CssFlags.CLEAN) {
+        // the root does not need updating if only the sub-scene's own styles changed
+        if (getRoot().cssFlag == CssFlags.CLEAN && cssFlag != CssFlags.UPDATE_SELF) {
             getRoot().cssFlag = cssFlag;
         }
         SubSceneHelper.superProcessCSS(this);
@@ -185,6 +185,11 @@ public class Region extends Parent {
                     PickResultChooser result) {
                 ((Region) node).doPickNodeLocal(localPickRay, result);
             }
+
+            @Override
+            public boolean doIsLayoutBoundary(Node node) {
+                return ((Region) node).isLayoutBoundary();
+            }
         });
     }
 
@@ -1495,6 +1500,23 @@ public class Region extends Parent {
         }
     }
 
+    /*
+     * A region whose min, pref and max sizes are all fixed by the application
+     * reports the same size hints regardless of its content. A layout request
+     * coming from its subtree then only needs to lay out this region again and
+     * does not have to be propagated to its ancestors.
+     */
+    private boolean isLayoutBoundary() {
+        return isFixedSize(getMinWidth(), getPrefWidth(), getMaxWidth()) &&
+               isFixedSize(getMinHeight(), getPrefHeight(), getMaxHeight());
+    }
+
+    private static boolean isFixedSize(double min, double pref, double max) {
+        return pref >= 0 &&
+               (min == USE_PREF_SIZE || min == pref) &&
+               (max == USE_PREF_SIZE || max == pref);
+    }
+
     /**
      * Called during layout to determine the minimum width for this node.
      * Returns the value from <code>computeMinWidth(forHeight)</code> unless
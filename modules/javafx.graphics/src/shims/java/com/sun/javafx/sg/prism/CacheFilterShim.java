@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -28,6 +28,7 @@ package com.sun.javafx.sg.prism;
 import com.sun.javafx.geom.BaseBounds;
 import com.sun.javafx.geom.transform.BaseTransform;
 import com.sun.javafx.geom.transform.GeneralTransform3D;
+import com.sun.scenario.effect.ImageData;
 import javafx.scene.CacheHint;
 
 public class CacheFilterShim {
@@ -40,6 +41,24 @@ public class CacheFilterShim {
         return cf.isRotateHint();
     }
 
+    public static final boolean isLayerHint(CacheFilter cf) {
+        return cf.isLayerHint();
+    }
+
+    public static boolean isCached(CacheFilter cf) {
+        return cf.isCached();
+    }
+
+    public static void setCachedImage(CacheFilter cf, ImageData imageData,
+                                      double scaleX, double scaleY) {
+        cf.setCachedImage(imageData, scaleX, scaleY);
+    }
+
+    public static boolean needToRenderCache(CacheFilter cf, BaseTransform renderXform,
+                                            float pixelScaleX, float pixelScaleY) {
+        return cf.needToRenderCache(renderXform, pixelScaleX, pixelScaleY);
+    }
+
     public static BaseBounds computeDirtyBounds(
             CacheFilter cf,
             BaseBounds region, BaseTransform tx, GeneralTransform3D pvTx) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,6 +25,7 @@
 
 package javafx.scene;
 
+import com.sun.javafx.scene.CssFlags;
 import com.sun.javafx.scene.DirtyBits;
 import javafx.scene.transform.Transform;
 
@@ -50,6 +51,10 @@ public class NodeShim {
         return n.hasMirroring();
     }
 
+    public static CssFlags getCSSFlags(Node n) {
+        return n.getCSSFlags();
+    }
+
     public static void clearDirty(Node n, DirtyBits dirtyBit) {
         n.clearDirty(dirtyBit);
     }
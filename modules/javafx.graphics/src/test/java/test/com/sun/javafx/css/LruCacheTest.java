@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.css;
+
+import com.sun.javafx.css.CacheStats;
+import com.sun.javafx.css.LruCache;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class LruCacheTest {
+
+    private CacheStats stats;
+    private LruCache<String,Integer> cache;
+
+    @Before
+    public void setUp() {
+        stats = new CacheStats("test");
+        cache = new LruCache<>(3, stats);
+    }
+
+    @Test
+    public void testHitsAndMisses() {
+        assertNull(cache.get("a"));
+        cache.put("a", 1);
+        assertEquals(Integer.valueOf(1), cache.get("a"));
+        assertEquals(Integer.valueOf(1), cache.get("a"));
+        assertEquals(2, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(0, stats.getEvictionCount());
+    }
+
+    @Test
+    public void testNullValueIsAHit() {
+        cache.put("a", null);
+        assertNull(cache.get("a"));
+        assertTrue(cache.containsKey("a"));
+        assertEquals(1, stats.getHitCount());
+        assertEquals(0, stats.getMissCount());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        // "a" is now more recently used than "b"
+        cache.get("a");
+        cache.put("d", 4);
+        assertEquals(3, cache.size());
+        assertFalse(cache.containsKey("b"));
+        assertTrue(cache.containsKey("a"));
+        assertTrue(cache.containsKey("c"));
+        assertTrue(cache.containsKey("d"));
+        assertEquals(1, stats.getEvictionCount());
+    }
+
+    @Test
+    public void testSizeIsBounded() {
+        for (int n = 0; n < 1000; n++) {
+            cache.put("key" + n, n);
+        }
+        assertEquals(3, cache.size());
+        assertEquals(997, stats.getEvictionCount());
+    }
+
+    @Test
+    public void testStatsAreShared() {
+        LruCache<String,Integer> other = new LruCache<>(3, stats);
+        cache.get("a");
+        other.get("a");
+        assertEquals(2, stats.getMissCount());
+        stats.reset();
+        assertEquals(0, stats.getMissCount());
+    }
+
+    @Test
+    public void testClear() {
+        cache.put("a", 1);
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNull(cache.get("a"));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void testMaxSizeMustBePositive() {
+        new LruCache<String,Integer>(0, stats);
+    }
+
+    @Test
+    public void testGetMaxSize() {
+        assertEquals(42, LruCache.getMaxSize("test.com.sun.javafx.css.LruCacheTest.unset", 42));
+        System.setProperty("test.com.sun.javafx.css.LruCacheTest.size", "7");
+        try {
+            assertEquals(7, LruCache.getMaxSize("test.com.sun.javafx.css.LruCacheTest.size", 42));
+        } finally {
+            System.clearProperty("test.com.sun.javafx.css.LruCacheTest.size");
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.css;
+
+import com.sun.javafx.css.SelectorMatcherShim;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import javafx.css.CssParser;
+import javafx.css.PseudoClass;
+import javafx.css.Rule;
+import javafx.css.Selector;
+import javafx.css.Stylesheet;
+import javafx.geometry.NodeOrientation;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.shape.Rectangle;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SelectorMatcherTest {
+
+    private static final String STYLESHEET =
+            "* { -fx-fill: red; }\n" +
+            ".rect { -fx-fill: red; }\n" +
+            "Rectangle { -fx-fill: red; }\n" +
+            "Rectangle.rect.big { -fx-fill: red; }\n" +
+            "#r1 { -fx-fill: red; }\n" +
+            "Rectangle#r1:hover { -fx-fill: red; }\n" +
+            ".rect:focused:pressed { -fx-fill: red; }\n" +
+            ".outer .rect { -fx-fill: red; }\n" +
+            ".outer > .rect { -fx-fill: red; }\n" +
+            ".inner > .rect { -fx-fill: red; }\n" +
+            ".outer:hover > .inner .rect:armed { -fx-fill: red; }\n" +
+            ".outer:disabled .outer .rect { -fx-fill: red; }\n" +
+            "Group > Group > Rectangle { -fx-fill: red; }\n" +
+            "#g1 .big:dir(rtl) { -fx-fill: red; }\n" +
+            ".rect:dir(ltr) { -fx-fill: red; }\n" +
+            ".missing .rect { -fx-fill: red; }\n";
+
+    private List<Selector> selectors;
+    private List<Node> nodes;
+
+    @Before
+    public void setup() {
+        Stylesheet stylesheet = new CssParser().parse(STYLESHEET);
+        selectors = new ArrayList<>();
+        for (Rule rule : stylesheet.getRules()) {
+            selectors.addAll(rule.getSelectors());
+        }
+
+        Rectangle r1 = new Rectangle();
+        r1.setId("r1");
+        r1.getStyleClass().addAll("rect", "big");
+        Rectangle r2 = new Rectangle();
+        r2.getStyleClass().addAll("rect");
+        r2.setNodeOrientation(NodeOrientation.RIGHT_TO_LEFT);
+        Rectangle r3 = new Rectangle();
+        r3.getStyleClass().addAll("big", "rect");
+        Group inner = new Group(r1, r2);
+        inner.getStyleClass().add("inner");
+        Group middle = new Group(inner);
+        middle.getStyleClass().add("outer");
+        Group outer = new Group(middle, r3);
+        outer.setId("g1");
+        outer.getStyleClass().add("outer");
+
+        nodes = Arrays.asList(r1, r2, r3, inner, middle, outer);
+    }
+
+    private static Set<PseudoClass>[] newTriggerStates(Node node) {
+        int depth = 0;
+        for (Node n = node; n != null; n = n.getParent()) {
+            depth++;
+        }
+        return new Set[depth];
+    }
+
+    @Test
+    public void testMatchesLikeSelectorApplies() {
+        SelectorMatcherShim matcher = new SelectorMatcherShim(selectors);
+        int matches = 0;
+        for (Node node : nodes) {
+            Set<PseudoClass>[] expectedStates = newTriggerStates(node);
+            long[] expected = new long[selectors.size() / Long.SIZE + 1];
+            for (int s = 0; s < selectors.size(); s++) {
+                if (selectors.get(s).applies(node, expectedStates, 0)) {
+                    expected[s / Long.SIZE] |= 1L << s;
+                }
+            }
+
+            Set<PseudoClass>[] states = newTriggerStates(node);
+            long[] actual = matcher.match(node, states);
+
+            assertArrayEquals(node.toString(), expected, actual);
+            matches += Long.bitCount(actual[0]);
+            for (int n = 0; n < states.length; n++) {
+                assertEquals(node + " at depth " + n, expectedStates[n], states[n]);
+            }
+        }
+        // make sure the selectors actually match something
+        assertTrue(matches > 20);
+    }
+
+    @Test
+    public void testMatchingIsRepeatable() {
+        SelectorMatcherShim matcher = new SelectorMatcherShim(selectors);
+        Node node = nodes.get(0);
+        long[] first = matcher.match(node, newTriggerStates(node));
+        matcher.match(nodes.get(2), newTriggerStates(nodes.get(2)));
+        long[] second = matcher.match(node, newTriggerStates(node));
+        assertArrayEquals(first, second);
+    }
+
+    @Test
+    public void testMatchingWithoutTriggerStates() {
+        SelectorMatcherShim matcher = new SelectorMatcherShim(selectors);
+        for (Node node : nodes) {
+            long[] expected = new long[selectors.size() / Long.SIZE + 1];
+            for (int s = 0; s < selectors.size(); s++) {
+                if (selectors.get(s).applies(node)) {
+                    expected[s / Long.SIZE] |= 1L << s;
+                }
+            }
+            assertArrayEquals(node.toString(), expected, matcher.match(node, null));
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -30,6 +30,8 @@ import com.sun.javafx.css.StyleManager;
 import com.sun.javafx.css.StyleManagerShim;
 import com.sun.javafx.css.StyleMap;
 import javafx.css.CssParser;
+import javafx.css.ParsedValue;
+import javafx.css.StyleConverter;
 import javafx.css.StyleOrigin;
 import javafx.css.StyleableProperty;
 import javafx.css.Stylesheet;
@@ -401,6 +403,33 @@ public class StyleManagerTest {
 
     }
 
+    private static class CachingConverter extends StyleConverter<String, String> {
+        Object getCached(ParsedValue<String, String> key) {
+            return getCachedValue(key);
+        }
+
+        void cache(ParsedValue<String, String> key, String value) {
+            cacheValue(key, value);
+        }
+    }
+
+    @Test
+    public void testRemovingStylesheetClearsConverterCache() {
+
+        final Parent parent = new Pane(new Rectangle(){{ getStyleClass().add("rect"); }});
+        parent.getStylesheets().add("/test/com/sun/javafx/css/ua1.css");
+        Scene scene = new Scene(new Group(parent));
+        scene.getRoot().applyCss();
+
+        CachingConverter converter = new CachingConverter();
+        ParsedValue<String, String> key = new ParsedValue<String, String>("value", null) { };
+        converter.cache(key, "converted");
+        assertEquals("converted", converter.getCached(key));
+
+        StyleManagerShim.getInstance().forget(parent);
+        assertNull(converter.getCached(key));
+    }
+
     @Test
     public void testForgetParent_withMultipleParentStylesheets() {
 
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.css;
+
+import com.sun.javafx.css.ParsedValueImpl;
+import com.sun.javafx.css.StyleManager;
+import com.sun.javafx.css.StylesheetBundle;
+import com.sun.javafx.css.StylesheetBundleShim;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javafx.css.CssParser;
+import javafx.css.Declaration;
+import javafx.css.ParsedValue;
+import javafx.css.Rule;
+import javafx.css.Stylesheet;
+import javafx.scene.text.Font;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class StylesheetBundleTest {
+
+    private static final String THEME_CSS =
+        ".root { -fx-base: #d0d0d0; -fx-font-size: 1.2em; }\n" +
+        ".button {\n" +
+        "    -fx-background-color: red, linear-gradient(to bottom, white, -fx-base), radial-gradient(radius 100%, white, black);\n" +
+        "    -fx-background-insets: 0, 1 2 3 4;\n" +
+        "    -fx-background-radius: 3, 2 4 2 4;\n" +
+        "    -fx-padding: 0.5em 1em;\n" +
+        "    -fx-text-fill: -fx-base;\n" +
+        "    -fx-background-image: url(\"images/duke.png\");\n" +
+        "}\n" +
+        ".check-box { -fx-opacity: 0.5; -fx-label-padding: 2 4 2 4; }\n";
+
+    private static final String CONTROLS_CSS =
+        ".label { -fx-text-fill: blue; -fx-padding: 1 2 3 4; }\n";
+
+    private File dir;
+    private File bundleFile;
+    private Map<String,URL> sources;
+
+    private File write(String name, String css) throws IOException {
+        final File file = new File(dir, name);
+        file.getParentFile().mkdirs();
+        try (Writer writer = new FileWriter(file)) {
+            writer.write(css);
+        }
+        return file;
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        dir = File.createTempFile("bundle", "");
+        dir.delete();
+        dir.mkdirs();
+        sources = new LinkedHashMap<>();
+        sources.put("app/theme.css", write("app/theme.css", THEME_CSS).toURI().toURL());
+        sources.put("app/controls/controls.css", write("app/controls/controls.css", CONTROLS_CSS).toURI().toURL());
+        bundleFile = new File(dir, "app.bundle");
+        StylesheetBundle.write(sources, bundleFile);
+    }
+
+    @After
+    public void tearDown() {
+        delete(dir);
+    }
+
+    private static void delete(File file) {
+        final File[] files = file.listFiles();
+        if (files != null) {
+            for (File f : files) delete(f);
+        }
+        file.delete();
+    }
+
+    @Test
+    public void testNames() throws IOException {
+        StylesheetBundle bundle = StylesheetBundle.load(bundleFile.toURI().toURL());
+        assertEquals(Arrays.asList("app/theme", "app/controls/controls"), bundle.getNames());
+    }
+
+    @Test
+    public void testIndexOf() throws IOException {
+        StylesheetBundle bundle = StylesheetBundle.load(bundleFile.toURI().toURL());
+        assertEquals(0, StylesheetBundleShim.indexOf(bundle, "app/theme.css"));
+        assertEquals(0, StylesheetBundleShim.indexOf(bundle, "file:/deploy/app/theme.css"));
+        assertEquals(0, StylesheetBundleShim.indexOf(bundle, "jar:file:/deploy/app.jar!app/theme.bss"));
+        assertEquals(1, StylesheetBundleShim.indexOf(bundle, "file:/deploy/app/controls/controls.css"));
+        assertEquals(-1, StylesheetBundleShim.indexOf(bundle, "file:/deploy/app/mytheme.css"));
+        assertEquals(-1, StylesheetBundleShim.indexOf(bundle, "file:/deploy/theme.css"));
+        assertEquals(-1, StylesheetBundleShim.indexOf(bundle, null));
+    }
+
+    @Test
+    public void testStylesheetsMatchParsedStylesheets() throws IOException {
+        StylesheetBundle bundle = StylesheetBundle.load(bundleFile.toURI().toURL());
+        for (Map.Entry<String,URL> entry : sources.entrySet()) {
+            final Stylesheet expected = new CssParser().parse(entry.getValue());
+            final Stylesheet actual = bundle.getStylesheet("file:/deploy/" + entry.getKey());
+            assertNotNull(actual);
+            assertEquals("file:/deploy/" + entry.getKey(), actual.getUrl());
+            assertEquals(expected.getRules().size(), actual.getRules().size());
+            for (int r = 0; r < expected.getRules().size(); r++) {
+                final Rule expectedRule = expected.getRules().get(r);
+                final Rule actualRule = actual.getRules().get(r);
+                assertEquals(expectedRule.getSelectors(), actualRule.getSelectors());
+                final List<Declaration> expectedDecls = expectedRule.getDeclarations();
+                final List<Declaration> actualDecls = actualRule.getDeclarations();
+                assertEquals(expectedDecls.size(), actualDecls.size());
+                for (int d = 0; d < expectedDecls.size(); d++) {
+                    final Declaration expectedDecl = expectedDecls.get(d);
+                    final Declaration actualDecl = actualDecls.get(d);
+                    assertEquals(expectedDecl.getProperty(), actualDecl.getProperty());
+                    // URLs are resolved against the stylesheet URL, which differs
+                    if ("-fx-background-image".equals(expectedDecl.getProperty())) continue;
+                    assertEquals(expectedDecl, actualDecl);
+                }
+            }
+        }
+    }
+
+    private static ParsedValue getValue(Stylesheet stylesheet, String property) {
+        for (Rule rule : stylesheet.getRules()) {
+            for (Declaration declaration : rule.getDeclarations()) {
+                if (property.equals(declaration.getProperty())) {
+                    return declaration.getParsedValue();
+                }
+            }
+        }
+        fail(property);
+        return null;
+    }
+
+    @Test
+    public void testPreConvertedValues() throws IOException {
+        StylesheetBundle bundle = StylesheetBundle.load(bundleFile.toURI().toURL());
+        final Stylesheet expected = new CssParser().parse(sources.get("app/theme.css"));
+        final Stylesheet actual = bundle.getStylesheet("app/theme.css");
+
+        final List<String> preConverted = Arrays.asList(
+                "-fx-background-insets", "-fx-background-radius", "-fx-opacity", "-fx-label-padding");
+        for (String property : preConverted) {
+            final ParsedValueImpl value = (ParsedValueImpl)getValue(actual, property);
+            assertTrue(property, value.isPreConverted());
+            final Object expectedValue = getValue(expected, property).convert(Font.getDefault());
+            final Object actualValue = value.convert(Font.getDefault());
+            if (expectedValue instanceof Object[]) {
+                assertArrayEquals(property, (Object[])expectedValue, (Object[])actualValue);
+                assertNotSame(actualValue, value.convert(Font.getDefault()));
+            } else {
+                assertEquals(property, expectedValue, actualValue);
+            }
+        }
+
+        // lookups, font relative sizes and URLs are converted when they are used
+        final List<String> notPreConverted = Arrays.asList(
+                "-fx-background-color", "-fx-font-size", "-fx-padding", "-fx-text-fill", "-fx-background-image");
+        for (String property : notPreConverted) {
+            final ParsedValueImpl value = (ParsedValueImpl)getValue(actual, property);
+            assertFalse(property, value.isPreConverted());
+        }
+
+        final Stylesheet controls = bundle.getStylesheet("app/controls/controls.css");
+        assertTrue(((ParsedValueImpl)getValue(controls, "-fx-padding")).isPreConverted());
+    }
+
+    @Test
+    public void testStyleManagerLoadsFromBundle() throws IOException {
+        StylesheetBundle bundle = StylesheetBundle.load(bundleFile.toURI().toURL());
+        StyleManager.addStylesheetBundle(bundle);
+        try {
+            // there is no such file, the stylesheet comes from the bundle
+            final Stylesheet stylesheet = StyleManager.loadStylesheet("file:/no/such/dir/app/controls/controls.css");
+            assertNotNull(stylesheet);
+            assertEquals(1, stylesheet.getRules().size());
+        } finally {
+            StyleManager.removeStylesheetBundle(bundle);
+        }
+    }
+
+    @Test(expected=IOException.class)
+    public void testNotABundle() throws IOException {
+        StylesheetBundle.load(sources.get("app/theme.css"));
+    }
+}
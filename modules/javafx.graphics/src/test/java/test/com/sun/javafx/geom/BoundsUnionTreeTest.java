@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.geom;
+
+import com.sun.javafx.geom.BaseBounds;
+import com.sun.javafx.geom.BoundsUnionTree;
+import com.sun.javafx.geom.BoxBounds;
+import com.sun.javafx.geom.RectBounds;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class BoundsUnionTreeTest {
+
+    public @Test
+    void testEmpty() {
+        BoundsUnionTree tree = new BoundsUnionTree(0);
+        assertTrue(tree.isEmpty());
+        assertTrue(tree.getUnion(new RectBounds(0, 0, 10, 10)).isEmpty());
+
+        int slot = tree.allocate();
+        assertTrue(tree.isEmpty());
+        tree.set(slot, new RectBounds());
+        assertTrue(tree.isEmpty());
+    }
+
+    public @Test
+    void testUnionFollowsUpdates() {
+        BoundsUnionTree tree = new BoundsUnionTree(4);
+        int a = tree.allocate();
+        int b = tree.allocate();
+        tree.set(a, new RectBounds(0, 0, 10, 10));
+        tree.set(b, new RectBounds(20, 5, 30, 15));
+        assertEquals(new RectBounds(0, 0, 30, 15), tree.getUnion(new RectBounds()));
+
+        // moving the edge inwards shrinks the union
+        tree.set(b, new RectBounds(2, 2, 8, 8));
+        assertEquals(new RectBounds(0, 0, 10, 10), tree.getUnion(new RectBounds()));
+
+        tree.free(a);
+        assertEquals(new RectBounds(2, 2, 8, 8), tree.getUnion(new RectBounds()));
+
+        // freed slots are reused
+        assertEquals(a, tree.allocate());
+    }
+
+    public @Test
+    void testGrowKeepsContents() {
+        BoundsUnionTree tree = new BoundsUnionTree(0);
+        for (int i = 0; i < 1000; i++) {
+            tree.set(tree.allocate(), new RectBounds(i, -i, i + 1, -i + 1));
+        }
+        assertEquals(new RectBounds(0, -999, 1000, 1), tree.getUnion(new RectBounds()));
+        tree.free(999);
+        tree.free(0);
+        assertEquals(new RectBounds(1, -998, 999, 0), tree.getUnion(new RectBounds()));
+    }
+
+    public @Test
+    void testUnion3D() {
+        BoundsUnionTree tree = new BoundsUnionTree(2);
+        tree.set(tree.allocate(), new BoxBounds(0, 0, -5, 10, 10, 0));
+        tree.set(tree.allocate(), new RectBounds(5, 5, 20, 20));
+        BaseBounds union = tree.getUnion(new RectBounds());
+        assertEquals(new BoxBounds(0, 0, -5, 20, 20, 0), union);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,6 +26,8 @@
 package test.com.sun.javafx.sg.prism;
 
 import com.sun.javafx.geom.RectBounds;
+import com.sun.javafx.geom.Rectangle;
+import com.sun.javafx.geom.transform.Affine2D;
 import com.sun.javafx.geom.transform.BaseTransform;
 import com.sun.javafx.geom.transform.GeneralTransform3D;
 import com.sun.javafx.geom.transform.Translate2D;
@@ -33,6 +35,7 @@ import com.sun.javafx.sg.prism.CacheFilter;
 import com.sun.javafx.sg.prism.CacheFilterShim;
 import com.sun.javafx.sg.prism.NGNodeShim;
 import com.sun.javafx.sg.prism.NGRectangle;
+import com.sun.scenario.effect.ImageData;
 import javafx.scene.CacheHint;
 import org.junit.Test;
 
@@ -139,6 +142,32 @@ public class CacheFilterTest {
         assertTrue(CacheFilterShim.isScaleHint(cf));
     }
 
+    @Test public void settingCacheHintToLayerInConstructor() {
+        NGRectangle r = new NGRectangle();
+        CacheFilter cf = CacheFilterShim.getCacheFilter(r, CacheHint.LAYER);
+        assertTrue(CacheFilterShim.isLayerHint(cf));
+        assertFalse(CacheFilterShim.isRotateHint(cf));
+        assertFalse(CacheFilterShim.isScaleHint(cf));
+    }
+
+    @Test public void settingCacheHintToLayer() {
+        NGRectangle r = new NGRectangle();
+        CacheFilter cf = CacheFilterShim.getCacheFilter(r, CacheHint.DEFAULT);
+        cf.setHint(CacheHint.LAYER);
+        assertTrue(CacheFilterShim.isLayerHint(cf));
+        assertFalse(CacheFilterShim.isRotateHint(cf));
+        assertFalse(CacheFilterShim.isScaleHint(cf));
+    }
+
+    @Test public void settingCacheHintFromLayerToSpeed() {
+        NGRectangle r = new NGRectangle();
+        CacheFilter cf = CacheFilterShim.getCacheFilter(r, CacheHint.LAYER);
+        cf.setHint(CacheHint.SPEED);
+        assertFalse(CacheFilterShim.isLayerHint(cf));
+        assertTrue(CacheFilterShim.isRotateHint(cf));
+        assertTrue(CacheFilterShim.isScaleHint(cf));
+    }
+
     @Test public void cacheFilterReturnsCorrectDirtyBounds() {
 
         NGRectangle r = new NGRectangle();
@@ -158,4 +187,58 @@ public class CacheFilterTest {
         CacheFilterShim.computeDirtyBounds(cf, result, BaseTransform.IDENTITY_TRANSFORM, new GeneralTransform3D());
         assertEquals(new RectBounds(0, 0, 111, 131), result);
     }
+
+    /******************************************************************
+     *                                                                *
+     *  Tests to make sure that a layer is only rendered again when   *
+     *  its contents or the pixel scale change.                       *
+     *                                                                *
+     *****************************************************************/
+
+    private static CacheFilter createRenderedLayer(NGRectangle r) {
+        r.setCachedAsBitmap(true, CacheHint.LAYER);
+        CacheFilter cf = r.getCacheFilter();
+        CacheFilterShim.setCachedImage(cf, new ImageData(null, null, new Rectangle(0, 0, 100, 100)), 1, 1);
+        return cf;
+    }
+
+    @Test public void layerIsNotRenderedAgainForAnyTransform() {
+        CacheFilter cf = createRenderedLayer(new NGRectangle());
+        Affine2D xform = new Affine2D();
+        xform.rotate(Math.PI / 5);
+        xform.shear(0.3, 0);
+        xform.scale(0.5, 2);
+        xform.translate(20, 30);
+        assertFalse(CacheFilterShim.needToRenderCache(cf, BaseTransform.IDENTITY_TRANSFORM, 1, 1));
+        assertFalse(CacheFilterShim.needToRenderCache(cf, xform, 1, 1));
+    }
+
+    @Test public void layerIsRenderedAgainForHigherPixelScale() {
+        CacheFilter cf = createRenderedLayer(new NGRectangle());
+        assertFalse(CacheFilterShim.needToRenderCache(cf, BaseTransform.IDENTITY_TRANSFORM, 1, 1));
+        assertTrue(CacheFilterShim.needToRenderCache(cf, BaseTransform.IDENTITY_TRANSFORM, 2, 2));
+    }
+
+    @Test public void transformAndOpacityChangesKeepLayer() {
+        NGRectangle r = new NGRectangle();
+        r.updateRectangle(0, 0, 100, 100, 0, 0);
+        CacheFilter cf = createRenderedLayer(r);
+
+        Affine2D xform = new Affine2D();
+        xform.rotate(Math.PI / 3);
+        r.setTransformMatrix(xform);
+        r.setOpacity(0.5f);
+        assertTrue(CacheFilterShim.isCached(cf));
+        assertFalse(CacheFilterShim.needToRenderCache(cf, xform, 1, 1));
+    }
+
+    @Test public void contentChangeInvalidatesLayer() {
+        NGRectangle r = new NGRectangle();
+        r.updateRectangle(0, 0, 100, 100, 0, 0);
+        CacheFilter cf = createRenderedLayer(r);
+
+        r.updateRectangle(0, 0, 50, 50, 0, 0);
+        assertFalse(CacheFilterShim.isCached(cf));
+        assertTrue(CacheFilterShim.needToRenderCache(cf, BaseTransform.IDENTITY_TRANSFORM, 1, 1));
+    }
 }
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.sg.prism;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.sun.javafx.geom.Rectangle;
+import com.sun.javafx.sg.prism.CacheFilter;
+import com.sun.javafx.sg.prism.CacheFilterShim;
+import com.sun.javafx.sg.prism.LayerCacheShim;
+import com.sun.javafx.sg.prism.NGRectangle;
+import com.sun.prism.PixelFormat;
+import com.sun.prism.impl.ManagedResource;
+import com.sun.prism.impl.TextureResourcePool;
+import com.sun.scenario.effect.ImageData;
+import javafx.scene.CacheHint;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class LayerCacheTest {
+
+    private final TestPool pool = new TestPool();
+    private final List<CacheFilter> layers = new ArrayList<>();
+
+    @After public void tearDown() {
+        for (CacheFilter layer : layers) {
+            LayerCacheShim.remove(layer);
+        }
+    }
+
+    private CacheFilter createLayer() {
+        CacheFilter layer = CacheFilterShim.getCacheFilter(new NGRectangle(), CacheHint.LAYER);
+        CacheFilterShim.setCachedImage(layer, new ImageData(null, null, new Rectangle(0, 0, 10, 10)), 1, 1);
+        layers.add(layer);
+        return layer;
+    }
+
+    private CacheFilter allocateLayer(long size, long budget) {
+        CacheFilter layer = createLayer();
+        LayerCacheShim.prepareForAllocation(pool, layer, size, budget);
+        LayerCacheShim.allocated(layer, size);
+        return layer;
+    }
+
+    @Test public void layersWithinBudgetAreKept() {
+        long used = LayerCacheShim.used();
+        CacheFilter a = allocateLayer(100, used + 300);
+        CacheFilter b = allocateLayer(100, used + 300);
+        CacheFilter c = allocateLayer(100, used + 300);
+        assertTrue(LayerCacheShim.contains(a));
+        assertTrue(LayerCacheShim.contains(b));
+        assertTrue(LayerCacheShim.contains(c));
+        assertEquals(used + 300, LayerCacheShim.used());
+    }
+
+    @Test public void leastRecentlyPaintedLayersAreEvictedFirst() {
+        long budget = LayerCacheShim.used() + 300;
+        CacheFilter a = allocateLayer(100, budget);
+        CacheFilter b = allocateLayer(100, budget);
+        CacheFilter c = allocateLayer(100, budget);
+        LayerCacheShim.touch(a);
+
+        CacheFilter d = allocateLayer(100, budget);
+        assertTrue(LayerCacheShim.contains(a));
+        assertFalse(LayerCacheShim.contains(b));
+        assertTrue(LayerCacheShim.contains(c));
+        assertTrue(LayerCacheShim.contains(d));
+
+        // c and then a are the least recently painted
+        CacheFilter e = allocateLayer(200, budget);
+        assertFalse(LayerCacheShim.contains(c));
+        assertFalse(LayerCacheShim.contains(a));
+        assertTrue(LayerCacheShim.contains(d));
+        assertTrue(LayerCacheShim.contains(e));
+        assertEquals(budget, LayerCacheShim.used());
+    }
+
+    @Test public void evictedLayersReleaseTheirImage() {
+        long budget = LayerCacheShim.used() + 100;
+        CacheFilter a = allocateLayer(100, budget);
+        assertTrue(CacheFilterShim.isCached(a));
+        allocateLayer(100, budget);
+        assertFalse(LayerCacheShim.contains(a));
+        assertFalse(CacheFilterShim.isCached(a));
+    }
+
+    @Test public void layersAreEvictedWhenThePoolIsFull() {
+        long budget = Long.MAX_VALUE;
+        CacheFilter a = allocateLayer(100, budget);
+        CacheFilter b = allocateLayer(100, budget);
+        CacheFilter c = allocateLayer(100, budget);
+        pool.used = pool.target - 50;
+        allocateLayer(200, budget);
+        assertFalse(LayerCacheShim.contains(a));
+        assertFalse(LayerCacheShim.contains(b));
+        assertTrue(LayerCacheShim.contains(c));
+    }
+
+    @Test public void evictionStopsWhenReleasedImagesCoverThePoolShortfall() {
+        long budget = Long.MAX_VALUE;
+        CacheFilter a = allocateLayer(100, budget);
+        CacheFilter b = allocateLayer(100, budget);
+        // releasing images back to the pool does not lower its usage
+        pool.used = pool.target;
+        allocateLayer(100, budget);
+        assertFalse(LayerCacheShim.contains(a));
+        assertTrue(LayerCacheShim.contains(b));
+    }
+
+    @Test public void collectedLayersAreForgotten() throws InterruptedException {
+        long used = LayerCacheShim.used();
+        CacheFilter layer = CacheFilterShim.getCacheFilter(new NGRectangle(), CacheHint.LAYER);
+        LayerCacheShim.prepareForAllocation(pool, layer, 100, Long.MAX_VALUE);
+        LayerCacheShim.allocated(layer, 100);
+        assertEquals(used + 100, LayerCacheShim.used());
+
+        WeakReference<CacheFilter> ref = new WeakReference<>(layer);
+        layer = null;
+        // the reference is queued some time after the layer is collected
+        for (int i = 0; i < 10 && (ref.get() != null || LayerCacheShim.used() != used); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(ref.get());
+        assertEquals(used, LayerCacheShim.used());
+    }
+
+    @Test public void reallocatedLayerDoesNotEvictItself() {
+        long budget = LayerCacheShim.used() + 200;
+        CacheFilter a = allocateLayer(100, budget);
+        CacheFilter b = allocateLayer(100, budget);
+        LayerCacheShim.prepareForAllocation(pool, a, 100, budget);
+        LayerCacheShim.allocated(a, 100);
+        assertTrue(LayerCacheShim.contains(a));
+        assertTrue(LayerCacheShim.contains(b));
+        assertEquals(budget, LayerCacheShim.used());
+    }
+
+    private static final class TestPool implements TextureResourcePool<Object> {
+        long used = 0;
+        long target = 1000;
+
+        @Override public long estimateTextureSize(int width, int height, PixelFormat format) {
+            return (long) width * height * 4;
+        }
+        @Override public long estimateRTTextureSize(int width, int height, boolean hasDepth) {
+            return (long) width * height * 4;
+        }
+        @Override public void freeDisposalRequestedAndCheckResources(boolean forgiveStaleLocks) { }
+        @Override public boolean isManagerThread() { return true; }
+        @Override public long used() { return used; }
+        @Override public long managed() { return used; }
+        @Override public long max() { return target; }
+        @Override public long target() { return target; }
+        @Override public long origTarget() { return target; }
+        @Override public void setTarget(long newTarget) { target = newTarget; }
+        @Override public long size(Object resource) { return 0; }
+        @Override public void recordAllocated(long size) { used += size; }
+        @Override public void recordFree(long size) { used -= size; }
+        @Override public void resourceManaged(ManagedResource<Object> resource) { }
+        @Override public void resourceFreed(ManagedResource<Object> resource) { }
+        @Override public boolean prepareForAllocation(long size) { return true; }
+    }
+}
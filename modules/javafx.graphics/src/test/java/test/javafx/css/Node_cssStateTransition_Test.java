@@ -27,6 +27,7 @@ package test.javafx.css;
 
 
 import com.sun.javafx.css.StyleManager;
+import com.sun.javafx.scene.CssFlags;
 
 import java.io.IOException;
 import javafx.css.CssMetaData;
@@ -35,6 +36,7 @@ import javafx.css.PseudoClass;
 import javafx.css.StyleableProperty;
 import javafx.css.Stylesheet;
 import javafx.scene.Group;
+import javafx.scene.NodeShim;
 import javafx.scene.Scene;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
@@ -202,4 +204,151 @@ public class Node_cssStateTransition_Test {
 
     }
 
+    private Stylesheet parse(String name, String css) {
+        try {
+            return new CssParser().parse(name, css);
+        } catch(IOException ioe) {
+            fail();
+            return null;
+        }
+    }
+
+    @Test
+    public void testSelfOnlyPseudoClassChangeDoesNotUpdateChildren() {
+
+        Stylesheet stylesheet = parse(
+            "testSelfOnlyPseudoClassChangeDoesNotUpdateChildren",
+            ".parent:hover { -fx-opacity: 0.5; }" +
+            ".rect { -fx-fill: red; }"
+        );
+
+        Rectangle rect = new Rectangle(50,50);
+        rect.getStyleClass().add("rect");
+
+        Group parent = new Group(rect);
+        parent.getStyleClass().add("parent");
+
+        Group root = new Group(parent);
+        StyleManager.getInstance().setDefaultUserAgentStylesheet(stylesheet);
+
+        Scene scene = new Scene(root);
+        root.applyCss();
+
+        assertEquals(Color.RED, rect.getFill());
+        assertEquals(1.0, parent.getOpacity(), 1e-6);
+
+        parent.pseudoClassStateChanged(PseudoClass.getPseudoClass("hover"), true);
+
+        assertEquals(CssFlags.UPDATE_SELF, NodeShim.getCSSFlags(parent));
+        assertEquals(CssFlags.CLEAN, NodeShim.getCSSFlags(rect));
+
+        root.applyCss();
+
+        assertEquals(0.5, parent.getOpacity(), 1e-6);
+        assertEquals(Color.RED, rect.getFill());
+        assertEquals(CssFlags.CLEAN, NodeShim.getCSSFlags(parent));
+
+        parent.pseudoClassStateChanged(PseudoClass.getPseudoClass("hover"), false);
+        root.applyCss();
+
+        assertEquals(1.0, parent.getOpacity(), 1e-6);
+    }
+
+    @Test
+    public void testPseudoClassInDescendantSelectorUpdatesChildren() {
+
+        Stylesheet stylesheet = parse(
+            "testPseudoClassInDescendantSelectorUpdatesChildren",
+            ".parent:hover { -fx-opacity: 0.5; }" +
+            ".parent:hover .rect { -fx-fill: red; }"
+        );
+
+        Rectangle rect = new Rectangle(50,50);
+        rect.getStyleClass().add("rect");
+        Paint defaultFill = rect.getFill();
+
+        Group parent = new Group(rect);
+        parent.getStyleClass().add("parent");
+
+        Group root = new Group(parent);
+        StyleManager.getInstance().setDefaultUserAgentStylesheet(stylesheet);
+
+        Scene scene = new Scene(root);
+        root.applyCss();
+
+        parent.pseudoClassStateChanged(PseudoClass.getPseudoClass("hover"), true);
+        assertEquals(CssFlags.UPDATE, NodeShim.getCSSFlags(parent));
+        root.applyCss();
+
+        assertEquals(0.5, parent.getOpacity(), 1e-6);
+        assertEquals(Color.RED, rect.getFill());
+
+        parent.pseudoClassStateChanged(PseudoClass.getPseudoClass("hover"), false);
+        root.applyCss();
+
+        assertEquals(defaultFill, rect.getFill());
+    }
+
+    @Test
+    public void testPseudoClassThatSetsLookupUpdatesChildren() {
+
+        Stylesheet stylesheet = parse(
+            "testPseudoClassThatSetsLookupUpdatesChildren",
+            ".parent { -my-color: red; }" +
+            ".parent:hover { -my-color: green; }" +
+            ".rect { -fx-fill: -my-color; }"
+        );
+
+        Rectangle rect = new Rectangle(50,50);
+        rect.getStyleClass().add("rect");
+
+        Group parent = new Group(rect);
+        parent.getStyleClass().add("parent");
+
+        Group root = new Group(parent);
+        StyleManager.getInstance().setDefaultUserAgentStylesheet(stylesheet);
+
+        Scene scene = new Scene(root);
+        root.applyCss();
+
+        assertEquals(Color.RED, rect.getFill());
+
+        parent.pseudoClassStateChanged(PseudoClass.getPseudoClass("hover"), true);
+        assertEquals(CssFlags.UPDATE, NodeShim.getCSSFlags(parent));
+        root.applyCss();
+
+        assertEquals(Color.GREEN, rect.getFill());
+    }
+
+    @Test
+    public void testPseudoClassChangeUpdatesChildrenThatInherit() {
+
+        Stylesheet stylesheet = parse(
+            "testPseudoClassChangeUpdatesChildrenThatInherit",
+            ".parent:hover { -fx-opacity: 0.5; }" +
+            ".rect { -fx-opacity: inherit; }"
+        );
+
+        Rectangle rect = new Rectangle(50,50);
+        rect.getStyleClass().add("rect");
+
+        Group parent = new Group(rect);
+        parent.getStyleClass().add("parent");
+
+        Group root = new Group(parent);
+        StyleManager.getInstance().setDefaultUserAgentStylesheet(stylesheet);
+
+        Scene scene = new Scene(root);
+        root.applyCss();
+
+        assertEquals(1.0, rect.getOpacity(), 1e-6);
+
+        parent.pseudoClassStateChanged(PseudoClass.getPseudoClass("hover"), true);
+        assertEquals(CssFlags.UPDATE, NodeShim.getCSSFlags(parent));
+        root.applyCss();
+
+        assertEquals(0.5, parent.getOpacity(), 1e-6);
+        assertEquals(0.5, rect.getOpacity(), 1e-6);
+    }
+
 }
@@ -741,6 +741,106 @@ public class ParentTest {
         assertSame(scene, ParentShim.getChildren(child).get(3).getScene());
     }
 
+    private static class CountingGroup extends Group {
+        private int requestLayoutCount;
+
+        CountingGroup(Node... children) {
+            super(children);
+        }
+
+        @Override
+        public void requestLayout() {
+            super.requestLayout();
+            requestLayoutCount++;
+        }
+    }
+
+    @Test
+    public void runBatchMergesLayoutRequestsAndBoundsInvalidation() {
+        final Group container = new Group();
+        final CountingGroup root = new CountingGroup(container);
+        final Scene scene = new Scene(root);
+        root.layout();
+        root.requestLayoutCount = 0;
+
+        container.runBatch(() -> {
+            for (int i = 0; i < 100; i++) {
+                container.getChildren().add(new Rectangle(i, 0, 10, 10));
+            }
+            assertEquals(0, root.requestLayoutCount);
+            assertTrue(container.isNeedsLayout());
+            assertFalse(root.isNeedsLayout());
+        });
+
+        assertEquals(1, root.requestLayoutCount);
+        assertTrue(root.isNeedsLayout());
+        assertEquals(109, container.getBoundsInLocal().getWidth(), 1e-10);
+        assertEquals(100, ParentShim.getChildren(container).size());
+    }
+
+    @Test
+    public void nestedBatchesInvalidateOnceAtTheEnd() {
+        final Group container = new Group();
+        final CountingGroup root = new CountingGroup(container);
+        final Scene scene = new Scene(root);
+        root.layout();
+        root.requestLayoutCount = 0;
+
+        container.runBatch(() -> {
+            container.runBatch(() -> container.getChildren().add(new Rectangle(10, 10)));
+            assertEquals(0, root.requestLayoutCount);
+            container.getChildren().add(new Rectangle(20, 20));
+        });
+        assertEquals(1, root.requestLayoutCount);
+        assertEquals(20, container.getBoundsInLocal().getWidth(), 1e-10);
+    }
+
+    @Test
+    public void sceneBatchDefersLayoutRequestsOfAllParents() {
+        final Group inner = new Group();
+        final CountingGroup middle = new CountingGroup(inner);
+        final CountingGroup root = new CountingGroup(middle);
+        final Scene scene = new Scene(root);
+        root.layout();
+        middle.requestLayoutCount = 0;
+        root.requestLayoutCount = 0;
+
+        scene.runBatch(() -> {
+            for (int i = 0; i < 10; i++) {
+                inner.getChildren().add(new Rectangle(10, 10));
+                inner.requestLayout();
+            }
+            assertEquals(0, middle.requestLayoutCount);
+            assertEquals(0, root.requestLayoutCount);
+        });
+        assertEquals(1, middle.requestLayoutCount);
+        assertEquals(1, root.requestLayoutCount);
+        assertTrue(root.isNeedsLayout());
+    }
+
+    @Test
+    public void batchIsEndedWhenChangesThrow() {
+        final Group container = new Group();
+        final CountingGroup root = new CountingGroup(container);
+        final Scene scene = new Scene(root);
+        root.layout();
+        root.requestLayoutCount = 0;
+
+        try {
+            container.runBatch(() -> {
+                container.getChildren().add(new Rectangle(10, 10));
+                throw new IllegalStateException();
+            });
+            fail("exception expected");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        assertEquals(1, root.requestLayoutCount);
+
+        container.getChildren().add(new Rectangle(10, 10));
+        assertEquals(2, root.requestLayoutCount);
+    }
+
     public static class MockParent extends Parent {
         public MockParent(Node... children) {
             ParentShim.getChildren(this).addAll(children);
@@ -561,4 +561,42 @@ public class GroupBoundsTest {
         assertBoundsEqual(box(50, 50, 100, 30), group.getBoundsInLocal());
     }
 
+    // test that the bounds of a group with more children than the bounds
+    // tree threshold follow children moving, hiding and leaving
+    public @Test
+    void testGroupBounds_ManyChildren() {
+        Group g = new Group();
+        for (int i = 0; i < 1000; i++) {
+            g.getChildren().add(new Rectangle(i, i, 10, 10));
+        }
+        assertGroupBounds(g);
+
+        Rectangle last = (Rectangle) g.getChildren().get(999);
+        last.setX(500);
+        last.setY(500);
+        assertBoundsEqual(box(0, 0, 1008, 1008), g.getBoundsInLocal());
+        assertGroupBounds(g);
+
+        Rectangle first = (Rectangle) g.getChildren().get(0);
+        first.setVisible(false);
+        assertBoundsEqual(box(1, 1, 1007, 1007), g.getBoundsInLocal());
+        assertGroupBounds(g);
+
+        g.getChildren().remove(998);
+        g.getChildren().remove(997);
+        assertBoundsEqual(box(1, 1, 1005, 1005), g.getBoundsInLocal());
+        assertGroupBounds(g);
+
+        first.setVisible(true);
+        first.setX(-100);
+        assertBoundsEqual(box(-100, 0, 1106, 1006), g.getBoundsInLocal());
+        assertGroupBounds(g);
+
+        // dropping below the threshold goes back to tracking edge nodes
+        g.getChildren().remove(10, 990);
+        assertGroupBounds(g);
+        first.setX(0);
+        assertGroupBounds(g);
+    }
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -30,6 +30,7 @@ import test.javafx.scene.layout.MockRegion;
 import javafx.geometry.HPos;
 import javafx.geometry.Insets;
 import javafx.geometry.Orientation;
+import javafx.geometry.Pos;
 import javafx.geometry.VPos;
 import javafx.scene.image.Image;
 import test.javafx.scene.image.ImageForTesting;
@@ -45,6 +46,8 @@ import com.sun.javafx.scene.NodeHelper;
 import com.sun.javafx.sg.prism.NGRegion;
 import com.sun.javafx.tk.Toolkit;
 import javafx.scene.NodeShim;
+import javafx.scene.Scene;
+import javafx.scene.SceneShim;
 import javafx.scene.layout.Background;
 import javafx.scene.layout.BackgroundFill;
 import javafx.scene.layout.BackgroundImage;
@@ -53,6 +56,7 @@ import javafx.scene.layout.BorderImage;
 import javafx.scene.layout.BorderStroke;
 import javafx.scene.layout.BorderStrokeStyle;
 import javafx.scene.layout.BorderWidths;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.RegionShim;
@@ -1248,4 +1252,105 @@ public class RegionTest {
         NodeHelper.syncPeer(r);
         assertFalse(peer.isClean());
     }
+
+    @Test public void layoutRequestStopsAtFixedSizeRegion() {
+        Pane root = new Pane();
+        Pane fixed = new Pane();
+        fixed.setPrefSize(100, 100);
+        fixed.setMinSize(Region.USE_PREF_SIZE, Region.USE_PREF_SIZE);
+        fixed.setMaxSize(Region.USE_PREF_SIZE, Region.USE_PREF_SIZE);
+        Pane inner = new Pane();
+        fixed.getChildren().add(inner);
+        root.getChildren().add(fixed);
+        root.layout();
+        assertFalse(root.isNeedsLayout());
+
+        inner.requestLayout();
+        assertTrue(inner.isNeedsLayout());
+        assertTrue(fixed.isNeedsLayout());
+        assertFalse(root.isNeedsLayout());
+
+        // the dirty branch must still lead to the fixed size region
+        root.layout();
+        assertFalse(fixed.isNeedsLayout());
+        assertFalse(inner.isNeedsLayout());
+    }
+
+    @Test public void fixedSizeRegionRelaysOutAncestorsWhenItsBaselineMoves() {
+        final double[] baseline = {10};
+        Region inner = new Region() {
+            @Override public double getBaselineOffset() {
+                return baseline[0];
+            }
+        };
+        inner.setPrefSize(50, 50);
+        Pane fixed = new Pane(inner);
+        fixed.setPrefSize(100, 100);
+        fixed.setMinSize(Region.USE_PREF_SIZE, Region.USE_PREF_SIZE);
+        fixed.setMaxSize(Region.USE_PREF_SIZE, Region.USE_PREF_SIZE);
+        Region sibling = new Region() {
+            @Override public double getBaselineOffset() {
+                return 20;
+            }
+        };
+        sibling.setPrefSize(20, 20);
+        HBox root = new HBox(fixed, sibling);
+        root.setAlignment(Pos.BASELINE_LEFT);
+        Scene scene = new Scene(root);
+        SceneShim.scenePulseListener_pulse(scene);
+        SceneShim.scenePulseListener_pulse(scene);
+        assertFalse(root.isNeedsLayout());
+        assertEquals(10, fixed.getLayoutY(), 0);
+        assertEquals(0, sibling.getLayoutY(), 0);
+
+        // the request stops at the fixed size region, but the region's new
+        // baseline has to be taken into account by the HBox in the same pulse
+        baseline[0] = 40;
+        inner.requestLayout();
+        assertFalse(root.isNeedsLayout());
+        SceneShim.scenePulseListener_pulse(scene);
+        assertEquals(0, fixed.getLayoutY(), 0);
+        assertEquals(20, sibling.getLayoutY(), 0);
+    }
+
+    @Test public void layoutRequestPropagatesPastResizableRegion() {
+        Pane root = new Pane();
+        Pane resizable = new Pane();
+        resizable.setPrefSize(100, 100);
+        Pane inner = new Pane();
+        resizable.getChildren().add(inner);
+        root.getChildren().add(resizable);
+        root.layout();
+
+        inner.requestLayout();
+        assertTrue(resizable.isNeedsLayout());
+        assertTrue(root.isNeedsLayout());
+    }
+
+    @Test public void constrainedPrefSizeIsComputedOncePerLayoutPass() {
+        final int[] count = new int[1];
+        final Region child = new Region() {
+            @Override protected double computePrefHeight(double width) {
+                count[0]++;
+                return width / 2;
+            }
+        };
+        final Pane root = new Pane(child) {
+            @Override protected void layoutChildren() {
+                assertEquals(25, child.prefHeight(50), 0);
+                assertEquals(25, child.prefHeight(50), 0);
+                assertEquals(50, child.prefHeight(100), 0);
+            }
+        };
+        Scene scene = new Scene(root);
+        count[0] = 0;
+        root.requestLayout();
+        SceneShim.scenePulseListener_pulse(scene);
+        assertEquals(2, count[0]);
+
+        // outside of a layout pass nothing is memoized
+        child.prefHeight(50);
+        child.prefHeight(50);
+        assertEquals(4, count[0]);
+    }
 }